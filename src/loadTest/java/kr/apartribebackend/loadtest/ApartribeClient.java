@@ -0,0 +1,101 @@
+package kr.apartribebackend.loadtest;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import kr.apartribebackend.loadtest.LoadTestConfig.Credential;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * 부하 테스트 대상 API 를 호출하는 HTTP 클라이언트. 모든 요청의 응답시간과 성공 여부(2xx) 를 endpoint 이름으로 MetricsRegistry 에 남긴다.
+ * endpoint 이름은 "GET /api/{apartId}/article/{articleId}" 처럼 경로 변수를 치환하기 전의 템플릿을 사용한다.
+ */
+final class ApartribeClient {
+
+    private static final String BEARER = "Bearer ";
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(10);
+
+    private final HttpClient httpClient;
+    private final URI baseUrl;
+    private final MetricsRegistry metricsRegistry;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    ApartribeClient(final URI baseUrl, final MetricsRegistry metricsRegistry) {
+        this.httpClient = HttpClient.newBuilder()
+                .connectTimeout(REQUEST_TIMEOUT)
+                .version(HttpClient.Version.HTTP_1_1)
+                .build();
+        this.baseUrl = baseUrl;
+        this.metricsRegistry = metricsRegistry;
+    }
+
+    /**
+     * /api/auth/login 으로 로그인해 AccessToken 을 받는다.
+     * @param credential
+     * @return 로그인에 실패하면 null
+     */
+    String login(final Credential credential) {
+        final JsonNode response = post("POST /api/auth/login", null, "/api/auth/login",
+                Map.of("email", credential.email(), "password", credential.password()));
+        return response == null ? null : response.path("accessToken").asText(null);
+    }
+
+    JsonNode get(final String endpoint, final String accessToken, final String path) {
+        return send(endpoint, request(accessToken, path).GET().build());
+    }
+
+    JsonNode post(final String endpoint, final String accessToken, final String path, final Object body) {
+        final String json;
+        try {
+            json = objectMapper.writeValueAsString(body);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException(e);
+        }
+        return send(endpoint, request(accessToken, path)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(json))
+                .build());
+    }
+
+    private HttpRequest.Builder request(final String accessToken, final String path) {
+        final HttpRequest.Builder builder = HttpRequest.newBuilder(baseUrl.resolve(path))
+                .timeout(REQUEST_TIMEOUT)
+                .header("Accept", "application/json");
+        if (accessToken != null) {
+            builder.header("Authorization", BEARER + accessToken);
+        }
+        return builder;
+    }
+
+    private JsonNode send(final String endpoint, final HttpRequest request) {
+        final long startedAt = System.nanoTime();
+        final HttpResponse<byte[]> response;
+        try {
+            response = httpClient.send(request, HttpResponse.BodyHandlers.ofByteArray());
+        } catch (IOException e) {
+            metricsRegistry.record(endpoint, System.nanoTime() - startedAt, false);
+            return null;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        }
+        final boolean success = response.statusCode() / 100 == 2;
+        metricsRegistry.record(endpoint, System.nanoTime() - startedAt, success);
+        if (!success || response.body().length == 0) {
+            return null;
+        }
+        try {
+            return objectMapper.readTree(response.body());
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+}
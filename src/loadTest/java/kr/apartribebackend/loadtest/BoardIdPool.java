@@ -0,0 +1,43 @@
+package kr.apartribebackend.loadtest;
+
+import kr.apartribebackend.loadtest.Scenario.BoardKind;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * 목록 조회로 알게 된 게시글 ID 를 게시판 종류별로 MAX_SIZE 개까지 보관한다. 가득 차면 ID 해시로 고른 자리를 새 ID 로 바꾼다.
+ */
+final class BoardIdPool {
+
+    private static final int MAX_SIZE = 1000;
+
+    private final Map<BoardKind, List<Long>> boardIds = new EnumMap<>(BoardKind.class);
+
+    BoardIdPool() {
+        for (BoardKind kind : BoardKind.values()) {
+            boardIds.put(kind, new ArrayList<>());
+        }
+    }
+
+    synchronized void offer(final BoardKind kind, final long boardId) {
+        final List<Long> ids = boardIds.get(kind);
+        if (ids.contains(boardId)) {
+            return;
+        }
+        if (ids.size() < MAX_SIZE) {
+            ids.add(boardId);
+        } else {
+            ids.set(Math.floorMod(Long.hashCode(boardId), MAX_SIZE), boardId);
+        }
+    }
+
+    synchronized Long pick(final BoardKind kind, final Random random) {
+        final List<Long> ids = boardIds.get(kind);
+        return ids.isEmpty() ? null : ids.get(random.nextInt(ids.size()));
+    }
+
+}
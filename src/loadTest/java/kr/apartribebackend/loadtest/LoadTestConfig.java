@@ -0,0 +1,97 @@
+package kr.apartribebackend.loadtest;
+
+import java.net.URI;
+import java.nio.file.Path;
+import java.util.*;
+
+/**
+ * 부하 테스트 설정. 모든 값은 loadtest.* System Property 로 넘기며, 넘기지 않으면 괄호 안의 기본값을 사용한다.
+ * <pre>
+ * loadtest.baseUrl         (http://localhost:8080)
+ * loadtest.apartCode       (dyWaf)                                   부하를 줄 아파트 코드
+ * loadtest.accounts        (david122123@gmail.com:testUser123!)      email:password 를 콤마로 구분, 가상 사용자에게 순서대로 배정
+ * loadtest.users           (16)                                      동시에 요청을 보내는 가상 사용자 수
+ * loadtest.warmupSeconds   (10)                                      통계에서 제외하는 워밍업 시간
+ * loadtest.durationSeconds (60)                                      측정 시간
+ * loadtest.seed            (42)                                      시나리오 선택에 사용하는 Random seed
+ * loadtest.weights         (BROWSE_FEED:40,READ_POST:30,COMMENT:10,LIKE:10,SEARCH:10)
+ * loadtest.outputDir       (build/load-test)
+ * loadtest.baseline        (없음)                                    비교할 이전 결과 JSON 경로
+ * </pre>
+ */
+record LoadTestConfig(URI baseUrl,
+                      String apartCode,
+                      List<Credential> accounts,
+                      int users,
+                      int warmupSeconds,
+                      int durationSeconds,
+                      long seed,
+                      Map<Scenario, Integer> weights,
+                      Path outputDir,
+                      Path baseline) {
+
+    private static final String PREFIX = "loadtest.";
+
+    static LoadTestConfig fromSystemProperties() {
+        final String baseline = property("baseline", "");
+        return new LoadTestConfig(
+                URI.create(property("baseUrl", "http://localhost:8080")),
+                property("apartCode", "dyWaf"),
+                parseAccounts(property("accounts", "david122123@gmail.com:testUser123!")),
+                Integer.parseInt(property("users", "16")),
+                Integer.parseInt(property("warmupSeconds", "10")),
+                Integer.parseInt(property("durationSeconds", "60")),
+                Long.parseLong(property("seed", "42")),
+                parseWeights(property("weights", "BROWSE_FEED:40,READ_POST:30,COMMENT:10,LIKE:10,SEARCH:10")),
+                Path.of(property("outputDir", "build/load-test")),
+                baseline.isBlank() ? null : Path.of(baseline)
+        );
+    }
+
+    /**
+     * 결과 파일에 함께 남기는 설정 요약. 계정 비밀번호는 포함하지 않는다.
+     */
+    Map<String, Object> summary() {
+        final Map<String, Object> summary = new LinkedHashMap<>();
+        summary.put("baseUrl", baseUrl.toString());
+        summary.put("apartCode", apartCode);
+        summary.put("accounts", accounts.size());
+        summary.put("users", users);
+        summary.put("warmupSeconds", warmupSeconds);
+        summary.put("durationSeconds", durationSeconds);
+        summary.put("seed", seed);
+        summary.put("weights", weights);
+        return summary;
+    }
+
+    private static String property(final String key, final String defaultValue) {
+        return System.getProperty(PREFIX + key, defaultValue);
+    }
+
+    private static List<Credential> parseAccounts(final String accounts) {
+        final List<Credential> credentials = new ArrayList<>();
+        for (String account : accounts.split(",")) {
+            final int separator = account.indexOf(':');
+            if (separator < 0) {
+                throw new IllegalArgumentException("loadtest.accounts 는 email:password 형식이어야 합니다. " + account);
+            }
+            credentials.add(new Credential(account.substring(0, separator).trim(), account.substring(separator + 1)));
+        }
+        return credentials;
+    }
+
+    private static Map<Scenario, Integer> parseWeights(final String weights) {
+        final Map<Scenario, Integer> parsed = new EnumMap<>(Scenario.class);
+        for (String weight : weights.split(",")) {
+            final String[] pair = weight.split(":");
+            parsed.put(Scenario.valueOf(pair[0].trim()), Integer.parseInt(pair[1].trim()));
+        }
+        if (parsed.values().stream().mapToInt(Integer::intValue).sum() <= 0) {
+            throw new IllegalArgumentException("loadtest.weights 의 합은 0 보다 커야 합니다.");
+        }
+        return parsed;
+    }
+
+    record Credential(String email, String password) { }
+
+}
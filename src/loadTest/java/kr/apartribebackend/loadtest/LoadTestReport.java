@@ -0,0 +1,96 @@
+package kr.apartribebackend.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import kr.apartribebackend.loadtest.MetricsRegistry.EndpointResult;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 부하 테스트 결과. 엔드포인트별 처리량(req/s), p50 / p99 / p999 / max 응답시간(ms), 오류율을 담으며
+ * 실행 설정과 함께 JSON 으로, 엔드포인트별 한 줄씩 CSV 로 내보낸다. JSON 은 다음 실행의 loadtest.baseline 으로 넘겨 비교할 수 있다.
+ */
+record LoadTestReport(String startedAt,
+                      double measuredSeconds,
+                      Map<String, Object> config,
+                      List<EndpointResult> endpoints) {
+
+    private static final DateTimeFormatter FILE_NAME_FORMAT = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss");
+    private static final String CSV_HEADER = "endpoint,requests,errors,errorRate,throughput,p50Ms,p99Ms,p999Ms,maxMs";
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+
+    void print() {
+        System.out.printf("%n%-50s %9s %7s %8s %10s %9s %9s %9s %9s%n",
+                "endpoint", "requests", "errors", "error%", "req/s", "p50(ms)", "p99(ms)", "p999(ms)", "max(ms)");
+        for (EndpointResult result : endpoints) {
+            System.out.printf("%-50s %9d %7d %7.2f%% %10.1f %9.1f %9.1f %9.1f %9.1f%n",
+                    result.endpoint(), result.requests(), result.errors(), result.errorRate() * 100, result.throughput(),
+                    result.p50Ms(), result.p99Ms(), result.p999Ms(), result.maxMs());
+        }
+        final long requests = endpoints.stream().mapToLong(EndpointResult::requests).sum();
+        System.out.printf("%nTotal : %d requests in %.1f s (%.1f req/s)%n", requests, measuredSeconds, requests / measuredSeconds);
+    }
+
+    /**
+     * outputDir 에 results-{시작시각}.json / .csv 를 쓴다.
+     * @param outputDir
+     * @return 저장한 JSON 파일 경로
+     * @throws IOException
+     */
+    Path export(final Path outputDir) throws IOException {
+        Files.createDirectories(outputDir);
+        final String fileName = "results-" + LocalDateTime.parse(startedAt).format(FILE_NAME_FORMAT);
+        final Path json = outputDir.resolve(fileName + ".json");
+        OBJECT_MAPPER.writeValue(json.toFile(), this);
+
+        final List<String> lines = new ArrayList<>();
+        lines.add(CSV_HEADER);
+        for (EndpointResult result : endpoints) {
+            lines.add(String.format("\"%s\",%d,%d,%.6f,%.3f,%.3f,%.3f,%.3f,%.3f",
+                    result.endpoint(), result.requests(), result.errors(), result.errorRate(), result.throughput(),
+                    result.p50Ms(), result.p99Ms(), result.p999Ms(), result.maxMs()));
+        }
+        Files.write(outputDir.resolve(fileName + ".csv"), lines);
+        return json;
+    }
+
+    /**
+     * baseline 결과와 엔드포인트별 처리량, p99 응답시간, 오류율의 변화를 출력한다.
+     * @param baseline 이전에 export() 로 저장한 JSON
+     * @throws IOException
+     */
+    void compare(final Path baseline) throws IOException {
+        final LoadTestReport previous = OBJECT_MAPPER.readValue(baseline.toFile(), LoadTestReport.class);
+        final Map<String, EndpointResult> previousResults = previous.endpoints().stream()
+                .collect(Collectors.toMap(EndpointResult::endpoint, Function.identity()));
+
+        System.out.printf("%nCompared with %s (%s)%n", baseline, previous.startedAt());
+        System.out.printf("%-50s %18s %18s %16s%n", "endpoint", "req/s", "p99(ms)", "error%");
+        for (EndpointResult result : endpoints) {
+            final EndpointResult before = previousResults.get(result.endpoint());
+            if (before == null) {
+                System.out.printf("%-50s %18s%n", result.endpoint(), "(new)");
+                continue;
+            }
+            System.out.printf("%-50s %8.1f (%+6.1f%%) %8.1f (%+6.1f%%) %6.2f -> %6.2f%n",
+                    result.endpoint(),
+                    result.throughput(), change(before.throughput(), result.throughput()),
+                    result.p99Ms(), change(before.p99Ms(), result.p99Ms()),
+                    before.errorRate() * 100, result.errorRate() * 100);
+        }
+    }
+
+    private static double change(final double before, final double after) {
+        return before == 0 ? 0 : (after - before) / before * 100;
+    }
+
+}
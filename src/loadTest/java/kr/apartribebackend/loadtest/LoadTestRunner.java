@@ -0,0 +1,109 @@
+package kr.apartribebackend.loadtest;
+
+import kr.apartribebackend.loadtest.LoadTestConfig.Credential;
+import kr.apartribebackend.loadtest.Scenario.BoardKind;
+import kr.apartribebackend.loadtest.Scenario.VirtualUser;
+
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 로컬에서 띄운 애플리케이션(H2 프로필) 에 가중치 기반 시나리오로 부하를 주고, 엔드포인트별 처리량 / 응답시간 백분위 / 오류율을 보고한다.
+ * 계정마다 /api/auth/login 으로 로그인해 받은 AccessToken 을 가상 사용자들이 나눠 들고, 각 가상 사용자는 종료 시각까지 쉬지 않고 시나리오를 반복한다.
+ *
+ * 애플리케이션을 띄운 뒤 ./gradlew loadTest -Dloadtest.users=32 -Dloadtest.durationSeconds=120 처럼 실행한다. 설정은 LoadTestConfig 참고.
+ * 대량 데이터에서 측정하려면 먼저 generateSyntheticDatasetJob 으로 데이터를 만들고 loadtest.apartCode, loadtest.accounts 를 그 데이터로 지정한다.
+ */
+public final class LoadTestRunner {
+
+    private LoadTestRunner() { }
+
+    public static void main(String[] args) throws Exception {
+        final LoadTestConfig config = LoadTestConfig.fromSystemProperties();
+        final MetricsRegistry metricsRegistry = new MetricsRegistry();
+        final ApartribeClient client = new ApartribeClient(config.baseUrl(), metricsRegistry);
+        final BoardIdPool boardIdPool = new BoardIdPool();
+
+        final List<String> accessTokens = login(client, config.accounts());
+        final Random seedRandom = new Random(config.seed());
+        for (BoardKind kind : BoardKind.values()) {
+            Scenario.browse(new VirtualUser(client, boardIdPool, config.apartCode(), accessTokens.get(0), seedRandom), kind);
+        }
+
+        final Scenario[] scenarios = weightedScenarios(config.weights());
+        final ExecutorService executorService = Executors.newFixedThreadPool(config.users());
+        final Running running = new Running();
+        for (int index = 0; index < config.users(); index++) {
+            final VirtualUser user = new VirtualUser(client, boardIdPool, config.apartCode(),
+                    accessTokens.get(index % accessTokens.size()), new Random(config.seed() + index));
+            executorService.submit(() -> {
+                while (running.value) {
+                    scenarios[user.random().nextInt(scenarios.length)].run(user);
+                }
+            });
+        }
+
+        System.out.printf("Running %d users against %s (warmup %ds, measure %ds)%n",
+                config.users(), config.baseUrl(), config.warmupSeconds(), config.durationSeconds());
+        TimeUnit.SECONDS.sleep(config.warmupSeconds());
+        final LocalDateTime startedAt = LocalDateTime.now().truncatedTo(ChronoUnit.SECONDS);
+        metricsRegistry.start();
+        TimeUnit.SECONDS.sleep(config.durationSeconds());
+        metricsRegistry.stop();
+        running.value = false;
+        executorService.shutdown();
+        executorService.awaitTermination(30, TimeUnit.SECONDS);
+
+        final LoadTestReport report = new LoadTestReport(
+                startedAt.toString(), metricsRegistry.measuredSeconds(), config.summary(), metricsRegistry.results()
+        );
+        report.print();
+        final Path exported = report.export(config.outputDir());
+        System.out.printf("Results exported to %s%n", exported);
+        if (config.baseline() != null) {
+            report.compare(config.baseline());
+        }
+    }
+
+    private static List<String> login(final ApartribeClient client, final List<Credential> accounts) {
+        final List<String> accessTokens = new ArrayList<>();
+        for (Credential credential : accounts) {
+            final String accessToken = client.login(credential);
+            if (accessToken == null) {
+                System.out.printf("Login failed : %s%n", credential.email());
+                continue;
+            }
+            accessTokens.add(accessToken);
+        }
+        if (accessTokens.isEmpty()) {
+            throw new IllegalStateException("로그인에 성공한 계정이 없습니다. loadtest.baseUrl, loadtest.accounts 를 확인하세요.");
+        }
+        return accessTokens;
+    }
+
+    /**
+     * 가중치만큼 시나리오를 반복해 담은 배열. 배열에서 균등하게 하나를 고르면 가중치에 비례하는 확률로 시나리오가 선택된다.
+     */
+    private static Scenario[] weightedScenarios(final Map<Scenario, Integer> weights) {
+        final List<Scenario> scenarios = new ArrayList<>();
+        weights.forEach((scenario, weight) -> {
+            for (int count = 0; count < weight; count++) {
+                scenarios.add(scenario);
+            }
+        });
+        return scenarios.toArray(Scenario[]::new);
+    }
+
+    private static final class Running {
+        private volatile boolean value = true;
+    }
+
+}
@@ -0,0 +1,100 @@
+package kr.apartribebackend.loadtest;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 엔드포인트별 요청 수, 오류 수, 응답시간을 모은다. start() ~ stop() 사이의 요청만 기록하므로 워밍업 구간은 통계에 포함되지 않는다.
+ * 응답시간은 모든 표본을 그대로 보관하고 결과를 낼 때 정렬해 nearest-rank 방식으로 백분위를 구한다.
+ */
+final class MetricsRegistry {
+
+    private final Map<String, EndpointRecorder> recorders = new ConcurrentHashMap<>();
+    private volatile boolean recording;
+    private volatile long startedAt;
+    private volatile long stoppedAt;
+
+    void start() {
+        startedAt = System.nanoTime();
+        recording = true;
+    }
+
+    void stop() {
+        recording = false;
+        stoppedAt = System.nanoTime();
+    }
+
+    double measuredSeconds() {
+        return (stoppedAt - startedAt) / 1_000_000_000.0;
+    }
+
+    void record(final String endpoint, final long elapsedNanos, final boolean success) {
+        if (!recording) {
+            return;
+        }
+        recorders.computeIfAbsent(endpoint, key -> new EndpointRecorder()).record(elapsedNanos, success);
+    }
+
+    List<EndpointResult> results() {
+        final double seconds = measuredSeconds();
+        return recorders.entrySet().stream()
+                .map(entry -> entry.getValue().result(entry.getKey(), seconds))
+                .sorted(Comparator.comparing(EndpointResult::endpoint))
+                .toList();
+    }
+
+    private static final class EndpointRecorder {
+
+        private long[] latencies = new long[1024];
+        private int count;
+        private int errors;
+
+        synchronized void record(final long elapsedNanos, final boolean success) {
+            if (count == latencies.length) {
+                latencies = Arrays.copyOf(latencies, count * 2);
+            }
+            latencies[count++] = elapsedNanos;
+            if (!success) {
+                errors++;
+            }
+        }
+
+        synchronized EndpointResult result(final String endpoint, final double seconds) {
+            final long[] sorted = Arrays.copyOf(latencies, count);
+            Arrays.sort(sorted);
+            return new EndpointResult(
+                    endpoint,
+                    count,
+                    errors,
+                    count == 0 ? 0 : (double) errors / count,
+                    seconds <= 0 ? 0 : count / seconds,
+                    percentileMillis(sorted, 0.50),
+                    percentileMillis(sorted, 0.99),
+                    percentileMillis(sorted, 0.999),
+                    count == 0 ? 0 : sorted[count - 1] / 1_000_000.0
+            );
+        }
+
+        private static double percentileMillis(final long[] sorted, final double percentile) {
+            if (sorted.length == 0) {
+                return 0;
+            }
+            final int rank = (int) Math.ceil(percentile * sorted.length);
+            return sorted[Math.max(rank - 1, 0)] / 1_000_000.0;
+        }
+    }
+
+    record EndpointResult(String endpoint,
+                          long requests,
+                          long errors,
+                          double errorRate,
+                          double throughput,
+                          double p50Ms,
+                          double p99Ms,
+                          double p999Ms,
+                          double maxMs) { }
+
+}
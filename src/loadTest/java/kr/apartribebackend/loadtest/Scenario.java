@@ -0,0 +1,132 @@
+package kr.apartribebackend.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * 가상 사용자가 한번에 수행하는 행동. 가중치(loadtest.weights) 에 비례하는 확률로 하나씩 골라 반복 실행된다.
+ * 게시글 ID 는 목록 조회 결과로 BoardIdPool 에 쌓인 것 중에서 고르며, 아직 알고 있는 게시글이 없으면 목록 조회로 대신한다.
+ */
+enum Scenario {
+
+    BROWSE_FEED {
+        @Override
+        void run(final VirtualUser user) {
+            browse(user, pickKind(user.random(), BoardKind.values()));
+        }
+    },
+
+    READ_POST {
+        @Override
+        void run(final VirtualUser user) {
+            final BoardKind kind = pickKind(user.random(), BoardKind.values());
+            final Long boardId = user.boardIdPool().pick(kind, user.random());
+            if (boardId == null) {
+                browse(user, kind);
+                return;
+            }
+            user.client().get("GET /api/{apartId}/" + kind.path() + "/{" + kind.path() + "Id}",
+                    user.accessToken(), String.format("/api/%s/%s/%d", user.apartCode(), kind.path(), boardId));
+            user.client().get("GET /api/{apartId}/{boardId}/comment",
+                    user.accessToken(), String.format("/api/%s/%d/comment", user.apartCode(), boardId));
+        }
+    },
+
+    COMMENT {
+        @Override
+        void run(final VirtualUser user) {
+            final BoardKind kind = pickKind(user.random(), BoardKind.ARTICLE, BoardKind.TOGETHER);
+            final Long boardId = user.boardIdPool().pick(kind, user.random());
+            if (boardId == null) {
+                browse(user, kind);
+                return;
+            }
+            user.client().post("POST /api/{apartId}/{boardId}/comment",
+                    user.accessToken(), String.format("/api/%s/%d/comment", user.apartCode(), boardId),
+                    Map.of("content", pick(user.random(), COMMENTS)));
+        }
+    },
+
+    LIKE {
+        @Override
+        void run(final VirtualUser user) {
+            final BoardKind kind = pickKind(user.random(), BoardKind.values());
+            final Long boardId = user.boardIdPool().pick(kind, user.random());
+            if (boardId == null) {
+                browse(user, kind);
+                return;
+            }
+            user.client().get("GET /api/{apartId}/" + kind.path() + "/{" + kind.path() + "Id}/like",
+                    user.accessToken(), String.format("/api/%s/%s/%d/like", user.apartCode(), kind.path(), boardId));
+        }
+    },
+
+    SEARCH {
+        @Override
+        void run(final VirtualUser user) {
+            final String keyword = URLEncoder.encode(pick(user.random(), KEYWORDS), StandardCharsets.UTF_8);
+            user.client().get("GET /api/{apartId}/article/search",
+                    user.accessToken(), String.format("/api/%s/article/search?title=%s", user.apartCode(), keyword));
+        }
+    };
+
+    private static final int BROWSE_MAX_PAGE = 3;
+    private static final List<String> COMMENTS = List.of("저도 같은 생각입니다.", "좋은 정보 감사합니다!", "참여하고 싶습니다.", "공감합니다.");
+    private static final List<String> KEYWORDS = List.of("주차", "층간소음", "관리비", "택배", "헬스장", "공동구매", "산책", "놀이터");
+
+    abstract void run(VirtualUser user);
+
+    /**
+     * 게시판 목록을 조회하고, 응답에 담긴 게시글 ID 를 BoardIdPool 에 넣는다.
+     */
+    static void browse(final VirtualUser user, final BoardKind kind) {
+        final int page = 1 + user.random().nextInt(BROWSE_MAX_PAGE);
+        final JsonNode response = user.client().get("GET /api/{apartId}/" + kind.path(),
+                user.accessToken(), String.format("/api/%s/%s?page=%d", user.apartCode(), kind.path(), page));
+        if (response == null) {
+            return;
+        }
+        for (JsonNode result : response.path("data").path("results")) {
+            if (result.hasNonNull("id")) {
+                user.boardIdPool().offer(kind, result.get("id").asLong());
+            }
+        }
+    }
+
+    private static BoardKind pickKind(final Random random, final BoardKind... kinds) {
+        return kinds[random.nextInt(kinds.length)];
+    }
+
+    private static String pick(final Random random, final List<String> candidates) {
+        return candidates.get(random.nextInt(candidates.size()));
+    }
+
+    enum BoardKind {
+
+        ARTICLE("article"),
+        TOGETHER("together"),
+        ANNOUNCE("announce");
+
+        private final String path;
+
+        BoardKind(final String path) {
+            this.path = path;
+        }
+
+        String path() {
+            return path;
+        }
+    }
+
+    record VirtualUser(ApartribeClient client,
+                       BoardIdPool boardIdPool,
+                       String apartCode,
+                       String accessToken,
+                       Random random) { }
+
+}
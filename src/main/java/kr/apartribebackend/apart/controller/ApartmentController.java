@@ -36,7 +36,7 @@ public class ApartmentController {
                 requestPosition,
                 requestUserType,
                 authenticateApartmentReq.toDto(),
-                authenticatedMember.getOriginalEntity()
+                authenticatedMember.toDto()
         );
     }
 
@@ -47,8 +47,7 @@ public class ApartmentController {
     ) {
         apartmentService.constructCommunity(
                 authenticatedMember.toDto(),
-                appendApartmentReq.toDto(),
-                authenticatedMember.getOriginalEntity()
+                appendApartmentReq.toDto()
         );
         return ResponseEntity.status(CREATED).build();
     }
@@ -34,6 +34,12 @@ public class Apartment extends BaseEntity {
     @Column(name = "NAME", nullable = false)
     private String name;
 
+    /**
+     * 마지막으로 발급한 회원 순번(Member.apartOrdinal) 의 다음 값.
+     */
+    @Column(name = "MEMBER_SEQUENCE", nullable = false)
+    private int memberSequence;
+
     @OneToMany(mappedBy = "apartment")
     private final Set<Member> members = new HashSet<>();
 
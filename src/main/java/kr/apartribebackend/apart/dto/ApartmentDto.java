@@ -22,6 +22,7 @@ public class ApartmentDto {
 
     public static ApartmentDto from(Apartment apartment) {
         return ApartmentDto.builder()
+                .id(apartment != null ? apartment.getId() : null)
                 .code(apartment != null ? apartment.getCode() : "EMPTY")
                 .name(apartment != null ? apartment.getName() : "EMPTY")
                 .build();
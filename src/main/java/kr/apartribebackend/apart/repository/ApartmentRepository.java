@@ -2,6 +2,9 @@ package kr.apartribebackend.apart.repository;
 
 import kr.apartribebackend.apart.domain.Apartment;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.Optional;
 
@@ -13,4 +16,11 @@ public interface ApartmentRepository extends JpaRepository<Apartment, Long> {
 
     Optional<Apartment> findApartmentByCode(String code);
 
+    @Modifying
+    @Query(value = "update Apartment as a set a.memberSequence = a.memberSequence + 1 where a.code = :code")
+    int increaseMemberSequence(@Param("code") String code);
+
+    @Query(value = "select a.memberSequence from Apartment as a where a.code = :code")
+    Optional<Integer> findMemberSequenceByCode(@Param("code") String code);
+
 }
@@ -8,11 +8,14 @@ import kr.apartribebackend.apart.repository.ApartmentRepository;
 import kr.apartribebackend.category.domain.ArticleCategory;
 import kr.apartribebackend.category.domain.TogetherCategory;
 import kr.apartribebackend.category.repository.CategoryRepository;
+import kr.apartribebackend.global.service.AccessTokenRevocationService;
 import kr.apartribebackend.global.utils.EntityFactory;
 import kr.apartribebackend.member.domain.Member;
 import kr.apartribebackend.member.domain.Position;
 import kr.apartribebackend.member.domain.UserType;
 import kr.apartribebackend.member.dto.MemberDto;
+import kr.apartribebackend.member.exception.UserNotFoundException;
+import kr.apartribebackend.member.repository.MemberRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -29,19 +32,22 @@ public class ApartmentService {
 
     private final ApartmentRepository apartmentRepository;
     private final CategoryRepository categoryRepository;
+    private final MemberRepository memberRepository;
+    private final AccessTokenRevocationService accessTokenRevocationService;
 
     /**
      * 1. Member 가 Apart 에 등록되어있으면 Exception
      * 2. 인증한 Apart 가 존재하면 Member 에 Apart 를 등록하고, AUTHSTATUS 를 COMPLETED 로 설정
      * 3. 인증한 Apart 가 존재하지 않으면 AUTHSTATUS 를 PENDING 으로 설정
-     * @param memberDto
      * @param apartmentDto
-     * @param member
+     * @param memberDto
      */
     public void authenticateApartment(final Position position,
                                       final UserType userType,
                                       final ApartmentDto apartmentDto,
-                                      final Member member) {
+                                      final MemberDto memberDto) {
+        final Member member = memberRepository.findById(memberDto.getId())
+                .orElseThrow(UserNotFoundException::new);
         checkMemberHaveApartments(member);
         if (hasText(member.getApartCode()) || hasText(member.getApartName())) {
             throw new AlreadyAuthenticateApartException();
@@ -57,6 +63,7 @@ public class ApartmentService {
             member.pendingApartInfo(apartmentDto.getCode(), apartmentDto.getName());
         }
         member.updateUserTypeAndPosition(userType, position);
+        accessTokenRevocationService.revokeStaleClaims(member.getId());
     }
 
     /**
@@ -69,11 +76,11 @@ public class ApartmentService {
      * - 디폴트 커뮤니티를 등록하고, AUTHSTATUS 를 COMPLETED 로 설정
      * @param memberDto
      * @param apartmentDto
-     * @param member
      */
     public void constructCommunity(final MemberDto memberDto,
-                                   final ApartmentDto apartmentDto,
-                                   final Member member) {
+                                   final ApartmentDto apartmentDto) {
+        final Member member = memberRepository.findById(memberDto.getId())
+                .orElseThrow(UserNotFoundException::new);
         checkMemberHaveApartments(member);
         if (apartmentRepository.existsByCodeAndName(apartmentDto.getCode(), apartmentDto.getName())) {
             throw new ApartAlreadyExistsException();
@@ -92,6 +99,7 @@ public class ApartmentService {
         member.changeApartment(apartment);
         member.authenticateApartInfo(apartmentDto.getCode(), apartmentDto.getName());
         buildDefaultCommunity(member, apartment);
+        accessTokenRevocationService.revokeStaleClaims(member.getId());
     }
 
     public boolean existsByCode(final String apartCode) {
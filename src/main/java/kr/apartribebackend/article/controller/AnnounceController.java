@@ -1,15 +1,19 @@
 package kr.apartribebackend.article.controller;
 
 
+import com.fasterxml.jackson.databind.util.RawValue;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import kr.apartribebackend.article.domain.Level;
 import kr.apartribebackend.article.dto.announce.*;
 import kr.apartribebackend.article.exception.CantCreateAnnounceCauseInvalidUserType;
 import kr.apartribebackend.article.service.AnnounceService;
+import kr.apartribebackend.article.service.BoardListResponseCache;
 import kr.apartribebackend.attachment.domain.Attachment;
 import kr.apartribebackend.global.annotation.ApartUser;
 import kr.apartribebackend.global.dto.APIResponse;
 import kr.apartribebackend.global.dto.PageResponse;
+import kr.apartribebackend.global.service.ResponseCacheService;
 import kr.apartribebackend.likes.dto.BoardLikedRes;
 import kr.apartribebackend.member.domain.UserType;
 import kr.apartribebackend.member.dto.MemberDto;
@@ -35,31 +39,40 @@ import static org.springframework.http.HttpStatus.CREATED;
 public class AnnounceController {
 
     private final AnnounceService announceService;
+    private final ResponseCacheService responseCacheService;
+    private final BoardListResponseCache boardListResponseCache;
 
     @GetMapping("/api/{apartId}/announce/{announceId}")
-    public APIResponse<SingleAnnounceResponseProjection> findSingleArticle(
+    public APIResponse<RawValue> findSingleArticle(
             @PathVariable final String apartId,
             @PathVariable final Long announceId,
             @AuthenticationPrincipal final AuthenticatedMember authenticatedMember
     ) {
-        final SingleAnnounceResponseProjection singleAnnounceResponseProjection = announceService
+        final RawValue singleAnnounceResponse = announceService
                 .findSingleAnnounceById2(authenticatedMember.toDto(), apartId, announceId);
-        final APIResponse<SingleAnnounceResponseProjection> apiResponse =
-                APIResponse.SUCCESS(singleAnnounceResponseProjection);
+        final APIResponse<RawValue> apiResponse =
+                APIResponse.SUCCESS(singleAnnounceResponse);
         return apiResponse;
     }
 
     @GetMapping("/api/{apartId}/announce")
-    public APIResponse<PageResponse<AnnounceResponse>> findMultipleArticlesByCategory(
+    public APIResponse<RawValue> findMultipleArticlesByCategory(
             @PathVariable final String apartId,
             @RequestParam(required = false, defaultValue = "") final Level level,
-            @PageableDefault(sort = "createdAt", direction = Sort.Direction.DESC) final Pageable pageable
+            @RequestParam(required = false, defaultValue = "false") final boolean exactCount,
+            @PageableDefault(sort = "createdAt", direction = Sort.Direction.DESC) final Pageable pageable,
+            @AuthenticationPrincipal final AuthenticatedMember authenticatedMember,
+            final HttpServletRequest request
     ) {
-        final Page<AnnounceResponse> announceResponses = announceService
-                .findMultipleAnnouncesByLevel(apartId, level, pageable);
-
-        final PageResponse<AnnounceResponse> pageResponse = PageResponse.from(announceResponses);
-        final APIResponse<PageResponse<AnnounceResponse>> apiResponse = APIResponse.SUCCESS(pageResponse);
+        final MemberDto memberDto = authenticatedMember.toDto();
+        final RawValue pageResponse = boardListResponseCache.read(
+                memberDto,
+                ResponseCacheService.key(request),
+                apartId,
+                () -> announceService.findMultipleAnnouncesByLevel(memberDto, apartId, level, exactCount, pageable),
+                PageResponse::from
+        );
+        final APIResponse<RawValue> apiResponse = APIResponse.SUCCESS(pageResponse);
         return apiResponse;
     }
 
@@ -115,11 +128,16 @@ public class AnnounceController {
     }
 
     @GetMapping("/api/{apartId}/announce/widget")
-    public APIResponse<List<AnnounceWidgetRes>> announceWidgets(
-            @PathVariable final String apartId
+    public APIResponse<RawValue> announceWidgets(
+            @PathVariable final String apartId,
+            final HttpServletRequest request
     ) {
-        final List<AnnounceWidgetRes> widgetValues = announceService.findWidgetValues(apartId);
-        final APIResponse<List<AnnounceWidgetRes>> apiResponse = APIResponse.SUCCESS(widgetValues);
+        final RawValue widgetValues = responseCacheService.getJson(
+                ResponseCacheService.key(request),
+                new String[] { ResponseCacheService.apartTag(apartId) },
+                () -> announceService.findWidgetValues(apartId)
+        );
+        final APIResponse<RawValue> apiResponse = APIResponse.SUCCESS(widgetValues);
         return apiResponse;
     }
 
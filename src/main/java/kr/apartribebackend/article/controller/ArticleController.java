@@ -1,12 +1,16 @@
 package kr.apartribebackend.article.controller;
 
+import com.fasterxml.jackson.databind.util.RawValue;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import kr.apartribebackend.article.dto.*;
 import kr.apartribebackend.article.dto.SingleArticleResponseProjection;
 import kr.apartribebackend.article.service.ArticleService;
+import kr.apartribebackend.article.service.BoardListResponseCache;
 import kr.apartribebackend.global.annotation.ApartUser;
 import kr.apartribebackend.global.dto.APIResponse;
 import kr.apartribebackend.global.dto.PageResponse;
+import kr.apartribebackend.global.service.ResponseCacheService;
 import kr.apartribebackend.likes.dto.BoardLikedRes;
 import kr.apartribebackend.member.dto.MemberDto;
 import kr.apartribebackend.member.principal.AuthenticatedMember;
@@ -29,29 +33,39 @@ import static org.springframework.http.HttpStatus.*;
 public class ArticleController {
 
     private final ArticleService articleService;
+    private final ResponseCacheService responseCacheService;
+    private final BoardListResponseCache boardListResponseCache;
 
     @GetMapping("/api/{apartId}/article/{articleId}")
-    public APIResponse<SingleArticleResponseProjection> findSingleArticle(
+    public APIResponse<RawValue> findSingleArticle(
             @PathVariable final String apartId,
             @PathVariable final Long articleId,
             @AuthenticationPrincipal final AuthenticatedMember authenticatedMember
     ) {
-        final SingleArticleResponseProjection singleArticleResponseProjection = articleService
+        final RawValue singleArticleResponse = articleService
                 .findSingleArticleById2(authenticatedMember.toDto(), apartId, articleId);
-        final APIResponse<SingleArticleResponseProjection> apiResponse = APIResponse.SUCCESS(singleArticleResponseProjection);
+        final APIResponse<RawValue> apiResponse = APIResponse.SUCCESS(singleArticleResponse);
         return apiResponse;
     }
 
     @GetMapping("/api/{apartId}/article")
-    public APIResponse<PageResponse<ArticleResponse>> findMultipleArticlesByCategory(
+    public APIResponse<RawValue> findMultipleArticlesByCategory(
             @PathVariable final String apartId,
             @RequestParam(required = false, defaultValue = "") final String category,
-            @PageableDefault(sort = "createdAt", direction = Sort.Direction.DESC) final Pageable pageable
+            @RequestParam(required = false, defaultValue = "false") final boolean exactCount,
+            @PageableDefault(sort = "createdAt", direction = Sort.Direction.DESC) final Pageable pageable,
+            @AuthenticationPrincipal final AuthenticatedMember authenticatedMember,
+            final HttpServletRequest request
     ) {
-        final Page<ArticleResponse> articleResponse =
-                articleService.findMultipleArticlesByCategory(apartId, category, pageable);
-        final PageResponse<ArticleResponse> pageResponse = PageResponse.from(articleResponse);
-        final APIResponse<PageResponse<ArticleResponse>> apiResponse = APIResponse.SUCCESS(pageResponse);
+        final MemberDto memberDto = authenticatedMember.toDto();
+        final RawValue pageResponse = boardListResponseCache.read(
+                memberDto,
+                ResponseCacheService.key(request),
+                apartId,
+                () -> articleService.findMultipleArticlesByCategory(memberDto, apartId, category, exactCount, pageable),
+                PageResponse::from
+        );
+        final APIResponse<RawValue> apiResponse = APIResponse.SUCCESS(pageResponse);
         return apiResponse;
     }
 
@@ -96,23 +110,41 @@ public class ArticleController {
     }
 
     @GetMapping("/api/{apartId}/article/best/liked")
-    public APIResponse<List<Top5ArticleResponse>> findTop5ArticleViaLiked(
-            @PathVariable final String apartId
+    public APIResponse<RawValue> findTop5ArticleViaLiked(
+            @PathVariable final String apartId,
+            final HttpServletRequest request
     ) {
-        final List<Top5ArticleResponse> articleResponses = articleService
-                .findTop5ArticleViaLiked(apartId);
+        final RawValue articleResponses = responseCacheService.getJson(
+                ResponseCacheService.key(request),
+                new String[] { ResponseCacheService.apartTag(apartId) },
+                () -> articleService.findTop5ArticleViaLiked(apartId)
+        );
         return APIResponse.SUCCESS(articleResponses);
     }
 
     @GetMapping("/api/{apartId}/article/best/view")
-    public APIResponse<List<Top5ArticleResponse>> findTop5ArticleViaView(
-            @PathVariable final String apartId
+    public APIResponse<RawValue> findTop5ArticleViaView(
+            @PathVariable final String apartId,
+            final HttpServletRequest request
     ) {
-        final List<Top5ArticleResponse> articleResponses = articleService
-                .findTop5ArticleViaView(apartId);
+        final RawValue articleResponses = responseCacheService.getJson(
+                ResponseCacheService.key(request),
+                new String[] { ResponseCacheService.apartTag(apartId) },
+                () -> articleService.findTop5ArticleViaView(apartId)
+        );
         return APIResponse.SUCCESS(articleResponses);
     }
 
+    @GetMapping("/api/{apartId}/article/best/hot")
+    public APIResponse<PageResponse<HotBoardResponse>> findHotBoards(
+            @PathVariable final String apartId,
+            @PageableDefault final Pageable pageable
+    ) {
+        final Page<HotBoardResponse> hotBoardResponses = articleService.findHotBoards(apartId, pageable);
+        final PageResponse<HotBoardResponse> pageResponse = PageResponse.from(hotBoardResponses);
+        return APIResponse.SUCCESS(pageResponse);
+    }
+
     @GetMapping("/api/{apartId}/article/search")
     public APIResponse<List<ArticleInCommunityRes>> searchArticleInCommunity(
             @PathVariable final String apartId,
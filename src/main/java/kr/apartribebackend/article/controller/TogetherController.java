@@ -1,22 +1,32 @@
 package kr.apartribebackend.article.controller;
 
+import com.fasterxml.jackson.databind.util.RawValue;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import kr.apartribebackend.global.annotation.ApartUser;
 import kr.apartribebackend.likes.dto.BoardLikedRes;
 import kr.apartribebackend.article.dto.together.*;
+import kr.apartribebackend.article.service.BoardListResponseCache;
 import kr.apartribebackend.article.service.TogetherService;
 import kr.apartribebackend.global.dto.APIResponse;
 import kr.apartribebackend.global.dto.PageResponse;
+import kr.apartribebackend.global.dto.SliceResponse;
+import kr.apartribebackend.global.service.ResponseCacheService;
+import kr.apartribebackend.member.dto.MemberDto;
 import kr.apartribebackend.member.principal.AuthenticatedMember;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.LocalDateTime;
+
 import static org.springframework.http.HttpStatus.*;
 
 
@@ -24,30 +34,65 @@ import static org.springframework.http.HttpStatus.*;
 @RestController
 public class TogetherController {
 
+    private static final int MAX_SCROLL_SIZE = 100;
+
     private final TogetherService togetherService;
+    private final BoardListResponseCache boardListResponseCache;
 
     @GetMapping("/api/{apartId}/together/{togetherId}")
-    public APIResponse<SingleTogetherResponseProjection> findSingleTogether(
+    public APIResponse<RawValue> findSingleTogether(
             @PathVariable final String apartId,
             @PathVariable final Long togetherId,
             @AuthenticationPrincipal final AuthenticatedMember authenticatedMember
     ) {
-        final SingleTogetherResponseProjection singleTogetherWithLikedResponse = togetherService
+        final RawValue singleTogetherWithLikedResponse = togetherService
                 .findSingleTogetherById2(authenticatedMember.toDto(), apartId, togetherId);
-        final APIResponse<SingleTogetherResponseProjection> apiResponse = APIResponse.SUCCESS(singleTogetherWithLikedResponse);
+        final APIResponse<RawValue> apiResponse = APIResponse.SUCCESS(singleTogetherWithLikedResponse);
         return apiResponse;
     }
 
     @GetMapping("/api/{apartId}/together")
-    public APIResponse<PageResponse<TogetherResponse>> findMultipleTogethers(
+    public APIResponse<RawValue> findMultipleTogethers(
             @PathVariable final String apartId,
-            @RequestParam(required = false, defaultValue = "") final String category,
-            @PageableDefault(sort = "createdAt", direction = Sort.Direction.DESC) final Pageable pageable
+            @ModelAttribute final TogetherSearchCond searchCond,
+            @RequestParam(required = false, defaultValue = "false") final boolean exactCount,
+            @PageableDefault(sort = "createdAt", direction = Sort.Direction.DESC) final Pageable pageable,
+            @AuthenticationPrincipal final AuthenticatedMember authenticatedMember,
+            final HttpServletRequest request
     ) {
-        final Page<TogetherResponse> togetherResponses =
-                togetherService.findMultipleTogethersByCategory(apartId, category, pageable);
-        final PageResponse<TogetherResponse> pageResponse = PageResponse.from(togetherResponses);
-        final APIResponse<PageResponse<TogetherResponse>> apiResponse = APIResponse.SUCCESS(pageResponse);
+        final MemberDto memberDto = authenticatedMember.toDto();
+        final RawValue pageResponse = boardListResponseCache.read(
+                memberDto,
+                ResponseCacheService.key(request),
+                apartId,
+                () -> togetherService.findMultipleTogethersByCategory(memberDto, apartId, searchCond, exactCount, pageable),
+                PageResponse::from
+        );
+        final APIResponse<RawValue> apiResponse = APIResponse.SUCCESS(pageResponse);
+        return apiResponse;
+    }
+
+    @GetMapping("/api/{apartId}/together/scroll")
+    public APIResponse<RawValue> scrollTogethers(
+            @PathVariable final String apartId,
+            @ModelAttribute final TogetherSearchCond searchCond,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) final LocalDateTime lastCreatedAt,
+            @RequestParam(required = false) final Long lastId,
+            @RequestParam(required = false, defaultValue = "20") final int size,
+            @AuthenticationPrincipal final AuthenticatedMember authenticatedMember,
+            final HttpServletRequest request
+    ) {
+        final MemberDto memberDto = authenticatedMember.toDto();
+        final RawValue sliceResponse = boardListResponseCache.read(
+                memberDto,
+                ResponseCacheService.key(request),
+                apartId,
+                () -> togetherService.findTogethersByCategoryAfter(
+                        memberDto, apartId, searchCond, lastCreatedAt, lastId, Math.min(Math.max(size, 1), MAX_SCROLL_SIZE)
+                ),
+                slice -> SliceResponse.from(slice, TogetherResponse::getCreatedAt, TogetherResponse::getId)
+        );
+        final APIResponse<RawValue> apiResponse = APIResponse.SUCCESS(sliceResponse);
         return apiResponse;
     }
 
@@ -1,9 +1,12 @@
 package kr.apartribebackend.article.domain;
 
 import jakarta.persistence.*;
+import kr.apartribebackend.apart.domain.Apartment;
 import kr.apartribebackend.attachment.domain.Attachment;
 import kr.apartribebackend.comment.domain.Comment;
 import kr.apartribebackend.global.domain.BaseEntity;
+import kr.apartribebackend.global.domain.PooledIdGenerator;
+import kr.apartribebackend.global.utils.ExcerptUtil;
 import kr.apartribebackend.likes.domain.BoardLiked;
 import kr.apartribebackend.member.domain.Member;
 import lombok.*;
@@ -16,9 +19,28 @@ import java.util.*;
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Entity @Inheritance(strategy = InheritanceType.JOINED)
 @DiscriminatorColumn(name = "BOARD_TYPE")
+@Table(
+        name = "BOARD",
+        indexes = {
+                @Index(name = "idx_board_apart_type_created", columnList = "APART_ID, BOARD_TYPE, CREATED_AT, BOARD_ID"),
+                @Index(name = "idx_board_apart_type_liked", columnList = "APART_ID, BOARD_TYPE, LIKES, BOARD_ID"),
+                @Index(name = "idx_board_apart_type_saw", columnList = "APART_ID, BOARD_TYPE, SAW, BOARD_ID"),
+                @Index(name = "idx_board_apart_liked", columnList = "APART_ID, LIKES"),
+                @Index(name = "idx_board_apart_saw", columnList = "APART_ID, SAW")
+        }
+)
 public abstract class Board extends BaseEntity {
 
-    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Id
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "BOARD_ID_GENERATOR")
+    @TableGenerator(
+            name = "BOARD_ID_GENERATOR",
+            table = PooledIdGenerator.TABLE,
+            pkColumnName = PooledIdGenerator.PK_COLUMN,
+            valueColumnName = PooledIdGenerator.VALUE_COLUMN,
+            pkColumnValue = "BOARD",
+            allocationSize = PooledIdGenerator.ALLOCATION_SIZE
+    )
     @Column(name = "BOARD_ID")
     private Long id;
 
@@ -28,6 +50,12 @@ public abstract class Board extends BaseEntity {
     @Column(name = "CONTENT", columnDefinition="TEXT", nullable = false)
     private String content;
 
+    /**
+     * 목록 조회에서 CONTENT(TEXT) 대신 내려주는 평문 요약. 등록, 수정 시 renewExcerpt() 로 갱신한다.
+     */
+    @Column(name = "EXCERPT", length = ExcerptUtil.MAX_LENGTH)
+    private String excerpt;
+
     @Column(name = "BOARD_TYPE", insertable = false, updatable = false)
     private String boardType;
 
@@ -40,10 +68,23 @@ public abstract class Board extends BaseEntity {
     @Column(name = "THUMBNAIL")
     private String thumbnail;
 
+    /**
+     * 목록 조회에서 THUMBNAIL 대신 내려주는 목록용 썸네일 URL. THUMBNAIL 이 첨부파일이고 그 썸네일이 만들어져 있을 때만 채워진다.
+     */
+    @Column(name = "LIST_THUMBNAIL")
+    private String listThumbnail;
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "MEMBER_ID")
     private Member member;
 
+    /**
+     * 게시글이 속한 아파트. 작성자(Member) 의 아파트와 같지만, BOARD → MEMBER → APARTMENT 조인 없이 인덱스로 아파트별 게시글을 찾기위해 역정규화한다.
+     */
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "APART_ID")
+    private Apartment apartment;
+
     @Column(name = "ONLY_APART_USER")
     private boolean onlyApartUser;
 
@@ -82,4 +123,12 @@ public abstract class Board extends BaseEntity {
     public void reflectArticleSaw() {
         this.saw += 1;
     }
+
+    public void renewExcerpt() {
+        this.excerpt = ExcerptUtil.extract(content);
+    }
+
+    public void renewListThumbnail(String listThumbnail) {
+        this.listThumbnail = listThumbnail;
+    }
 }
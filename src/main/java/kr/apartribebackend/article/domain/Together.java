@@ -48,6 +48,18 @@ public class Together extends Board {
     @Column(name = "CONTRIBUE_STATUS")
     private boolean contributeStatus;
 
+    /**
+     * 최대 참여 인원. null 이면 인원 제한 없이 모집한다. 작성 후에는 바꿀 수 없다.
+     */
+    @Column(name = "CAPACITY", updatable = false)
+    private Integer capacity;
+
+    /**
+     * 참여 인원. TogetherRepository 의 조건부 UPDATE 로만 바뀌므로, 수정 시 변경 감지가 오래된 값으로 덮어쓰지 않도록 updatable = false 로 둔다.
+     */
+    @Column(name = "PARTICIPANT_COUNT", nullable = false, updatable = false)
+    private int participantCount;
+
     /////////////////////////////// BUSINESS LOGIC ///////////////////////////////
 
     public Together updateTogether(Category category,
@@ -73,6 +73,7 @@ public class ArticleDto {
                 .saw(saw)
                 .category(category)
                 .member(member)
+                .apartment(category.getApartment())
                 .createdAt(createdAt)
                 .createdBy(createdBy)
                 .thumbnail(thumbnail)
@@ -2,18 +2,20 @@ package kr.apartribebackend.article.dto;
 
 
 import com.querydsl.core.annotations.QueryProjection;
+import kr.apartribebackend.likes.dto.MemberLikedBoard;
 import lombok.Getter;
+import lombok.Setter;
 
 import java.time.LocalDateTime;
 
 @Getter
-public class ArticleResponse {
+public class ArticleResponse implements MemberLikedBoard {
 
     private Long id;
     private int liked;
     private int saw;
     private String title;
-    private String content;
+    private String content;     // 목록 조회에서는 본문이 아닌 Board.excerpt 가 담긴다.
     private String thumbnail;
     private long commentCounts;
     private LocalDateTime createdAt;
@@ -21,6 +23,9 @@ public class ArticleResponse {
     private String profileImage;
     private boolean onlyApartUser;
 
+    @Setter
+    private boolean memberLiked;     // 조회한 회원의 좋아요 여부. 조회 후 MemberLikeIndexService 로 채운다.
+
     @QueryProjection
     public ArticleResponse(Long id,
                            int liked,
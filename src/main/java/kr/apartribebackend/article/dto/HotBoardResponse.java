@@ -0,0 +1,29 @@
+package kr.apartribebackend.article.dto;
+
+import java.time.LocalDateTime;
+
+public record HotBoardResponse(
+        Long id,
+        String boardType,
+        String title,
+        int liked,
+        int saw,
+        long commentCounts,
+        LocalDateTime createdAt,
+        double score
+) {
+
+    public static HotBoardResponse from(final HotBoardSource source, final double score) {
+        return new HotBoardResponse(
+                source.id(),
+                source.boardType(),
+                source.title(),
+                source.liked(),
+                source.saw(),
+                source.commentCounts(),
+                source.createdAt(),
+                score
+        );
+    }
+
+}
@@ -0,0 +1,17 @@
+package kr.apartribebackend.article.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * 인기 게시글 점수 계산과 인기 게시글 목록 응답에 필요한 게시글 정보. (본문 제외)
+ */
+public record HotBoardSource(
+        String apartCode,
+        Long id,
+        String boardType,
+        String title,
+        int liked,
+        int saw,
+        long commentCounts,
+        LocalDateTime createdAt
+) { }
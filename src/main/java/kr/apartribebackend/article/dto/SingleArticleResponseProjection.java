@@ -8,7 +8,7 @@ import java.time.LocalDateTime;
 
 @Getter
 @NoArgsConstructor
-public class SingleArticleResponseProjection {
+public class SingleArticleResponseProjection implements SingleBoardProjection {
     private Long id;
     private String createdBy;
     private boolean memberCreated;
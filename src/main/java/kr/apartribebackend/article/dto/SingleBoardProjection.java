@@ -0,0 +1,16 @@
+package kr.apartribebackend.article.dto;
+
+/**
+ * 게시글 / 공지사항 / 함께해요 단일 조회 결과의 공통 부분. 응답 캐시에서 회원별 필드를 덮어쓸 때 사용한다.
+ */
+public interface SingleBoardProjection {
+
+    String getApartCode();
+
+    boolean isOnlyApartUser();
+
+    boolean isMemberCreated();
+
+    boolean isMemberLiked();
+
+}
@@ -1,5 +1,6 @@
 package kr.apartribebackend.article.dto.announce;
 
+import kr.apartribebackend.apart.domain.Apartment;
 import kr.apartribebackend.article.domain.Announce;
 import kr.apartribebackend.article.domain.Level;
 import kr.apartribebackend.member.domain.Member;
@@ -73,7 +74,7 @@ public class AnnounceDto {
                 .build();
     }
 
-    public Announce toEntity(Member member) {
+    public Announce toEntity(Member member, Apartment apartment) {
         return Announce.builder()
                 .id(id)
                 .title(title)
@@ -82,6 +83,7 @@ public class AnnounceDto {
                 .saw(saw)
                 .level(level)
                 .member(member)
+                .apartment(apartment)
                 .createdAt(createdAt)
                 .createdBy(createdBy)
                 .thumbnail(thumbnail)
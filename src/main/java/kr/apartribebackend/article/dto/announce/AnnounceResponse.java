@@ -3,19 +3,21 @@ package kr.apartribebackend.article.dto.announce;
 import com.querydsl.core.annotations.QueryProjection;
 import kr.apartribebackend.article.domain.Level;
 import kr.apartribebackend.member.domain.Position;
+import kr.apartribebackend.likes.dto.MemberLikedBoard;
 import lombok.Getter;
+import lombok.Setter;
 
 import java.time.LocalDateTime;
 
 @Getter
-public class AnnounceResponse {
+public class AnnounceResponse implements MemberLikedBoard {
 
     private Long id;
     private String level;
     private int liked;
     private int saw;
     private String title;
-    private String content;
+    private String content;     // 목록 조회에서는 본문이 아닌 Board.excerpt 가 담긴다.
     private String thumbnail;
     private long commentCounts;
     private LocalDateTime createdAt;
@@ -24,6 +26,9 @@ public class AnnounceResponse {
     private boolean onlyApartUser;
     private String position;
 
+    @Setter
+    private boolean memberLiked;     // 조회한 회원의 좋아요 여부. 조회 후 MemberLikeIndexService 로 채운다.
+
     @QueryProjection
     public AnnounceResponse(Long id,
                             Level level,
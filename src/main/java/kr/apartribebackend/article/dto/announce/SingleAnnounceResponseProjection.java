@@ -3,6 +3,7 @@ package kr.apartribebackend.article.dto.announce;
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.querydsl.core.annotations.QueryProjection;
 import kr.apartribebackend.article.domain.Level;
+import kr.apartribebackend.article.dto.SingleBoardProjection;
 import kr.apartribebackend.member.domain.Position;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -12,7 +13,7 @@ import java.time.LocalDateTime;
 
 @Getter
 @NoArgsConstructor
-public class SingleAnnounceResponseProjection {
+public class SingleAnnounceResponseProjection implements SingleBoardProjection {
     private Long id;
     private String createdBy;
     private String profileImage;
@@ -2,6 +2,7 @@ package kr.apartribebackend.article.dto.together;
 
 import jakarta.validation.constraints.NotEmpty;
 import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
 import jakarta.validation.constraints.Size;
 import kr.apartribebackend.article.annotation.LocalDateIsValid;
 import kr.apartribebackend.article.domain.RecruitStatus;
@@ -21,7 +22,8 @@ public record AppendTogetherReq(
         @NotEmpty(message = "활동 장소는 공백일 수 없습니다.") String location,
         @NotNull(message = "회비여부는 true 혹은 false 여야 합니다.") Boolean contributeStatus,
         @NotNull(message = "아파트 주민에게만 공개 여부는 둘 중 하나 선택하셔야합니다.") Boolean onlyApartUser,
-        String thumbnail
+        String thumbnail,
+        @Positive(message = "최대 참여 인원은 1 명 이상이어야 합니다.") Integer capacity
 ) {
     public TogetherDto toDto() {
         final RecruitStatus recruitStatus;
@@ -50,6 +52,7 @@ public record AppendTogetherReq(
                 .contributeStatus(contributeStatus)
                 .thumbnail(thumbnail == null ? "" : thumbnail)
                 .onlyApartUser(onlyApartUser)
+                .capacity(capacity)
                 .build();
     }
 }
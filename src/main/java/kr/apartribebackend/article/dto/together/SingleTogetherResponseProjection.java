@@ -3,6 +3,7 @@ package kr.apartribebackend.article.dto.together;
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.querydsl.core.annotations.QueryProjection;
 import kr.apartribebackend.article.domain.RecruitStatus;
+import kr.apartribebackend.article.dto.SingleBoardProjection;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
@@ -11,7 +12,7 @@ import java.time.LocalDateTime;
 
 @Getter
 @NoArgsConstructor
-public class SingleTogetherResponseProjection {
+public class SingleTogetherResponseProjection implements SingleBoardProjection {
     private Long id;
     private String category;
     private String title;
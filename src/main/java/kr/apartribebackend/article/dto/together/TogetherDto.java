@@ -29,6 +29,7 @@ public class TogetherDto {
     private LocalDateTime createdAt;
     private String createdBy;
     private boolean onlyApartUser;
+    private Integer capacity;
 
     @Builder
     private TogetherDto(Category category,
@@ -45,7 +46,8 @@ public class TogetherDto {
                        String thumbnail,
                        String createdBy,
                        LocalDateTime createdAt,
-                       boolean onlyApartUser) {
+                       boolean onlyApartUser,
+                       Integer capacity) {
         this.category = category;
         this.title = title;
         this.description = description;
@@ -61,12 +63,14 @@ public class TogetherDto {
         this.createdBy = createdBy;
         this.createdAt = createdAt;
         this.onlyApartUser = onlyApartUser;
+        this.capacity = capacity;
     }
 
     public Together toEntity(Category category, Member member) {
         return Together.builder()
                 .member(member)
                 .category(category)
+                .apartment(category.getApartment())
                 .title(title)
                 .description(description)
                 .content(content)
@@ -79,6 +83,7 @@ public class TogetherDto {
                 .contributeStatus(contributeStatus)
                 .thumbnail(thumbnail)
                 .onlyApartUser(onlyApartUser)
+                .capacity(capacity)
                 .build();
     }
 }
@@ -2,13 +2,14 @@ package kr.apartribebackend.article.dto.together;
 
 import com.querydsl.core.annotations.QueryProjection;
 import kr.apartribebackend.article.domain.RecruitStatus;
-import kr.apartribebackend.category.domain.Category;
+import kr.apartribebackend.likes.dto.MemberLikedBoard;
 import lombok.Getter;
+import lombok.Setter;
 
 import java.time.LocalDateTime;
 
 @Getter
-public class TogetherResponse {
+public class TogetherResponse implements MemberLikedBoard {
 
     private Long id;
     private String category;
@@ -20,9 +21,15 @@ public class TogetherResponse {
     private LocalDateTime createdAt;
     private boolean onlyApartUser;
 
+    @Setter
+    private boolean memberLiked;     // 조회한 회원의 좋아요 여부. 조회 후 MemberLikeIndexService 로 채운다.
+
+    /**
+     * 카테고리 이름과 모집상태는 컬럼 값 그대로 스칼라로 조회된다. (Category 엔티티를 영속화하지 않는다.)
+     */
     @QueryProjection
     public TogetherResponse(Long id,
-                            Category category,
+                            String category,
                             RecruitStatus recruitStatus,
                             String createdBy,
                             String title,
@@ -31,7 +38,7 @@ public class TogetherResponse {
                             LocalDateTime createdAt,
                             boolean onlyApartUser) {
         this.id = id;
-        this.category = category.getName();
+        this.category = category;
         this.recruitStatus = recruitStatus.getName();
         this.createdBy = createdBy;
         this.title = title;
@@ -0,0 +1,20 @@
+package kr.apartribebackend.article.dto.together;
+
+import kr.apartribebackend.article.domain.RecruitStatus;
+import org.springframework.format.annotation.DateTimeFormat;
+
+import java.time.LocalDate;
+
+/**
+ * 함께해요 목록 필터 조건. 모든 값은 선택이며, null 인 조건은 where 절에서 제외된다.
+ * @param category 카테고리 이름
+ * @param recruitStatus 모집 상태
+ * @param recruitToFrom 모집 마감일 시작 (포함)
+ * @param recruitToTo 모집 마감일 끝 (포함)
+ */
+public record TogetherSearchCond(
+        String category,
+        RecruitStatus recruitStatus,
+        @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate recruitToFrom,
+        @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate recruitToTo
+) { }
@@ -5,8 +5,10 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Optional;
 
 public interface BoardRepository
         extends JpaRepository<Board, Long>, CustomBoardRepository {
@@ -18,4 +20,51 @@ public interface BoardRepository
     @Query(value = "delete from Board as b where b.id in :boardIds")
     int deleteBoardsUsingBoardIds(@Param("boardIds") List<Long> boardIds);
 
+    @Modifying
+    @Query(value = "update Board as b set b.saw = b.saw + 1 where b.id = :boardId")
+    int increaseSaw(@Param("boardId") Long boardId);
+
+    @Query(value = "select b.member.id from Board as b where b.id = :boardId")
+    Optional<Long> findWriterIdById(@Param("boardId") Long boardId);
+
+    @Query(value = "select max(b.id) from Board as b")
+    Long findMaxBoardId();
+
+    /**
+     * 게시글 ID 범위 내에서 요약 (EXCERPT) 이 비어있는 게시글을 조회한다. (요약 backfill 용)
+     * @param fromId
+     * @param toId
+     * @return
+     */
+    @Query(value = "select b from Board as b where b.excerpt is null and b.id between :fromId and :toId")
+    List<Board> findBoardsWithoutExcerptByBoardIdRange(@Param("fromId") Long fromId, @Param("toId") Long toId);
+
+    /**
+     * 게시글 ID 범위 내에서 APART_ID 가 비어있는 게시글에 작성자의 아파트를 채워넣는다. (역정규화 backfill 용)
+     * @param fromId
+     * @param toId
+     * @return
+     */
+    @Modifying(clearAutomatically = true)
+    @Query(value = "update Board as b" +
+            " set b.apartment = (select m.apartment from Member as m where m.id = b.member.id)" +
+            " where b.apartment is null and b.id between :fromId and :toId")
+    int backfillApartmentByBoardIdRange(@Param("fromId") Long fromId, @Param("toId") Long toId);
+
+    /**
+     * 첨부파일의 목록용 썸네일이 만들어지면, 그 첨부파일이 연결된 게시글 중 썸네일이 원본 URL 인 게시글에 목록용 썸네일 URL 을 기록한다.
+     * @param contentHash
+     * @param uploadPath 첨부파일 원본 URL
+     * @param listThumbnail 목록용 썸네일 URL
+     * @return
+     */
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query(value = "update Board as b set b.listThumbnail = :listThumbnail" +
+            " where b.thumbnail = :uploadPath" +
+            " and b.id in (select a.board.id from Attachment as a where a.contentHash = :contentHash)")
+    int registerListThumbnail(@Param("contentHash") String contentHash,
+                              @Param("uploadPath") String uploadPath,
+                              @Param("listThumbnail") String listThumbnail);
+
 }
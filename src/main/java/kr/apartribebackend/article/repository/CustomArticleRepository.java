@@ -11,11 +11,14 @@ import org.springframework.data.domain.Pageable;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.function.LongSupplier;
 
 
 public interface CustomArticleRepository {
 
-    Page<ArticleResponse> findArticlesByCategory(String apartId, String categoryName, Pageable pageable);
+    Page<ArticleResponse> findArticlesByCategory(String apartId, String categoryName, Pageable pageable, LongSupplier totalCount);
+
+    long countArticlesByCategory(String apartId, String categoryName);
 
     List<Top5ArticleResponse> findTop5ArticleViaLiked(String apartId);
 
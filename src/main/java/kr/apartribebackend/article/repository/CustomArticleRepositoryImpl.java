@@ -5,11 +5,11 @@ import com.querydsl.core.types.OrderSpecifier;
 import com.querydsl.core.types.Projections;
 import com.querydsl.core.types.dsl.*;
 import com.querydsl.jpa.JPAExpressions;
-import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.PersistenceContext;
 import kr.apartribebackend.article.domain.Article;
+import kr.apartribebackend.article.domain.BoardType;
 import kr.apartribebackend.article.dto.*;
 import kr.apartribebackend.global.utils.QueryDslUtil;
 import lombok.RequiredArgsConstructor;
@@ -22,6 +22,7 @@ import org.springframework.util.StringUtils;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.LongSupplier;
 
 import static kr.apartribebackend.apart.domain.QApartment.*;
 import static kr.apartribebackend.article.domain.QArticle.*;
@@ -31,6 +32,7 @@ import static kr.apartribebackend.comment.domain.QComment.*;
 import static kr.apartribebackend.likes.domain.QBoardLiked.*;
 import static kr.apartribebackend.member.domain.QMember.*;
 import static org.springframework.util.ObjectUtils.isEmpty;
+import static kr.apartribebackend.attachment.repository.AttachmentExpressions.listThumbnail;
 
 
 @RequiredArgsConstructor
@@ -43,7 +45,8 @@ public class CustomArticleRepositoryImpl implements CustomArticleRepository {
     @Override
     public Page<ArticleResponse> findArticlesByCategory(final String apartId,
                                                         final String categoryName,
-                                                        final Pageable pageable) {
+                                                        final Pageable pageable,
+                                                        final LongSupplier totalCount) {
         final List<OrderSpecifier> ORDERS = getAllOrderSpecifiers(pageable);
 
         List<ArticleResponse> articleResponses = jpaQueryFactory
@@ -53,8 +56,8 @@ public class CustomArticleRepositoryImpl implements CustomArticleRepository {
                                 article.liked,
                                 article.saw,
                                 article.title,
-                                article.content,
-                                article.thumbnail,
+                                article.excerpt,
+                                listThumbnail(article.listThumbnail, article.thumbnail),
                                 JPAExpressions
                                         .select(Wildcard.count)
                                         .from(comment)
@@ -66,11 +69,12 @@ public class CustomArticleRepositoryImpl implements CustomArticleRepository {
                         )
                 )
                 .from(article)
+                .innerJoin(article.apartment, apartment)
                 .innerJoin(article.member, member)
                 .innerJoin(article.category, category)
-                .innerJoin(member.apartment, apartment)
                 .where(
                         apartmentCondition(apartId),
+                        article.boardType.eq(BoardType.ARTICLE),
                         categoryNameEq(categoryName)
                 )
                 .orderBy(ORDERS.toArray(OrderSpecifier[]::new))
@@ -78,18 +82,22 @@ public class CustomArticleRepositoryImpl implements CustomArticleRepository {
                 .limit(pageable.getPageSize())
                 .fetch();
 
-        final JPAQuery<Long> countQuery = jpaQueryFactory
+        return PageableExecutionUtils.getPage(articleResponses, pageable, totalCount);
+    }
+
+    @Override
+    public long countArticlesByCategory(final String apartId, final String categoryName) {
+        return jpaQueryFactory
                 .select(Wildcard.count)
                 .from(article)
-                .innerJoin(article.member, member)
+                .innerJoin(article.apartment, apartment)
                 .innerJoin(article.category, category)
-                .innerJoin(member.apartment, apartment)
                 .where(
                         apartmentCondition(apartId),
+                        article.boardType.eq(BoardType.ARTICLE),
                         categoryNameEq(categoryName)
-                );
-
-        return PageableExecutionUtils.getPage(articleResponses, pageable, countQuery::fetchOne);
+                )
+                .fetchOne();
     }
 
     /**
@@ -106,7 +114,7 @@ public class CustomArticleRepositoryImpl implements CustomArticleRepository {
         final Article result = jpaQueryFactory
                 .selectFrom(article)
                 .innerJoin(article.member, member).fetchJoin()
-                .innerJoin(member.apartment, apartment)
+                .innerJoin(article.apartment, apartment)
                 .where(
                         apartmentCondition(apartId),
                         article.id.eq(articleId)
@@ -169,9 +177,9 @@ public class CustomArticleRepositoryImpl implements CustomArticleRepository {
                         article.saw.as("saw"),
                         apartment.code.as("apartCode")))
                 .from(article)
+                .innerJoin(article.apartment, apartment)
                 .innerJoin(article.member, member)
                 .innerJoin(article.category, category)
-                .innerJoin(member.apartment, apartment)
                 .where(
                         apartmentCondition(apartId),
                         article.id.eq(articleId)
@@ -189,10 +197,9 @@ public class CustomArticleRepositoryImpl implements CustomArticleRepository {
                         board.boardType.as("boardType"),
                         board.title.as("title")))
                 .from(board)
-                .innerJoin(board.member, member)
-                .innerJoin(member.apartment, apartment)
+                .innerJoin(board.apartment, apartment)
                 .where(apartmentCondition(apartId))
-                .orderBy(board.liked.desc())
+                .orderBy(board.liked.desc(), board.id.desc())
                 .limit(5)
                 .fetch();
     }
@@ -205,10 +212,9 @@ public class CustomArticleRepositoryImpl implements CustomArticleRepository {
                         board.boardType.as("boardType"),
                         board.title.as("title")))
                 .from(board)
-                .innerJoin(board.member, member)
-                .innerJoin(member.apartment, apartment)
+                .innerJoin(board.apartment, apartment)
                 .where(apartmentCondition(apartId))
-                .orderBy(board.saw.desc())
+                .orderBy(board.saw.desc(), board.id.desc())
                 .limit(5)
                 .fetch();
     }
@@ -222,13 +228,12 @@ public class CustomArticleRepositoryImpl implements CustomArticleRepository {
                         board.boardType.as("boardType"),
                         board.title.as("title")))
                 .from(board)
-                .innerJoin(board.member, member)
-                .innerJoin(member.apartment, apartment)
+                .innerJoin(board.apartment, apartment)
                 .where(
                         apartmentCondition(apartId),
                         isTitleContainsIgnoreCase2(title)
                 )
-                .orderBy(board.createdAt.desc())
+                .orderBy(board.createdAt.desc(), board.id.desc())
                 .fetch();
     }
 
@@ -278,6 +283,7 @@ public class CustomArticleRepositoryImpl implements CustomArticleRepository {
                 }
             }
         }
+        ORDERS.add(article.id.desc());
         return ORDERS;
     }
 
@@ -1,11 +1,19 @@
 package kr.apartribebackend.article.repository;
 
 import kr.apartribebackend.article.domain.Board;
+import kr.apartribebackend.article.dto.HotBoardSource;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface CustomBoardRepository {
 
     Optional<Board> findBoardWithMemberAndApartmentForApartId(String apartId, Long boardId);
 
+    List<HotBoardSource> findHotBoardSourcesSince(LocalDateTime from);
+
+    List<HotBoardSource> findHotBoardSourcesByIds(Collection<Long> boardIds);
+
 }
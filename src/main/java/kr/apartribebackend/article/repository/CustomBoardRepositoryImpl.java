@@ -1,15 +1,24 @@
 package kr.apartribebackend.article.repository;
 
+import com.querydsl.core.types.Projections;
 import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.Wildcard;
+import com.querydsl.jpa.JPAExpressions;
+import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import kr.apartribebackend.article.domain.Board;
+import kr.apartribebackend.article.dto.HotBoardSource;
 import lombok.RequiredArgsConstructor;
 import org.springframework.util.StringUtils;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 import static kr.apartribebackend.apart.domain.QApartment.apartment;
 import static kr.apartribebackend.article.domain.QBoard.*;
+import static kr.apartribebackend.comment.domain.QComment.comment;
 import static kr.apartribebackend.member.domain.QMember.member;
 
 @RequiredArgsConstructor
@@ -23,7 +32,7 @@ public class CustomBoardRepositoryImpl implements CustomBoardRepository {
         final Board result = jpaQueryFactory
                 .selectFrom(board)
                 .innerJoin(board.member, member).fetchJoin()
-                .innerJoin(member.apartment, apartment).fetchJoin()
+                .innerJoin(board.apartment, apartment).fetchJoin()
                 .where(
                         apartmentCondition(apartId),
                         board.id.eq(boardId)
@@ -33,6 +42,45 @@ public class CustomBoardRepositoryImpl implements CustomBoardRepository {
         return Optional.ofNullable(result);
     }
 
+    @Override
+    public List<HotBoardSource> findHotBoardSourcesSince(final LocalDateTime from) {
+        return selectHotBoardSource()
+                .where(board.createdAt.goe(from))
+                .fetch();
+    }
+
+    @Override
+    public List<HotBoardSource> findHotBoardSourcesByIds(final Collection<Long> boardIds) {
+        if (boardIds.isEmpty()) {
+            return List.of();
+        }
+        return selectHotBoardSource()
+                .where(board.id.in(boardIds))
+                .fetch();
+    }
+
+    private JPAQuery<HotBoardSource> selectHotBoardSource() {
+        return jpaQueryFactory
+                .select(
+                        Projections.constructor(
+                                HotBoardSource.class,
+                                apartment.code,
+                                board.id,
+                                board.boardType,
+                                board.title,
+                                board.liked,
+                                board.saw,
+                                JPAExpressions
+                                        .select(Wildcard.count)
+                                        .from(comment)
+                                        .where(comment.board.id.eq(board.id)),
+                                board.createdAt
+                        )
+                )
+                .from(board)
+                .innerJoin(board.apartment, apartment);
+    }
+
     private BooleanExpression apartmentCondition(final String apartId) {
         return StringUtils.hasText(apartId) ? apartment.code.eq(apartId) : null;
     }
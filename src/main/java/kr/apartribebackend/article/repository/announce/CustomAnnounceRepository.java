@@ -13,12 +13,15 @@ import org.springframework.data.domain.Pageable;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.function.LongSupplier;
 
 public interface CustomAnnounceRepository {
 
     List<AnnounceWidgetRes> findWidgetValues(String apartId);
 
-    Page<AnnounceResponse> findAnnouncesByLevel(String apartId, Level level, Pageable pageable);
+    Page<AnnounceResponse> findAnnouncesByLevel(String apartId, Level level, Pageable pageable, LongSupplier totalCount);
+
+    long countAnnouncesByLevel(String apartId, Level level);
 
     /**
      * 공지사항 게시글 단일 조회 (1) - 쿼리 여러방 나눠서 실행
@@ -5,11 +5,11 @@ import com.querydsl.core.types.OrderSpecifier;
 import com.querydsl.core.types.dsl.BooleanExpression;
 import com.querydsl.core.types.dsl.Wildcard;
 import com.querydsl.jpa.JPAExpressions;
-import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.PersistenceContext;
 import kr.apartribebackend.article.domain.Announce;
+import kr.apartribebackend.article.domain.BoardType;
 import kr.apartribebackend.article.domain.Level;
 import kr.apartribebackend.article.dto.announce.*;
 import kr.apartribebackend.global.utils.QueryDslUtil;
@@ -24,6 +24,7 @@ import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.LongSupplier;
 import java.util.stream.Collectors;
 
 import static kr.apartribebackend.apart.domain.QApartment.*;
@@ -32,6 +33,7 @@ import static kr.apartribebackend.comment.domain.QComment.comment;
 import static kr.apartribebackend.likes.domain.QBoardLiked.boardLiked;
 import static kr.apartribebackend.member.domain.QMember.*;
 import static org.springframework.util.ObjectUtils.isEmpty;
+import static kr.apartribebackend.attachment.repository.AttachmentExpressions.listThumbnail;
 
 @RequiredArgsConstructor
 public class CustomAnnounceRepositoryImpl implements CustomAnnounceRepository {
@@ -43,7 +45,8 @@ public class CustomAnnounceRepositoryImpl implements CustomAnnounceRepository {
     @Override
     public Page<AnnounceResponse> findAnnouncesByLevel(final String apartId,
                                                        final Level level,
-                                                       final Pageable pageable) {
+                                                       final Pageable pageable,
+                                                       final LongSupplier totalCount) {
         final List<OrderSpecifier> ORDERS = getAllOrderSpecifiers(pageable);
 
         final List<AnnounceResponse> contents = jpaQueryFactory
@@ -54,8 +57,8 @@ public class CustomAnnounceRepositoryImpl implements CustomAnnounceRepository {
                                 announce.liked,
                                 announce.saw,
                                 announce.title,
-                                announce.content,
-                                announce.thumbnail,
+                                announce.excerpt,
+                                listThumbnail(announce.listThumbnail, announce.thumbnail),
                                 JPAExpressions
                                         .select(Wildcard.count)
                                         .from(comment)
@@ -68,10 +71,11 @@ public class CustomAnnounceRepositoryImpl implements CustomAnnounceRepository {
                         )
                 )
                 .from(announce)
+                .innerJoin(announce.apartment, apartment)
                 .innerJoin(announce.member, member)
-                .innerJoin(member.apartment, apartment)
                 .where(
                         apartmentCondition(apartId),
+                        announce.boardType.eq(BoardType.ANNOUNCE),
                         levelCondition(level)
                 )
                 .orderBy(ORDERS.toArray(OrderSpecifier[]::new))
@@ -79,17 +83,21 @@ public class CustomAnnounceRepositoryImpl implements CustomAnnounceRepository {
                 .limit(pageable.getPageSize())
                 .fetch();
 
-        final JPAQuery<Long> countQuery = jpaQueryFactory
+        return PageableExecutionUtils.getPage(contents, pageable, totalCount);
+    }
+
+    @Override
+    public long countAnnouncesByLevel(final String apartId, final Level level) {
+        return jpaQueryFactory
                 .select(Wildcard.count)
                 .from(announce)
-                .innerJoin(announce.member, member)
-                .innerJoin(member.apartment, apartment)
+                .innerJoin(announce.apartment, apartment)
                 .where(
                         apartmentCondition(apartId),
+                        announce.boardType.eq(BoardType.ANNOUNCE),
                         levelCondition(level)
-                );
-
-        return PageableExecutionUtils.getPage(contents, pageable, countQuery::fetchOne);
+                )
+                .fetchOne();
     }
 
     @Override
@@ -97,7 +105,7 @@ public class CustomAnnounceRepositoryImpl implements CustomAnnounceRepository {
         final Announce result = jpaQueryFactory
                 .selectFrom(announce)
                 .innerJoin(announce.member, member).fetchJoin()
-                .innerJoin(member.apartment, apartment)
+                .innerJoin(announce.apartment, apartment)
                 .where(
                         apartmentCondition(apartId),
                         announce.id.eq(announceId)
@@ -150,8 +158,8 @@ public class CustomAnnounceRepositoryImpl implements CustomAnnounceRepository {
                         member.position,
                         apartment.code))
                 .from(announce)
+                .innerJoin(announce.apartment, apartment)
                 .innerJoin(announce.member, member)
-                .innerJoin(member.apartment, apartment)
                 .where(
                         apartmentCondition(apartId),
                         announce.id.eq(announceId)
@@ -165,10 +173,10 @@ public class CustomAnnounceRepositoryImpl implements CustomAnnounceRepository {
     public List<AnnounceWidgetRes> findWidgetValues(final String apartId) {
         final List<Announce> announces = jpaQueryFactory
                 .selectFrom(announce)
-                .innerJoin(announce.member, member)
-                .innerJoin(member.apartment, apartment)
+                .innerJoin(announce.apartment, apartment)
                 .where(
                         apartmentCondition(apartId),
+                        announce.boardType.eq(BoardType.ANNOUNCE),
                         announce.floatFrom.loe(LocalDate.now()),
                         announce.floatTo.goe(LocalDate.now())
                 )
@@ -207,7 +215,7 @@ public class CustomAnnounceRepositoryImpl implements CustomAnnounceRepository {
                 }
             }
         }
-
+        ORDERS.add(announce.id.desc());
         return ORDERS;
     }
 
@@ -3,17 +3,29 @@ package kr.apartribebackend.article.repository.together;
 import kr.apartribebackend.article.domain.Together;
 import kr.apartribebackend.article.dto.together.SingleTogetherResponseProjection;
 import kr.apartribebackend.article.dto.together.TogetherResponse;
+import kr.apartribebackend.article.dto.together.TogetherSearchCond;
 import kr.apartribebackend.article.exception.ArticleNotFoundException;
 import kr.apartribebackend.article.exception.NotApartUserBoardException;
 import kr.apartribebackend.member.dto.MemberDto;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 
+import java.time.LocalDateTime;
 import java.util.Optional;
+import java.util.function.LongSupplier;
 
 public interface CustomTogetherRepository {
 
-    Page<TogetherResponse> findMultipleTogethersByCategory(String apartId, String category, Pageable pageable);
+    Page<TogetherResponse> findMultipleTogethersByCategory(String apartId, TogetherSearchCond searchCond, Pageable pageable, LongSupplier totalCount);
+
+    long countTogethersByCategory(String apartId, TogetherSearchCond searchCond);
+
+    Slice<TogetherResponse> findTogethersByCategoryAfter(String apartId,
+                                                         TogetherSearchCond searchCond,
+                                                         LocalDateTime lastCreatedAt,
+                                                         Long lastId,
+                                                         int size);
 
     /**
      * 함께해요 게시글 단일 조회 (1) - 쿼리 여러방 나눠서 실행
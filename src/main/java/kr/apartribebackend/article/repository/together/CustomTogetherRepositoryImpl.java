@@ -1,5 +1,6 @@
 package kr.apartribebackend.article.repository.together;
 
+import com.querydsl.core.BooleanBuilder;
 import com.querydsl.core.types.Order;
 import com.querydsl.core.types.OrderSpecifier;
 import com.querydsl.core.types.dsl.*;
@@ -8,23 +9,22 @@ import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.PersistenceContext;
+import kr.apartribebackend.article.domain.BoardType;
 import kr.apartribebackend.article.domain.RecruitStatus;
 import kr.apartribebackend.article.domain.Together;
-import kr.apartribebackend.article.dto.together.QSingleTogetherResponseProjection;
-import kr.apartribebackend.article.dto.together.QTogetherResponse;
-import kr.apartribebackend.article.dto.together.SingleTogetherResponseProjection;
-import kr.apartribebackend.article.dto.together.TogetherResponse;
+import kr.apartribebackend.article.dto.together.*;
 import kr.apartribebackend.global.utils.QueryDslUtil;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
-import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.*;
 import org.springframework.data.support.PageableExecutionUtils;
 import org.springframework.util.StringUtils;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.LongSupplier;
 
 import static kr.apartribebackend.apart.domain.QApartment.apartment;
 import static kr.apartribebackend.article.domain.QTogether.*;
@@ -32,6 +32,7 @@ import static kr.apartribebackend.category.domain.QCategory.category;
 import static kr.apartribebackend.likes.domain.QBoardLiked.boardLiked;
 import static kr.apartribebackend.member.domain.QMember.*;
 import static org.springframework.util.ObjectUtils.isEmpty;
+import static kr.apartribebackend.attachment.repository.AttachmentExpressions.listThumbnail;
 
 @RequiredArgsConstructor
 public class CustomTogetherRepositoryImpl implements CustomTogetherRepository{
@@ -42,49 +43,66 @@ public class CustomTogetherRepositoryImpl implements CustomTogetherRepository{
 
     @Override
     public Page<TogetherResponse> findMultipleTogethersByCategory(final String apartId,
-                                                                  final String categoryName,
-                                                                  final Pageable pageable) {
+                                                                  final TogetherSearchCond searchCond,
+                                                                  final Pageable pageable,
+                                                                  final LongSupplier totalCount) {
         final List<OrderSpecifier> ORDERS = getAllOrderSpecifiers(pageable);
 
-        final List<TogetherResponse> contents = jpaQueryFactory
-                .select(
-                        new QTogetherResponse(
-                                together.id,
-                                together.category,
-                                together.recruitStatus,
-                                together.createdBy,
-                                together.title,
-                                together.thumbnail,
-                                together.description,
-                                together.createdAt,
-                                together.onlyApartUser
-                        )
-                )
+        final List<TogetherResponse> contents = selectTogetherResponse()
                 .from(together)
-                .innerJoin(together.member, member)
+                .innerJoin(together.apartment, apartment)
                 .innerJoin(together.category, category)
-                .innerJoin(member.apartment, apartment)
-                .where(
-                        apartmentCondition(apartId),
-                        categoryNameEq(categoryName)
-                )
+                .where(searchConditions(apartId, searchCond))
                 .orderBy(ORDERS.toArray(OrderSpecifier[]::new))
                 .offset(pageable.getOffset())
                 .limit(pageable.getPageSize())
                 .fetch();
 
-        final JPAQuery<Long> countQuery = jpaQueryFactory
+        return PageableExecutionUtils.getPage(contents, pageable, totalCount);
+    }
+
+    @Override
+    public long countTogethersByCategory(final String apartId, final TogetherSearchCond searchCond) {
+        return jpaQueryFactory
                 .select(Wildcard.count)
                 .from(together)
-                .innerJoin(together.member, member)
-                .innerJoin(member.apartment, apartment)
+                .innerJoin(together.apartment, apartment)
+                .innerJoin(together.category, category)
+                .where(searchConditions(apartId, searchCond))
+                .fetchOne();
+    }
+
+    /**
+     * 함께해요 게시글 전체 조회 (Keyset) - (CREATED_AT, BOARD_ID) 내림차순으로 커서 다음의 size 개를 가져온다.
+     * offset 과 count 쿼리가 없으므로 뒤쪽 페이지도 인덱스 seek 한번으로 조회된다.
+     * @param apartId
+     * @param searchCond
+     * @param lastCreatedAt 이전 페이지 마지막 게시글의 작성일 (첫 페이지는 null)
+     * @param lastId 이전 페이지 마지막 게시글의 ID (첫 페이지는 null)
+     * @param size
+     * @return
+     */
+    @Override
+    public Slice<TogetherResponse> findTogethersByCategoryAfter(final String apartId,
+                                                               final TogetherSearchCond searchCond,
+                                                               final LocalDateTime lastCreatedAt,
+                                                               final Long lastId,
+                                                               final int size) {
+        final List<TogetherResponse> contents = selectTogetherResponse()
+                .from(together)
+                .innerJoin(together.apartment, apartment)
                 .innerJoin(together.category, category)
                 .where(
-                        apartmentCondition(apartId),
-                        categoryNameEq(categoryName)
-                );
+                        searchConditions(apartId, searchCond),
+                        cursorCondition(lastCreatedAt, lastId)
+                )
+                .orderBy(together.createdAt.desc(), together.id.desc())
+                .limit(size + 1)
+                .fetch();
 
-        return PageableExecutionUtils.getPage(contents, pageable, countQuery::fetchOne);
+        final boolean hasNext = contents.size() > size;
+        final List<TogetherResponse> results = hasNext ? contents.subList(0, size) : contents;
+        return new SliceImpl<>(results, PageRequest.ofSize(size), hasNext);
     }
 
     /**
@@ -98,7 +116,7 @@ public class CustomTogetherRepositoryImpl implements CustomTogetherRepository{
         final Together result = jpaQueryFactory
                 .selectFrom(together)
                 .innerJoin(together.member, member).fetchJoin()
-                .innerJoin(member.apartment, apartment)
+                .innerJoin(together.apartment, apartment)
                 .where(
                         apartmentCondition(apartId),
                         together.id.eq(togetherId))
@@ -163,9 +181,9 @@ public class CustomTogetherRepositoryImpl implements CustomTogetherRepository{
                         apartment.code
                 ))
                 .from(together)
+                .innerJoin(together.apartment, apartment)
                 .innerJoin(together.member, member)
                 .innerJoin(together.category, category)
-                .innerJoin(member.apartment, apartment)
                 .where(
                         apartmentCondition(apartId),
                         together.id.eq(togetherId))
@@ -174,6 +192,53 @@ public class CustomTogetherRepositoryImpl implements CustomTogetherRepository{
         return Optional.ofNullable(singleTogetherResponseProjection);
     }
 
+    private JPAQuery<TogetherResponse> selectTogetherResponse() {
+        return jpaQueryFactory
+                .select(
+                        new QTogetherResponse(
+                                together.id,
+                                category.name,
+                                together.recruitStatus,
+                                together.createdBy,
+                                together.title,
+                                listThumbnail(together.listThumbnail, together.thumbnail),
+                                together.description,
+                                together.createdAt,
+                                together.onlyApartUser
+                        )
+                );
+    }
+
+    private BooleanBuilder searchConditions(final String apartId, final TogetherSearchCond searchCond) {
+        return new BooleanBuilder()
+                .and(apartmentCondition(apartId))
+                .and(together.boardType.eq(BoardType.TOGETHER))
+                .and(categoryNameEq(searchCond.category()))
+                .and(recruitStatusEq(searchCond.recruitStatus()))
+                .and(recruitToBetween(searchCond.recruitToFrom(), searchCond.recruitToTo()));
+    }
+
+    private BooleanExpression cursorCondition(final LocalDateTime lastCreatedAt, final Long lastId) {
+        if (lastCreatedAt == null || lastId == null)
+            return null;
+        return together.createdAt.lt(lastCreatedAt)
+                .or(together.createdAt.eq(lastCreatedAt).and(together.id.lt(lastId)));
+    }
+
+    private BooleanExpression recruitStatusEq(final RecruitStatus recruitStatus) {
+        return recruitStatus != null ? together.recruitStatus.eq(recruitStatus) : null;
+    }
+
+    private BooleanExpression recruitToBetween(final LocalDate recruitToFrom, final LocalDate recruitToTo) {
+        if (recruitToFrom != null && recruitToTo != null)
+            return together.recruitTo.between(recruitToFrom, recruitToTo);
+        if (recruitToFrom != null)
+            return together.recruitTo.goe(recruitToFrom);
+        if (recruitToTo != null)
+            return together.recruitTo.loe(recruitToTo);
+        return null;
+    }
+
     private BooleanExpression categoryNameEq(final String categoryName) {
         return StringUtils.hasText(categoryName) ? category.name.eq(categoryName) : null;
     }
@@ -209,6 +274,7 @@ public class CustomTogetherRepositoryImpl implements CustomTogetherRepository{
                 }
             }
         }
+        ORDERS.add(together.id.desc());
         return ORDERS;
     }
 
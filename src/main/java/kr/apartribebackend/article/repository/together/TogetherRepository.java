@@ -20,4 +20,45 @@ public interface TogetherRepository
             @Param("currentDate") LocalDate currentDate
     );
 
+    /**
+     * 모집중이고 자리가 남아 있을 때만 참여 인원을 1 올린다. 조건 검사와 증가가 한 UPDATE 문 안에서 row lock 을 잡고 일어나므로 동시에 참여해도 최대 인원을 넘지 않는다.
+     * JPQL UPDATE 는 상속 테이블에서 대상 ID 를 임시 테이블에 먼저 골라둘 수 있어 조건과 증가가 분리되므로 TOGETHER 테이블에 직접 Native Query 를 실행한다.
+     * @param togetherId
+     * @return 0 이면 모집중이 아니거나 자리가 없다.
+     */
+    @Modifying(clearAutomatically = true)
+    @Query(nativeQuery = true, value = "update TOGETHER set PARTICIPANT_COUNT = PARTICIPANT_COUNT + 1 " +
+            "where BOARD_ID = :togetherId and RECRUIT_STATUS = 'STILL' and (CAPACITY is null or PARTICIPANT_COUNT < CAPACITY)")
+    int increaseParticipantCount(@Param("togetherId") Long togetherId);
+
+    @Modifying(clearAutomatically = true)
+    @Query(nativeQuery = true, value = "update TOGETHER set PARTICIPANT_COUNT = PARTICIPANT_COUNT - 1 " +
+            "where BOARD_ID = :togetherId and PARTICIPANT_COUNT > 0")
+    int decreaseParticipantCount(@Param("togetherId") Long togetherId);
+
+    /**
+     * 참여 인원이 최대 인원에 도달했으면 모집 완료로 바꾼다.
+     * @param togetherId
+     * @return 1 이면 이번에 모집 완료로 바뀌었다.
+     */
+    @Modifying(clearAutomatically = true)
+    @Query(nativeQuery = true, value = "update TOGETHER set RECRUIT_STATUS = 'END' " +
+            "where BOARD_ID = :togetherId and RECRUIT_STATUS = 'STILL' and CAPACITY is not null and PARTICIPANT_COUNT >= CAPACITY")
+    int closeRecruitIfFull(@Param("togetherId") Long togetherId);
+
+    /**
+     * 인원이 차서 모집 완료된 함께해요에서 방금 한 명이 빠졌고 모집 종료일이 지나지 않았으면 다시 모집중으로 바꾼다.
+     * @param togetherId
+     * @param currentDate
+     * @return 1 이면 이번에 모집중으로 바뀌었다.
+     */
+    @Modifying(clearAutomatically = true)
+    @Query(nativeQuery = true, value = "update TOGETHER set RECRUIT_STATUS = 'STILL' " +
+            "where BOARD_ID = :togetherId and RECRUIT_STATUS = 'END' and CAPACITY is not null " +
+            "and PARTICIPANT_COUNT = CAPACITY - 1 and RECRUIT_TO >= :currentDate")
+    int reopenRecruitIfAvailable(
+            @Param("togetherId") Long togetherId,
+            @Param("currentDate") LocalDate currentDate
+    );
+
 }
@@ -1,7 +1,11 @@
 package kr.apartribebackend.article.service;
 
+import kr.apartribebackend.apart.domain.Apartment;
+import kr.apartribebackend.apart.repository.ApartmentRepository;
+import com.fasterxml.jackson.databind.util.RawValue;
 import kr.apartribebackend.article.domain.Announce;
 import kr.apartribebackend.article.domain.Board;
+import kr.apartribebackend.article.domain.BoardType;
 import kr.apartribebackend.article.domain.Level;
 import kr.apartribebackend.article.dto.announce.*;
 import kr.apartribebackend.article.exception.ArticleNotFoundException;
@@ -10,6 +14,9 @@ import kr.apartribebackend.article.exception.CantDeleteBoardCauseInvalidMemberEx
 import kr.apartribebackend.article.exception.CantUpdateBoardCauseInvalidMemberException;
 import kr.apartribebackend.article.repository.BoardRepository;
 import kr.apartribebackend.article.repository.announce.AnnounceRepository;
+import kr.apartribebackend.global.service.ApproximateCountService;
+import kr.apartribebackend.global.service.ApproximateCountService.CountKey;
+import kr.apartribebackend.change.service.BoardChangeService;
 import kr.apartribebackend.comment.domain.Comment;
 import kr.apartribebackend.comment.repository.CommentRepository;
 import kr.apartribebackend.likes.domain.BoardLiked;
@@ -19,8 +26,13 @@ import kr.apartribebackend.likes.exception.CantLikeToBoardCauseBoardIsApartUserO
 import kr.apartribebackend.likes.repository.BoardLikedRepository;
 import kr.apartribebackend.likes.repository.CommentLikedRepository;
 import kr.apartribebackend.likes.service.LikeService;
+import kr.apartribebackend.likes.service.MemberLikeIndexService;
 import kr.apartribebackend.member.domain.Member;
 import kr.apartribebackend.member.dto.MemberDto;
+import kr.apartribebackend.member.repository.MemberRepository;
+import kr.apartribebackend.receipt.service.ReadReceiptService;
+import kr.apartribebackend.attachment.service.AttachmentService;
+import kr.apartribebackend.comment.service.CommentLeaderboardService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -40,6 +52,16 @@ public class AnnounceService {
     private final CommentRepository commentRepository;
     private final BoardLikedRepository boardLikedRepository;
     private final CommentLikedRepository commentLikedRepository;
+    private final MemberRepository memberRepository;
+    private final ApartmentRepository apartmentRepository;
+    private final ApproximateCountService approximateCountService;
+    private final HotBoardService hotBoardService;
+    private final SingleBoardResponseCache singleBoardResponseCache;
+    private final BoardChangeService boardChangeService;
+    private final ReadReceiptService readReceiptService;
+    private final AttachmentService attachmentService;
+    private final CommentLeaderboardService commentLeaderboardService;
+    private final MemberLikeIndexService memberLikeIndexService;
 
     /**
      * 공지사항 게시글 단일 조회 (1) - 쿼리 여러방 나눠서 실행
@@ -66,24 +88,36 @@ public class AnnounceService {
      * @param announceId
      * @return
      */
-    public SingleAnnounceResponseProjection findSingleAnnounceById2(final MemberDto memberDto,
-                                                                    final String apartId,
-                                                                    final Long announceId) {
-        return announceRepository.findAnnounceWithApartCodeForApartId(memberDto, apartId, announceId);
+    public RawValue findSingleAnnounceById2(final MemberDto memberDto,
+                                            final String apartId,
+                                            final Long announceId) {
+        final RawValue singleAnnounce = singleBoardResponseCache
+                .read(memberDto, apartId, BoardType.ANNOUNCE, announceId, () -> announceRepository.findAnnounceWithApartCodeForApartId(memberDto, apartId, announceId));
+        hotBoardService.recordView(apartId, announceId);
+        readReceiptService.recordRead(memberDto, apartId, announceId);
+        return singleAnnounce;
     }
 
     /**
-     * 공지사항 게시글 전체 조회 + 페이징
+     * 공지사항 게시글 전체 조회 + 페이징. 게시글마다 조회한 회원의 좋아요 여부를 채운다.
+     * @param memberDto
      * @param apartId
      * @param level
      * @param pageable
      * @return
      */
     @Transactional(readOnly = true)
-    public Page<AnnounceResponse> findMultipleAnnouncesByLevel(final String apartId,
+    public Page<AnnounceResponse> findMultipleAnnouncesByLevel(final MemberDto memberDto,
+                                                               final String apartId,
                                                                final Level level,
+                                                               final boolean exactCount,
                                                                final Pageable pageable) {
-        return announceRepository.findAnnouncesByLevel(apartId, level, pageable);
+        final CountKey countKey = CountKey.board(apartId, BoardType.ANNOUNCE, level != Level.ALL ? level.name() : null);
+        final Page<AnnounceResponse> announceResponses = announceRepository.findAnnouncesByLevel(apartId, level, pageable,
+                () -> approximateCountService.count(countKey, exactCount,
+                        () -> announceRepository.countAnnouncesByLevel(apartId, level)));
+        memberLikeIndexService.markLikedBoards(memberDto.getId(), announceResponses.getContent());
+        return announceResponses;
     }
 
     /**
@@ -94,9 +128,17 @@ public class AnnounceService {
      */
     public Announce appendArticle(final AnnounceDto announceDto,
                                   final MemberDto memberDto) {
-        final Member member = memberDto.toEntity();
-        final Announce article = announceDto.toEntity(member);
-        return announceRepository.save(article);
+        final Member member = memberRepository.getReferenceById(memberDto.getId());
+        final Apartment apartment = apartmentRepository.getReferenceById(memberDto.getApartmentDto().getId());
+        final Announce article = announceDto.toEntity(member, apartment);
+        article.renewExcerpt();
+        final Announce savedAnnounce = announceRepository.save(article);
+        attachmentService.linkAttachmentsToBoard(memberDto.getId(), savedAnnounce);
+        approximateCountService.incrementBoard(
+                memberDto.getApartmentDto().getCode(), BoardType.ANNOUNCE, announceDto.getLevel().name(), memberDto.getId()
+        );
+        boardChangeService.boardCreated(memberDto.getApartmentDto().getCode(), savedAnnounce.getId(), BoardType.ANNOUNCE);
+        return savedAnnounce;
     }
 
     /**
@@ -116,11 +158,15 @@ public class AnnounceService {
         if (!announceEntity.getMember().getId().equals(memberDto.getId())) {
             throw new CantUpdateBoardCauseInvalidMemberException();
         }
+        approximateCountService.moveBoard(apartId, BoardType.ANNOUNCE, announceEntity.getLevel().name(), announceDto.getLevel().name());
+        boardChangeService.boardUpdated(apartId, announceId, BoardType.ANNOUNCE);
         if (announceDto.getThumbnail() == null) {
             final Announce updatedAnnounce = announceEntity.updateAnnounce(
                     announceDto.getLevel(), announceDto.getTitle(), announceDto.getContent(),
                     announceDto.getFloatFrom(), announceDto.getFloatTo(), announceDto.isOnlyApartUser()
             );
+            updatedAnnounce.renewExcerpt();
+            attachmentService.linkAttachmentsToBoard(memberDto.getId(), updatedAnnounce);
             return SingleAnnounceResponse.from(updatedAnnounce, updatedAnnounce.getMember());
         }
         final Announce updatedAnnounce = announceEntity.updateAnnounce(
@@ -128,6 +174,8 @@ public class AnnounceService {
                 announceDto.getFloatFrom(), announceDto.getFloatTo(), announceDto.getThumbnail(),
                 announceDto.isOnlyApartUser()
         );
+        updatedAnnounce.renewExcerpt();
+        attachmentService.linkAttachmentsToBoard(memberDto.getId(), updatedAnnounce);
         return SingleAnnounceResponse.from(updatedAnnounce, updatedAnnounce.getMember());
 
     }
@@ -145,8 +193,8 @@ public class AnnounceService {
             throw new CantDeleteBoardCauseInvalidMemberException();
         }
         boardLikedRepository.deleteAllInBatch(findedAnnounce.getBoardLikedList());
-        if (!findedAnnounce.getComments().isEmpty()) {
-            final List<Comment> commentsForBoard = commentRepository.findCommentsByBoardId(findedAnnounce.getId());
+        final List<Comment> commentsForBoard = commentRepository.findCommentsByBoardId(findedAnnounce.getId());
+        if (!commentsForBoard.isEmpty()) {
             final List<Long> commentIdsForBoard = commentsForBoard.stream().map(Comment::getId).toList();
             final List<CommentLiked> commentLikedsForBoardComments = likeService.findCommentLikedsInCommentIds(commentIdsForBoard);
             commentLikedRepository.deleteAllInBatch(commentLikedsForBoardComments);
@@ -154,8 +202,14 @@ public class AnnounceService {
             final List<Comment> parentCommentRepliesForBoard = commentsForBoard.stream().filter(comment -> !parentCommentsForBoard.contains(comment)).toList();
             commentRepository.deleteAllInBatch(parentCommentRepliesForBoard);
             commentRepository.deleteAllInBatch(commentsForBoard);
+            commentLeaderboardService.decrementAll(apartId, commentsForBoard);
         }
+        attachmentService.removeAttachmentsOfBoards(List.of(findedAnnounce.getId()));
         boardRepository.delete(findedAnnounce);
+        approximateCountService.decrementBoard(apartId, BoardType.ANNOUNCE, findedAnnounce.getLevel().name(), memberDto.getId());
+        boardChangeService.boardDeleted(apartId, announceId, BoardType.ANNOUNCE);
+        hotBoardService.remove(apartId, announceId);
+        readReceiptService.announceDeleted(announceId);
     }
 
     /**
@@ -169,7 +223,7 @@ public class AnnounceService {
         final Board announce = boardRepository.findBoardWithMemberAndApartmentForApartId(apartId, announceId)
                 .orElseThrow(CannotReflectLikeToArticleException::new);
         if (announce.isOnlyApartUser()) {
-            if (!announce.getMember().getApartment().getCode().equals(memberDto.getApartmentDto().getCode())) {
+            if (!announce.getApartment().getCode().equals(memberDto.getApartmentDto().getCode())) {
                 throw new CantLikeToBoardCauseBoardIsApartUserOnlyException();
             }
         }
@@ -178,7 +232,7 @@ public class AnnounceService {
         if (boardLiked != null) {
             return likeService.decreaseLikesToBoard(boardLiked, announce);
         }
-        return likeService.increaseLikesToBoard(memberDto.toEntity(), announce);
+        return likeService.increaseLikesToBoard(memberRepository.getReferenceById(memberDto.getId()), announce);
     }
 
     /**
@@ -1,7 +1,9 @@
 package kr.apartribebackend.article.service;
 
+import com.fasterxml.jackson.databind.util.RawValue;
 import kr.apartribebackend.article.domain.Article;
 import kr.apartribebackend.article.domain.Board;
+import kr.apartribebackend.article.domain.BoardType;
 import kr.apartribebackend.article.dto.*;
 import kr.apartribebackend.article.dto.SingleArticleResponseProjection;
 import kr.apartribebackend.article.exception.ArticleNotFoundException;
@@ -10,9 +12,12 @@ import kr.apartribebackend.article.exception.CannotReflectLikeToArticleException
 import kr.apartribebackend.article.exception.CantDeleteBoardCauseInvalidMemberException;
 import kr.apartribebackend.article.repository.ArticleRepository;
 import kr.apartribebackend.article.repository.BoardRepository;
+import kr.apartribebackend.change.service.BoardChangeService;
 import kr.apartribebackend.category.domain.Category;
 import kr.apartribebackend.category.exception.CategoryNonExistsException;
 import kr.apartribebackend.category.repository.CategoryRepository;
+import kr.apartribebackend.global.service.ApproximateCountService;
+import kr.apartribebackend.global.service.ApproximateCountService.CountKey;
 import kr.apartribebackend.comment.domain.Comment;
 import kr.apartribebackend.comment.repository.CommentRepository;
 import kr.apartribebackend.likes.domain.BoardLiked;
@@ -22,8 +27,12 @@ import kr.apartribebackend.likes.exception.CantLikeToBoardCauseBoardIsApartUserO
 import kr.apartribebackend.likes.repository.BoardLikedRepository;
 import kr.apartribebackend.likes.repository.CommentLikedRepository;
 import kr.apartribebackend.likes.service.LikeService;
+import kr.apartribebackend.likes.service.MemberLikeIndexService;
 import kr.apartribebackend.member.domain.Member;
 import kr.apartribebackend.member.dto.MemberDto;
+import kr.apartribebackend.member.repository.MemberRepository;
+import kr.apartribebackend.attachment.service.AttachmentService;
+import kr.apartribebackend.comment.service.CommentLeaderboardService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -47,6 +56,14 @@ public class ArticleService {
     private final BoardLikedRepository boardLikedRepository;
     private final CommentRepository commentRepository;
     private final CommentLikedRepository commentLikedRepository;
+    private final MemberRepository memberRepository;
+    private final ApproximateCountService approximateCountService;
+    private final HotBoardService hotBoardService;
+    private final SingleBoardResponseCache singleBoardResponseCache;
+    private final BoardChangeService boardChangeService;
+    private final AttachmentService attachmentService;
+    private final CommentLeaderboardService commentLeaderboardService;
+    private final MemberLikeIndexService memberLikeIndexService;
 
     /**
      * 커뮤니티 게시글 단일 조회 (1) - 쿼리를 나눠서 세번 실행
@@ -78,23 +95,35 @@ public class ArticleService {
      * @return
      */
     @Transactional
-    public SingleArticleResponseProjection findSingleArticleById2(final MemberDto memberDto,
-                                                                  final String apartId,
-                                                                  final Long articleId) {
-        return articleRepository.findArticleWithApartCodeForApartId(memberDto, apartId, articleId);
+    public RawValue findSingleArticleById2(final MemberDto memberDto,
+                                           final String apartId,
+                                           final Long articleId) {
+        final RawValue singleArticle = singleBoardResponseCache
+                .read(memberDto, apartId, BoardType.ARTICLE, articleId, () -> articleRepository.findArticleWithApartCodeForApartId(memberDto, apartId, articleId));
+        hotBoardService.recordView(apartId, articleId);
+        return singleArticle;
     }
 
     /**
-     * 커뮤니티 게시글 전체 조회 + 페이징
+     * 커뮤니티 게시글 전체 조회 + 페이징. 게시글마다 조회한 회원의 좋아요 여부를 채운다.
+     * @param memberDto
      * @param apartId
      * @param category
+     * @param exactCount totalCount 를 근사 카운터 대신 COUNT 쿼리로 구할지 여부
      * @param pageable
      * @return
      */
-    public Page<ArticleResponse> findMultipleArticlesByCategory(final String apartId,
+    public Page<ArticleResponse> findMultipleArticlesByCategory(final MemberDto memberDto,
+                                                                final String apartId,
                                                                 final String category,
+                                                                final boolean exactCount,
                                                                 final Pageable pageable) {
-        return articleRepository.findArticlesByCategory(apartId, category, pageable);
+        final CountKey countKey = CountKey.board(apartId, BoardType.ARTICLE, category);
+        final Page<ArticleResponse> articleResponses = articleRepository.findArticlesByCategory(apartId, category, pageable,
+                () -> approximateCountService.count(countKey, exactCount,
+                        () -> articleRepository.countArticlesByCategory(apartId, category)));
+        memberLikeIndexService.markLikedBoards(memberDto.getId(), articleResponses.getContent());
+        return articleResponses;
     }
 
     /**
@@ -112,9 +141,14 @@ public class ArticleService {
                                  final MemberDto memberDto) {
         final Category categoryEntity = categoryRepository.findCategoryByTagAndNameWithApart(apartId, ARTICLE, category)
                 .orElseThrow(CategoryNonExistsException::new);
-        final Member memberEntity = memberDto.toEntity();
+        final Member memberEntity = memberRepository.getReferenceById(memberDto.getId());
         final Article articleEntity = articleDto.toEntity(categoryEntity, memberEntity);
-        return articleRepository.save(articleEntity);
+        articleEntity.renewExcerpt();
+        final Article savedArticle = articleRepository.save(articleEntity);
+        attachmentService.linkAttachmentsToBoard(memberDto.getId(), savedArticle);
+        approximateCountService.incrementBoard(apartId, BoardType.ARTICLE, category, memberDto.getId());
+        boardChangeService.boardCreated(apartId, savedArticle.getId(), BoardType.ARTICLE);
+        return savedArticle;
     }
 
     /**
@@ -139,16 +173,22 @@ public class ArticleService {
         if (!articleEntity.getMember().getId().equals(memberDto.getId())) {
             throw new CantUpdateBoardCauseInvalidMemberException();
         }
+        approximateCountService.moveBoard(apartId, BoardType.ARTICLE, articleEntity.getCategory().getName(), category);
+        boardChangeService.boardUpdated(apartId, articleId, BoardType.ARTICLE);
         if (articleDto.getThumbnail() == null) {
             final Article updatedArticle = articleEntity.updateArticle(
                     categoryEntity, articleDto.getTitle(), articleDto.getContent(), articleDto.isOnlyApartUser()
             );
+            updatedArticle.renewExcerpt();
+            attachmentService.linkAttachmentsToBoard(memberDto.getId(), updatedArticle);
             return SingleArticleResponse.from(updatedArticle, updatedArticle.getMember());
         }
         final Article updatedArticle = articleEntity.updateArticle(
                 categoryEntity, articleDto.getTitle(), articleDto.getContent(),
                 articleDto.getThumbnail(), articleDto.isOnlyApartUser()
         );
+        updatedArticle.renewExcerpt();
+        attachmentService.linkAttachmentsToBoard(memberDto.getId(), updatedArticle);
         return SingleArticleResponse.from(updatedArticle, updatedArticle.getMember());
     }
 
@@ -166,8 +206,8 @@ public class ArticleService {
             throw new CantDeleteBoardCauseInvalidMemberException();
         }
         boardLikedRepository.deleteAllInBatch(findedArticle.getBoardLikedList());
-        if (!findedArticle.getComments().isEmpty()) {
-            final List<Comment> commentsForBoard = commentRepository.findCommentsByBoardId(findedArticle.getId());
+        final List<Comment> commentsForBoard = commentRepository.findCommentsByBoardId(findedArticle.getId());
+        if (!commentsForBoard.isEmpty()) {
             final List<Long> commentIdsForBoard = commentsForBoard.stream().map(Comment::getId).toList();
             final List<CommentLiked> commentLikedsForBoardComments = likeService.findCommentLikedsInCommentIds(commentIdsForBoard);
             commentLikedRepository.deleteAllInBatch(commentLikedsForBoardComments);
@@ -175,8 +215,13 @@ public class ArticleService {
             final List<Comment> parentCommentRepliesForBoard = commentsForBoard.stream().filter(comment -> !parentCommentsForBoard.contains(comment)).toList();
             commentRepository.deleteAllInBatch(parentCommentRepliesForBoard);
             commentRepository.deleteAllInBatch(commentsForBoard);
+            commentLeaderboardService.decrementAll(apartId, commentsForBoard);
         }
+        attachmentService.removeAttachmentsOfBoards(List.of(findedArticle.getId()));
         boardRepository.delete(findedArticle);
+        approximateCountService.decrementBoard(apartId, BoardType.ARTICLE, findedArticle.getCategory().getName(), memberDto.getId());
+        boardChangeService.boardDeleted(apartId, articleId, BoardType.ARTICLE);
+        hotBoardService.remove(apartId, articleId);
     }
 
     /**
@@ -191,7 +236,7 @@ public class ArticleService {
         final Board article = boardRepository.findBoardWithMemberAndApartmentForApartId(apartId, articleId)
                 .orElseThrow(CannotReflectLikeToArticleException::new);
         if (article.isOnlyApartUser()) {
-            if (!article.getMember().getApartment().getCode().equals(memberDto.getApartmentDto().getCode())) {
+            if (!article.getApartment().getCode().equals(memberDto.getApartmentDto().getCode())) {
                 throw new CantLikeToBoardCauseBoardIsApartUserOnlyException();
             }
         }
@@ -200,7 +245,7 @@ public class ArticleService {
         if (boardLiked != null) {
             return likeService.decreaseLikesToBoard(boardLiked, article);
         }
-        return likeService.increaseLikesToBoard(memberDto.toEntity(), article);
+        return likeService.increaseLikesToBoard(memberRepository.getReferenceById(memberDto.getId()), article);
     }
 
     /**
@@ -221,6 +266,16 @@ public class ArticleService {
         return articleRepository.findTop5ArticleViaView(apartId);
     }
 
+    /**
+     * 인기 게시물 (좋아요, 댓글, 조회수를 시간에 따라 감쇠시킨 점수 순) + 페이징. 모든 게시판의 게시글이 대상이다.
+     * @param apartId
+     * @param pageable
+     * @return
+     */
+    public Page<HotBoardResponse> findHotBoards(final String apartId, final Pageable pageable) {
+        return hotBoardService.findHotBoards(apartId, pageable);
+    }
+
     /**
      * 커뮤니티 내 게시글 검색 Widget
      * @param apartId
@@ -0,0 +1,84 @@
+package kr.apartribebackend.article.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.util.RawValue;
+import kr.apartribebackend.global.service.ResponseCacheService;
+import kr.apartribebackend.global.utils.JsonTemplate;
+import kr.apartribebackend.likes.dto.MemberLikedBoard;
+import kr.apartribebackend.likes.service.MemberLikeIndexService;
+import kr.apartribebackend.member.dto.MemberDto;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Slice;
+import org.springframework.stereotype.Service;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * 게시글 / 공지사항 / 함께해요 목록 조회 응답 캐시.
+ * 목록은 회원과 상관없이 같고 항목마다 memberLiked 만 다르므로, 응답 JSON 을 항목의 memberLiked 자리만 나눠 둔 JsonTemplate 과 항목의 게시글 ID 로 캐시하고,
+ * 캐시 hit 시에는 MemberLikeIndexService 로 좋아요 여부만 채운다.
+ */
+@RequiredArgsConstructor
+@Service
+public class BoardListResponseCache {
+
+    private static final String KEY_PREFIX = "list:";
+    private static final String MEMBER_LIKED = "memberLiked";
+
+    private final ResponseCacheService responseCacheService;
+    private final MemberLikeIndexService memberLikeIndexService;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * 캐시된 응답이 있으면 회원의 좋아요 여부를 채워 반환하고, 없으면 loader 로 조회해 캐시한다.
+     * loader 는 조회한 회원의 좋아요 여부까지 채운 목록을 반환해야 한다.
+     * @param memberDto
+     * @param key ResponseCacheService.key(request)
+     * @param apartId
+     * @param loader
+     * @param responseMapper 목록을 응답 data 로 바꾼다. (PageResponse::from, SliceResponse.from(slice, createdAtExtractor, idExtractor))
+     * @return
+     */
+    public <S extends Slice<? extends MemberLikedBoard>> RawValue read(final MemberDto memberDto,
+                                                                       final String key,
+                                                                       final String apartId,
+                                                                       final Supplier<S> loader,
+                                                                       final Function<S, ?> responseMapper) {
+        final String listKey = KEY_PREFIX + key;
+        final Optional<CachedList> cached = responseCacheService.getIfPresent(listKey, CachedList.class);
+        if (cached.isPresent()) {
+            final CachedList cachedList = cached.get();
+            final Set<Long> likedBoardIds = new HashSet<>(
+                    memberLikeIndexService.filterLikedBoards(memberDto.getId(), cachedList.boardIds())
+            );
+            return cachedList.template().render(cachedList.boardIds().stream().map(likedBoardIds::contains).toArray());
+        }
+
+        final String[] tags = { ResponseCacheService.apartTag(apartId) };
+        final long stamp = responseCacheService.stamp(tags);
+        final S slice = loader.get();
+        final String json = writeJson(responseMapper.apply(slice));
+        final List<Long> boardIds = slice.getContent().stream().map(MemberLikedBoard::getId).toList();
+        final JsonTemplate template = JsonTemplate.of(json, Collections.nCopies(boardIds.size(), MEMBER_LIKED).toArray(String[]::new));
+        responseCacheService.put(listKey, tags, new CachedList(template, boardIds), template.weight(), stamp);
+        return new RawValue(json);
+    }
+
+    private String writeJson(final Object value) {
+        try {
+            return objectMapper.writeValueAsString(value);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private record CachedList(JsonTemplate template, List<Long> boardIds) { }
+
+}
@@ -0,0 +1,289 @@
+package kr.apartribebackend.article.service;
+
+import kr.apartribebackend.article.dto.HotBoardResponse;
+import kr.apartribebackend.article.dto.HotBoardSource;
+import kr.apartribebackend.article.repository.BoardRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * 아파트별 인기 게시글. 좋아요, 댓글, 조회에 가중치를 주고 반감기 HALF_LIFE 로 지수 감쇠시킨 점수 순으로 정렬한다.
+ *
+ * 모든 점수를 같은 시각(anchor) 기준 값으로 저장한다. 시각 t 의 이벤트는 weight * e^(λ(t - anchor)) 를 더하고,
+ * 현재 점수는 저장된 값에 e^(-λ(now - anchor)) 를 곱한 값이다. 곱하는 값이 모든 게시글에 같으므로 시간이 흘러도 순서를 다시 계산할 필요가 없다.
+ * 아파트마다 점수가 높은 CAPACITY 개만 보관하고, 주기적인 recomputeHotBoardsJob 이 최근 RECOMPUTE_DAYS 일 게시글의 좋아요 / 댓글 / 조회수로 다시 만들며 anchor 도 그 시각으로 옮긴다.
+ * 다시 만들 때는 기존 반응이 모두 작성 시각에 일어난 것으로 본다.
+ * 게시글 정보를 읽어 다시 만드는 동안 들어온 반응과 삭제는 따로 모아두었다가 새로 만든 점수에 다시 반영한 뒤 교체하므로 유실되지 않는다.
+ * (게시글 정보를 읽기 직전에 커밋된 반응은 두번 반영될 수 있지만, 그 오차는 다음 재계산에서 바로잡힌다)
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Service
+public class HotBoardService {
+
+    public static final int RECOMPUTE_DAYS = 14;
+    public static final int CAPACITY = 500;
+    public static final Duration HALF_LIFE = Duration.ofHours(24);
+
+    private static final double LIKE_WEIGHT = 3.0;
+    private static final double COMMENT_WEIGHT = 2.0;
+    private static final double VIEW_WEIGHT = 0.1;
+    private static final double DECAY_PER_SECOND = Math.log(2) / HALF_LIFE.toSeconds();
+
+    private final BoardRepository boardRepository;
+
+    private final ReadWriteLock swapLock = new ReentrantReadWriteLock();
+    private volatile HotBoards hotBoards = new HotBoards(new ConcurrentHashMap<>(), epochSecond(LocalDateTime.now()));
+    private Queue<HotBoardEvent> pendingEvents;
+
+    public void recordLike(final String apartCode, final Long boardId) {
+        afterCommit(() -> apply(HotBoardEvent.scored(apartCode, boardId, LIKE_WEIGHT)));
+    }
+
+    public void recordUnlike(final String apartCode, final Long boardId) {
+        afterCommit(() -> apply(HotBoardEvent.scored(apartCode, boardId, -LIKE_WEIGHT)));
+    }
+
+    public void recordComment(final String apartCode, final Long boardId) {
+        afterCommit(() -> apply(HotBoardEvent.scored(apartCode, boardId, COMMENT_WEIGHT)));
+    }
+
+    public void recordView(final String apartCode, final Long boardId) {
+        afterCommit(() -> apply(HotBoardEvent.scored(apartCode, boardId, VIEW_WEIGHT)));
+    }
+
+    /**
+     * 삭제된 게시글을 인기 게시글에서 뺀다. 빠진 자리는 다음 재계산에서 채워진다.
+     * @param apartCode
+     * @param boardId
+     */
+    public void remove(final String apartCode, final Long boardId) {
+        afterCommit(() -> apply(HotBoardEvent.removed(apartCode, boardId)));
+    }
+
+    /**
+     * 게시글 정보로 모든 아파트의 인기 게시글을 다시 만든다. recomputeHotBoardsJob 에서 호출한다.
+     * 게시글 정보를 읽기 전부터 교체할 때까지 들어온 반응과 삭제를 모아두었다가 새 점수에 반영한 뒤 교체한다.
+     * @param sourceLoader 최근 RECOMPUTE_DAYS 일 동안 작성된 게시글들을 읽는다
+     * @return 다시 만드는데 사용한 게시글 수
+     */
+    public synchronized int recompute(final Supplier<List<HotBoardSource>> sourceLoader) {
+        final Queue<HotBoardEvent> events = new ConcurrentLinkedQueue<>();
+        swapLock.writeLock().lock();
+        try {
+            pendingEvents = events;
+        } finally {
+            swapLock.writeLock().unlock();
+        }
+        final List<HotBoardSource> sources;
+        try {
+            sources = sourceLoader.get();
+        } catch (RuntimeException e) {
+            clearPendingEvents();
+            throw e;
+        }
+        final long anchor = epochSecond(LocalDateTime.now());
+        final HotBoards recomputed = new HotBoards(new ConcurrentHashMap<>(), anchor);
+        for (HotBoardSource source : sources) {
+            final double base = LIKE_WEIGHT * source.liked() + COMMENT_WEIGHT * source.commentCounts() + VIEW_WEIGHT * source.saw();
+            final double score = base * Math.exp(DECAY_PER_SECOND * (epochSecond(source.createdAt()) - anchor));
+            recomputed.apartHotBoards(source.apartCode()).put(source.id(), score);
+        }
+        swapLock.writeLock().lock();
+        try {
+            events.forEach(recomputed::apply);
+            hotBoards = recomputed;
+            pendingEvents = null;
+        } finally {
+            swapLock.writeLock().unlock();
+        }
+        log.info("Recomputed Hot Boards of {} Apartments from {} Boards ({} Events Replayed)", recomputed.apartments().size(), sources.size(), events.size());
+        return sources.size();
+    }
+
+    /**
+     * 아파트의 인기 게시글을 현재 점수 순으로 페이징하여 반환한다. 그 사이 삭제된 게시글은 결과에서 빠진다.
+     * @param apartCode
+     * @param pageable
+     * @return
+     */
+    @Transactional(readOnly = true)
+    public Page<HotBoardResponse> findHotBoards(final String apartCode, final Pageable pageable) {
+        final HotBoards current = hotBoards;
+        final ApartHotBoards apartHotBoards = current.apartments().get(apartCode);
+        if (apartHotBoards == null) {
+            return new PageImpl<>(List.of(), pageable, 0);
+        }
+        final List<Rank> ranks = apartHotBoards.page((int) pageable.getOffset(), pageable.getPageSize());
+        final Map<Long, HotBoardSource> sources = boardRepository
+                .findHotBoardSourcesByIds(ranks.stream().map(Rank::boardId).toList())
+                .stream()
+                .collect(Collectors.toMap(HotBoardSource::id, Function.identity()));
+        final double decay = Math.exp(-DECAY_PER_SECOND * (epochSecond(LocalDateTime.now()) - current.anchorEpochSecond()));
+        final List<HotBoardResponse> content = ranks.stream()
+                .filter(rank -> sources.containsKey(rank.boardId()))
+                .map(rank -> HotBoardResponse.from(sources.get(rank.boardId()), rank.score() * decay))
+                .toList();
+        return new PageImpl<>(content, pageable, apartHotBoards.size());
+    }
+
+    /**
+     * 현재 인기 게시글에 반영하고, 재계산 중이면 교체 후 다시 반영하도록 모아둔다.
+     * @param event
+     */
+    private void apply(final HotBoardEvent event) {
+        swapLock.readLock().lock();
+        try {
+            hotBoards.apply(event);
+            if (pendingEvents != null) {
+                pendingEvents.add(event);
+            }
+        } finally {
+            swapLock.readLock().unlock();
+        }
+    }
+
+    private void clearPendingEvents() {
+        swapLock.writeLock().lock();
+        try {
+            pendingEvents = null;
+        } finally {
+            swapLock.writeLock().unlock();
+        }
+    }
+
+    private static long epochSecond(final LocalDateTime dateTime) {
+        return dateTime.atZone(ZoneId.systemDefault()).toEpochSecond();
+    }
+
+    private void afterCommit(final Runnable runnable) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            runnable.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                runnable.run();
+            }
+        });
+    }
+
+    /**
+     * 모든 아파트의 인기 게시글과 점수의 기준 시각. 재계산 시 둘을 함께 교체한다.
+     */
+    record HotBoards(Map<String, ApartHotBoards> apartments, long anchorEpochSecond) {
+
+        ApartHotBoards apartHotBoards(final String apartCode) {
+            return apartments.computeIfAbsent(apartCode, key -> new ApartHotBoards());
+        }
+
+        void apply(final HotBoardEvent event) {
+            if (event.removed()) {
+                final ApartHotBoards apartHotBoards = apartments.get(event.apartCode());
+                if (apartHotBoards != null) {
+                    apartHotBoards.remove(event.boardId());
+                }
+                return;
+            }
+            final double score = event.weight() * Math.exp(DECAY_PER_SECOND * (event.epochSecond() - anchorEpochSecond));
+            apartHotBoards(event.apartCode()).add(event.boardId(), score);
+        }
+    }
+
+    /**
+     * 게시글에 대한 반응(가중치) 이나 삭제. 재계산 중 들어온 이벤트를 새 기준 시각으로 다시 반영할 수 있도록 발생 시각을 함께 담는다.
+     */
+    record HotBoardEvent(String apartCode, Long boardId, double weight, long epochSecond, boolean removed) {
+
+        static HotBoardEvent scored(final String apartCode, final Long boardId, final double weight) {
+            return new HotBoardEvent(apartCode, boardId, weight, epochSecond(LocalDateTime.now()), false);
+        }
+
+        static HotBoardEvent removed(final String apartCode, final Long boardId) {
+            return new HotBoardEvent(apartCode, boardId, 0, epochSecond(LocalDateTime.now()), true);
+        }
+    }
+
+    /**
+     * 한 아파트에서 점수가 높은 CAPACITY 개 게시글. 가득 찬 상태에서 들어온 게시글은 최하위보다 점수가 높을 때만 최하위를 밀어내고 들어간다.
+     */
+    static final class ApartHotBoards {
+
+        private static final Comparator<Rank> RANK_ORDER = Comparator.comparingDouble(Rank::score).reversed()
+                .thenComparing(Rank::boardId, Comparator.reverseOrder());
+
+        private final Map<Long, Double> scores = new HashMap<>();
+        private final TreeSet<Rank> ranking = new TreeSet<>(RANK_ORDER);
+
+        synchronized void add(final Long boardId, final double delta) {
+            final Double current = scores.get(boardId);
+            put(boardId, (current == null ? 0 : current) + delta);
+        }
+
+        synchronized void put(final Long boardId, final double score) {
+            final Double current = scores.remove(boardId);
+            if (current != null) {
+                ranking.remove(new Rank(boardId, current));
+            }
+            if (score <= 0) {
+                return;
+            }
+            if (scores.size() >= CAPACITY) {
+                final Rank lowest = ranking.last();
+                if (lowest.score() >= score) {
+                    return;
+                }
+                ranking.pollLast();
+                scores.remove(lowest.boardId());
+            }
+            scores.put(boardId, score);
+            ranking.add(new Rank(boardId, score));
+        }
+
+        synchronized void remove(final Long boardId) {
+            final Double current = scores.remove(boardId);
+            if (current != null) {
+                ranking.remove(new Rank(boardId, current));
+            }
+        }
+
+        synchronized List<Rank> page(final int offset, final int size) {
+            final List<Rank> page = new ArrayList<>(size);
+            final Iterator<Rank> iterator = ranking.iterator();
+            for (int skipped = 0; skipped < offset && iterator.hasNext(); skipped++) {
+                iterator.next();
+            }
+            while (page.size() < size && iterator.hasNext()) {
+                page.add(iterator.next());
+            }
+            return page;
+        }
+
+        synchronized int size() {
+            return scores.size();
+        }
+    }
+
+    record Rank(Long boardId, double score) { }
+
+}
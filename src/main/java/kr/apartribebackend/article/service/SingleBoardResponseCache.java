@@ -0,0 +1,94 @@
+package kr.apartribebackend.article.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fasterxml.jackson.databind.util.RawValue;
+import kr.apartribebackend.article.dto.SingleBoardProjection;
+import kr.apartribebackend.article.exception.ArticleNotFoundException;
+import kr.apartribebackend.article.exception.NotApartUserBoardException;
+import kr.apartribebackend.article.repository.BoardRepository;
+import kr.apartribebackend.global.service.ResponseCacheService;
+import kr.apartribebackend.global.utils.JsonTemplate;
+import kr.apartribebackend.likes.service.MemberLikeIndexService;
+import kr.apartribebackend.member.dto.MemberDto;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.util.Optional;
+import java.util.function.Supplier;
+
+/**
+ * 게시글 / 공지사항 / 함께해요 단일 조회 응답 캐시.
+ * 회원과 상관없는 부분은 memberCreated, memberLiked 자리만 비워둔 JsonTemplate 으로 캐시하고, 캐시 hit 시에는 작성자 ID 와 MemberLikeIndexService 로 두 값을 채워 조회수 증가 외의 쿼리를 실행하지 않는다.
+ * 캐시된 응답의 조회수(saw) 는 게시글이 변경되거나 TIME_TO_LIVE 가 지날 때까지 갱신되지 않는다.
+ */
+@RequiredArgsConstructor
+@Service
+public class SingleBoardResponseCache {
+
+    private static final String MEMBER_CREATED = "memberCreated";
+    private static final String MEMBER_LIKED = "memberLiked";
+
+    private final ResponseCacheService responseCacheService;
+    private final BoardRepository boardRepository;
+    private final MemberLikeIndexService memberLikeIndexService;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * 캐시된 응답이 있으면 조회수를 올리고 회원별 값을 덮어써 반환하고, 없으면 loader 로 조회해 캐시한다.
+     * loader 는 조회수 증가, 아파트 회원 전용 게시글 검사까지 수행해야 한다.
+     * 게시글 / 공지사항 / 함께해요는 ID 를 공유하므로 캐시 키에 boardType 을 넣어, 다른 종류의 단일 조회 API 로 캐시된 응답이 내려가지 않게 한다.
+     * @param memberDto
+     * @param apartId
+     * @param boardType BoardType 의 값
+     * @param boardId
+     * @param loader
+     * @return
+     */
+    public RawValue read(final MemberDto memberDto,
+                         final String apartId,
+                         final String boardType,
+                         final Long boardId,
+                         final Supplier<? extends SingleBoardProjection> loader) {
+        final String key = "single:" + boardType + ":" + apartId + ":" + boardId;
+        final Optional<CachedBoard> cached = responseCacheService.getIfPresent(key, CachedBoard.class);
+        if (cached.isPresent()) {
+            final CachedBoard cachedBoard = cached.get();
+            if (cachedBoard.onlyApartUser() && !memberDto.getApartmentDto().getCode().equals(apartId)) {
+                throw new NotApartUserBoardException();
+            }
+            if (boardRepository.increaseSaw(boardId) == 0) {
+                throw new ArticleNotFoundException();
+            }
+            return cachedBoard.template().render(
+                    cachedBoard.writerId().equals(memberDto.getId()),
+                    memberLikeIndexService.isBoardLiked(memberDto.getId(), boardId)
+            );
+        }
+
+        final String[] tags = { ResponseCacheService.boardTag(boardId) };
+        final long stamp = responseCacheService.stamp(tags);
+        final SingleBoardProjection projection = loader.get();
+        final Long writerId = boardRepository.findWriterIdById(boardId).orElseThrow(ArticleNotFoundException::new);
+        final CachedBoard cachedBoard = new CachedBoard(toTemplate(projection), writerId, projection.isOnlyApartUser());
+        responseCacheService.put(key, tags, cachedBoard, cachedBoard.template().weight(), stamp);
+        return cachedBoard.template().render(projection.isMemberCreated(), projection.isMemberLiked());
+    }
+
+    private JsonTemplate toTemplate(final SingleBoardProjection projection) {
+        final ObjectNode node = objectMapper.valueToTree(projection);
+        node.remove(MEMBER_CREATED);
+        node.remove(MEMBER_LIKED);
+        node.put(MEMBER_CREATED, false);
+        node.put(MEMBER_LIKED, false);
+        try {
+            return JsonTemplate.of(objectMapper.writeValueAsString(node), MEMBER_CREATED, MEMBER_LIKED);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private record CachedBoard(JsonTemplate template, Long writerId, boolean onlyApartUser) { }
+
+}
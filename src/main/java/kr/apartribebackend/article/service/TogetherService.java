@@ -1,6 +1,8 @@
 package kr.apartribebackend.article.service;
 
+import com.fasterxml.jackson.databind.util.RawValue;
 import kr.apartribebackend.article.domain.Board;
+import kr.apartribebackend.article.domain.BoardType;
 import kr.apartribebackend.article.domain.Together;
 import kr.apartribebackend.article.dto.together.*;
 import kr.apartribebackend.article.exception.CantDeleteBoardCauseInvalidMemberException;
@@ -14,24 +16,34 @@ import kr.apartribebackend.article.exception.CannotReflectLikeToArticleException
 import kr.apartribebackend.article.repository.BoardRepository;
 import kr.apartribebackend.article.repository.together.TogetherRepository;
 import kr.apartribebackend.attachment.domain.Attachment;
+import kr.apartribebackend.attachment.service.AttachmentService;
+import kr.apartribebackend.comment.service.CommentLeaderboardService;
+import kr.apartribebackend.change.service.BoardChangeService;
 import kr.apartribebackend.category.domain.Category;
 import kr.apartribebackend.category.exception.CategoryNonExistsException;
 import kr.apartribebackend.category.repository.CategoryRepository;
+import kr.apartribebackend.global.service.ApproximateCountService;
+import kr.apartribebackend.global.service.ApproximateCountService.CountKey;
 import kr.apartribebackend.likes.domain.BoardLiked;
 import kr.apartribebackend.likes.exception.CantLikeToBoardCauseBoardIsApartUserOnlyException;
 import kr.apartribebackend.likes.repository.BoardLikedRepository;
 import kr.apartribebackend.likes.repository.CommentLikedRepository;
 import kr.apartribebackend.likes.service.LikeService;
+import kr.apartribebackend.likes.service.MemberLikeIndexService;
 import kr.apartribebackend.member.domain.Member;
 import kr.apartribebackend.member.dto.MemberDto;
+import kr.apartribebackend.member.repository.MemberRepository;
+import kr.apartribebackend.participation.service.ParticipationService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
+import java.time.LocalDateTime;
 import java.util.List;
 
 import static kr.apartribebackend.category.domain.CategoryTag.*;
@@ -49,6 +61,15 @@ public class TogetherService {
     private final CommentLikedRepository commentLikedRepository;
     private final BoardLikedRepository boardLikedRepository;
     private final CommentRepository commentRepository;
+    private final MemberRepository memberRepository;
+    private final ApproximateCountService approximateCountService;
+    private final HotBoardService hotBoardService;
+    private final SingleBoardResponseCache singleBoardResponseCache;
+    private final BoardChangeService boardChangeService;
+    private final ParticipationService participationService;
+    private final AttachmentService attachmentService;
+    private final CommentLeaderboardService commentLeaderboardService;
+    private final MemberLikeIndexService memberLikeIndexService;
 
     /**
      * 함께해요 단일 게시물 조회 (1) - 쿼리 여러번 나눠서 실행
@@ -78,23 +99,60 @@ public class TogetherService {
      * @return
      */
     @Transactional
-    public SingleTogetherResponseProjection findSingleTogetherById2(final MemberDto memberDto,
-                                                                    final String apartId,
-                                                                    final Long togetherId) {
-        return togetherRepository.findTogetherWithApartCodeForApartId(memberDto, apartId, togetherId);
+    public RawValue findSingleTogetherById2(final MemberDto memberDto,
+                                            final String apartId,
+                                            final Long togetherId) {
+        final RawValue singleTogether = singleBoardResponseCache
+                .read(memberDto, apartId, BoardType.TOGETHER, togetherId, () -> togetherRepository.findTogetherWithApartCodeForApartId(memberDto, apartId, togetherId));
+        hotBoardService.recordView(apartId, togetherId);
+        return singleTogether;
     }
 
     /**
-     * 함께해요 게시글 전체 조회 + 페이징
+     * 함께해요 게시글 전체 조회 + 페이징. 게시글마다 조회한 회원의 좋아요 여부를 채운다.
+     * @param memberDto
      * @param apartId
-     * @param category
+     * @param searchCond
+     * @param exactCount totalCount 를 근사 카운터 대신 COUNT 쿼리로 구할지 여부
      * @param pageable
      * @return
      */
-    public Page<TogetherResponse> findMultipleTogethersByCategory(final String apartId,
-                                                                  final String category,
+    public Page<TogetherResponse> findMultipleTogethersByCategory(final MemberDto memberDto,
+                                                                  final String apartId,
+                                                                  final TogetherSearchCond searchCond,
+                                                                  final boolean exactCount,
                                                                   final Pageable pageable) {
-        return togetherRepository.findMultipleTogethersByCategory(apartId, category, pageable);
+        // 모집상태, 마감일 필터가 걸린 조회는 조합이 많아 카운터로 관리하지 않고 항상 COUNT 쿼리를 실행한다.
+        final CountKey countKey = searchCond.recruitStatus() == null && searchCond.recruitToFrom() == null && searchCond.recruitToTo() == null
+                ? CountKey.board(apartId, BoardType.TOGETHER, searchCond.category())
+                : null;
+        final Page<TogetherResponse> togetherResponses = togetherRepository.findMultipleTogethersByCategory(apartId, searchCond, pageable,
+                () -> approximateCountService.count(countKey, exactCount,
+                        () -> togetherRepository.countTogethersByCategory(apartId, searchCond)));
+        memberLikeIndexService.markLikedBoards(memberDto.getId(), togetherResponses.getContent());
+        return togetherResponses;
+    }
+
+    /**
+     * 함께해요 게시글 전체 조회 + 커서(작성일, ID) 기반 페이징. 게시글마다 조회한 회원의 좋아요 여부를 채운다.
+     * @param memberDto
+     * @param apartId
+     * @param searchCond
+     * @param lastCreatedAt
+     * @param lastId
+     * @param size
+     * @return
+     */
+    public Slice<TogetherResponse> findTogethersByCategoryAfter(final MemberDto memberDto,
+                                                                final String apartId,
+                                                                final TogetherSearchCond searchCond,
+                                                                final LocalDateTime lastCreatedAt,
+                                                                final Long lastId,
+                                                                final int size) {
+        final Slice<TogetherResponse> togetherResponses =
+                togetherRepository.findTogethersByCategoryAfter(apartId, searchCond, lastCreatedAt, lastId, size);
+        memberLikeIndexService.markLikedBoards(memberDto.getId(), togetherResponses.getContent());
+        return togetherResponses;
     }
 
     /**
@@ -112,9 +170,14 @@ public class TogetherService {
                                    final TogetherDto togetherDto) {
         final Category categoryEntity = categoryRepository.findCategoryByTagAndNameWithApart(apartId, TOGETHER, category)
                 .orElseThrow(CategoryNonExistsException::new);
-        final Member member = memberDto.toEntity();
+        final Member member = memberRepository.getReferenceById(memberDto.getId());
         final Together together = togetherDto.toEntity(categoryEntity, member);
-        return togetherRepository.save(together);
+        together.renewExcerpt();
+        final Together savedTogether = togetherRepository.save(together);
+        attachmentService.linkAttachmentsToBoard(memberDto.getId(), savedTogether);
+        approximateCountService.incrementBoard(apartId, BoardType.TOGETHER, category, memberDto.getId());
+        boardChangeService.boardCreated(apartId, savedTogether.getId(), BoardType.TOGETHER);
+        return savedTogether;
     }
 
     /**
@@ -129,7 +192,7 @@ public class TogetherService {
         final Board together = boardRepository.findBoardWithMemberAndApartmentForApartId(apartId, togetherId)
                 .orElseThrow(CannotReflectLikeToArticleException::new);
         if (together.isOnlyApartUser()) {
-            if (!together.getMember().getApartment().getCode().equals(memberDto.getApartmentDto().getCode())) {
+            if (!together.getApartment().getCode().equals(memberDto.getApartmentDto().getCode())) {
                 throw new CantLikeToBoardCauseBoardIsApartUserOnlyException();
             }
         }
@@ -138,7 +201,7 @@ public class TogetherService {
         if (boardLiked != null) {
             return likeService.decreaseLikesToBoard(boardLiked, together);
         }
-        return likeService.increaseLikesToBoard(memberDto.toEntity(), together);
+        return likeService.increaseLikesToBoard(memberRepository.getReferenceById(memberDto.getId()), together);
     }
 
     /**
@@ -163,6 +226,8 @@ public class TogetherService {
         if (!togetherEntity.getMember().getId().equals(memberDto.getId())) {
             throw new CantUpdateBoardCauseInvalidMemberException();
         }
+        approximateCountService.moveBoard(apartId, BoardType.TOGETHER, togetherEntity.getCategory().getName(), category);
+        boardChangeService.boardUpdated(apartId, togetherId, BoardType.TOGETHER);
         final Together updatedTogether = togetherEntity.updateTogether(
                 categoryEntity, togetherDto.getTitle(), togetherDto.getDescription(),
                 togetherDto.getContent(), togetherDto.getRecruitFrom(), togetherDto.getRecruitTo(),
@@ -170,6 +235,8 @@ public class TogetherService {
                 togetherDto.isContributeStatus(), togetherDto.getRecruitStatus(), togetherDto.getThumbnail(),
                 togetherDto.isOnlyApartUser()
         );
+        updatedTogether.renewExcerpt();
+        attachmentService.linkAttachmentsToBoard(memberDto.getId(), updatedTogether);
         return SingleTogetherResponse.from(updatedTogether, togetherEntity.getMember());
     }
 
@@ -187,8 +254,8 @@ public class TogetherService {
             throw new CantDeleteBoardCauseInvalidMemberException();
         }
         boardLikedRepository.deleteAllInBatch(findedTogether.getBoardLikedList());
-        if (!findedTogether.getComments().isEmpty()) {
-            final List<Comment> commentsForBoard = commentRepository.findCommentsByBoardId(findedTogether.getId());
+        final List<Comment> commentsForBoard = commentRepository.findCommentsByBoardId(findedTogether.getId());
+        if (!commentsForBoard.isEmpty()) {
             final List<Long> commentIdsForBoard = commentsForBoard.stream().map(Comment::getId).toList();
             final List<CommentLiked> commentLikedsForBoardComments = likeService.findCommentLikedsInCommentIds(commentIdsForBoard);
             commentLikedRepository.deleteAllInBatch(commentLikedsForBoardComments);
@@ -196,7 +263,13 @@ public class TogetherService {
             final List<Comment> parentCommentRepliesForBoard = commentsForBoard.stream().filter(comment -> !parentCommentsForBoard.contains(comment)).toList();
             commentRepository.deleteAllInBatch(parentCommentRepliesForBoard);
             commentRepository.deleteAllInBatch(commentsForBoard);
+            commentLeaderboardService.decrementAll(apartId, commentsForBoard);
         }
+        participationService.togetherDeleted(findedTogether.getId());
+        attachmentService.removeAttachmentsOfBoards(List.of(findedTogether.getId()));
         boardRepository.delete(findedTogether);
+        approximateCountService.decrementBoard(apartId, BoardType.TOGETHER, findedTogether.getCategory().getName(), memberDto.getId());
+        boardChangeService.boardDeleted(apartId, togetherId, BoardType.TOGETHER);
+        hotBoardService.remove(apartId, togetherId);
     }
 }
@@ -1,15 +1,17 @@
 package kr.apartribebackend.attachment.controller;
 
+import jakarta.validation.Valid;
 import kr.apartribebackend.attachment.domain.Attachment;
+import kr.apartribebackend.attachment.dto.AttachmentRes;
+import kr.apartribebackend.attachment.dto.UploadCompleteReq;
+import kr.apartribebackend.attachment.dto.UploadIntentReq;
+import kr.apartribebackend.attachment.dto.UploadIntentRes;
 import kr.apartribebackend.attachment.service.AttachmentService;
 import kr.apartribebackend.global.dto.APIResponse;
 import kr.apartribebackend.member.principal.AuthenticatedMember;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
-import org.springframework.web.bind.annotation.PathVariable;
-import org.springframework.web.bind.annotation.PostMapping;
-import org.springframework.web.bind.annotation.RequestParam;
-import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
@@ -27,8 +29,29 @@ public class AttachmentController {
             @AuthenticationPrincipal final AuthenticatedMember authenticatedMember,
             @RequestParam final List<MultipartFile> file) throws IOException
     {
-        final List<String> uploadPaths = attachmentService.saveFiles(file).stream().map(Attachment::getUploadPath).toList();
+        final List<String> uploadPaths = attachmentService.saveFiles(authenticatedMember.toDto(), file).stream().map(Attachment::getUploadPath).toList();
         final APIResponse<List<String>> apiResponse = APIResponse.SUCCESS(uploadPaths);
         return apiResponse;
     }
+
+    @PostMapping("/api/{apartId}/attach/intent")
+    public APIResponse<UploadIntentRes> createUploadIntent(
+            @PathVariable final String apartId,
+            @AuthenticationPrincipal final AuthenticatedMember authenticatedMember,
+            @Valid @RequestBody final UploadIntentReq uploadIntentReq
+    ) {
+        final UploadIntentRes uploadIntentRes = attachmentService
+                .createUploadIntent(authenticatedMember.toDto(), uploadIntentReq);
+        return APIResponse.SUCCESS(uploadIntentRes);
+    }
+
+    @PostMapping("/api/{apartId}/attach/complete")
+    public APIResponse<AttachmentRes> completeUpload(
+            @PathVariable final String apartId,
+            @AuthenticationPrincipal final AuthenticatedMember authenticatedMember,
+            @Valid @RequestBody final UploadCompleteReq uploadCompleteReq
+    ) {
+        final Attachment attachment = attachmentService.completeUpload(authenticatedMember.toDto(), uploadCompleteReq);
+        return APIResponse.SUCCESS(AttachmentRes.from(attachment));
+    }
 }
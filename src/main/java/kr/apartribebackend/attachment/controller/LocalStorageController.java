@@ -0,0 +1,74 @@
+package kr.apartribebackend.attachment.controller;
+
+import jakarta.servlet.http.HttpServletRequest;
+import kr.apartribebackend.attachment.service.storage.LocalObjectStorage;
+import kr.apartribebackend.attachment.service.storage.ObjectStorage;
+import kr.apartribebackend.attachment.service.storage.StoredObject;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+
+/**
+ * LocalObjectStorage 의 HTTP 대역. 발급된 업로드 URL 로 PUT 한 파일을 저장하고, 저장된 파일을 GET 으로 내려준다.
+ * application.storage.type 이 local 일 때만 등록된다.
+ */
+@ConditionalOnProperty(value = "application.storage.type", havingValue = "local")
+@RequiredArgsConstructor
+@RestController
+public class LocalStorageController {
+
+    private final LocalObjectStorage localObjectStorage;
+
+    @PutMapping(LocalObjectStorage.PATH_PREFIX + "**")
+    public ResponseEntity<Void> upload(
+            @RequestParam(LocalObjectStorage.EXPIRES) final long expires,
+            @RequestParam(LocalObjectStorage.SIGNATURE) final String signature,
+            final HttpServletRequest request
+    ) throws IOException {
+        final String key = keyOf(request);
+        final long contentLength = request.getContentLengthLong();
+        final String checksum = request.getHeader(ObjectStorage.CHECKSUM_SHA256_HEADER);
+        if (contentLength < 0
+                || !localObjectStorage.verifyUpload(key, request.getContentType(), contentLength, checksum, expires, signature)) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+        }
+        try {
+            localObjectStorage.put(key, request.getInputStream(), contentLength, request.getContentType(), checksum);
+        } catch (IOException e) {
+            return ResponseEntity.badRequest().build();
+        }
+        return ResponseEntity.ok().build();
+    }
+
+    @GetMapping(LocalObjectStorage.PATH_PREFIX + "**")
+    public ResponseEntity<Resource> download(final HttpServletRequest request) {
+        final String key = keyOf(request);
+        return localObjectStorage.findPath(key)
+                .map(path -> {
+                    final String contentType = localObjectStorage.findObject(key)
+                            .map(StoredObject::contentType)
+                            .filter(type -> !type.isBlank())
+                            .orElse(MediaType.APPLICATION_OCTET_STREAM_VALUE);
+                    return ResponseEntity.ok()
+                            .contentType(MediaType.parseMediaType(contentType))
+                            .body((Resource) new FileSystemResource(path));
+                })
+                .orElseGet(() -> ResponseEntity.notFound().build());
+    }
+
+    private String keyOf(final HttpServletRequest request) {
+        final String path = request.getRequestURI().substring(request.getContextPath().length());
+        return path.substring(LocalObjectStorage.PATH_PREFIX.length());
+    }
+
+}
@@ -2,19 +2,39 @@ package kr.apartribebackend.attachment.domain;
 
 import jakarta.persistence.*;
 import kr.apartribebackend.article.domain.Board;
+import kr.apartribebackend.global.domain.PooledIdGenerator;
 import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.Hibernate;
 
+import java.time.LocalDateTime;
 import java.util.Objects;
 
 @Entity @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
-@Table(name = "ATTACHMENT")
+@Table(
+        name = "ATTACHMENT",
+        uniqueConstraints = @UniqueConstraint(name = "uk_attachment_upload_id", columnNames = "UPLOAD_ID"),
+        indexes = {
+                @Index(name = "idx_attachment_content_hash", columnList = "CONTENT_HASH"),
+                @Index(name = "idx_attachment_upload_path", columnList = "UPLOAD_PATH"),
+                @Index(name = "idx_attachment_board_uploaded", columnList = "BOARD_ID, UPLOADED_AT")
+        }
+)
 public class Attachment {
 
-    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Id
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "ATTACHMENT_ID_GENERATOR")
+    @TableGenerator(
+            name = "ATTACHMENT_ID_GENERATOR",
+            table = PooledIdGenerator.TABLE,
+            pkColumnName = PooledIdGenerator.PK_COLUMN,
+            valueColumnName = PooledIdGenerator.VALUE_COLUMN,
+            pkColumnValue = "ATTACHMENT",
+            allocationSize = PooledIdGenerator.ALLOCATION_SIZE
+    )
     @Column(name = "ATTACHMENT_ID")
     public Long id;
 
@@ -30,6 +50,48 @@ public class Attachment {
     @Column(name = "EXTENSION")
     private String extension;
 
+    /**
+     * 업로드 URL 을 발급할 때 만든 ID. 업로드 완료 요청이 같은 ID 로 여러번 와도 한 번만 등록하기 위한 유니크 키다.
+     */
+    @Column(name = "UPLOAD_ID")
+    private String uploadId;
+
+    /**
+     * 저장소(ObjectStorage) 의 key. 내용(SHA-256) 으로 정해지므로 같은 파일을 올린 Attachment 는 같은 key 를 공유한다.
+     */
+    @Column(name = "STORAGE_KEY")
+    private String storageKey;
+
+    /**
+     * 파일 내용의 SHA-256 (hex). AttachmentContent 의 ID 이다.
+     */
+    @Column(name = "CONTENT_HASH", length = 64)
+    private String contentHash;
+
+    @Column(name = "FILE_SIZE")
+    private Long fileSize;
+
+    /**
+     * 목록용 썸네일 (가로 ImageDerivativeService.thumbnailWidth) URL. 이미지가 아니거나 아직 만들어지지 않았으면 null 이다.
+     */
+    @Column(name = "THUMBNAIL_PATH")
+    private String thumbnailPath;
+
+    /**
+     * 상세 화면용 (가로 ImageDerivativeService.detailWidth) 이미지 URL. 이미지가 아니거나 아직 만들어지지 않았으면 null 이다.
+     */
+    @Column(name = "DETAIL_PATH")
+    private String detailPath;
+
+    /**
+     * 업로드된 시각. 유예 기간이 지나도록 게시글에 연결되지 않은 첨부파일은 정리 Job 이 지운다.
+     */
+    @Column(name = "UPLOADED_AT")
+    private LocalDateTime uploadedAt;
+
+    /**
+     * 첨부파일을 사용하는 게시글. 게시글을 등록 / 수정할 때 본문과 썸네일의 저장소 key 로 연결하며, 연결될 때 내용의 REF_COUNT 를 올린다.
+     */
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "BOARD_ID")
     private Board board;
@@ -40,12 +102,26 @@ public class Attachment {
                       String contentType,
                       String uploadPath,
                       String extension,
+                      String uploadId,
+                      String storageKey,
+                      String contentHash,
+                      Long fileSize,
+                      String thumbnailPath,
+                      String detailPath,
+                      LocalDateTime uploadedAt,
                       Board board) {
         this.id = id;
         this.fileName = fileName;
         this.contentType = contentType;
         this.uploadPath = uploadPath;
         this.extension = extension;
+        this.uploadId = uploadId;
+        this.storageKey = storageKey;
+        this.contentHash = contentHash;
+        this.fileSize = fileSize;
+        this.thumbnailPath = thumbnailPath;
+        this.detailPath = detailPath;
+        this.uploadedAt = uploadedAt;
         this.board = board;
     }
 
@@ -63,11 +139,20 @@ public class Attachment {
 
     /////////////////////////////// BUSINESS LOGIC ///////////////////////////////
 
+    /**
+     * 연관관계의 주인(Attachment.board) 만 설정하고, Board.attachments 는 이미 초기화되어 있을 때만 동기화한다.
+     * @param board
+     */
     public void registBoard(Board board) {
-        if (this.board != null)
+        if (this.board != null && isLoaded(this.board))
             this.board.getAttachments().remove(this);
         this.board = board;
-        board.getAttachments().add(this);
+        if (isLoaded(board))
+            board.getAttachments().add(this);
+    }
+
+    private static boolean isLoaded(Board board) {
+        return Hibernate.isInitialized(board) && Hibernate.isInitialized(board.getAttachments());
     }
 
 }
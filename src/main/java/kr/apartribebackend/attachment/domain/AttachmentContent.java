@@ -0,0 +1,43 @@
+package kr.apartribebackend.attachment.domain;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 저장소에 실제로 저장된 파일 하나. 같은 내용의 파일은 SHA-256 이 같으므로 한 번만 저장되고, 여러 Attachment 가 CONTENT_HASH 로 공유한다.
+ * REF_COUNT 는 이 내용을 가리키는 게시글에 연결된 Attachment 수이고, AttachmentContentRepository 의 UPSERT / 조건부 UPDATE 로만 바뀐다.
+ * REF_COUNT 가 0 인 내용은 바로 지우지 않고, RELEASED_AT (마지막으로 올라오거나 참조가 풀린 시각) 으로부터 유예 기간이 지나면
+ * AttachmentService.sweepUnreferencedContents 가 지운다.
+ */
+@Entity @Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(
+        name = "ATTACHMENT_CONTENT",
+        indexes = @Index(name = "idx_attachment_content_unreferenced", columnList = "REF_COUNT, RELEASED_AT")
+)
+public class AttachmentContent {
+
+    @Id
+    @Column(name = "CONTENT_HASH", length = 64)
+    private String contentHash;
+
+    @Column(name = "STORAGE_KEY", nullable = false)
+    private String storageKey;
+
+    @Column(name = "CONTENT_TYPE")
+    private String contentType;
+
+    @Column(name = "FILE_SIZE", nullable = false)
+    private long fileSize;
+
+    @Column(name = "REF_COUNT", nullable = false)
+    private int refCount;
+
+    @Column(name = "RELEASED_AT")
+    private LocalDateTime releasedAt;
+
+}
@@ -0,0 +1,10 @@
+package kr.apartribebackend.attachment.dto;
+
+/**
+ * 첨부파일이 달린 게시글. 썸네일 / 상세 이미지가 만들어졌을 때 응답 캐시를 비울 대상을 찾는데 사용한다.
+ * @param boardId 게시글 ID
+ * @param apartCode 게시글이 속한 아파트 코드
+ */
+public record AttachedBoard(Long boardId, String apartCode) {
+
+}
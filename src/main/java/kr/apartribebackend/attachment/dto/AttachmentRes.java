@@ -0,0 +1,21 @@
+package kr.apartribebackend.attachment.dto;
+
+import kr.apartribebackend.attachment.domain.Attachment;
+
+public record AttachmentRes(
+        Long id,
+        String fileName,
+        String contentType,
+        Long fileSize,
+        String uploadPath
+) {
+    public static AttachmentRes from(final Attachment attachment) {
+        return new AttachmentRes(
+                attachment.getId(),
+                attachment.getFileName(),
+                attachment.getContentType(),
+                attachment.getFileSize(),
+                attachment.getUploadPath()
+        );
+    }
+}
@@ -0,0 +1,31 @@
+package kr.apartribebackend.attachment.dto;
+
+/**
+ * 썸네일 / 상세 이미지 생성의 누적 통계.
+ * @param requested 요청된 수
+ * @param completed 디코딩해서 만든 수
+ * @param reused 이미 만들어져 있어 URL 만 기록한 수
+ * @param rejected Executor 큐가 가득 차 버린 수
+ * @param unsupported 디코딩할 수 없는 형식 (webp 등) 이라 건너뛴 수
+ * @param oversized 픽셀 수가 max-source-pixels 를 넘어 건너뛴 수
+ * @param failed 예외로 실패한 수
+ * @param decoded 디코딩한 수
+ * @param decodeNanos 디코딩에 걸린 시간 합
+ * @param maxDecodeNanos 가장 오래 걸린 디코딩 시간
+ */
+public record ImageDerivativeStats(long requested,
+                                   long completed,
+                                   long reused,
+                                   long rejected,
+                                   long unsupported,
+                                   long oversized,
+                                   long failed,
+                                   long decoded,
+                                   long decodeNanos,
+                                   long maxDecodeNanos) {
+
+    public double averageDecodeMillis() {
+        return decoded == 0 ? 0 : decodeNanos / 1_000_000.0 / decoded;
+    }
+
+}
@@ -0,0 +1,10 @@
+package kr.apartribebackend.attachment.dto;
+
+import jakarta.validation.constraints.NotEmpty;
+
+public record UploadCompleteReq(
+        @NotEmpty(message = "uploadId 는 공백일 수 없습니다.") String uploadId,
+        @NotEmpty(message = "key 는 공백일 수 없습니다.") String key,
+        @NotEmpty(message = "파일 이름은 공백일 수 없습니다.") String fileName
+) {
+}
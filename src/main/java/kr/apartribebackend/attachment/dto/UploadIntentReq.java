@@ -0,0 +1,14 @@
+package kr.apartribebackend.attachment.dto;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Positive;
+
+public record UploadIntentReq(
+        @NotEmpty(message = "파일 이름은 공백일 수 없습니다.") String fileName,
+        @NotEmpty(message = "Content-Type 은 공백일 수 없습니다.") String contentType,
+        @NotNull(message = "파일 크기는 필수입니다.") @Positive(message = "파일 크기는 0 보다 커야 합니다.") Long contentLength,
+        @NotNull(message = "SHA-256 은 필수입니다.") @Pattern(regexp = "[0-9a-f]{64}", message = "SHA-256 은 64 자리 소문자 hex 여야 합니다.") String sha256
+) {
+}
@@ -0,0 +1,35 @@
+package kr.apartribebackend.attachment.dto;
+
+import kr.apartribebackend.attachment.service.storage.PresignedUpload;
+
+import java.time.Instant;
+import java.util.Map;
+
+/**
+ * stored 가 true 면 같은 내용의 파일이 이미 저장되어 있으므로 업로드 없이 바로 완료 요청을 보내면 된다.
+ */
+public record UploadIntentRes(
+        String uploadId,
+        String key,
+        boolean stored,
+        String uploadUrl,
+        String method,
+        Map<String, String> headers,
+        Instant expiresAt
+) {
+    public static UploadIntentRes of(final String uploadId, final String key, final PresignedUpload presignedUpload) {
+        return new UploadIntentRes(
+                uploadId,
+                key,
+                false,
+                presignedUpload.url(),
+                presignedUpload.method(),
+                presignedUpload.headers(),
+                presignedUpload.expiresAt()
+        );
+    }
+
+    public static UploadIntentRes stored(final String uploadId, final String key) {
+        return new UploadIntentRes(uploadId, key, true, null, null, Map.of(), null);
+    }
+}
@@ -0,0 +1,15 @@
+package kr.apartribebackend.attachment.exception;
+
+import kr.apartribebackend.global.exception.RootException;
+
+public class AttachmentSizeExceededException extends RootException {
+
+    public AttachmentSizeExceededException() {
+        super("업로드할 수 있는 파일 크기를 초과했습니다.");
+    }
+
+    @Override
+    public int getStatusCode() {
+        return 400;
+    }
+}
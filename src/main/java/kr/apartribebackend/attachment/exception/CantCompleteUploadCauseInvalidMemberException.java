@@ -0,0 +1,15 @@
+package kr.apartribebackend.attachment.exception;
+
+import kr.apartribebackend.global.exception.RootException;
+
+public class CantCompleteUploadCauseInvalidMemberException extends RootException {
+
+    public CantCompleteUploadCauseInvalidMemberException() {
+        super("본인이 발급받은 업로드만 완료할 수 있습니다.");
+    }
+
+    @Override
+    public int getStatusCode() {
+        return 403;
+    }
+}
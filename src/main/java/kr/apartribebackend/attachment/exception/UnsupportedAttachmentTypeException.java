@@ -0,0 +1,15 @@
+package kr.apartribebackend.attachment.exception;
+
+import kr.apartribebackend.global.exception.RootException;
+
+public class UnsupportedAttachmentTypeException extends RootException {
+
+    public UnsupportedAttachmentTypeException() {
+        super("이미지(jpeg, png, gif, webp) 파일만 업로드할 수 있습니다.");
+    }
+
+    @Override
+    public int getStatusCode() {
+        return 400;
+    }
+}
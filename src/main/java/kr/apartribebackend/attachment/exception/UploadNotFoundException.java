@@ -0,0 +1,15 @@
+package kr.apartribebackend.attachment.exception;
+
+import kr.apartribebackend.global.exception.RootException;
+
+public class UploadNotFoundException extends RootException {
+
+    public UploadNotFoundException() {
+        super("업로드된 파일을 찾을 수 없습니다.");
+    }
+
+    @Override
+    public int getStatusCode() {
+        return 404;
+    }
+}
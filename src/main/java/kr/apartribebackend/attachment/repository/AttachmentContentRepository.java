@@ -0,0 +1,75 @@
+package kr.apartribebackend.attachment.repository;
+
+import kr.apartribebackend.attachment.domain.AttachmentContent;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface AttachmentContentRepository extends JpaRepository<AttachmentContent, String> {
+
+    /**
+     * 처음 올라온 내용을 REF_COUNT 0 으로 등록한다. REF_COUNT 는 게시글에 연결될 때 acquireContent 로 올린다.
+     * 같은 파일이 동시에 처음 올라와도 PK 충돌 없이 한 row 로 합쳐지도록 한 문장의 UPSERT 로 실행하고, 이미 있으면 RELEASED_AT 만 갱신한다.
+     * @param contentHash
+     * @param storageKey
+     * @param contentType
+     * @param fileSize
+     * @param uploadedAt
+     * @return
+     */
+    @Modifying
+    @Query(nativeQuery = true, value = "insert into ATTACHMENT_CONTENT (CONTENT_HASH, STORAGE_KEY, CONTENT_TYPE, FILE_SIZE, REF_COUNT, RELEASED_AT) " +
+            "values (:contentHash, :storageKey, :contentType, :fileSize, 0, :uploadedAt) " +
+            "on duplicate key update RELEASED_AT = :uploadedAt")
+    int registerContent(
+            @Param("contentHash") String contentHash,
+            @Param("storageKey") String storageKey,
+            @Param("contentType") String contentType,
+            @Param("fileSize") long fileSize,
+            @Param("uploadedAt") LocalDateTime uploadedAt
+    );
+
+    /**
+     * 이미 저장된 내용에 다시 올라왔음을 기록해, 참조되지 않은 내용이어도 유예 기간이 처음부터 다시 시작되게 한다.
+     * row 를 잠그는 한 문장이므로 sweepUnreferencedContents 가 같은 내용을 지우는 중이면 그 트랜잭션이 끝날 때까지 기다린다.
+     * @param contentHash
+     * @param uploadedAt
+     * @return 0 이면 저장된 내용이 없으므로 저장소에 올리고 registerContent 로 등록해야 한다.
+     */
+    @Modifying
+    @Query(value = "update AttachmentContent c set c.releasedAt = :uploadedAt where c.contentHash = :contentHash")
+    int touchContent(@Param("contentHash") String contentHash, @Param("uploadedAt") LocalDateTime uploadedAt);
+
+    /**
+     * 게시글에 연결된 첨부파일의 내용 REF_COUNT 를 1 올린다. 정리 대기 중 (REF_COUNT = 0) 인 내용도 다시 참조된다.
+     * row 를 잠그는 한 문장이므로 sweepUnreferencedContents 가 같은 내용을 지우는 중이면 그 트랜잭션이 끝날 때까지 기다린다.
+     * @param contentHash
+     * @return 0 이면 내용이 이미 정리되었으므로 연결하지 않는다.
+     */
+    @Modifying
+    @Query(value = "update AttachmentContent c set c.refCount = c.refCount + 1 where c.contentHash = :contentHash")
+    int acquireContent(@Param("contentHash") String contentHash);
+
+    @Modifying
+    @Query(value = "update AttachmentContent c set c.refCount = c.refCount - 1, c.releasedAt = :releasedAt where c.contentHash = :contentHash and c.refCount > 0")
+    int releaseContent(@Param("contentHash") String contentHash, @Param("releasedAt") LocalDateTime releasedAt);
+
+    @Query(value = "select c from AttachmentContent c where c.refCount = 0 and c.releasedAt < :releasedBefore")
+    List<AttachmentContent> findUnreferencedContents(@Param("releasedBefore") LocalDateTime releasedBefore, Pageable pageable);
+
+    /**
+     * 유예 기간 동안 참조되지 않은 내용을 지운다. 그 사이 다시 참조되었으면 (REF_COUNT > 0) 지우지 않는다.
+     * @param contentHash
+     * @param releasedBefore
+     * @return 1 이면 지워졌으므로 저장소의 객체도 지워야 한다.
+     */
+    @Modifying
+    @Query(value = "delete from AttachmentContent c where c.contentHash = :contentHash and c.refCount = 0 and c.releasedAt < :releasedBefore")
+    int deleteUnreferenced(@Param("contentHash") String contentHash, @Param("releasedBefore") LocalDateTime releasedBefore);
+
+}
@@ -0,0 +1,19 @@
+package kr.apartribebackend.attachment.repository;
+
+import com.querydsl.core.types.dsl.Coalesce;
+import com.querydsl.core.types.dsl.StringPath;
+
+public class AttachmentExpressions {
+
+    /**
+     * 목록 조회에서 내려줄 썸네일. 게시글의 LIST_THUMBNAIL 에 목록용 썸네일이 기록되어 있으면 그 URL 을, 아니면 thumbnail 을 그대로 내려준다.
+     * 목록용 썸네일은 첨부파일을 연결할 때와 ImageDerivativeService 가 썸네일을 만들었을 때 게시글에 기록되므로 행마다 첨부파일을 찾지 않는다.
+     * @param listThumbnail
+     * @param thumbnail
+     * @return
+     */
+    public static Coalesce<String> listThumbnail(final StringPath listThumbnail, final StringPath thumbnail) {
+        return new Coalesce<>(String.class, listThumbnail, thumbnail);
+    }
+
+}
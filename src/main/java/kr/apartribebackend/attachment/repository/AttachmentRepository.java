@@ -1,7 +1,60 @@
 package kr.apartribebackend.attachment.repository;
 
 import kr.apartribebackend.attachment.domain.Attachment;
+import kr.apartribebackend.attachment.dto.AttachedBoard;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
 
 public interface AttachmentRepository extends JpaRepository<Attachment, Long> {
+
+    @Query(value = "select a from Attachment a where a.uploadId = :uploadId")
+    Optional<Attachment> findByUploadId(@Param("uploadId") String uploadId);
+
+    @Query(value = "select a from Attachment a where a.board.id in :boardIds")
+    List<Attachment> findAttachmentsInBoardIds(@Param("boardIds") List<Long> boardIds);
+
+    /**
+     * 회원이 올렸지만 아직 게시글에 연결되지 않은 첨부파일 중 저장소 key 가 storageKeys 에 속하는 것을 조회한다.
+     * @param uploadIdPrefix 회원의 uploadId 접두사
+     * @param storageKeys
+     * @return
+     */
+    @Query(value = "select a from Attachment a where a.board is null " +
+            "and a.uploadId like concat(:uploadIdPrefix, '%') and a.storageKey in :storageKeys")
+    List<Attachment> findUnlinkedAttachments(@Param("uploadIdPrefix") String uploadIdPrefix,
+                                             @Param("storageKeys") Collection<String> storageKeys);
+
+    /**
+     * 유예 기간이 지나도록 게시글에 연결되지 않은 첨부파일을 지운다. 연결되지 않은 첨부파일은 내용의 REF_COUNT 를 올리지 않았으므로 내용은 건드리지 않는다.
+     * @param uploadedBefore
+     * @return
+     */
+    @Modifying
+    @Query(value = "delete from Attachment a where a.board is null and a.uploadedAt < :uploadedBefore")
+    int deleteUnlinkedAttachments(@Param("uploadedBefore") LocalDateTime uploadedBefore);
+
+    /**
+     * 같은 내용의 첨부파일이 달린 게시글과 그 아파트 코드를 조회한다.
+     * @param contentHash
+     * @return
+     */
+    @Query(value = "select distinct new kr.apartribebackend.attachment.dto.AttachedBoard(b.id, ap.code) " +
+            "from Attachment a join a.board b join b.apartment ap where a.contentHash = :contentHash")
+    List<AttachedBoard> findAttachedBoardsByContentHash(@Param("contentHash") String contentHash);
+
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query(value = "update Attachment as a set a.thumbnailPath = :thumbnailPath, a.detailPath = :detailPath where a.contentHash = :contentHash")
+    int registerDerivatives(@Param("contentHash") String contentHash,
+                            @Param("thumbnailPath") String thumbnailPath,
+                            @Param("detailPath") String detailPath);
+
 }
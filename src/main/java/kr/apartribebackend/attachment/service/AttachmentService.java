@@ -1,79 +1,369 @@
 package kr.apartribebackend.attachment.service;
 
-import com.amazonaws.services.s3.AmazonS3Client;
-import com.amazonaws.services.s3.model.CannedAccessControlList;
-import com.amazonaws.services.s3.model.ObjectMetadata;
-import com.amazonaws.services.s3.model.PutObjectRequest;
+import kr.apartribebackend.article.domain.Board;
 import kr.apartribebackend.attachment.domain.Attachment;
+import kr.apartribebackend.attachment.domain.AttachmentContent;
+import kr.apartribebackend.attachment.dto.UploadCompleteReq;
+import kr.apartribebackend.attachment.dto.UploadIntentReq;
+import kr.apartribebackend.attachment.dto.UploadIntentRes;
+import kr.apartribebackend.attachment.exception.AttachmentSizeExceededException;
+import kr.apartribebackend.attachment.exception.CantCompleteUploadCauseInvalidMemberException;
+import kr.apartribebackend.attachment.exception.UnsupportedAttachmentTypeException;
+import kr.apartribebackend.attachment.exception.UploadNotFoundException;
+import kr.apartribebackend.attachment.repository.AttachmentContentRepository;
 import kr.apartribebackend.attachment.repository.AttachmentRepository;
+import kr.apartribebackend.attachment.service.storage.ObjectStorage;
+import kr.apartribebackend.attachment.service.storage.PresignedUpload;
+import kr.apartribebackend.attachment.service.storage.StoredObject;
+import kr.apartribebackend.member.dto.MemberDto;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
-import java.util.ArrayList;
-import java.util.List;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
+/**
+ * 첨부파일은 내용의 SHA-256 을 key 로 저장한다 (content/{sha256}.{확장자}). 같은 파일은 몇 번을 올려도 저장소에는 한 번만 저장되고,
+ * Attachment 는 업로드마다 만들어지고, 게시글을 등록 / 수정할 때 본문과 썸네일에 들어있는 저장소 key 로 게시글에 연결되면서 AttachmentContent 의 REF_COUNT 를 올린다.
+ * 게시글에 연결되지 않은 Attachment 와 참조가 모두 풀린 내용은 유예 기간 (gc-grace) 이 지난 뒤 sweepUnreferencedContents 가 저장소의 객체와 함께 지운다.
+ * 등록이 커밋되면 ImageDerivativeService 가 썸네일 / 상세 이미지를 만들어 Attachment 에 기록한다.
+ */
 @Slf4j
 @RequiredArgsConstructor
 @Service
 public class AttachmentService {
 
-//    private final AmazonS3 amazonS3Bucket;
-    private final AmazonS3Client amazonS3Client;
+    /**
+     * 업로드할 수 있는 Content-Type 과 저장소 key 에 붙일 확장자.
+     */
+    public static final Map<String, String> UPLOADABLE_TYPES = Map.of(
+            "image/jpeg", "jpg",
+            "image/png", "png",
+            "image/gif", "gif",
+            "image/webp", "webp"
+    );
+    public static final String UPLOAD_ID_PREFIX = "uploads/";
+    public static final String CONTENT_KEY_PREFIX = "content/";
+
+    public static final int SWEEP_BATCH_SIZE = 100;
+
+    private static final String UNKNOWN_EXTENSION = "bin";
+    private static final Pattern CONTENT_KEY_PATTERN = Pattern.compile("content/([0-9a-f]{64})\\.[a-z]+");
+    private static final Pattern CONTENT_KEY_IN_TEXT_PATTERN = Pattern.compile("content/[0-9a-f]{64}\\.[a-z]+");
+
+    private final ObjectStorage objectStorage;
     private final AttachmentRepository attachmentRepository;
+    private final AttachmentContentRepository attachmentContentRepository;
+    private final ImageDerivativeService imageDerivativeService;
 
-    @Value("${cloud.aws.s3.bucket}")
-    private String bucketName;
+    @Value("${application.attachment.max-size}")
+    private long maxSize;
 
-    private Attachment saveFile(final MultipartFile multipartFile) throws IOException {
-        final ObjectMetadata metadata = new ObjectMetadata();
+    @Value("${application.attachment.upload-expiration}")
+    private long uploadExpiration;
 
+    @Value("${application.attachment.gc-grace}")
+    private long gcGrace;
+
+    /**
+     * 파일을 한 번 흘려 읽으며 SHA-256 을 구하고, 같은 내용이 이미 저장되어 있으면 저장소에 쓰지 않는다.
+     * MultipartFile 은 컨테이너가 이미 받아둔 본문이라 다시 열 수 있으므로, 파일 전체를 메모리에 올리지 않고 해시와 저장을 두 번에 나눠 읽는다.
+     * 게시글에 연결할 수 있도록 업로드 URL 발급과 같은 형식의 uploadId 를 붙인다.
+     */
+    private Attachment saveFile(final MemberDto memberDto, final MultipartFile multipartFile) throws IOException {
         final String originalFilename = multipartFile.getOriginalFilename();
-        final String extractedExt = extractedExt(originalFilename);
         final String contentType = multipartFile.getContentType();
         final long size = multipartFile.getSize();
 
-        metadata.setContentLength(size);
-        metadata.setContentType(contentType);
-
-        amazonS3Client.putObject(
-                new PutObjectRequest(bucketName, originalFilename, multipartFile.getInputStream(), metadata)
-                        .withCannedAcl(CannedAccessControlList.PublicRead)
-        );
-        final String uploadedUrl = amazonS3Client.getUrl(bucketName, originalFilename).toString();
+        final String contentHash;
+        try (InputStream inputStream = multipartFile.getInputStream()) {
+            contentHash = sha256(inputStream);
+        }
+        final LocalDateTime uploadedAt = LocalDateTime.now();
+        final String key;
+        if (attachmentContentRepository.touchContent(contentHash, uploadedAt) > 0) {
+            key = attachmentContentRepository.findById(contentHash).orElseThrow().getStorageKey();
+        } else {
+            key = contentKeyOf(contentHash, contentType);
+            try (InputStream inputStream = multipartFile.getInputStream()) {
+                objectStorage.put(key, inputStream, size, contentType);
+            }
+            attachmentContentRepository.registerContent(contentHash, key, contentType, size, uploadedAt);
+        }
+        afterCommit(() -> imageDerivativeService.requestDerivatives(contentHash, key));
 
-        return createAttachment(originalFilename, extractedExt, contentType, uploadedUrl);
+        return attachmentRepository.save(Attachment.builder()
+                .fileName(originalFilename)
+                .contentType(contentType)
+                .extension(extensionOf(contentType))
+                .uploadPath(objectStorage.urlOf(key))
+                .uploadId(uploadIdPrefixOf(memberDto.getId()) + UUID.randomUUID())
+                .storageKey(key)
+                .contentHash(contentHash)
+                .fileSize(size)
+                .uploadedAt(uploadedAt)
+                .build());
     }
 
-    public List<Attachment> saveFiles(final List<MultipartFile> files) throws IOException {
+    @Transactional
+    public List<Attachment> saveFiles(final MemberDto memberDto, final List<MultipartFile> files) throws IOException {
         final ArrayList<Attachment> attachments = new ArrayList<>();
         for (MultipartFile file : files) {
             if (!file.isEmpty()) {
-                attachments.add(saveFile(file));
+                attachments.add(saveFile(memberDto, file));
             }
         }
         return attachments;
     }
 
-    private String extractedExt(final String originalFilename) {
-        int lastCommaIndex = originalFilename.lastIndexOf(".");
-        return originalFilename.substring(lastCommaIndex + 1);
+    /**
+     * 클라이언트가 저장소에 직접 올릴 업로드 URL 을 발급한다. 서버는 파일 본문을 받지 않는다.
+     * 같은 내용이 이미 저장되어 있으면 URL 없이 stored 로 응답해 업로드를 건너뛰게 하고,
+     * 아니면 선언한 Content-Type / 크기 / SHA-256 그대로만 올릴 수 있는 URL 을 발급한다.
+     * @param memberDto
+     * @param uploadIntentReq
+     * @return
+     */
+    @Transactional(readOnly = true)
+    public UploadIntentRes createUploadIntent(final MemberDto memberDto, final UploadIntentReq uploadIntentReq) {
+        checkUploadable(uploadIntentReq.contentType(), uploadIntentReq.contentLength());
+        final String uploadId = uploadIdPrefixOf(memberDto.getId()) + UUID.randomUUID();
+        final Optional<AttachmentContent> storedContent = attachmentContentRepository.findById(uploadIntentReq.sha256());
+        if (storedContent.isPresent()) {
+            return UploadIntentRes.stored(uploadId, storedContent.get().getStorageKey());
+        }
+        final String key = contentKeyOf(uploadIntentReq.sha256(), uploadIntentReq.contentType());
+        final PresignedUpload presignedUpload = objectStorage.presignUpload(
+                key, uploadIntentReq.contentType(), uploadIntentReq.contentLength(),
+                uploadIntentReq.sha256(), Duration.ofMillis(uploadExpiration)
+        );
+        return UploadIntentRes.of(uploadId, key, presignedUpload);
     }
 
-    private static Attachment createAttachment(String originalFilename,
-                                         String extractedExt,
-                                         String contentType,
-                                         String uploadedUrl) {
-        return Attachment.builder()
-                .fileName(originalFilename)
-                .contentType(contentType)
-                .extension(extractedExt)
-                .uploadPath(uploadedUrl)
-                .build();
+    /**
+     * 업로드 URL 로 올린 (또는 이미 저장되어 있던) 파일을 첨부파일로 등록한다.
+     * 처음 저장된 내용이면 저장소에 실제로 올라간 객체의 Content-Type / 크기를 다시 확인하고, 어긋나면 객체를 지운다.
+     * 업로드를 건너뛴 사이 내용이 정리되었으면 저장소에 객체가 없으므로 UploadNotFoundException 이 발생하고, 클라이언트는 업로드 URL 부터 다시 발급받는다.
+     * 같은 uploadId 로 다시 요청하면 이미 등록된 첨부파일을 반환한다.
+     * @param memberDto
+     * @param uploadCompleteReq
+     * @return
+     */
+    @Transactional
+    public Attachment completeUpload(final MemberDto memberDto, final UploadCompleteReq uploadCompleteReq) {
+        final String uploadId = uploadCompleteReq.uploadId();
+        if (!uploadId.startsWith(uploadIdPrefixOf(memberDto.getId()))) {
+            throw new CantCompleteUploadCauseInvalidMemberException();
+        }
+        final Matcher matcher = CONTENT_KEY_PATTERN.matcher(uploadCompleteReq.key());
+        if (!matcher.matches()) {
+            throw new UploadNotFoundException();
+        }
+        final String key = uploadCompleteReq.key();
+        final String contentHash = matcher.group(1);
+        return attachmentRepository.findByUploadId(uploadId).orElseGet(() -> {
+            final LocalDateTime uploadedAt = LocalDateTime.now();
+            final StoredObject storedObject;
+            if (attachmentContentRepository.touchContent(contentHash, uploadedAt) > 0) {
+                final AttachmentContent content = attachmentContentRepository.findById(contentHash).orElseThrow();
+                storedObject = new StoredObject(content.getStorageKey(), content.getFileSize(), content.getContentType());
+            } else {
+                storedObject = findUploadedObject(key);
+                attachmentContentRepository.registerContent(
+                        contentHash, storedObject.key(), storedObject.contentType(), storedObject.contentLength(), uploadedAt
+                );
+            }
+            afterCommit(() -> imageDerivativeService.requestDerivatives(contentHash, storedObject.key()));
+            return attachmentRepository.save(Attachment.builder()
+                    .fileName(uploadCompleteReq.fileName())
+                    .contentType(storedObject.contentType())
+                    .extension(extensionOf(storedObject.contentType()))
+                    .uploadPath(objectStorage.urlOf(storedObject.key()))
+                    .uploadId(uploadId)
+                    .storageKey(storedObject.key())
+                    .contentHash(contentHash)
+                    .fileSize(storedObject.contentLength())
+                    .uploadedAt(uploadedAt)
+                    .build());
+        });
+    }
+
+    /**
+     * 게시글의 본문과 썸네일에 들어있는 저장소 key 로 작성자가 올린 첨부파일을 게시글에 연결하고 내용의 REF_COUNT 를 올린다.
+     * 수정으로 더 이상 쓰이지 않게 된 첨부파일은 지우고 참조를 놓는다. 게시글 등록 / 수정 트랜잭션 안에서 호출한다.
+     * 썸네일이 첨부파일이고 목록용 썸네일이 이미 만들어져 있으면 게시글의 LIST_THUMBNAIL 에 기록한다. 아직이면 ImageDerivativeService 가 만든 뒤 기록한다.
+     * @param memberId 게시글 작성자
+     * @param board
+     */
+    @Transactional
+    public void linkAttachmentsToBoard(final Long memberId, final Board board) {
+        final Set<String> storageKeys = contentKeysIn(board.getThumbnail(), board.getContent());
+        final List<Attachment> linkedAttachments = attachmentRepository.findAttachmentsInBoardIds(List.of(board.getId()));
+        final List<Attachment> attachments = new ArrayList<>();
+        final List<Attachment> droppedAttachments = new ArrayList<>();
+        for (Attachment attachment : linkedAttachments) {
+            if (storageKeys.remove(attachment.getStorageKey())) {
+                attachments.add(attachment);
+            } else {
+                droppedAttachments.add(attachment);
+            }
+        }
+        releaseAttachments(droppedAttachments);
+        if (!storageKeys.isEmpty()) {
+            for (Attachment attachment : attachmentRepository.findUnlinkedAttachments(uploadIdPrefixOf(memberId), storageKeys)) {
+                if (attachment.getContentHash() != null && attachmentContentRepository.acquireContent(attachment.getContentHash()) > 0) {
+                    attachment.registBoard(board);
+                    attachments.add(attachment);
+                }
+            }
+        }
+        board.renewListThumbnail(attachments.stream()
+                .filter(attachment -> attachment.getUploadPath().equals(board.getThumbnail()))
+                .map(Attachment::getThumbnailPath)
+                .filter(Objects::nonNull)
+                .findFirst()
+                .orElse(null));
+    }
+
+    /**
+     * 게시글이 지워질 때 게시글의 첨부파일을 지우고 내용의 참조를 놓는다. 저장소의 객체는 sweepUnreferencedContents 가 정리한다.
+     * @param boardIds
+     */
+    @Transactional
+    public void removeAttachmentsOfBoards(final List<Long> boardIds) {
+        if (boardIds.isEmpty()) {
+            return;
+        }
+        releaseAttachments(attachmentRepository.findAttachmentsInBoardIds(boardIds));
+    }
+
+    /**
+     * 유예 기간 (gc-grace) 이 지나도록 게시글에 연결되지 않은 첨부파일을 지우고,
+     * 그 동안 참조되지 않은 내용을 최대 SWEEP_BATCH_SIZE 개 지우면서 저장소의 원본과 썸네일 / 상세 이미지도 지운다.
+     * 조건부 DELETE 가 row 를 잠근 채로 객체를 지우므로, 같은 내용을 다시 올리거나 참조하려는 touchContent / acquireContent 는
+     * 커밋까지 기다렸다가 내용이 없음을 보고 새로 올린다. 객체를 지우다 실패하면 트랜잭션이 롤백되어 다음 정리 때 다시 시도한다.
+     * @return 지운 내용 수
+     */
+    @Transactional
+    public int sweepUnreferencedContents() {
+        final LocalDateTime releasedBefore = LocalDateTime.now().minus(Duration.ofMillis(gcGrace));
+        final int expiredCount = attachmentRepository.deleteUnlinkedAttachments(releasedBefore);
+        if (expiredCount > 0) {
+            log.info("Expired Unlinked Attachments : {}", expiredCount);
+        }
+        final List<AttachmentContent> contents = attachmentContentRepository
+                .findUnreferencedContents(releasedBefore, PageRequest.of(0, SWEEP_BATCH_SIZE));
+        int sweptCount = 0;
+        for (AttachmentContent content : contents) {
+            if (attachmentContentRepository.deleteUnreferenced(content.getContentHash(), releasedBefore) > 0) {
+                objectStorage.delete(content.getStorageKey());
+                ImageDerivativeService.derivativeKeysOf(content.getContentHash()).forEach(objectStorage::delete);
+                sweptCount++;
+            }
+        }
+        return sweptCount;
+    }
+
+    private void releaseAttachments(final List<Attachment> attachments) {
+        if (attachments.isEmpty()) {
+            return;
+        }
+        attachmentRepository.deleteAllInBatch(attachments);
+        final LocalDateTime releasedAt = LocalDateTime.now();
+        for (Attachment attachment : attachments) {
+            if (attachment.getContentHash() != null) {
+                attachmentContentRepository.releaseContent(attachment.getContentHash(), releasedAt);
+            }
+        }
+    }
+
+    private static Set<String> contentKeysIn(final String... texts) {
+        final Set<String> storageKeys = new HashSet<>();
+        for (String text : texts) {
+            if (text == null) {
+                continue;
+            }
+            final Matcher matcher = CONTENT_KEY_IN_TEXT_PATTERN.matcher(text);
+            while (matcher.find()) {
+                storageKeys.add(matcher.group());
+            }
+        }
+        return storageKeys;
+    }
+
+    private StoredObject findUploadedObject(final String key) {
+        final StoredObject storedObject = objectStorage.findObject(key).orElseThrow(UploadNotFoundException::new);
+        if (!isUploadable(storedObject.contentType(), storedObject.contentLength())) {
+            objectStorage.delete(key);
+        }
+        checkUploadable(storedObject.contentType(), storedObject.contentLength());
+        return storedObject;
+    }
+
+    private boolean isUploadable(final String contentType, final long contentLength) {
+        return contentType != null && UPLOADABLE_TYPES.containsKey(contentType) && contentLength <= maxSize;
+    }
+
+    private void checkUploadable(final String contentType, final long contentLength) {
+        if (contentType == null || !UPLOADABLE_TYPES.containsKey(contentType)) {
+            throw new UnsupportedAttachmentTypeException();
+        }
+        if (contentLength > maxSize) {
+            throw new AttachmentSizeExceededException();
+        }
+    }
+
+    private static String uploadIdPrefixOf(final Long memberId) {
+        return UPLOAD_ID_PREFIX + memberId + "/";
+    }
+
+    private static String contentKeyOf(final String contentHash, final String contentType) {
+        return CONTENT_KEY_PREFIX + contentHash + "." + extensionOf(contentType);
+    }
+
+    private static String extensionOf(final String contentType) {
+        return contentType == null ? UNKNOWN_EXTENSION : UPLOADABLE_TYPES.getOrDefault(contentType, UNKNOWN_EXTENSION);
+    }
+
+    private static String sha256(final InputStream inputStream) throws IOException {
+        try {
+            final MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            try (DigestInputStream digestInputStream = new DigestInputStream(inputStream, digest)) {
+                digestInputStream.transferTo(OutputStream.nullOutputStream());
+            }
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private void afterCommit(final Runnable runnable) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            runnable.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                runnable.run();
+            }
+        });
     }
 
     @Transactional
@@ -0,0 +1,295 @@
+package kr.apartribebackend.attachment.service;
+
+import kr.apartribebackend.article.repository.BoardRepository;
+import kr.apartribebackend.attachment.dto.AttachedBoard;
+import kr.apartribebackend.attachment.dto.ImageDerivativeStats;
+import kr.apartribebackend.attachment.repository.AttachmentContentRepository;
+import kr.apartribebackend.attachment.repository.AttachmentRepository;
+import kr.apartribebackend.attachment.service.storage.ObjectStorage;
+import kr.apartribebackend.global.service.ResponseCacheService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.stereotype.Service;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+/**
+ * 첨부 이미지의 목록용 썸네일과 상세 화면용 이미지를 만든다. 업로드가 커밋된 뒤 imageDerivativeExecutor 에서 실행되고,
+ * 원본을 한 번만 디코딩해 두 크기의 JPEG 을 derived/{sha256}/ 아래에 저장한 뒤 같은 내용의 Attachment 모두에 URL 을 기록하고,
+ * 그 첨부파일을 썸네일로 쓰는 게시글의 LIST_THUMBNAIL 에 목록용 썸네일 URL 을 기록한 뒤, 첨부파일이 달린 게시글의 목록 / 단일 조회 응답 캐시를 비워 새 썸네일이 바로 보이게 한다.
+ * 디코딩 전에 헤더의 크기만 읽어 max-source-pixels 를 넘는 이미지는 건너뛰고, 디코딩은 서브샘플링으로 max-decoded-pixels 이하로만 메모리에 올리므로
+ * 이미지 생성이 쓰는 메모리는 (스레드 수 x max-decoded-pixels x 4 byte) 정도로 제한된다.
+ * JDK 에는 WebP 인코더 / 디코더가 없어 결과물은 JPEG 이고, WebP 원본은 건너뛴다.
+ */
+@Slf4j
+@Service
+public class ImageDerivativeService {
+
+    public static final String DERIVED_KEY_PREFIX = "derived/";
+    public static final String DERIVED_CONTENT_TYPE = "image/jpeg";
+
+    private static final String THUMBNAIL_NAME = "thumbnail.jpg";
+    private static final String DETAIL_NAME = "detail.jpg";
+
+    private final ObjectStorage objectStorage;
+    private final AttachmentRepository attachmentRepository;
+    private final AttachmentContentRepository attachmentContentRepository;
+    private final BoardRepository boardRepository;
+    private final ResponseCacheService responseCacheService;
+    private final Executor imageDerivativeExecutor;
+
+    private final AtomicLong requested = new AtomicLong();
+    private final AtomicLong completed = new AtomicLong();
+    private final AtomicLong reused = new AtomicLong();
+    private final AtomicLong rejected = new AtomicLong();
+    private final AtomicLong unsupported = new AtomicLong();
+    private final AtomicLong oversized = new AtomicLong();
+    private final AtomicLong failed = new AtomicLong();
+    private final AtomicLong decoded = new AtomicLong();
+    private final AtomicLong decodeNanos = new AtomicLong();
+    private final AtomicLong maxDecodeNanos = new AtomicLong();
+
+    @Value("${application.attachment.derivative.thumbnail-width:320}")
+    private int thumbnailWidth;
+
+    @Value("${application.attachment.derivative.detail-width:1080}")
+    private int detailWidth;
+
+    @Value("${application.attachment.derivative.max-source-pixels:100000000}")
+    private long maxSourcePixels;
+
+    @Value("${application.attachment.derivative.max-decoded-pixels:8000000}")
+    private long maxDecodedPixels;
+
+    @Value("${application.attachment.derivative.quality:0.82}")
+    private float quality;
+
+    public ImageDerivativeService(final ObjectStorage objectStorage,
+                                  final AttachmentRepository attachmentRepository,
+                                  final AttachmentContentRepository attachmentContentRepository,
+                                  final BoardRepository boardRepository,
+                                  final ResponseCacheService responseCacheService,
+                                  @Qualifier("imageDerivativeExecutor") final Executor imageDerivativeExecutor) {
+        this.objectStorage = objectStorage;
+        this.attachmentRepository = attachmentRepository;
+        this.attachmentContentRepository = attachmentContentRepository;
+        this.boardRepository = boardRepository;
+        this.responseCacheService = responseCacheService;
+        this.imageDerivativeExecutor = imageDerivativeExecutor;
+    }
+
+    /**
+     * 썸네일 / 상세 이미지 생성을 요청한다. 큐가 가득 차 있으면 버리고, 첨부파일은 원본 URL 을 그대로 쓴다.
+     * 이미 만들어진 내용이면 디코딩하지 않고 URL 만 기록한다.
+     * @param contentHash
+     * @param storageKey 원본의 저장소 key
+     */
+    public void requestDerivatives(final String contentHash, final String storageKey) {
+        requested.incrementAndGet();
+        try {
+            imageDerivativeExecutor.execute(() -> createDerivatives(contentHash, storageKey));
+        } catch (TaskRejectedException | RejectedExecutionException e) {
+            rejected.incrementAndGet();
+            log.warn("Image Derivative Rejected contentHash={}", contentHash);
+        }
+    }
+
+    /**
+     * 내용에 딸린 썸네일 / 상세 이미지의 저장소 key.
+     * @param contentHash
+     * @return
+     */
+    public static List<String> derivativeKeysOf(final String contentHash) {
+        return List.of(thumbnailKeyOf(contentHash), detailKeyOf(contentHash));
+    }
+
+    public ImageDerivativeStats stats() {
+        return new ImageDerivativeStats(
+                requested.get(),
+                completed.get(),
+                reused.get(),
+                rejected.get(),
+                unsupported.get(),
+                oversized.get(),
+                failed.get(),
+                decoded.get(),
+                decodeNanos.get(),
+                maxDecodeNanos.get()
+        );
+    }
+
+    private void createDerivatives(final String contentHash, final String storageKey) {
+        final String thumbnailKey = thumbnailKeyOf(contentHash);
+        final String detailKey = detailKeyOf(contentHash);
+        try {
+            if (objectStorage.findObject(thumbnailKey).isPresent() && objectStorage.findObject(detailKey).isPresent()) {
+                reused.incrementAndGet();
+            } else if (!derive(storageKey, thumbnailKey, detailKey)) {
+                return;
+            } else {
+                completed.incrementAndGet();
+            }
+            final String thumbnailPath = objectStorage.urlOf(thumbnailKey);
+            if (attachmentRepository.registerDerivatives(contentHash, thumbnailPath, objectStorage.urlOf(detailKey)) > 0) {
+                boardRepository.registerListThumbnail(contentHash, objectStorage.urlOf(storageKey), thumbnailPath);
+                evictAttachedBoards(contentHash);
+            }
+            if (!attachmentContentRepository.existsById(contentHash)) {
+                derivativeKeysOf(contentHash).forEach(objectStorage::delete);
+            }
+        } catch (Exception e) {
+            failed.incrementAndGet();
+            log.warn("Image Derivative Failed contentHash={}", contentHash, e);
+        }
+    }
+
+    /**
+     * 썸네일은 게시글 목록에, 상세 이미지는 단일 조회에 실리므로 첨부파일이 달린 게시글의 아파트 태그와 게시글 태그를 모두 비운다.
+     * @param contentHash
+     */
+    private void evictAttachedBoards(final String contentHash) {
+        final List<AttachedBoard> attachedBoards = attachmentRepository.findAttachedBoardsByContentHash(contentHash);
+        if (attachedBoards.isEmpty()) {
+            return;
+        }
+        final String[] tags = attachedBoards.stream()
+                .flatMap(attachedBoard -> Stream.of(
+                        ResponseCacheService.apartTag(attachedBoard.apartCode()),
+                        ResponseCacheService.boardTag(attachedBoard.boardId())))
+                .distinct()
+                .toArray(String[]::new);
+        responseCacheService.invalidate(tags);
+    }
+
+    /**
+     * 원본을 한 번 디코딩해 상세 이미지를 만들고, 상세 이미지를 줄여 썸네일을 만든다.
+     * @return 디코딩할 수 없거나 너무 커서 건너뛰었으면 false
+     */
+    private boolean derive(final String storageKey, final String thumbnailKey, final String detailKey) throws IOException {
+        final BufferedImage source;
+        try (InputStream inputStream = objectStorage.open(storageKey);
+             ImageInputStream imageInputStream = ImageIO.createImageInputStream(inputStream)) {
+            final Iterator<ImageReader> readers = imageInputStream == null ? null : ImageIO.getImageReaders(imageInputStream);
+            if (readers == null || !readers.hasNext()) {
+                unsupported.incrementAndGet();
+                return false;
+            }
+            final ImageReader reader = readers.next();
+            try {
+                reader.setInput(imageInputStream, true, true);
+                final int width = reader.getWidth(0);
+                final int height = reader.getHeight(0);
+                final long pixels = (long) width * height;
+                if (pixels > maxSourcePixels) {
+                    oversized.incrementAndGet();
+                    log.info("Image Derivative Skipped storageKey={} width={} height={}", storageKey, width, height);
+                    return false;
+                }
+                final int subsampling = subsamplingOf(width, pixels);
+                final ImageReadParam param = reader.getDefaultReadParam();
+                param.setSourceSubsampling(subsampling, subsampling, 0, 0);
+                final long startedAt = System.nanoTime();
+                source = reader.read(0, param);
+                recordDecode(System.nanoTime() - startedAt);
+            } finally {
+                reader.dispose();
+            }
+        }
+        final BufferedImage detail = resize(source, detailWidth);
+        final BufferedImage thumbnail = resize(detail, thumbnailWidth);
+        put(detailKey, encode(detail));
+        put(thumbnailKey, encode(thumbnail));
+        return true;
+    }
+
+    /**
+     * 디코딩한 가로가 detailWidth 보다 작아지지 않는 가장 큰 서브샘플링. 단 디코딩한 픽셀 수가 maxDecodedPixels 를 넘지 않도록 필요하면 더 줄인다.
+     */
+    private int subsamplingOf(final int width, final long pixels) {
+        final int byWidth = Math.max(1, width / detailWidth);
+        final int byPixels = (int) Math.ceil(Math.sqrt((double) pixels / maxDecodedPixels));
+        return Math.max(byWidth, byPixels);
+    }
+
+    /**
+     * 가로를 width 이하로 줄인다 (늘리지는 않는다). 한 번에 크게 줄이면 계단 현상이 생기므로 절반씩 줄이고, 투명한 부분은 흰색으로 채운다.
+     */
+    private static BufferedImage resize(final BufferedImage image, final int width) {
+        BufferedImage current = image;
+        final int targetWidth = Math.min(width, image.getWidth());
+        do {
+            final int nextWidth = Math.max(targetWidth, current.getWidth() / 2);
+            final int nextHeight = Math.max(1, (int) Math.round((double) current.getHeight() * nextWidth / current.getWidth()));
+            final BufferedImage next = new BufferedImage(nextWidth, nextHeight, BufferedImage.TYPE_INT_RGB);
+            final Graphics2D graphics = next.createGraphics();
+            try {
+                graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+                graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+                graphics.setColor(Color.WHITE);
+                graphics.fillRect(0, 0, nextWidth, nextHeight);
+                graphics.drawImage(current, 0, 0, nextWidth, nextHeight, null);
+            } finally {
+                graphics.dispose();
+            }
+            current = next;
+        } while (current.getWidth() > targetWidth);
+        return current;
+    }
+
+    private byte[] encode(final BufferedImage image) throws IOException {
+        final ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+        final ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        try (ImageOutputStream imageOutputStream = ImageIO.createImageOutputStream(outputStream)) {
+            writer.setOutput(imageOutputStream);
+            final ImageWriteParam param = writer.getDefaultWriteParam();
+            param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+            param.setCompressionQuality(quality);
+            writer.write(null, new IIOImage(image, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+        return outputStream.toByteArray();
+    }
+
+    private void put(final String key, final byte[] bytes) throws IOException {
+        objectStorage.put(key, new ByteArrayInputStream(bytes), bytes.length, DERIVED_CONTENT_TYPE);
+    }
+
+    private void recordDecode(final long nanos) {
+        decoded.incrementAndGet();
+        decodeNanos.addAndGet(nanos);
+        maxDecodeNanos.accumulateAndGet(nanos, Math::max);
+    }
+
+    private static String thumbnailKeyOf(final String contentHash) {
+        return DERIVED_KEY_PREFIX + contentHash + "/" + THUMBNAIL_NAME;
+    }
+
+    private static String detailKeyOf(final String contentHash) {
+        return DERIVED_KEY_PREFIX + contentHash + "/" + DETAIL_NAME;
+    }
+
+}
@@ -0,0 +1,240 @@
+package kr.apartribebackend.attachment.service.storage;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.DigestOutputStream;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.Optional;
+import java.util.regex.Pattern;
+
+/**
+ * 파일시스템 저장소. S3 없이 로컬 / 테스트에서 Presigned 업로드 흐름을 그대로 쓰기 위한 대역이다.
+ * 업로드 URL 은 LocalStorageController 의 PUT 주소에 (key, Content-Type, Content-Length, SHA-256, 만료시각) 의 HMAC 서명을 붙인 것이고,
+ * 객체의 Content-Type 은 root/.meta 아래에 key 와 같은 경로로 따로 저장한다.
+ */
+public class LocalObjectStorage implements ObjectStorage {
+
+    public static final String PATH_PREFIX = "/local-storage/";
+    public static final String EXPIRES = "expires";
+    public static final String SIGNATURE = "signature";
+
+    private static final Pattern KEY_PATTERN = Pattern.compile("[A-Za-z0-9][A-Za-z0-9/_.-]*");
+    private static final String META_DIRECTORY = ".meta";
+    private static final String HMAC_ALGORITHM = "HmacSHA256";
+
+    private final Path root;
+    private final String baseUrl;
+    private final byte[] secretKey;
+
+    public LocalObjectStorage(Path root, String baseUrl, String secretKey) {
+        this.root = root.toAbsolutePath().normalize();
+        this.baseUrl = baseUrl;
+        this.secretKey = secretKey == null || secretKey.isBlank() ? randomKey() : secretKey.getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public PresignedUpload presignUpload(String key, String contentType, long contentLength, String sha256, Duration expiration) {
+        resolve(key);
+        final String checksum = Base64.getEncoder().encodeToString(HexFormat.of().parseHex(sha256));
+        final Instant expiresAt = Instant.now().plus(expiration);
+        final long expires = expiresAt.getEpochSecond();
+        final String url = urlOf(key) + "?" + EXPIRES + "=" + expires
+                + "&" + SIGNATURE + "=" + sign(key, contentType, contentLength, checksum, expires);
+        return new PresignedUpload(url, "PUT", Map.of(
+                "Content-Type", contentType,
+                "Content-Length", String.valueOf(contentLength),
+                CHECKSUM_SHA256_HEADER, checksum
+        ), expiresAt);
+    }
+
+    /**
+     * 업로드 요청이 발급된 URL 의 서명, 만료시각과 맞는지 확인한다.
+     * @param key
+     * @param contentType
+     * @param contentLength
+     * @param checksum
+     * @param expires
+     * @param signature
+     * @return
+     */
+    public boolean verifyUpload(String key, String contentType, long contentLength, String checksum, long expires, String signature) {
+        if (signature == null || checksum == null || Instant.now().getEpochSecond() > expires) {
+            return false;
+        }
+        final byte[] expected = sign(key, contentType, contentLength, checksum, expires).getBytes(StandardCharsets.UTF_8);
+        return MessageDigest.isEqual(expected, signature.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Override
+    public void put(String key, InputStream inputStream, long contentLength, String contentType) throws IOException {
+        put(key, inputStream, contentLength, contentType, null);
+    }
+
+    /**
+     * 임시 파일에 contentLength 만큼만 받아 크기와 SHA-256 (checksum 이 있을 때) 이 맞을 때만 key 위치로 옮긴다. 맞지 않으면 저장하지 않고 IOException 을 던진다.
+     * @param key
+     * @param inputStream
+     * @param contentLength
+     * @param contentType
+     * @param checksum 본문의 SHA-256 (base64). null 이면 확인하지 않는다.
+     * @throws IOException
+     */
+    public void put(String key, InputStream inputStream, long contentLength, String contentType, String checksum) throws IOException {
+        final Path target = resolve(key);
+        final Path meta = resolveMeta(key);
+        Files.createDirectories(target.getParent());
+        Files.createDirectories(meta.getParent());
+        final Path temp = Files.createTempFile(target.getParent(), ".upload", ".tmp");
+        try {
+            final long written;
+            final MessageDigest digest = sha256Digest();
+            try (OutputStream outputStream = new DigestOutputStream(Files.newOutputStream(temp), digest)) {
+                written = inputStream.transferTo(new BoundedOutputStream(outputStream, contentLength));
+            }
+            if (written != contentLength) {
+                throw new IOException("Content-Length 와 업로드된 크기가 다릅니다.");
+            }
+            if (checksum != null && !checksum.equals(Base64.getEncoder().encodeToString(digest.digest()))) {
+                throw new IOException("SHA-256 체크섬이 다릅니다.");
+            }
+            Files.writeString(meta, contentType == null ? "" : contentType);
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    @Override
+    public Optional<StoredObject> findObject(String key) {
+        final Path target = resolve(key);
+        if (!Files.isRegularFile(target)) {
+            return Optional.empty();
+        }
+        try {
+            final Path meta = resolveMeta(key);
+            final String contentType = Files.exists(meta) ? Files.readString(meta) : null;
+            return Optional.of(new StoredObject(key, Files.size(target), contentType));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public InputStream open(String key) throws IOException {
+        return Files.newInputStream(resolve(key));
+    }
+
+    /**
+     * 저장된 파일 경로. LocalStorageController 가 GET 요청에 파일을 내려줄 때 사용한다.
+     * @param key
+     * @return
+     */
+    public Optional<Path> findPath(String key) {
+        final Path target = resolve(key);
+        return Files.isRegularFile(target) ? Optional.of(target) : Optional.empty();
+    }
+
+    @Override
+    public String urlOf(String key) {
+        return baseUrl + PATH_PREFIX + key;
+    }
+
+    @Override
+    public void delete(String key) {
+        try {
+            Files.deleteIfExists(resolve(key));
+            Files.deleteIfExists(resolveMeta(key));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private Path resolve(String key) {
+        if (key == null || !KEY_PATTERN.matcher(key).matches() || key.contains("..") || key.startsWith(META_DIRECTORY)) {
+            throw new IllegalArgumentException("잘못된 key 입니다.");
+        }
+        final Path path = root.resolve(key).normalize();
+        if (!path.startsWith(root)) {
+            throw new IllegalArgumentException("잘못된 key 입니다.");
+        }
+        return path;
+    }
+
+    private Path resolveMeta(String key) {
+        return root.resolve(META_DIRECTORY).resolve(key).normalize();
+    }
+
+    private String sign(String key, String contentType, long contentLength, String checksum, long expires) {
+        try {
+            final Mac mac = Mac.getInstance(HMAC_ALGORITHM);
+            mac.init(new SecretKeySpec(secretKey, HMAC_ALGORITHM));
+            final String payload = key + "\n" + contentType + "\n" + contentLength + "\n" + checksum + "\n" + expires;
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(mac.doFinal(payload.getBytes(StandardCharsets.UTF_8)));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static MessageDigest sha256Digest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static byte[] randomKey() {
+        final byte[] key = new byte[32];
+        new SecureRandom().nextBytes(key);
+        return key;
+    }
+
+    /**
+     * limit 를 넘겨 쓰려고 하면 IOException 을 던져, 선언한 크기보다 큰 본문이 디스크를 채우지 못하게 한다.
+     */
+    private static class BoundedOutputStream extends OutputStream {
+        private final OutputStream delegate;
+        private final long limit;
+        private long written;
+
+        private BoundedOutputStream(OutputStream delegate, long limit) {
+            this.delegate = delegate;
+            this.limit = limit;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            checkLimit(1);
+            delegate.write(b);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            checkLimit(len);
+            delegate.write(b, off, len);
+        }
+
+        private void checkLimit(int length) throws IOException {
+            written += length;
+            if (written > limit) {
+                throw new IOException("Content-Length 보다 큰 파일은 저장할 수 없습니다.");
+            }
+        }
+    }
+
+}
@@ -0,0 +1,59 @@
+package kr.apartribebackend.attachment.service.storage;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * 첨부파일 원본을 저장하는 저장소. 운영은 S3 (S3ObjectStorage), 로컬 / 테스트는 파일시스템 (LocalObjectStorage) 을 사용한다.
+ * 클라이언트가 서버를 거치지 않고 직접 올릴 수 있도록 key, Content-Type, Content-Length, SHA-256 이 고정된 업로드 URL 을 발급한다.
+ */
+public interface ObjectStorage {
+
+    /**
+     * 업로드 본문의 SHA-256 (base64). 서명에 포함되므로 저장소는 본문의 해시가 이 값과 다르면 저장하지 않는다.
+     */
+    String CHECKSUM_SHA256_HEADER = "x-amz-checksum-sha256";
+
+    /**
+     * key 에 contentType, contentLength, SHA-256 이 모두 맞는 파일만 올릴 수 있는 PUT URL 을 발급한다.
+     * @param key
+     * @param contentType
+     * @param contentLength
+     * @param sha256 본문의 SHA-256 (hex)
+     * @param expiration
+     * @return
+     */
+    PresignedUpload presignUpload(String key, String contentType, long contentLength, String sha256, Duration expiration);
+
+    /**
+     * 서버가 받은 파일을 직접 저장한다.
+     * @param key
+     * @param inputStream
+     * @param contentLength
+     * @param contentType
+     * @throws IOException
+     */
+    void put(String key, InputStream inputStream, long contentLength, String contentType) throws IOException;
+
+    /**
+     * 저장된 객체의 크기와 Content-Type. 저장되지 않은 key 면 빈 값이다.
+     * @param key
+     * @return
+     */
+    Optional<StoredObject> findObject(String key);
+
+    /**
+     * 저장된 객체의 본문을 읽는다. 호출한 쪽에서 닫아야 한다.
+     * @param key
+     * @return
+     * @throws IOException 저장되지 않은 key 이거나 읽을 수 없을 때
+     */
+    InputStream open(String key) throws IOException;
+
+    String urlOf(String key);
+
+    void delete(String key);
+
+}
@@ -0,0 +1,14 @@
+package kr.apartribebackend.attachment.service.storage;
+
+import java.time.Instant;
+import java.util.Map;
+
+/**
+ * 발급된 업로드 URL. 클라이언트는 headers 를 그대로 실어 method 로 url 에 파일을 올려야 서명이 맞는다.
+ */
+public record PresignedUpload(
+        String url,
+        String method,
+        Map<String, String> headers,
+        Instant expiresAt
+) { }
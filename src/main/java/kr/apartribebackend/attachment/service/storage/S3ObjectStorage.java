@@ -0,0 +1,89 @@
+package kr.apartribebackend.attachment.service.storage;
+
+import com.amazonaws.HttpMethod;
+import com.amazonaws.services.s3.AmazonS3Client;
+import com.amazonaws.services.s3.Headers;
+import com.amazonaws.services.s3.model.*;
+
+import java.io.InputStream;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Date;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * S3 저장소. 업로드 URL 은 SigV4 Presigned PUT 이고, Content-Type, Content-Length, ACL, x-amz-checksum-sha256 헤더를 서명에 포함하므로
+ * 클라이언트가 다른 타입이나 크기의 파일을 올리면 S3 가 서명 불일치로, 다른 내용을 올리면 체크섬 불일치로 거절한다.
+ */
+public class S3ObjectStorage implements ObjectStorage {
+
+    private final AmazonS3Client amazonS3Client;
+    private final String bucketName;
+
+    public S3ObjectStorage(AmazonS3Client amazonS3Client, String bucketName) {
+        this.amazonS3Client = amazonS3Client;
+        this.bucketName = bucketName;
+    }
+
+    @Override
+    public PresignedUpload presignUpload(String key, String contentType, long contentLength, String sha256, Duration expiration) {
+        final String checksum = Base64.getEncoder().encodeToString(HexFormat.of().parseHex(sha256));
+        final Instant expiresAt = Instant.now().plus(expiration);
+        final GeneratePresignedUrlRequest request = new GeneratePresignedUrlRequest(bucketName, key, HttpMethod.PUT)
+                .withExpiration(Date.from(expiresAt))
+                .withContentType(contentType);
+        request.putCustomRequestHeader(Headers.CONTENT_LENGTH, String.valueOf(contentLength));
+        request.putCustomRequestHeader(Headers.S3_CANNED_ACL, CannedAccessControlList.PublicRead.toString());
+        request.putCustomRequestHeader(CHECKSUM_SHA256_HEADER, checksum);
+        final String url = amazonS3Client.generatePresignedUrl(request).toString();
+        return new PresignedUpload(url, HttpMethod.PUT.name(), Map.of(
+                Headers.CONTENT_TYPE, contentType,
+                Headers.CONTENT_LENGTH, String.valueOf(contentLength),
+                Headers.S3_CANNED_ACL, CannedAccessControlList.PublicRead.toString(),
+                CHECKSUM_SHA256_HEADER, checksum
+        ), expiresAt);
+    }
+
+    @Override
+    public void put(String key, InputStream inputStream, long contentLength, String contentType) {
+        final ObjectMetadata metadata = new ObjectMetadata();
+        metadata.setContentLength(contentLength);
+        metadata.setContentType(contentType);
+        amazonS3Client.putObject(
+                new PutObjectRequest(bucketName, key, inputStream, metadata)
+                        .withCannedAcl(CannedAccessControlList.PublicRead)
+        );
+    }
+
+    @Override
+    public Optional<StoredObject> findObject(String key) {
+        try {
+            final ObjectMetadata metadata = amazonS3Client.getObjectMetadata(bucketName, key);
+            return Optional.of(new StoredObject(key, metadata.getContentLength(), metadata.getContentType()));
+        } catch (AmazonS3Exception e) {
+            if (e.getStatusCode() == 404) {
+                return Optional.empty();
+            }
+            throw e;
+        }
+    }
+
+    @Override
+    public InputStream open(String key) {
+        return amazonS3Client.getObject(bucketName, key).getObjectContent();
+    }
+
+    @Override
+    public String urlOf(String key) {
+        return amazonS3Client.getUrl(bucketName, key).toString();
+    }
+
+    @Override
+    public void delete(String key) {
+        amazonS3Client.deleteObject(bucketName, key);
+    }
+
+}
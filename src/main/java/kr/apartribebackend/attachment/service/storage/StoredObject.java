@@ -0,0 +1,7 @@
+package kr.apartribebackend.attachment.service.storage;
+
+public record StoredObject(
+        String key,
+        long contentLength,
+        String contentType
+) { }
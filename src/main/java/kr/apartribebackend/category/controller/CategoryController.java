@@ -1,11 +1,14 @@
 package kr.apartribebackend.category.controller;
 
+import com.fasterxml.jackson.databind.util.RawValue;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import kr.apartribebackend.category.domain.Category;
 import kr.apartribebackend.category.dto.*;
 import kr.apartribebackend.category.service.CategoryService;
 import kr.apartribebackend.global.annotation.ApartUser;
 import kr.apartribebackend.global.dto.APIResponse;
+import kr.apartribebackend.global.service.ResponseCacheService;
 import kr.apartribebackend.member.principal.AuthenticatedMember;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
@@ -21,6 +24,7 @@ import static org.springframework.http.HttpStatus.*;
 public class CategoryController {
 
     private final CategoryService categoryService;
+    private final ResponseCacheService responseCacheService;
 
     @ApartUser
     @PostMapping("/api/{apartId}/category/article/add")
@@ -57,20 +61,30 @@ public class CategoryController {
     }
 
     @GetMapping("/api/{apartId}/category/article/list")
-    public APIResponse<List<CategoryListRes>> listArticleCategory(
-            @PathVariable final String apartId
+    public APIResponse<RawValue> listArticleCategory(
+            @PathVariable final String apartId,
+            final HttpServletRequest request
     ) {
-        final List<CategoryListRes> categoryListRes = categoryService.listArticleCategory(apartId);
-        final APIResponse<List<CategoryListRes>> apiResponse = APIResponse.SUCCESS(categoryListRes);
+        final RawValue categoryListRes = responseCacheService.getJson(
+                ResponseCacheService.key(request),
+                new String[] { ResponseCacheService.categoryTag(apartId) },
+                () -> categoryService.listArticleCategory(apartId)
+        );
+        final APIResponse<RawValue> apiResponse = APIResponse.SUCCESS(categoryListRes);
         return apiResponse;
     }
 
     @GetMapping("/api/{apartId}/category/together/list")
-    public APIResponse<List<CategoryListRes>> listTogetherCategory(
-            @PathVariable final String apartId
+    public APIResponse<RawValue> listTogetherCategory(
+            @PathVariable final String apartId,
+            final HttpServletRequest request
     ) {
-        final List<CategoryListRes> categoryListRes = categoryService.listTogetherCategory(apartId);
-        final APIResponse<List<CategoryListRes>> apiResponse = APIResponse.SUCCESS(categoryListRes);
+        final RawValue categoryListRes = responseCacheService.getJson(
+                ResponseCacheService.key(request),
+                new String[] { ResponseCacheService.categoryTag(apartId) },
+                () -> categoryService.listTogetherCategory(apartId)
+        );
+        final APIResponse<RawValue> apiResponse = APIResponse.SUCCESS(categoryListRes);
         return apiResponse;
     }
 
@@ -3,6 +3,7 @@ package kr.apartribebackend.category.domain;
 import jakarta.persistence.*;
 import kr.apartribebackend.apart.domain.Apartment;
 import kr.apartribebackend.global.domain.BaseEntity;
+import kr.apartribebackend.global.domain.PooledIdGenerator;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -17,7 +18,16 @@ import java.util.Objects;
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public abstract class Category extends BaseEntity {
 
-    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Id
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "CATEGORY_ID_GENERATOR")
+    @TableGenerator(
+            name = "CATEGORY_ID_GENERATOR",
+            table = PooledIdGenerator.TABLE,
+            pkColumnName = PooledIdGenerator.PK_COLUMN,
+            valueColumnName = PooledIdGenerator.VALUE_COLUMN,
+            pkColumnValue = "CATEGORY",
+            allocationSize = PooledIdGenerator.ALLOCATION_SIZE
+    )
     @Column(name = "CATEGORY_ID")
     private Long id;
 
@@ -10,6 +10,7 @@ import kr.apartribebackend.category.dto.TogetherCategoryDto;
 import kr.apartribebackend.category.exception.CategoryAlreadyExistsException;
 import kr.apartribebackend.category.exception.ModifiedCategoryRequestException;
 import kr.apartribebackend.category.repository.CategoryRepository;
+import kr.apartribebackend.global.service.ResponseCacheService;
 import kr.apartribebackend.member.dto.MemberDto;
 import kr.apartribebackend.category.exception.CategoryCantMakeException;
 import lombok.RequiredArgsConstructor;
@@ -27,6 +28,7 @@ public class CategoryService {
 
     private final CategoryRepository categoryRepository;
     private final ApartmentRepository apartmentRepository;
+    private final ResponseCacheService responseCacheService;
 
     @Transactional
     public Category addArticleCategory(final String apartId,
@@ -55,6 +57,7 @@ public class CategoryService {
                         c -> { throw new CategoryAlreadyExistsException(); },
                         () -> category.registApartment(apartment)
                 );
+        responseCacheService.invalidate(ResponseCacheService.categoryTag(apartId));
         return categoryRepository.save(category);
     }
 
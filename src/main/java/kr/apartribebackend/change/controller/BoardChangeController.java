@@ -0,0 +1,27 @@
+package kr.apartribebackend.change.controller;
+
+import kr.apartribebackend.change.dto.BoardChangesResponse;
+import kr.apartribebackend.change.service.BoardChangeService;
+import kr.apartribebackend.global.dto.APIResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RequiredArgsConstructor
+@RestController
+public class BoardChangeController {
+
+    private final BoardChangeService boardChangeService;
+
+    @GetMapping("/api/{apartId}/changes")
+    public APIResponse<BoardChangesResponse> findChangesSince(
+            @PathVariable final String apartId,
+            @RequestParam(required = false, defaultValue = "0") final long since
+    ) {
+        final BoardChangesResponse boardChangesResponse = boardChangeService.findChangesSince(apartId, since);
+        return APIResponse.SUCCESS(boardChangesResponse);
+    }
+
+}
@@ -0,0 +1,53 @@
+package kr.apartribebackend.change.domain;
+
+import jakarta.persistence.*;
+import kr.apartribebackend.global.domain.TimeBaseEntity;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.experimental.SuperBuilder;
+
+/**
+ * 아파트별 게시글 변경 이력. VERSION 은 아파트마다 1 부터 빈틈없이 증가하며 (BoardChangeVersion), 모바일 클라이언트는 마지막으로 받은 VERSION 이후의 변경만 받아간다.
+ */
+@Getter @SuperBuilder
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Entity
+@Table(
+        name = "BOARD_CHANGE",
+        uniqueConstraints = {
+                @UniqueConstraint(name = "uk_board_change_apart_version", columnNames = {"APART_CODE", "VERSION"})
+        },
+        indexes = {
+                @Index(name = "idx_board_change_created", columnList = "CREATED_AT")
+        }
+)
+public class BoardChange extends TimeBaseEntity {
+
+    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "BOARD_CHANGE_ID")
+    private Long id;
+
+    @Column(name = "APART_CODE", nullable = false)
+    private String apartCode;
+
+    @Column(name = "VERSION", nullable = false)
+    private long version;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "CHANGE_TYPE", nullable = false)
+    private ChangeType changeType;
+
+    @Column(name = "BOARD_ID", nullable = false)
+    private Long boardId;
+
+    @Column(name = "BOARD_TYPE")
+    private String boardType;
+
+    /**
+     * LIKE_COUNT, COMMENT_COUNT 의 변경 후 값. 나머지 변경은 null 이다.
+     */
+    @Column(name = "COUNTS")
+    private Integer counts;
+
+}
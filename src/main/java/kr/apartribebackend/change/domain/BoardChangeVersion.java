@@ -0,0 +1,27 @@
+package kr.apartribebackend.change.domain;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 아파트별로 마지막으로 발급한 게시글 변경(BoardChange) 의 버전. APARTMENT 행과 분리해 두어, 버전을 발급할 때 잡는 잠금이 아파트 행을 쓰는 다른 작업을 막지 않는다.
+ * BoardChangeVersionRepository 의 UPSERT 로만 바뀐다.
+ */
+@Entity @Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "BOARD_CHANGE_VERSION")
+public class BoardChangeVersion {
+
+    @Id
+    @Column(name = "APART_CODE")
+    private String apartCode;
+
+    @Column(name = "VERSION", nullable = false)
+    private long version;
+
+}
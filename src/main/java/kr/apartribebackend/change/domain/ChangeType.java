@@ -0,0 +1,7 @@
+package kr.apartribebackend.change.domain;
+
+public enum ChangeType {
+
+    BOARD_CREATED, BOARD_UPDATED, BOARD_DELETED, LIKE_COUNT, COMMENT_COUNT
+
+}
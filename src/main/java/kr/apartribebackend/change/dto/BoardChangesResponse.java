@@ -0,0 +1,22 @@
+package kr.apartribebackend.change.dto;
+
+import java.util.List;
+
+/**
+ * @param version 다음 요청의 since 로 보낼 버전
+ * @param hasMore version 이후에 아직 받지 않은 변경이 남아있는지 여부
+ * @param resyncRequired since 이후의 변경 일부가 이미 정리되어 이어받을 수 없는 경우 true. 클라이언트는 목록을 처음부터 다시 받고 version 부터 이어받는다.
+ * @param changes
+ */
+public record BoardChangesResponse(
+        long version,
+        boolean hasMore,
+        boolean resyncRequired,
+        List<BoardDeltaResponse> changes
+) {
+
+    public static BoardChangesResponse resync(final long version) {
+        return new BoardChangesResponse(version, false, true, List.of());
+    }
+
+}
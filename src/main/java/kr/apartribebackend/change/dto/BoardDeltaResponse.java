@@ -0,0 +1,53 @@
+package kr.apartribebackend.change.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import kr.apartribebackend.change.domain.BoardChange;
+import kr.apartribebackend.change.domain.ChangeType;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 한 게시글의 변경들을 합친 결과. state 는 CREATED / UPDATED / DELETED 중 마지막 상태이고, liked / commentCounts 는 변경이 있었을 때만 마지막 값을 담는다.
+ */
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+@JsonInclude(value = JsonInclude.Include.NON_NULL)
+public class BoardDeltaResponse {
+
+    public static final String CREATED = "CREATED";
+    public static final String UPDATED = "UPDATED";
+    public static final String DELETED = "DELETED";
+
+    private final Long boardId;
+    private String boardType;
+    private String state;
+    private Integer liked;
+    private Integer commentCounts;
+
+    public static BoardDeltaResponse of(final Long boardId) {
+        return new BoardDeltaResponse(boardId, null, null, null, null);
+    }
+
+    public void apply(final BoardChange change) {
+        if (change.getBoardType() != null) {
+            boardType = change.getBoardType();
+        }
+        final ChangeType changeType = change.getChangeType();
+        if (DELETED.equals(state)) {
+            return;
+        }
+        switch (changeType) {
+            case BOARD_CREATED -> state = CREATED;
+            case BOARD_UPDATED -> state = CREATED.equals(state) ? CREATED : UPDATED;
+            case BOARD_DELETED -> {
+                state = DELETED;
+                liked = null;
+                commentCounts = null;
+            }
+            case LIKE_COUNT -> liked = change.getCounts();
+            case COMMENT_COUNT -> commentCounts = change.getCounts();
+        }
+    }
+
+}
@@ -0,0 +1,29 @@
+package kr.apartribebackend.change.repository;
+
+import kr.apartribebackend.change.domain.BoardChange;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface BoardChangeRepository extends JpaRepository<BoardChange, Long> {
+
+    @Query(value = "select bc from BoardChange as bc" +
+            " where bc.apartCode = :apartCode and bc.version > :version" +
+            " order by bc.version asc")
+    List<BoardChange> findChangesAfter(@Param("apartCode") final String apartCode,
+                                       @Param("version") final long version,
+                                       final Pageable pageable);
+
+    @Query(value = "select min(bc.version) from BoardChange as bc where bc.apartCode = :apartCode")
+    Long findOldestVersion(@Param("apartCode") final String apartCode);
+
+    @Modifying
+    @Query(value = "delete from BoardChange as bc where bc.createdAt < :before")
+    int deleteChangesBefore(@Param("before") final LocalDateTime before);
+
+}
@@ -0,0 +1,28 @@
+package kr.apartribebackend.change.repository;
+
+import kr.apartribebackend.change.domain.BoardChangeVersion;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Optional;
+
+public interface BoardChangeVersionRepository extends JpaRepository<BoardChangeVersion, String> {
+
+    /**
+     * 아파트의 버전을 count 만큼 올린다. 아파트의 첫 변경이면 행을 만든다.
+     * 갱신한 행의 잠금이 트랜잭션 끝까지 유지되므로, 커밋 직전에 호출해 같은 아파트의 변경 기록이 버전 순서대로 커밋되게 한다.
+     * @param apartCode
+     * @param count
+     * @return
+     */
+    @Modifying
+    @Query(nativeQuery = true, value = "insert into BOARD_CHANGE_VERSION (APART_CODE, VERSION) values (:apartCode, :count) " +
+            "on duplicate key update VERSION = VERSION + :count")
+    int increaseVersion(@Param("apartCode") final String apartCode, @Param("count") final int count);
+
+    @Query(value = "select v.version from BoardChangeVersion as v where v.apartCode = :apartCode")
+    Optional<Long> findVersion(@Param("apartCode") final String apartCode);
+
+}
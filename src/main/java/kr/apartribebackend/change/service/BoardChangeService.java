@@ -0,0 +1,202 @@
+package kr.apartribebackend.change.service;
+
+import kr.apartribebackend.apart.exception.ApartNonExistsException;
+import kr.apartribebackend.apart.repository.ApartmentRepository;
+import kr.apartribebackend.change.domain.BoardChange;
+import kr.apartribebackend.change.domain.ChangeType;
+import kr.apartribebackend.change.dto.BoardChangesResponse;
+import kr.apartribebackend.change.dto.BoardDeltaResponse;
+import kr.apartribebackend.change.repository.BoardChangeRepository;
+import kr.apartribebackend.change.repository.BoardChangeVersionRepository;
+import kr.apartribebackend.global.service.ResponseCacheService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * 아파트별 게시글 변경 이력. 게시글 등록 / 수정 / 삭제, 좋아요 수, 댓글 수 변경을 그 변경을 일으킨 트랜잭션 안에서 기록하므로 롤백되면 이력도 남지 않는다.
+ * 변경은 트랜잭션이 끝날 때까지 모아두고 (같은 게시글의 좋아요 수 / 댓글 수 변경은 마지막 값 하나로 합친다), 커밋 직전에 아파트별 BoardChangeVersion 을
+ * 모은 개수만큼 한 번에 올려 버전을 발급한 뒤 저장한다. 버전 행의 잠금은 커밋 직전부터 커밋까지만 잡히므로 같은 아파트의 좋아요 / 댓글 트랜잭션을 오래 막지 않으면서,
+ * 같은 아파트의 기록은 버전 순서대로 커밋된다.
+ * 이력은 RETENTION_DAYS 일 동안 보관하고 pruneBoardChangeJob 이 정리한다.
+ * 기록한 트랜잭션이 커밋되면 해당 아파트와 게시글의 응답 캐시도 무효화한다.
+ */
+@Transactional
+@RequiredArgsConstructor
+@Service
+public class BoardChangeService {
+
+    public static final int RETENTION_DAYS = 14;
+    public static final int MAX_CHANGES = 500;
+
+    private final BoardChangeRepository boardChangeRepository;
+    private final BoardChangeVersionRepository boardChangeVersionRepository;
+    private final ApartmentRepository apartmentRepository;
+    private final ResponseCacheService responseCacheService;
+
+    public void boardCreated(final String apartCode, final Long boardId, final String boardType) {
+        record(apartCode, ChangeType.BOARD_CREATED, boardId, boardType, null);
+    }
+
+    public void boardUpdated(final String apartCode, final Long boardId, final String boardType) {
+        record(apartCode, ChangeType.BOARD_UPDATED, boardId, boardType, null);
+    }
+
+    public void boardDeleted(final String apartCode, final Long boardId, final String boardType) {
+        record(apartCode, ChangeType.BOARD_DELETED, boardId, boardType, null);
+    }
+
+    public void likeCountChanged(final String apartCode, final Long boardId, final String boardType, final int liked) {
+        record(apartCode, ChangeType.LIKE_COUNT, boardId, boardType, liked);
+    }
+
+    public void commentCountChanged(final String apartCode, final Long boardId, final String boardType, final long commentCounts) {
+        record(apartCode, ChangeType.COMMENT_COUNT, boardId, boardType, (int) commentCounts);
+    }
+
+    /**
+     * since 이후의 변경을 최대 MAX_CHANGES 개 읽어 게시글별로 합쳐 반환한다.
+     * since 이후의 변경이 이미 정리되었거나 since 가 현재 버전보다 크면 resyncRequired 를 반환한다.
+     * @param apartCode
+     * @param since 클라이언트가 마지막으로 받은 버전. 처음이면 0
+     * @return
+     */
+    @Transactional(readOnly = true)
+    public BoardChangesResponse findChangesSince(final String apartCode, final long since) {
+        final long currentVersion = findCurrentVersion(apartCode);
+        if (since > currentVersion || since < 0) {
+            return BoardChangesResponse.resync(currentVersion);
+        }
+        if (since == currentVersion) {
+            return new BoardChangesResponse(currentVersion, false, false, List.of());
+        }
+        final Long oldestVersion = boardChangeRepository.findOldestVersion(apartCode);
+        if (oldestVersion == null || oldestVersion > since + 1) {
+            return BoardChangesResponse.resync(currentVersion);
+        }
+
+        final List<BoardChange> changes = boardChangeRepository
+                .findChangesAfter(apartCode, since, PageRequest.of(0, MAX_CHANGES));
+        final Map<Long, BoardDeltaResponse> deltas = new LinkedHashMap<>();
+        for (BoardChange change : changes) {
+            deltas.computeIfAbsent(change.getBoardId(), BoardDeltaResponse::of).apply(change);
+        }
+        final long lastVersion = changes.isEmpty() ? since : changes.get(changes.size() - 1).getVersion();
+        return new BoardChangesResponse(lastVersion, lastVersion < currentVersion, false, new ArrayList<>(deltas.values()));
+    }
+
+    /**
+     * RETENTION_DAYS 일이 지난 변경 이력을 삭제한다.
+     * @return 삭제된 이력 수
+     */
+    public int prune() {
+        return boardChangeRepository.deleteChangesBefore(LocalDateTime.now().minusDays(RETENTION_DAYS));
+    }
+
+    private long findCurrentVersion(final String apartCode) {
+        final Long version = boardChangeVersionRepository.findVersion(apartCode).orElse(null);
+        if (version != null) {
+            return version;
+        }
+        if (!apartmentRepository.existsByCode(apartCode)) {
+            throw new ApartNonExistsException();
+        }
+        return 0L;
+    }
+
+    private void record(final String apartCode,
+                        final ChangeType changeType,
+                        final Long boardId,
+                        final String boardType,
+                        final Integer counts) {
+        pendingChanges().add(new PendingChange(apartCode, changeType, boardId, boardType, counts));
+        responseCacheService.invalidate(ResponseCacheService.apartTag(apartCode), ResponseCacheService.boardTag(boardId));
+    }
+
+    /**
+     * 현재 트랜잭션에 모아둔 변경. REQUIRES_NEW 로 새 트랜잭션이 열리면 바깥 트랜잭션의 synchronization 은 보류되므로 트랜잭션마다 따로 모인다.
+     */
+    private PendingChanges pendingChanges() {
+        for (TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+            if (synchronization instanceof PendingChanges pendingChanges && pendingChanges.owner() == this) {
+                return pendingChanges;
+            }
+        }
+        final PendingChanges pendingChanges = new PendingChanges(this);
+        TransactionSynchronizationManager.registerSynchronization(pendingChanges);
+        return pendingChanges;
+    }
+
+    /**
+     * 모아둔 변경을 아파트별로 버전을 발급해 저장한다. 버전은 (올린 뒤의 버전 - 개수 + 1) 부터 모은 순서대로 붙인다.
+     * @param changes
+     */
+    private void flush(final List<PendingChange> changes) {
+        final Map<String, List<PendingChange>> changesByApart = new LinkedHashMap<>();
+        for (PendingChange change : changes) {
+            changesByApart.computeIfAbsent(change.apartCode(), apartCode -> new ArrayList<>()).add(change);
+        }
+        final List<BoardChange> boardChanges = new ArrayList<>();
+        changesByApart.forEach((apartCode, apartChanges) -> {
+            boardChangeVersionRepository.increaseVersion(apartCode, apartChanges.size());
+            long version = boardChangeVersionRepository.findVersion(apartCode).orElseThrow() - apartChanges.size();
+            for (PendingChange change : apartChanges) {
+                boardChanges.add(BoardChange.builder()
+                        .apartCode(apartCode)
+                        .version(++version)
+                        .changeType(change.changeType())
+                        .boardId(change.boardId())
+                        .boardType(change.boardType())
+                        .counts(change.counts())
+                        .build());
+            }
+        });
+        boardChangeRepository.saveAll(boardChanges);
+    }
+
+    private record PendingChange(String apartCode, ChangeType changeType, Long boardId, String boardType, Integer counts) {
+
+        private boolean isCountChange() {
+            return changeType == ChangeType.LIKE_COUNT || changeType == ChangeType.COMMENT_COUNT;
+        }
+
+        private boolean replaces(final PendingChange previous) {
+            return isCountChange()
+                    && changeType == previous.changeType
+                    && Objects.equals(boardId, previous.boardId)
+                    && Objects.equals(apartCode, previous.apartCode);
+        }
+
+    }
+
+    private record PendingChanges(BoardChangeService owner, List<PendingChange> changes) implements TransactionSynchronization {
+
+        private PendingChanges(final BoardChangeService owner) {
+            this(owner, new ArrayList<>());
+        }
+
+        private void add(final PendingChange change) {
+            changes.removeIf(change::replaces);
+            changes.add(change);
+        }
+
+        @Override
+        public void beforeCommit(final boolean readOnly) {
+            if (!changes.isEmpty()) {
+                owner.flush(changes);
+            }
+        }
+
+    }
+
+}
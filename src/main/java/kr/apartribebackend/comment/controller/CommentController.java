@@ -21,6 +21,8 @@ import static org.springframework.http.HttpStatus.*;
 @RestController
 public class CommentController {
 
+    private static final int MAX_BEST_COMMENT_SIZE = 50;
+
     private final CommentService commentService;
 
     @ApartUser(checkApartment = false)
@@ -122,8 +124,12 @@ public class CommentController {
     }
 
     @GetMapping("/api/{apartId}/comment/best")
-    public APIResponse<List<BestCommentResponse>> bestCommentUntilLastWeek(@PathVariable final String apartId) {
-        final List<BestCommentResponse> bestCommentResponses = commentService.bestCommentRankViaLastWeek(apartId);
+    public APIResponse<List<BestCommentResponse>> bestCommentUntilLastWeek(
+            @PathVariable final String apartId,
+            @RequestParam(required = false, defaultValue = "10") final int size
+    ) {
+        final List<BestCommentResponse> bestCommentResponses =
+                commentService.bestCommentRankViaLastWeek(apartId, Math.min(Math.max(size, 1), MAX_BEST_COMMENT_SIZE));
         final APIResponse<List<BestCommentResponse>> apiResponse = APIResponse.SUCCESS(bestCommentResponses);
         return apiResponse;
     }
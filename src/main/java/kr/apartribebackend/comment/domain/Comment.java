@@ -3,12 +3,14 @@ package kr.apartribebackend.comment.domain;
 import jakarta.persistence.*;
 import kr.apartribebackend.article.domain.Board;
 import kr.apartribebackend.global.domain.BaseEntity;
+import kr.apartribebackend.global.domain.PooledIdGenerator;
 import kr.apartribebackend.likes.domain.CommentLiked;
 import kr.apartribebackend.member.domain.Member;
 import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.Hibernate;
 import org.hibernate.annotations.OnDelete;
 import org.hibernate.annotations.OnDeleteAction;
 
@@ -16,9 +18,27 @@ import java.util.*;
 
 @Getter @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Entity @Table(name = "COMMENT")
+@NamedEntityGraph(name = "Comment.withBoard", attributeNodes = @NamedAttributeNode("board"))
+@NamedEntityGraph(name = "Comment.withMember", attributeNodes = @NamedAttributeNode("member"))
+@NamedEntityGraph(name = "Comment.withBoardAndMember", attributeNodes = {
+        @NamedAttributeNode("board"), @NamedAttributeNode("member")
+})
+@NamedEntityGraph(name = "Comment.withBoardAndMemberAndApartment",
+        attributeNodes = {@NamedAttributeNode("board"), @NamedAttributeNode(value = "member", subgraph = "member")},
+        subgraphs = @NamedSubgraph(name = "member", attributeNodes = @NamedAttributeNode("apartment"))
+)
 public class Comment extends BaseEntity {
 
-    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Id
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "COMMENT_ID_GENERATOR")
+    @TableGenerator(
+            name = "COMMENT_ID_GENERATOR",
+            table = PooledIdGenerator.TABLE,
+            pkColumnName = PooledIdGenerator.PK_COLUMN,
+            valueColumnName = PooledIdGenerator.VALUE_COLUMN,
+            pkColumnValue = "COMMENT",
+            allocationSize = PooledIdGenerator.ALLOCATION_SIZE
+    )
     @Column(name = "COMMENT_ID")
     private Long id;
 
@@ -75,11 +95,21 @@ public class Comment extends BaseEntity {
 
     /////////////////////////////// BUSINESS LOGIC ///////////////////////////////
 
+    /**
+     * 연관관계의 주인(Comment.board) 만 설정한다. Board.comments 는 이미 초기화되어 있을 때만 동기화하여,
+     * 댓글 하나를 달기 위해 게시글의 모든 댓글을 로딩하지 않도록 한다.
+     * @param board
+     */
     public void registBoard(Board board) {
-        if (this.board != null)
+        if (this.board != null && isLoaded(this.board))
             this.board.getComments().remove(this);
         this.board = board;
-        board.getComments().add(this);
+        if (isLoaded(board))
+            board.getComments().add(this);
+    }
+
+    private static boolean isLoaded(Board board) {
+        return Hibernate.isInitialized(board) && Hibernate.isInitialized(board.getComments());
     }
 
     public void registParent(Comment parent) {
@@ -1,11 +1,19 @@
 package kr.apartribebackend.comment.dto;
 
+import kr.apartribebackend.member.domain.Member;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
 import lombok.Getter;
 
 @Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
 public class BestCommentResponse {
     private Long id;
     private String nickname;
     private String profileImage;
     private long commentCount;
+
+    public static BestCommentResponse of(final Member member, final long commentCount) {
+        return new BestCommentResponse(member.getId(), member.getNickname(), member.getProfileImageUrl(), commentCount);
+    }
 }
@@ -60,6 +60,18 @@ public class CommentDto {
                 .build();
     }
 
+    public static CommentDto from(Comment comment, MemberDto memberDto) {
+        return CommentDto.builder()
+                .id(comment.getId())
+                .content(comment.getContent())
+                .liked(comment.getLiked())
+                .board(comment.getBoard())
+                .memberDto(memberDto)
+                .createdBy(comment.getCreatedBy())
+                .createdAt(comment.getCreatedAt())
+                .build();
+    }
+
     public Comment toEntity(Member member, Board board) {
         return Comment.builder()
                 .id(id)
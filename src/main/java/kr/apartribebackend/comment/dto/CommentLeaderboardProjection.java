@@ -0,0 +1,9 @@
+package kr.apartribebackend.comment.dto;
+
+import java.time.LocalDateTime;
+
+public record CommentLeaderboardProjection(
+        String apartCode,
+        Long memberId,
+        LocalDateTime createdAt
+) { }
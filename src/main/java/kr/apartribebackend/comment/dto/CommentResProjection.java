@@ -1,5 +1,6 @@
 package kr.apartribebackend.comment.dto;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
@@ -16,6 +17,7 @@ public class CommentResProjection {
     private Long commentId;
     private String content;
     private Integer liked;
+    @JsonIgnore private Long memberId;
     private String profileImage;
     private boolean memberLiked;
     private boolean memberCreated;
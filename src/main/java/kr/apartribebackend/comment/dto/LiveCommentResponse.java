@@ -0,0 +1,23 @@
+package kr.apartribebackend.comment.dto;
+
+import java.time.LocalDateTime;
+
+public record LiveCommentResponse(
+        Long commentId,
+        Long parentId,
+        String content,
+        String createdBy,
+        String profileImage,
+        LocalDateTime createdAt
+) {
+    public static LiveCommentResponse from(CommentDto commentDto, Long parentId) {
+        return new LiveCommentResponse(
+                commentDto.getId(),
+                parentId,
+                commentDto.getContent(),
+                commentDto.getCreatedBy(),
+                commentDto.getMemberDto().getProfileImageUrl(),
+                commentDto.getCreatedAt()
+        );
+    }
+}
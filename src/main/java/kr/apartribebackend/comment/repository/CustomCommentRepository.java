@@ -2,18 +2,21 @@ package kr.apartribebackend.comment.repository;
 
 
 import kr.apartribebackend.comment.domain.Comment;
-import kr.apartribebackend.comment.dto.BestCommentResponse;
 import kr.apartribebackend.comment.dto.CommentCountRes;
+import kr.apartribebackend.comment.dto.CommentLeaderboardProjection;
 import kr.apartribebackend.comment.dto.CommentResProjection;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
 public interface CustomCommentRepository {
 
-    List<BestCommentResponse> bestCommentRankViaLastWeek(final String apartCode);
+    List<CommentLeaderboardProjection> findCommentLeaderboardSourcesSince(final LocalDateTime from);
 
-    List<CommentResProjection> findCommentsByBoardId(final Long memberId, final Long boardId);
+    List<CommentLeaderboardProjection> findCommentLeaderboardSourcesInCommentIds(final List<Long> commentIds, final LocalDateTime from);
+
+    List<CommentResProjection> findCommentsByBoardId(final Long boardId);
 
     Optional<Comment> findCommentForApartId(final String apartId, final Long boardId, final Long commentId);
 
@@ -2,13 +2,11 @@ package kr.apartribebackend.comment.repository;
 
 import com.querydsl.core.types.Projections;
 import com.querydsl.core.types.dsl.BooleanExpression;
-import com.querydsl.core.types.dsl.Expressions;
 import com.querydsl.core.types.dsl.Wildcard;
-import com.querydsl.jpa.JPAExpressions;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import kr.apartribebackend.comment.domain.Comment;
-import kr.apartribebackend.comment.dto.BestCommentResponse;
 import kr.apartribebackend.comment.dto.CommentCountRes;
+import kr.apartribebackend.comment.dto.CommentLeaderboardProjection;
 import kr.apartribebackend.comment.dto.CommentResProjection;
 import lombok.RequiredArgsConstructor;
 import org.springframework.util.StringUtils;
@@ -19,7 +17,6 @@ import java.util.*;
 import static kr.apartribebackend.apart.domain.QApartment.*;
 import static kr.apartribebackend.article.domain.QBoard.board;
 import static kr.apartribebackend.comment.domain.QComment.*;
-import static kr.apartribebackend.likes.domain.QCommentLiked.*;
 import static kr.apartribebackend.member.domain.QMember.*;
 
 @RequiredArgsConstructor
@@ -38,7 +35,7 @@ public class CustomCommentRepositoryImpl implements CustomCommentRepository {
     }
 
     @Override
-    public List<CommentResProjection> findCommentsByBoardId(final Long memberId, final Long boardId) {
+    public List<CommentResProjection> findCommentsByBoardId(final Long boardId) {
         final List<CommentResProjection> commentResProjections =
                 jpaQueryFactory
                         .select(Projections.fields(CommentResProjection.class,
@@ -46,26 +43,8 @@ public class CustomCommentRepositoryImpl implements CustomCommentRepository {
                                 comment.id.as("commentId"),
                                 comment.content.as("content"),
                                 comment.liked.as("liked"),
+                                member.id.as("memberId"),
                                 member.profileImageUrl.as("profileImage"),
-                                Expressions.as(
-                                        JPAExpressions
-                                                .select(commentLiked)
-                                                .from(commentLiked)
-                                                .where(
-                                                        commentLiked.member.id.eq(memberId),
-                                                        commentLiked.comment.id.eq(comment.id)
-                                                )
-                                                .exists(),
-                                        "memberLiked"
-                                ),
-                                Expressions.as(
-                                        JPAExpressions
-                                                .select(comment)
-                                                .from(comment)
-                                                .where(member.id.eq(memberId))
-                                                .exists(),
-                                        "memberCreated"
-                                ),
                                 comment.children.size().as("childCounts"),
                                 comment.createdAt.as("createdAt"),
                                 comment.createdBy.as("createdBy")))
@@ -94,22 +73,39 @@ public class CustomCommentRepositoryImpl implements CustomCommentRepository {
     }
 
     @Override
-    public List<BestCommentResponse> bestCommentRankViaLastWeek(final String apartCode) {
+    public List<CommentLeaderboardProjection> findCommentLeaderboardSourcesSince(final LocalDateTime from) {
         return jpaQueryFactory
-                .select(Projections.fields(
-                        BestCommentResponse.class,
-                        member.id.as("id"),
-                        member.nickname.as("nickname"),
-                        member.profileImageUrl.as("profileImage"),
-                        comment.count().as("commentCount")))
+                .select(Projections.constructor(
+                        CommentLeaderboardProjection.class,
+                        apartment.code,
+                        comment.member.id,
+                        comment.createdAt))
                 .from(comment)
-                .innerJoin(comment.member, member)
-                .innerJoin(member.apartment, apartment)
+                .innerJoin(comment.board, board)
+                .innerJoin(board.apartment, apartment)
+                .where(comment.createdAt.goe(from))
+                .fetch();
+    }
+
+    @Override
+    public List<CommentLeaderboardProjection> findCommentLeaderboardSourcesInCommentIds(final List<Long> commentIds,
+                                                                                       final LocalDateTime from) {
+        if (commentIds.isEmpty()) {
+            return List.of();
+        }
+        return jpaQueryFactory
+                .select(Projections.constructor(
+                        CommentLeaderboardProjection.class,
+                        apartment.code,
+                        comment.member.id,
+                        comment.createdAt))
+                .from(comment)
+                .innerJoin(comment.board, board)
+                .innerJoin(board.apartment, apartment)
                 .where(
-                        comment.createdAt.after(LocalDateTime.now().minusDays(7)),
-                        apartment.code.eq(apartCode)
+                        comment.id.in(commentIds),
+                        comment.createdAt.goe(from)
                 )
-                .groupBy(member.nickname).orderBy(comment.count().desc())
                 .fetch();
     }
 
@@ -0,0 +1,248 @@
+package kr.apartribebackend.comment.service;
+
+import kr.apartribebackend.comment.domain.Comment;
+import kr.apartribebackend.comment.dto.BestCommentResponse;
+import kr.apartribebackend.comment.dto.CommentLeaderboardProjection;
+import kr.apartribebackend.comment.repository.CommentRepository;
+import kr.apartribebackend.member.domain.Member;
+import kr.apartribebackend.member.repository.MemberRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 아파트별 최근 WINDOW_DAYS 일 댓글 작성 순위. 아파트는 댓글이 달린 게시글의 아파트 기준이다.
+ * 아파트마다 (날짜 → 회원별 댓글 수) 일별 버킷과 그 합인 주간 댓글 수를 메모리에 두고, 댓글 등록 / 삭제가 커밋되면 해당 날짜 버킷과 주간 합을 함께 증감한다.
+ * 날짜가 바뀌면 가장 오래된 버킷을 주간 합에서 빼고 버린다. 주간 합은 댓글 수 순으로 정렬된 상태로 유지되므로 상위 N 명은 앞에서 N 개만 읽으면 된다.
+ * 애플리케이션 시작 시 DB 의 최근 WINDOW_DAYS 일 댓글로 다시 만든다. 다시 만드는 동안 커밋된 증감은 버퍼에 모아 두었다가 새 순위로 교체한 뒤 반영한다.
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Service
+public class CommentLeaderboardService {
+
+    public static final int WINDOW_DAYS = 7;
+
+    private final CommentRepository commentRepository;
+    private final MemberRepository memberRepository;
+
+    private volatile Map<String, ApartLeaderboard> leaderboards = new ConcurrentHashMap<>();
+    private volatile LocalDate today = LocalDate.now();
+    private List<Runnable> pendingDuringRebuild;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        synchronized (this) {
+            pendingDuringRebuild = new ArrayList<>();
+        }
+        try {
+            final LocalDate rebuildDay = LocalDate.now();
+            final LocalDateTime from = firstDayOf(rebuildDay).atStartOfDay();
+            final List<CommentLeaderboardProjection> comments = commentRepository.findCommentLeaderboardSourcesSince(from);
+            final Map<String, ApartLeaderboard> rebuilt = new ConcurrentHashMap<>();
+            for (CommentLeaderboardProjection comment : comments) {
+                rebuilt.computeIfAbsent(comment.apartCode(), apartCode -> new ApartLeaderboard())
+                        .add(comment.createdAt().toLocalDate(), comment.memberId(), 1);
+            }
+            log.info("Rebuilt Comment Leaderboard of {} Apartments from {} Comments", rebuilt.size(), comments.size());
+            synchronized (this) {
+                today = rebuildDay;
+                leaderboards = rebuilt;
+            }
+        } finally {
+            final List<Runnable> pending;
+            synchronized (this) {
+                pending = pendingDuringRebuild;
+                pendingDuringRebuild = null;
+            }
+            pending.forEach(Runnable::run);
+        }
+    }
+
+    /**
+     * 댓글 등록이 커밋된 후 순위에 반영한다.
+     * @param apartCode 댓글이 달린 게시글의 아파트 코드
+     * @param memberId
+     * @param createdAt
+     */
+    public void increment(final String apartCode, final Long memberId, final LocalDateTime createdAt) {
+        afterCommit(() -> apply(apartCode, memberId, createdAt, 1));
+    }
+
+    public void decrement(final String apartCode, final Long memberId, final LocalDateTime createdAt) {
+        afterCommit(() -> apply(apartCode, memberId, createdAt, -1));
+    }
+
+    /**
+     * 게시글이 삭제되며 함께 지워진 댓글들을 커밋된 후 순위에서 뺀다.
+     * @param apartCode 게시글의 아파트 코드
+     * @param comments
+     */
+    public void decrementAll(final String apartCode, final List<Comment> comments) {
+        decrementAll(comments.stream()
+                .map(comment -> new CommentLeaderboardProjection(apartCode, comment.getMember().getId(), comment.getCreatedAt()))
+                .toList());
+    }
+
+    /**
+     * 회원 탈퇴 등으로 함께 지워진 댓글들을 커밋된 후 순위에서 뺀다.
+     * @param comments
+     */
+    public void decrementAll(final List<CommentLeaderboardProjection> comments) {
+        if (comments.isEmpty()) {
+            return;
+        }
+        afterCommit(() -> comments.forEach(comment -> apply(comment.apartCode(), comment.memberId(), comment.createdAt(), -1)));
+    }
+
+    /**
+     * 순위에 반영되는 가장 이른 댓글 작성 시각. 이보다 먼저 작성된 댓글의 증감은 무시된다.
+     * @return
+     */
+    public LocalDateTime windowStart() {
+        return firstDayOf(LocalDate.now()).atStartOfDay();
+    }
+
+    /**
+     * 날짜가 바뀌었다면 기간을 벗어난 일별 버킷을 버린다. 자정 스케줄러와 매 조회 / 갱신 시 호출된다.
+     */
+    public void roll() {
+        final LocalDate now = LocalDate.now();
+        if (!now.isAfter(today)) {
+            return;
+        }
+        synchronized (this) {
+            if (!now.isAfter(today)) {
+                return;
+            }
+            final LocalDate firstDay = firstDayOf(now);
+            leaderboards.values().forEach(leaderboard -> leaderboard.evictBefore(firstDay));
+            today = now;
+        }
+    }
+
+    /**
+     * 아파트의 최근 WINDOW_DAYS 일 댓글 작성 상위 size 명.
+     * @param apartCode
+     * @param size
+     * @return
+     */
+    public List<BestCommentResponse> top(final String apartCode, final int size) {
+        roll();
+        final ApartLeaderboard leaderboard = leaderboards.get(apartCode);
+        if (leaderboard == null) {
+            return List.of();
+        }
+        final List<Rank> ranks = leaderboard.top(size);
+        final Map<Long, Member> members = memberRepository.findAllById(ranks.stream().map(Rank::memberId).toList())
+                .stream()
+                .collect(Collectors.toMap(Member::getId, Function.identity()));
+        return ranks.stream()
+                .filter(rank -> members.containsKey(rank.memberId()))
+                .map(rank -> BestCommentResponse.of(members.get(rank.memberId()), rank.commentCount()))
+                .toList();
+    }
+
+    private void apply(final String apartCode, final Long memberId, final LocalDateTime createdAt, final long delta) {
+        synchronized (this) {
+            if (pendingDuringRebuild != null) {
+                pendingDuringRebuild.add(() -> apply(apartCode, memberId, createdAt, delta));
+                return;
+            }
+        }
+        roll();
+        final LocalDate day = createdAt.toLocalDate();
+        if (day.isBefore(firstDayOf(today))) {
+            return;
+        }
+        leaderboards.computeIfAbsent(apartCode, key -> new ApartLeaderboard()).add(day, memberId, delta);
+    }
+
+    private static LocalDate firstDayOf(final LocalDate day) {
+        return day.minusDays(WINDOW_DAYS - 1);
+    }
+
+    private void afterCommit(final Runnable runnable) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            runnable.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                runnable.run();
+            }
+        });
+    }
+
+    /**
+     * 한 아파트의 일별 버킷과 주간 합. 주간 합은 ranking(댓글 수 내림차순, 회원 ID 오름차순) 에도 같이 담아 정렬 상태를 유지한다.
+     */
+    static final class ApartLeaderboard {
+
+        private static final Comparator<Rank> RANK_ORDER = Comparator.comparingLong(Rank::commentCount).reversed()
+                .thenComparing(Rank::memberId);
+
+        private final NavigableMap<LocalDate, Map<Long, Long>> dailyCounts = new TreeMap<>();
+        private final Map<Long, Long> weeklyCounts = new HashMap<>();
+        private final TreeSet<Rank> ranking = new TreeSet<>(RANK_ORDER);
+
+        synchronized void add(final LocalDate day, final Long memberId, final long delta) {
+            final Map<Long, Long> dailyCount = dailyCounts.computeIfAbsent(day, key -> new HashMap<>());
+            final long current = dailyCount.getOrDefault(memberId, 0L);
+            final long updated = Math.max(0, current + delta);
+            if (updated == current) {
+                return;
+            }
+            if (updated == 0) {
+                dailyCount.remove(memberId);
+            } else {
+                dailyCount.put(memberId, updated);
+            }
+            changeWeeklyCount(memberId, updated - current);
+        }
+
+        synchronized void evictBefore(final LocalDate firstDay) {
+            final Map<LocalDate, Map<Long, Long>> expired = dailyCounts.headMap(firstDay);
+            expired.values().forEach(dailyCount -> dailyCount.forEach((memberId, count) -> changeWeeklyCount(memberId, -count)));
+            expired.clear();
+        }
+
+        synchronized List<Rank> top(final int size) {
+            final List<Rank> top = new ArrayList<>(Math.min(size, ranking.size()));
+            final Iterator<Rank> iterator = ranking.iterator();
+            while (top.size() < size && iterator.hasNext()) {
+                top.add(iterator.next());
+            }
+            return top;
+        }
+
+        private void changeWeeklyCount(final Long memberId, final long delta) {
+            final Long current = weeklyCounts.get(memberId);
+            if (current != null) {
+                ranking.remove(new Rank(memberId, current));
+            }
+            final long updated = (current == null ? 0 : current) + delta;
+            if (updated > 0) {
+                weeklyCounts.put(memberId, updated);
+                ranking.add(new Rank(memberId, updated));
+            } else {
+                weeklyCounts.remove(memberId);
+            }
+        }
+    }
+
+    record Rank(Long memberId, long commentCount) { }
+
+}
@@ -1,25 +1,35 @@
 package kr.apartribebackend.comment.service;
 
 import kr.apartribebackend.article.domain.Board;
+import kr.apartribebackend.article.exception.ArticleNotFoundException;
+import kr.apartribebackend.article.exception.NotApartUserBoardException;
 import kr.apartribebackend.article.repository.BoardRepository;
+import kr.apartribebackend.article.service.HotBoardService;
+import kr.apartribebackend.change.service.BoardChangeService;
 import kr.apartribebackend.comment.domain.Comment;
 import kr.apartribebackend.comment.dto.*;
 import kr.apartribebackend.comment.eception.*;
 import kr.apartribebackend.comment.repository.CommentRepository;
+import kr.apartribebackend.global.service.ApproximateCountService;
+import kr.apartribebackend.global.service.LiveEventService;
 import kr.apartribebackend.likes.domain.CommentLiked;
 import kr.apartribebackend.likes.dto.CommentLikedRes;
 import kr.apartribebackend.likes.exception.CantLikeToBoardCauseBoardIsApartUserOnlyException;
 import kr.apartribebackend.likes.exception.CantLikeToCommentCauseBoardIsApartUserOnlyException;
 import kr.apartribebackend.likes.repository.CommentLikedRepository;
 import kr.apartribebackend.likes.service.LikeService;
+import kr.apartribebackend.likes.service.MemberLikeIndexService;
 import kr.apartribebackend.member.domain.Member;
 import kr.apartribebackend.member.dto.MemberDto;
+import kr.apartribebackend.member.repository.MemberRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
 
 @Transactional
 @RequiredArgsConstructor
@@ -30,6 +40,13 @@ public class CommentService {
     private final BoardRepository boardRepository;
     private final LikeService likeService;
     private final CommentLikedRepository commentLikedRepository;
+    private final MemberRepository memberRepository;
+    private final ApproximateCountService approximateCountService;
+    private final CommentLeaderboardService commentLeaderboardService;
+    private final HotBoardService hotBoardService;
+    private final LiveEventService liveEventService;
+    private final BoardChangeService boardChangeService;
+    private final MemberLikeIndexService memberLikeIndexService;
 
     public CommentDto appendCommentToBoard(final String apartCode,
                                            final MemberDto memberDto,
@@ -38,14 +55,22 @@ public class CommentService {
         final Board board = boardRepository.findBoardWithMemberAndApartmentForApartId(apartCode, boardId)
                 .orElseThrow(CannotApplyCommentException::new);
         if (board.isOnlyApartUser()) {
-            if (!board.getMember().getApartment().getCode().equals(memberDto.getApartmentDto().getCode())) {
+            if (!board.getApartment().getCode().equals(memberDto.getApartmentDto().getCode())) {
                 throw new CantApplyCommentToBoardCauseBoardIsApartUserOnlyException();
             }
         }
-        final Comment comment = commentDto.toEntity(memberDto.toEntity(), board);
+        final Comment comment = commentDto.toEntity(memberRepository.getReferenceById(memberDto.getId()), board);
         comment.registBoard(board);
         final Comment savedComment = commentRepository.save(comment);
-        return CommentDto.from(savedComment, memberDto.toEntity());
+        approximateCountService.incrementComment(memberDto.getId());
+        commentLeaderboardService.increment(board.getApartment().getCode(), memberDto.getId(), savedComment.getCreatedAt());
+        hotBoardService.recordComment(board.getApartment().getCode(), board.getId());
+        boardChangeService.commentCountChanged(board.getApartment().getCode(), board.getId(), board.getBoardType(),
+                commentRepository.countByBoardId(board.getId()));
+        final CommentDto savedCommentDto = CommentDto.from(savedComment, memberDto);
+        liveEventService.publishCommentCreated(board.getApartment().getCode(), board.getId(), savedComment.getId(),
+                LiveCommentResponse.from(savedCommentDto, null));
+        return savedCommentDto;
     }
 
     public CommentDto appendCommentReplyToBoard(final MemberDto memberDto,
@@ -64,19 +89,43 @@ public class CommentService {
                 throw new CantApplyCommentReplyToBoardCauseBoardIsApartUserOnlyException();
             }
         }
-        final Comment comment = commentDto.toEntity(memberDto.toEntity(), board);
+        final Comment comment = commentDto.toEntity(memberRepository.getReferenceById(memberDto.getId()), board);
         comment.registParent(boardComment);
         comment.registBoard(board);
         final Comment savedComment = commentRepository.save(comment);
-        return CommentDto.from(savedComment, memberDto.toEntity());
+        approximateCountService.incrementComment(memberDto.getId());
+        commentLeaderboardService.increment(board.getApartment().getCode(), memberDto.getId(), savedComment.getCreatedAt());
+        hotBoardService.recordComment(board.getApartment().getCode(), board.getId());
+        boardChangeService.commentCountChanged(board.getApartment().getCode(), board.getId(), board.getBoardType(),
+                commentRepository.countByBoardId(board.getId()));
+        final CommentDto savedCommentDto = CommentDto.from(savedComment, memberDto);
+        liveEventService.publishCommentCreated(board.getApartment().getCode(), board.getId(), savedComment.getId(),
+                LiveCommentResponse.from(savedCommentDto, boardComment.getId()));
+        return savedCommentDto;
     }
 
-    public List<BestCommentResponse> bestCommentRankViaLastWeek(final String apartCode) {
-        return commentRepository.bestCommentRankViaLastWeek(apartCode);
+    public List<BestCommentResponse> bestCommentRankViaLastWeek(final String apartCode, final int size) {
+        return commentLeaderboardService.top(apartCode, size);
     }
 
+    /**
+     * 게시글의 댓글 / 대댓글 조회. 댓글마다 좋아요 / 작성 여부를 서브쿼리로 조회하지 않고, 좋아요 여부는 MemberLikeIndexService 에서, 작성 여부는 작성자 ID 로 채운다.
+     * @param memberDto
+     * @param boardId
+     * @return
+     */
     public List<CommentResProjection> findCommentsByBoardId(final MemberDto memberDto, final Long boardId) {
-        return commentRepository.findCommentsByBoardId(memberDto.getId(), boardId);
+        final List<CommentResProjection> comments = commentRepository.findCommentsByBoardId(boardId);
+        markMemberFlags(memberDto.getId(), comments);
+        return comments;
+    }
+
+    private void markMemberFlags(final Long memberId, final List<CommentResProjection> comments) {
+        for (CommentResProjection comment : comments) {
+            comment.setMemberLiked(memberLikeIndexService.isCommentLiked(memberId, comment.getCommentId()));
+            comment.setMemberCreated(Objects.equals(memberId, comment.getMemberId()));
+            markMemberFlags(memberId, comment.getChildren());
+        }
     }
 
     public CommentCountRes totalCountsForBoardComments(final MemberDto memberDto, final Long boardId) {
@@ -115,7 +164,7 @@ public class CommentService {
         if (commentLiked != null) {
             return likeService.decreaseLikesToComment(commentLiked, comment);
         }
-        return likeService.increaseLikesToComment(memberDto.toEntity(), comment);
+        return likeService.increaseLikesToComment(memberRepository.getReferenceById(memberDto.getId()), comment);
     }
 
     public void deleteCommentForBoard(final MemberDto memberDto, final Long boardId, final Long commentId) {
@@ -125,6 +174,7 @@ public class CommentService {
             throw new CantDeleteCommentCauseInvalidMemberException();
         }
 
+        final String apartCode = boardComment.getBoard().getApartment().getCode();
         ArrayList<CommentLiked> futureDeletedCommentLikedList = new ArrayList<>();
         ArrayList<Comment> futureDeletedCommentList = new ArrayList<>();
         if (boardComment.getParent() == null) { // 부모댓글일때
@@ -140,6 +190,10 @@ public class CommentService {
             commentLikedRepository.deleteAllInBatch(futureDeletedCommentLikedList);                 // 쌓여진 좋아요들을 모두 삭제
             commentRepository.deleteAllInBatch(futureDeletedCommentList);                           // 쌓여진 댓글을 모두 삭제
             commentRepository.delete(boardComment);                                                 // 부모 댓글 삭제
+            futureDeletedCommentList.forEach(reply -> {
+                approximateCountService.decrementComment(reply.getMember().getId());
+                commentLeaderboardService.decrement(apartCode, reply.getMember().getId(), reply.getCreatedAt());
+            });
         } else {                                // 대댓글일때
             if (!boardComment.getCommentLikedList().isEmpty()) {                                    // 대댓글에 좋아요가 있으면
                 futureDeletedCommentLikedList.addAll(boardComment.getCommentLikedList());           // 좋아요 삭제리스트에 대댓글의 좋아요들을 넣고
@@ -147,5 +201,29 @@ public class CommentService {
             commentLikedRepository.deleteAllInBatch(futureDeletedCommentLikedList);                 // 쌓여진 좋아요들을 모두 삭제
             commentRepository.delete(boardComment);                                                 // 대댓글 삭제
         }
+        approximateCountService.decrementComment(memberDto.getId());
+        commentLeaderboardService.decrement(apartCode, memberDto.getId(), boardComment.getCreatedAt());
+        liveEventService.publishCommentDeleted(apartCode, boardId, commentId, futureDeletedCommentList.size() + 1);
+        boardChangeService.commentCountChanged(apartCode, boardId, boardComment.getBoard().getBoardType(),
+                commentRepository.countByBoardId(boardId));
+    }
+
+    /**
+     * 게시글의 실시간 이벤트(댓글 등록 / 삭제, 좋아요 수) 를 구독한다. 아파트 전용 게시글은 같은 아파트 회원만 구독할 수 있다.
+     * @param apartCode
+     * @param memberDto
+     * @param boardId
+     * @return
+     */
+    @Transactional(readOnly = true)
+    public SseEmitter subscribeBoardEvents(final String apartCode, final MemberDto memberDto, final Long boardId) {
+        final Board board = boardRepository.findBoardWithMemberAndApartmentForApartId(apartCode, boardId)
+                .orElseThrow(ArticleNotFoundException::new);
+        if (board.isOnlyApartUser()) {
+            if (!board.getApartment().getCode().equals(memberDto.getApartmentDto().getCode())) {
+                throw new NotApartUserBoardException();
+            }
+        }
+        return liveEventService.subscribeBoard(boardId);
     }
 }
@@ -1,8 +1,13 @@
 package kr.apartribebackend.global.config;
 
+import kr.apartribebackend.article.domain.Board;
 import kr.apartribebackend.article.domain.RecruitStatus;
 import kr.apartribebackend.article.domain.Together;
+import kr.apartribebackend.article.repository.BoardRepository;
 import kr.apartribebackend.article.repository.together.TogetherRepository;
+import kr.apartribebackend.article.service.HotBoardService;
+import kr.apartribebackend.attachment.service.AttachmentService;
+import kr.apartribebackend.change.service.BoardChangeService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.batch.core.*;
@@ -13,11 +18,14 @@ import org.springframework.batch.core.job.builder.JobBuilder;
 import org.springframework.batch.core.launch.support.RunIdIncrementer;
 import org.springframework.batch.core.repository.JobRepository;
 import org.springframework.batch.core.step.builder.StepBuilder;
+import org.springframework.batch.core.step.tasklet.Tasklet;
+import org.springframework.batch.item.ExecutionContext;
 import org.springframework.batch.item.ItemProcessor;
 import org.springframework.batch.item.ItemReader;
 import org.springframework.batch.item.ItemWriter;
 import org.springframework.batch.item.data.RepositoryItemReader;
 import org.springframework.batch.item.data.builder.RepositoryItemReaderBuilder;
+import org.springframework.batch.repeat.RepeatStatus;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.domain.Sort;
@@ -25,8 +33,10 @@ import org.springframework.transaction.PlatformTransactionManager;
 
 import java.lang.reflect.Constructor;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.Collections;
 import java.util.List;
+import java.util.function.ToIntBiFunction;
 
 // TODO 왜 애플리케이션 실행 시, 자동으로 Batch Table 들이 생기지 않는지는 아직 모르겠다.
 //  임시방편으로 org.springframework.batch.core 에서 각 db 에 맞는 스크립트 파일 찾아서
@@ -40,6 +50,15 @@ public class BatchJobConfig {
     private final JobRepository jobRepository;
     private final PlatformTransactionManager platformTransactionManager;
     private final TogetherRepository togetherRepository;
+    private final BoardRepository boardRepository;
+    private final HotBoardService hotBoardService;
+    private final BoardChangeService boardChangeService;
+    private final AttachmentService attachmentService;
+
+    private static final long BACKFILL_BOARD_ID_RANGE = 1000L;
+    private static final String BACKFILL_LAST_BOARD_ID = "lastBoardId";
+    private static final String BACKFILL_FROM_ID = "fromId";
+    private static final String BACKFILL_TO_ID = "toId";
 
     @Bean
     public Job updateRecruitStatusJob(Step updateRecruitStatusStep) {
@@ -94,6 +113,215 @@ public class BatchJobConfig {
         return chunk -> togetherRepository.updateRecruitStatusByRecruitTo(RecruitStatus.END, LocalDate.now());
     }
 
+    /**
+     * BOARD.APART_ID 역정규화 이전에 작성된 게시글들의 아파트를 작성자 기준으로 채워넣는 Job.
+     * 게시글 ID 를 BACKFILL_BOARD_ID_RANGE 단위로 잘라 구간마다 커밋하며, 마지막으로 처리한 ID 를 ExecutionContext 에 남긴다.
+     * spring.batch.job.name=backfillBoardApartmentJob 과 함께 처리할 ID 구간 fromId(1), toId(실행 시점의 최대 게시글 ID) 를 Job Parameter 로 실행한다.
+     * RunIdIncrementer 를 쓰지 않으므로 같은 Job Parameter 로 다시 실행하면 실패한 JobInstance 가 재시작되어 다음 구간부터 이어서 처리하고,
+     * 이미 완료된 구간이면 실행이 거부된다. 새로 쌓인 게시글은 다른 구간을 지정해 실행한다.
+     * @param backfillBoardApartmentStep
+     * @return
+     */
+    @Bean
+    public Job backfillBoardApartmentJob(Step backfillBoardApartmentStep) {
+        return new JobBuilder("backfillBoardApartmentJob", jobRepository)
+                .start(backfillBoardApartmentStep)
+                .listener(new JobLoggerListener())
+                .build();
+    }
+
+    @JobScope
+    @Bean
+    public Step backfillBoardApartmentStep(Tasklet backfillBoardApartmentTasklet) {
+        return new StepBuilder("backfillBoardApartmentStep", jobRepository)
+                .tasklet(backfillBoardApartmentTasklet, platformTransactionManager)
+                .build();
+    }
+
+    @Bean
+    @StepScope
+    public Tasklet backfillBoardApartmentTasklet() {
+        return boardIdRangeTasklet("Apartment", boardRepository::backfillApartmentByBoardIdRange);
+    }
+
+    /**
+     * EXCERPT 컬럼 추가 이전에 작성된 게시글들의 본문 요약을 채워넣는 Job.
+     * 요약은 Java 에서 계산해야 하므로 구간별로 게시글을 읽어 renewExcerpt() 후 Dirty Checking 으로 반영한다.
+     * 실행 방법과 재시작 방식은 backfillBoardApartmentJob 과 같다. (spring.batch.job.name=backfillBoardExcerptJob)
+     * @param backfillBoardExcerptStep
+     * @return
+     */
+    @Bean
+    public Job backfillBoardExcerptJob(Step backfillBoardExcerptStep) {
+        return new JobBuilder("backfillBoardExcerptJob", jobRepository)
+                .start(backfillBoardExcerptStep)
+                .listener(new JobLoggerListener())
+                .build();
+    }
+
+    @JobScope
+    @Bean
+    public Step backfillBoardExcerptStep(Tasklet backfillBoardExcerptTasklet) {
+        return new StepBuilder("backfillBoardExcerptStep", jobRepository)
+                .tasklet(backfillBoardExcerptTasklet, platformTransactionManager)
+                .build();
+    }
+
+    @Bean
+    @StepScope
+    public Tasklet backfillBoardExcerptTasklet() {
+        return boardIdRangeTasklet("Excerpt", (fromId, toId) -> {
+            final List<Board> boards = boardRepository.findBoardsWithoutExcerptByBoardIdRange(fromId, toId);
+            boards.forEach(Board::renewExcerpt);
+            return boards.size();
+        });
+    }
+
+    /**
+     * 최근 HotBoardService.RECOMPUTE_DAYS 일 동안 작성된 게시글의 좋아요 / 댓글 / 조회수로 아파트별 인기 게시글을 다시 만드는 Job.
+     * 이벤트로 누적된 점수의 유실이나 오차를 바로잡고 감쇠 기준 시각을 현재로 옮긴다. RecomputeHotBoardsTask 가 주기적으로 실행한다.
+     * @param recomputeHotBoardsStep
+     * @return
+     */
+    @Bean
+    public Job recomputeHotBoardsJob(Step recomputeHotBoardsStep) {
+        return new JobBuilder("recomputeHotBoardsJob", jobRepository)
+                .incrementer(new RunIdIncrementer())
+                .start(recomputeHotBoardsStep)
+                .listener(new JobLoggerListener())
+                .build();
+    }
+
+    @JobScope
+    @Bean
+    public Step recomputeHotBoardsStep(Tasklet recomputeHotBoardsTasklet) {
+        return new StepBuilder("recomputeHotBoardsStep", jobRepository)
+                .tasklet(recomputeHotBoardsTasklet, platformTransactionManager)
+                .build();
+    }
+
+    @Bean
+    @StepScope
+    public Tasklet recomputeHotBoardsTasklet() {
+        return (contribution, chunkContext) -> {
+            final LocalDateTime from = LocalDateTime.now().minusDays(HotBoardService.RECOMPUTE_DAYS);
+            final int recomputedCount = hotBoardService.recompute(() -> boardRepository.findHotBoardSourcesSince(from));
+            contribution.incrementWriteCount(recomputedCount);
+            return RepeatStatus.FINISHED;
+        };
+    }
+
+    /**
+     * 보관 기간(BoardChangeService.RETENTION_DAYS) 이 지난 게시글 변경 이력을 삭제하는 Job. PruneBoardChangeTask 가 매일 실행한다.
+     * 정리된 버전 이후부터 이어받으려는 클라이언트에게는 resyncRequired 가 반환된다.
+     * @param pruneBoardChangeStep
+     * @return
+     */
+    @Bean
+    public Job pruneBoardChangeJob(Step pruneBoardChangeStep) {
+        return new JobBuilder("pruneBoardChangeJob", jobRepository)
+                .incrementer(new RunIdIncrementer())
+                .start(pruneBoardChangeStep)
+                .listener(new JobLoggerListener())
+                .build();
+    }
+
+    @JobScope
+    @Bean
+    public Step pruneBoardChangeStep(Tasklet pruneBoardChangeTasklet) {
+        return new StepBuilder("pruneBoardChangeStep", jobRepository)
+                .tasklet(pruneBoardChangeTasklet, platformTransactionManager)
+                .build();
+    }
+
+    @Bean
+    @StepScope
+    public Tasklet pruneBoardChangeTasklet() {
+        return (contribution, chunkContext) -> {
+            final int deletedCount = boardChangeService.prune();
+            contribution.incrementWriteCount(deletedCount);
+            log.info("Pruned Board Changes : {}", deletedCount);
+            return RepeatStatus.FINISHED;
+        };
+    }
+
+    /**
+     * 유예 기간 동안 참조되지 않은 첨부파일 내용과 저장소의 객체를 지우는 Job. SweepAttachmentContentTask 가 매일 실행한다.
+     * AttachmentService.SWEEP_BATCH_SIZE 개씩 구간마다 커밋하며, 한 번에 다 지우지 못하면 이어서 반복한다.
+     * @param sweepAttachmentContentStep
+     * @return
+     */
+    @Bean
+    public Job sweepAttachmentContentJob(Step sweepAttachmentContentStep) {
+        return new JobBuilder("sweepAttachmentContentJob", jobRepository)
+                .incrementer(new RunIdIncrementer())
+                .start(sweepAttachmentContentStep)
+                .listener(new JobLoggerListener())
+                .build();
+    }
+
+    @JobScope
+    @Bean
+    public Step sweepAttachmentContentStep(Tasklet sweepAttachmentContentTasklet) {
+        return new StepBuilder("sweepAttachmentContentStep", jobRepository)
+                .tasklet(sweepAttachmentContentTasklet, platformTransactionManager)
+                .build();
+    }
+
+    @Bean
+    @StepScope
+    public Tasklet sweepAttachmentContentTasklet() {
+        return (contribution, chunkContext) -> {
+            final int sweptCount = attachmentService.sweepUnreferencedContents();
+            contribution.incrementWriteCount(sweptCount);
+            log.info("Swept Attachment Contents : {}", sweptCount);
+            return sweptCount < AttachmentService.SWEEP_BATCH_SIZE ? RepeatStatus.FINISHED : RepeatStatus.CONTINUABLE;
+        };
+    }
+
+    /**
+     * 게시글 ID 를 BACKFILL_BOARD_ID_RANGE 단위 구간으로 나눠 구간마다 하나의 트랜잭션으로 처리하는 Tasklet.
+     * Job Parameter 의 fromId ~ toId 구간만 처리하며, 마지막으로 처리한 ID 를 ExecutionContext 에 남기므로 실패한 JobInstance 를 재시작하면 그 다음 구간부터 이어서 처리한다.
+     * @param target
+     * @param rangeProcessor
+     * @return
+     */
+    private Tasklet boardIdRangeTasklet(final String target, final ToIntBiFunction<Long, Long> rangeProcessor) {
+        return (contribution, chunkContext) -> {
+            final StepExecution stepExecution = chunkContext.getStepContext().getStepExecution();
+            final ExecutionContext executionContext = stepExecution.getExecutionContext();
+            final JobParameters jobParameters = stepExecution.getJobParameters();
+            final long firstId = longParameter(jobParameters, BACKFILL_FROM_ID, 1L);
+            final long fromId = Math.max(executionContext.getLong(BACKFILL_LAST_BOARD_ID, 0L) + 1, firstId);
+            final Long maxBoardId = boardRepository.findMaxBoardId();
+            if (maxBoardId == null) {
+                return RepeatStatus.FINISHED;
+            }
+            final long lastId = Math.min(longParameter(jobParameters, BACKFILL_TO_ID, maxBoardId), maxBoardId);
+            if (fromId > lastId) {
+                return RepeatStatus.FINISHED;
+            }
+            final long toId = Math.min(fromId + BACKFILL_BOARD_ID_RANGE - 1, lastId);
+            final int updatedCount = rangeProcessor.applyAsInt(fromId, toId);
+            contribution.incrementWriteCount(updatedCount);
+            executionContext.putLong(BACKFILL_LAST_BOARD_ID, toId);
+            log.info("Backfilled Board {} ({} ~ {}) : {}", target, fromId, toId, updatedCount);
+            return RepeatStatus.CONTINUABLE;
+        };
+    }
+
+    /**
+     * 커맨드라인으로 넘긴 Job Parameter 는 타입을 지정하지 않으면 String 이므로 값을 문자열로 읽어 변환한다.
+     * @param jobParameters
+     * @param key
+     * @param defaultValue
+     * @return
+     */
+    private static long longParameter(final JobParameters jobParameters, final String key, final long defaultValue) {
+        final JobParameter<?> parameter = jobParameters.getParameter(key);
+        return parameter == null ? defaultValue : Long.parseLong(String.valueOf(parameter.getValue()));
+    }
+
     @Slf4j
     static class JobLoggerListener implements JobExecutionListener {
 
@@ -0,0 +1,99 @@
+package kr.apartribebackend.global.config;
+
+import kr.apartribebackend.global.filter.ConnectionHoldTimeFilter;
+import kr.apartribebackend.global.service.ConnectionHoldTimeService;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+
+/**
+ * 요청별 DB Connection 점유 시간을 재기 위해 DataSource 가 내주는 Connection 을 감싸, 반환(close) 시점에 점유 시간을 기록한다.
+ */
+@Configuration
+@ConditionalOnProperty(value = "application.datasource.hold-time.enabled", havingValue = "true", matchIfMissing = true)
+public class ConnectionHoldTimeConfig {
+
+    /**
+     * BeanPostProcessor 는 다른 Bean 보다 먼저 생성되므로, ConnectionHoldTimeService 는 Connection 이 처음 반환될 때 찾는다.
+     */
+    @Bean
+    public static BeanPostProcessor connectionHoldTimeDataSourcePostProcessor(
+            ObjectProvider<ConnectionHoldTimeService> connectionHoldTimeService
+    ) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource && !(bean instanceof HoldTimeDataSource)) {
+                    return new HoldTimeDataSource(dataSource, connectionHoldTimeService);
+                }
+                return bean;
+            }
+        };
+    }
+
+    @Bean
+    public FilterRegistrationBean<ConnectionHoldTimeFilter> connectionHoldTimeFilter(
+            ConnectionHoldTimeService connectionHoldTimeService
+    ) {
+        final FilterRegistrationBean<ConnectionHoldTimeFilter> registrationBean =
+                new FilterRegistrationBean<>(new ConnectionHoldTimeFilter(connectionHoldTimeService));
+        registrationBean.setOrder(Ordered.HIGHEST_PRECEDENCE);
+        registrationBean.addUrlPatterns("/*");
+        return registrationBean;
+    }
+
+    static class HoldTimeDataSource extends DelegatingDataSource {
+
+        private final ObjectProvider<ConnectionHoldTimeService> connectionHoldTimeService;
+
+        HoldTimeDataSource(DataSource targetDataSource, ObjectProvider<ConnectionHoldTimeService> connectionHoldTimeService) {
+            super(targetDataSource);
+            this.connectionHoldTimeService = connectionHoldTimeService;
+        }
+
+        @Override
+        public Connection getConnection() throws SQLException {
+            return wrap(super.getConnection());
+        }
+
+        @Override
+        public Connection getConnection(String username, String password) throws SQLException {
+            return wrap(super.getConnection(username, password));
+        }
+
+        /**
+         * close() 가 여러번 호출되어도 한번만 기록한다.
+         */
+        private Connection wrap(Connection connection) {
+            final long acquiredAt = System.nanoTime();
+            final boolean[] released = {false};
+            return (Connection) Proxy.newProxyInstance(
+                    Connection.class.getClassLoader(),
+                    new Class<?>[] {Connection.class},
+                    (proxy, method, args) -> {
+                        if (method.getName().equals("close") && !released[0]) {
+                            released[0] = true;
+                            connectionHoldTimeService.ifAvailable(service -> service.connectionReleased(System.nanoTime() - acquiredAt));
+                        }
+                        try {
+                            return method.invoke(connection, args);
+                        } catch (InvocationTargetException e) {
+                            throw e.getTargetException();
+                        }
+                    }
+            );
+        }
+    }
+
+}
@@ -0,0 +1,25 @@
+package kr.apartribebackend.global.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.Executor;
+
+@Configuration
+public class HomeConfig {
+
+    /**
+     * 홈 화면 위젯 조회 전용 Executor. 위젯 조회마다 DB 커넥션을 하나씩 쓰므로 커넥션 풀보다 작게 유지하고, 큐가 가득 차면 해당 위젯만 REJECTED 로 내려준다.
+     * @return
+     */
+    @Bean(name = "homeWidgetExecutor")
+    public Executor homeWidgetExecutor() {
+        ThreadPoolTaskExecutor taskExecutor = new ThreadPoolTaskExecutor();
+        taskExecutor.setCorePoolSize(6);
+        taskExecutor.setMaxPoolSize(6);
+        taskExecutor.setQueueCapacity(300);
+        taskExecutor.setThreadNamePrefix("HomeWidget-");
+        return taskExecutor;
+    }
+}
@@ -0,0 +1,32 @@
+package kr.apartribebackend.global.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.Executor;
+
+@Configuration
+public class ImageDerivativeConfig {
+
+    /**
+     * 첨부 이미지의 썸네일 / 상세 이미지 생성 전용 Executor. 디코딩한 이미지가 스레드마다 메모리에 올라가므로 스레드 수를 고정하고,
+     * 큐가 가득 차면 요청을 버린다 (원본 URL 을 그대로 내려준다).
+     * @param threads
+     * @param queueCapacity
+     * @return
+     */
+    @Bean(name = "imageDerivativeExecutor")
+    public Executor imageDerivativeExecutor(@Value("${application.attachment.derivative.threads:2}") int threads,
+                                           @Value("${application.attachment.derivative.queue-capacity:500}") int queueCapacity) {
+        ThreadPoolTaskExecutor taskExecutor = new ThreadPoolTaskExecutor();
+        taskExecutor.setCorePoolSize(threads);
+        taskExecutor.setMaxPoolSize(threads);
+        taskExecutor.setQueueCapacity(queueCapacity);
+        taskExecutor.setThreadNamePrefix("ImageDerivative-");
+        taskExecutor.setWaitForTasksToCompleteOnShutdown(true);
+        taskExecutor.setAwaitTerminationSeconds(30);
+        return taskExecutor;
+    }
+}
@@ -0,0 +1,47 @@
+package kr.apartribebackend.global.config;
+
+import kr.apartribebackend.global.service.keyring.EcJwtKeyRing;
+import kr.apartribebackend.global.service.keyring.HmacJwtKeyRing;
+import kr.apartribebackend.global.service.keyring.JwtKeyRing;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.core.env.Profiles;
+import org.springframework.util.StringUtils;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+@Configuration
+public class JwtKeyRingConfig {
+
+    @Bean
+    @ConditionalOnProperty(value = "application.security.jwt.algorithm", havingValue = "HS512", matchIfMissing = true)
+    public JwtKeyRing hmacJwtKeyRing(@Value("${application.security.jwt.secret-key}") String accessTokenSecretKey) {
+        return new HmacJwtKeyRing(accessTokenSecretKey);
+    }
+
+    /**
+     * 이전 키는 마지막으로 서명된 AccessToken 이 만료될때까지 검증용으로 남아있어야 하므로, 보관기간은 AccessToken 만료시간으로 잡는다.
+     * 키는 모든 노드가 공유하는 KeyStore 에서 읽는다. KeyStore 가 설정되지 않았으면 local / test 프로파일에서만 메모리에서 키를 생성하고,
+     * 그 외 프로파일에서는 노드마다 다른 키로 서명하게 되므로 기동을 실패시킨다.
+     */
+    @Bean
+    @ConditionalOnProperty(value = "application.security.jwt.algorithm", havingValue = "ES256")
+    public JwtKeyRing ecJwtKeyRing(@Value("${application.security.jwt.expiration}") long accessTokenExpiration,
+                                   @Value("${application.security.jwt.keystore.path:}") String keyStorePath,
+                                   @Value("${application.security.jwt.keystore.password:}") String keyStorePassword,
+                                   Environment environment) {
+        final Duration retention = Duration.ofMillis(accessTokenExpiration);
+        if (StringUtils.hasText(keyStorePath)) {
+            return EcJwtKeyRing.fromKeyStore(Path.of(keyStorePath), keyStorePassword.toCharArray(), retention);
+        }
+        if (environment.acceptsProfiles(Profiles.of("local", "test"))) {
+            return EcJwtKeyRing.generating(retention);
+        }
+        throw new IllegalStateException("ES256 을 사용하려면 application.security.jwt.keystore.path 를 설정해야 합니다.");
+    }
+
+}
@@ -0,0 +1,25 @@
+package kr.apartribebackend.global.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.Executor;
+
+@Configuration
+public class LiveEventConfig {
+
+    /**
+     * SSE 전송 전용 Executor. 구독 연결 자체는 비동기 서블릿 요청으로 유지되어 스레드를 점유하지 않고, 전송할 이벤트가 있을 때만 이 Executor 의 스레드를 잠깐 사용한다.
+     * @return
+     */
+    @Bean(name = "liveEventExecutor")
+    public Executor liveEventExecutor() {
+        ThreadPoolTaskExecutor taskExecutor = new ThreadPoolTaskExecutor();
+        taskExecutor.setCorePoolSize(4);
+        taskExecutor.setMaxPoolSize(16);
+        taskExecutor.setQueueCapacity(10000);
+        taskExecutor.setThreadNamePrefix("LiveEvent-");
+        return taskExecutor;
+    }
+}
@@ -0,0 +1,34 @@
+package kr.apartribebackend.global.config;
+
+import com.amazonaws.services.s3.AmazonS3Client;
+import kr.apartribebackend.attachment.service.storage.LocalObjectStorage;
+import kr.apartribebackend.attachment.service.storage.S3ObjectStorage;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.nio.file.Path;
+
+@Configuration
+public class ObjectStorageConfig {
+
+    @Bean
+    @ConditionalOnProperty(value = "application.storage.type", havingValue = "s3", matchIfMissing = true)
+    public S3ObjectStorage s3ObjectStorage(AmazonS3Client amazonS3Client,
+                                           @Value("${cloud.aws.s3.bucket}") String bucketName) {
+        return new S3ObjectStorage(amazonS3Client, bucketName);
+    }
+
+    /**
+     * secret-key 를 비워두면 기동할 때마다 새로 만든다. 재기동 전에 발급된 업로드 URL 은 더 이상 쓸 수 없다.
+     */
+    @Bean
+    @ConditionalOnProperty(value = "application.storage.type", havingValue = "local")
+    public LocalObjectStorage localObjectStorage(@Value("${application.storage.local.root}") String root,
+                                                 @Value("${application.storage.local.base-url}") String baseUrl,
+                                                 @Value("${application.storage.local.secret-key:}") String secretKey) {
+        return new LocalObjectStorage(Path.of(root), baseUrl, secretKey);
+    }
+
+}
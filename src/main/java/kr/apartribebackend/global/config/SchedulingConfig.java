@@ -1,5 +1,17 @@
 package kr.apartribebackend.global.config;
 
+import kr.apartribebackend.attachment.dto.ImageDerivativeStats;
+import kr.apartribebackend.attachment.service.ImageDerivativeService;
+import kr.apartribebackend.comment.service.CommentLeaderboardService;
+import kr.apartribebackend.global.service.AccessTokenRevocationService;
+import kr.apartribebackend.global.service.ApproximateCountService;
+import kr.apartribebackend.global.dto.ConnectionHoldStats;
+import kr.apartribebackend.global.dto.ResponseCacheStats;
+import kr.apartribebackend.global.service.ConnectionHoldTimeService;
+import kr.apartribebackend.global.service.LiveEventService;
+import kr.apartribebackend.global.service.ResponseCacheService;
+import kr.apartribebackend.global.service.keyring.JwtKeyRing;
+import kr.apartribebackend.receipt.service.ReadReceiptService;
 import kr.apartribebackend.token.email.config.EmailTokenContextHolder;
 import kr.apartribebackend.token.email.domain.EmailToken;
 import lombok.RequiredArgsConstructor;
@@ -12,6 +24,7 @@ import org.springframework.batch.core.launch.JobLauncher;
 import org.springframework.batch.core.repository.JobExecutionAlreadyRunningException;
 import org.springframework.batch.core.repository.JobInstanceAlreadyCompleteException;
 import org.springframework.batch.core.repository.JobRestartException;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.scheduling.annotation.EnableScheduling;
@@ -40,6 +53,80 @@ public class SchedulingConfig {
         return new UpdateRecruitStatusTask(jobLauncher, updateRecruitStatusJob);
     }
 
+    @Bean
+    public RecomputeHotBoardsTask recomputeHotBoardsTask(
+            JobLauncher jobLauncher, Job recomputeHotBoardsJob
+    ) {
+        return new RecomputeHotBoardsTask(jobLauncher, recomputeHotBoardsJob);
+    }
+
+    @Bean
+    public PruneBoardChangeTask pruneBoardChangeTask(
+            JobLauncher jobLauncher, Job pruneBoardChangeJob
+    ) {
+        return new PruneBoardChangeTask(jobLauncher, pruneBoardChangeJob);
+    }
+
+    @Bean
+    public SweepAttachmentContentTask sweepAttachmentContentTask(
+            JobLauncher jobLauncher, Job sweepAttachmentContentJob
+    ) {
+        return new SweepAttachmentContentTask(jobLauncher, sweepAttachmentContentJob);
+    }
+
+    @Bean
+    @ConditionalOnProperty(value = "application.security.jwt.algorithm", havingValue = "ES256")
+    public RotateJwtSigningKeyTask rotateJwtSigningKeyTask(JwtKeyRing jwtKeyRing) {
+        return new RotateJwtSigningKeyTask(jwtKeyRing);
+    }
+
+    @Bean
+    public RotateAccessTokenRevocationTask rotateAccessTokenRevocationTask(
+            AccessTokenRevocationService accessTokenRevocationService
+    ) {
+        return new RotateAccessTokenRevocationTask(accessTokenRevocationService);
+    }
+
+    @Bean
+    public ReconcileApproximateCountTask reconcileApproximateCountTask(
+            ApproximateCountService approximateCountService
+    ) {
+        return new ReconcileApproximateCountTask(approximateCountService);
+    }
+
+    @Bean
+    public RollCommentLeaderboardTask rollCommentLeaderboardTask(
+            CommentLeaderboardService commentLeaderboardService
+    ) {
+        return new RollCommentLeaderboardTask(commentLeaderboardService);
+    }
+
+    @Bean
+    public FlushLiveEventsTask flushLiveEventsTask(LiveEventService liveEventService) {
+        return new FlushLiveEventsTask(liveEventService);
+    }
+
+    @Bean
+    public FlushReadReceiptsTask flushReadReceiptsTask(ReadReceiptService readReceiptService) {
+        return new FlushReadReceiptsTask(readReceiptService);
+    }
+
+    @Bean
+    public LogResponseCacheStatsTask logResponseCacheStatsTask(ResponseCacheService responseCacheService) {
+        return new LogResponseCacheStatsTask(responseCacheService);
+    }
+
+    @Bean
+    public LogImageDerivativeStatsTask logImageDerivativeStatsTask(ImageDerivativeService imageDerivativeService) {
+        return new LogImageDerivativeStatsTask(imageDerivativeService);
+    }
+
+    @Bean
+    @ConditionalOnProperty(value = "application.datasource.hold-time.enabled", havingValue = "true", matchIfMissing = true)
+    public LogConnectionHoldStatsTask logConnectionHoldStatsTask(ConnectionHoldTimeService connectionHoldTimeService) {
+        return new LogConnectionHoldStatsTask(connectionHoldTimeService);
+    }
+
     @RequiredArgsConstructor
     static class ClearEmailTokenContextHolderTask {
 
@@ -80,4 +167,198 @@ public class SchedulingConfig {
 
     }
 
+    @RequiredArgsConstructor
+    static class RecomputeHotBoardsTask {
+
+        private final JobLauncher jobLauncher;
+        private final Job recomputeHotBoardsJob;
+
+        @Scheduled(fixedRateString = "${application.hot.recompute-interval:600000}")
+        public void recomputeHotBoards() throws JobInstanceAlreadyCompleteException, JobExecutionAlreadyRunningException, JobParametersInvalidException, JobRestartException {
+            JobParameters jobParameters = new JobParameters(
+                    Collections.singletonMap(
+                            "requestTime",
+                            new JobParameter<>(System.currentTimeMillis(), Long.class)
+                    )
+            );
+            jobLauncher.run(recomputeHotBoardsJob, jobParameters);
+        }
+
+    }
+
+    @RequiredArgsConstructor
+    static class PruneBoardChangeTask {
+
+        private final JobLauncher jobLauncher;
+        private final Job pruneBoardChangeJob;
+
+        @Scheduled(cron = "0 30 3 * * *", zone = "Asia/Seoul")
+        public void pruneBoardChanges() throws JobInstanceAlreadyCompleteException, JobExecutionAlreadyRunningException, JobParametersInvalidException, JobRestartException {
+            JobParameters jobParameters = new JobParameters(
+                    Collections.singletonMap(
+                            "requestTime",
+                            new JobParameter<>(System.currentTimeMillis(), Long.class)
+                    )
+            );
+            jobLauncher.run(pruneBoardChangeJob, jobParameters);
+        }
+
+    }
+
+    @RequiredArgsConstructor
+    static class SweepAttachmentContentTask {
+
+        private final JobLauncher jobLauncher;
+        private final Job sweepAttachmentContentJob;
+
+        @Scheduled(cron = "0 0 5 * * *", zone = "Asia/Seoul")
+        public void sweepAttachmentContents() throws JobInstanceAlreadyCompleteException, JobExecutionAlreadyRunningException, JobParametersInvalidException, JobRestartException {
+            JobParameters jobParameters = new JobParameters(
+                    Collections.singletonMap(
+                            "requestTime",
+                            new JobParameter<>(System.currentTimeMillis(), Long.class)
+                    )
+            );
+            jobLauncher.run(sweepAttachmentContentJob, jobParameters);
+        }
+
+    }
+
+    @RequiredArgsConstructor
+    static class RotateJwtSigningKeyTask {
+
+        private final JwtKeyRing jwtKeyRing;
+
+        @Scheduled(cron = "${application.security.jwt.rotation-cron:0 0 4 * * *}", zone = "Asia/Seoul")
+        public void rotateSigningKey() {
+            log.info("Rotating Jwt SigningKey");
+            jwtKeyRing.rotate();
+        }
+
+    }
+
+    @RequiredArgsConstructor
+    static class RotateAccessTokenRevocationTask {
+
+        private final AccessTokenRevocationService accessTokenRevocationService;
+
+        @Scheduled(
+                fixedRateString = "${application.security.jwt.expiration}",
+                initialDelayString = "${application.security.jwt.expiration}"
+        )
+        public void rotateRevocationFilter() {
+            accessTokenRevocationService.rotate();
+        }
+
+    }
+
+    @RequiredArgsConstructor
+    static class ReconcileApproximateCountTask {
+
+        private final ApproximateCountService approximateCountService;
+
+        @Scheduled(
+                fixedRateString = "${application.count.reconcile-interval:600000}",
+                initialDelayString = "${application.count.reconcile-interval:600000}"
+        )
+        public void reconcileCounters() {
+            approximateCountService.reconcile();
+        }
+
+    }
+
+    @RequiredArgsConstructor
+    static class RollCommentLeaderboardTask {
+
+        private final CommentLeaderboardService commentLeaderboardService;
+
+        @Scheduled(cron = "0 0 0 * * *")
+        public void rollLeaderboard() {
+            log.info("Rolling Comment Leaderboard Daily Buckets");
+            commentLeaderboardService.roll();
+        }
+
+    }
+
+    @RequiredArgsConstructor
+    static class FlushLiveEventsTask {
+
+        private final LiveEventService liveEventService;
+
+        @Scheduled(fixedDelayString = "${application.live.flush-interval:200}")
+        public void flushLiveEvents() {
+            liveEventService.flush();
+        }
+
+        @Scheduled(fixedRate = 5000)
+        public void sendHeartbeats() {
+            liveEventService.heartbeat();
+        }
+
+    }
+
+    @RequiredArgsConstructor
+    static class LogResponseCacheStatsTask {
+
+        private final ResponseCacheService responseCacheService;
+
+        @Scheduled(fixedRate = 60000, initialDelay = 60000)
+        public void logStats() {
+            final ResponseCacheStats stats = responseCacheService.stats();
+            log.info("Response Cache hitRatio={} hits={} misses={} evictions={} invalidations={} rejectedStores={} size={} weight={}",
+                    String.format("%.3f", stats.hitRatio()), stats.hits(), stats.misses(), stats.evictions(),
+                    stats.invalidations(), stats.rejectedStores(), stats.size(), stats.weight());
+        }
+
+    }
+
+    @RequiredArgsConstructor
+    static class LogImageDerivativeStatsTask {
+
+        private final ImageDerivativeService imageDerivativeService;
+
+        @Scheduled(fixedRate = 60000, initialDelay = 60000)
+        public void logStats() {
+            final ImageDerivativeStats stats = imageDerivativeService.stats();
+            log.info("Image Derivative requested={} completed={} reused={} rejected={} unsupported={} oversized={} failed={} avgDecodeMillis={} maxDecodeMillis={}",
+                    stats.requested(), stats.completed(), stats.reused(), stats.rejected(), stats.unsupported(),
+                    stats.oversized(), stats.failed(), String.format("%.1f", stats.averageDecodeMillis()),
+                    stats.maxDecodeNanos() / 1_000_000);
+        }
+
+    }
+
+    @RequiredArgsConstructor
+    static class LogConnectionHoldStatsTask {
+
+        private static final int TOP_ENDPOINTS = 10;
+
+        private final ConnectionHoldTimeService connectionHoldTimeService;
+
+        @Scheduled(fixedRate = 60000, initialDelay = 60000)
+        public void logStats() {
+            for (ConnectionHoldStats stats : connectionHoldTimeService.stats(TOP_ENDPOINTS)) {
+                log.info("Connection Hold endpoint={} requests={} connections={} avgHoldMillis={} maxHoldMillis={}",
+                        stats.endpoint(), stats.requests(), stats.connections(),
+                        String.format("%.1f", stats.averageHoldMillis()), stats.maxRequestHoldNanos() / 1_000_000);
+            }
+        }
+
+    }
+
+    @RequiredArgsConstructor
+    static class FlushReadReceiptsTask {
+
+        private final ReadReceiptService readReceiptService;
+
+        @Scheduled(fixedDelayString = "${application.receipt.flush-interval:10000}")
+        public void flushReadReceipts() {
+            final int flushed = readReceiptService.flush();
+            if (flushed > 0) {
+                log.debug("Flushed {} Announce Read Receipts", flushed);
+            }
+        }
+
+    }
+
 }
@@ -8,6 +8,7 @@ import kr.apartribebackend.global.handler.JsonLoginFailureHandler;
 import kr.apartribebackend.global.handler.JsonLoginSuccessHandler;
 import kr.apartribebackend.global.handler.JwtAuthenticationEntryPoint;
 import kr.apartribebackend.global.provider.JsonLoginAuthenticationProvider;
+import kr.apartribebackend.global.service.AccessTokenRevocationService;
 import kr.apartribebackend.global.service.JsonLoginUserDetailsService;
 import kr.apartribebackend.global.service.JwtService;
 import kr.apartribebackend.member.repository.MemberRepository;
@@ -45,17 +46,20 @@ public class SecurityConfig {
     private final MemberRepository memberRepository;
     private final RefreshTokenRepository refreshTokenRepository;
     private final JwtService jwtService;
+    private final AccessTokenRevocationService accessTokenRevocationService;
     private final HandlerExceptionResolver handlerExceptionResolver;
 
     public SecurityConfig(ObjectMapper objectMapper,
                           MemberRepository memberRepository,
                           RefreshTokenRepository refreshTokenRepository,
                           JwtService jwtService,
+                          AccessTokenRevocationService accessTokenRevocationService,
                           @Qualifier("handlerExceptionResolver") HandlerExceptionResolver handlerExceptionResolver) {
         this.objectMapper = objectMapper;
         this.memberRepository = memberRepository;
         this.refreshTokenRepository = refreshTokenRepository;
         this.jwtService = jwtService;
+        this.accessTokenRevocationService = accessTokenRevocationService;
         this.handlerExceptionResolver = handlerExceptionResolver;
     }
 
@@ -121,7 +125,8 @@ public class SecurityConfig {
     @Bean
     public JwtValidationFilter jwtValidationFilter() {
         final JwtValidationFilter jwtValidationFilter =
-                new JwtValidationFilter(jwtService, memberRepository, refreshTokenRepository, objectMapper);
+                new JwtValidationFilter(
+                        jwtService, memberRepository, refreshTokenRepository, objectMapper, accessTokenRevocationService);
         jwtValidationFilter.setFilterExcludePath(Set.of("/api/auth"));
         jwtValidationFilter.setReIssuedTokenPath("/api/reissue/token");
         return jwtValidationFilter;
@@ -144,7 +149,7 @@ public class SecurityConfig {
 
     @Bean
     public AuthenticationSuccessHandler jsonLoginSuccessHandler() {
-        return new JsonLoginSuccessHandler(jwtService, objectMapper);
+        return new JsonLoginSuccessHandler(jwtService, objectMapper, memberRepository);
     }
 
     @Bean
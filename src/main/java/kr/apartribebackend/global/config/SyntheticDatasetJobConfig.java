@@ -0,0 +1,173 @@
+package kr.apartribebackend.global.config;
+
+import kr.apartribebackend.global.config.SyntheticDatasetWriter.SyntheticDatasetSpec;
+import kr.apartribebackend.global.config.SyntheticDatasetWriter.SyntheticTable;
+import kr.apartribebackend.global.domain.PooledIdGenerator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.Step;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.configuration.annotation.JobScope;
+import org.springframework.batch.core.configuration.annotation.StepScope;
+import org.springframework.batch.core.job.builder.JobBuilder;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.core.step.builder.StepBuilder;
+import org.springframework.batch.core.step.tasklet.Tasklet;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.repeat.RepeatStatus;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 용량 테스트용 대량 합성 데이터를 만드는 Job.
+ * JPA 를 거치지 않고 JdbcTemplate 의 multi-row INSERT 로 테이블에 직접 저장하며, 아파트 하나를 하나의 트랜잭션으로 처리한다.
+ * 마지막으로 처리한 아파트 순번을 ExecutionContext 에 남기고 RunIdIncrementer 를 쓰지 않으므로, 같은 Job Parameter 로 다시 실행하면
+ * 실패한 JobInstance 가 재시작되어 그 다음 아파트부터 이어서 만든다. 데이터를 더 만들려면 seed 등 Job Parameter 를 바꿔 새 JobInstance 로 실행한다.
+ * 아파트마다 seed 로부터 유도한 Random 을 사용하므로 같은 Job Parameter 로 만든 데이터는 (ID 를 제외하고) 같다.
+ *
+ * spring.batch.job.name=generateSyntheticDatasetJob 과 함께 아래 Job Parameter 로 실행한다. (괄호 안은 기본값)
+ * seed(42), apartments(10), membersPerApartment(100), boardsPerMember(10), commentsPerBoard(5, 게시글당 평균),
+ * likeDensity(0.05, 주민이 게시글에 좋아요를 누를 평균 확률), dateSkew(2.0, 클수록 최근 게시글 비중이 커짐), baseDate(실행일, yyyy-MM-dd)
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Configuration
+public class SyntheticDatasetJobConfig {
+
+    private final JobRepository jobRepository;
+    private final PlatformTransactionManager platformTransactionManager;
+    private final JdbcTemplate jdbcTemplate;
+    private final PasswordEncoder passwordEncoder;
+
+    private static final String LAST_APARTMENT_INDEX = "lastApartmentIndex";
+    private static final String SYNTHETIC_PASSWORD = "syntheticUser123!";
+
+    @Bean
+    public Job generateSyntheticDatasetJob(Step reserveSyntheticIdStep, Step generateSyntheticDatasetStep) {
+        return new JobBuilder("generateSyntheticDatasetJob", jobRepository)
+                .start(reserveSyntheticIdStep)
+                .next(generateSyntheticDatasetStep)
+                .listener(new BatchJobConfig.JobLoggerListener())
+                .build();
+    }
+
+    @JobScope
+    @Bean
+    public Step reserveSyntheticIdStep(Tasklet reserveSyntheticIdTasklet) {
+        return new StepBuilder("reserveSyntheticIdStep", jobRepository)
+                .tasklet(reserveSyntheticIdTasklet, platformTransactionManager)
+                .build();
+    }
+
+    @JobScope
+    @Bean
+    public Step generateSyntheticDatasetStep(Tasklet generateSyntheticDatasetTasklet) {
+        return new StepBuilder("generateSyntheticDatasetStep", jobRepository)
+                .tasklet(generateSyntheticDatasetTasklet, platformTransactionManager)
+                .build();
+    }
+
+    /**
+     * 만들 데이터의 테이블별 ID 구간을 미리 예약하고, 시작 ID 와 기준일을 Job ExecutionContext 에 남긴다.
+     * pooled ID 테이블은 ID_GENERATOR 의 NEXT_ID 를, IDENTITY 테이블은 AUTO_INCREMENT 를 예약한 구간 뒤로 옮기므로
+     * 생성 도중이나 이후에 애플리케이션이 저장하는 엔티티와 ID 가 겹치지 않는다.
+     * @return
+     */
+    @Bean
+    @StepScope
+    public Tasklet reserveSyntheticIdTasklet() {
+        return (contribution, chunkContext) -> {
+            final StepExecution stepExecution = chunkContext.getStepContext().getStepExecution();
+            final SyntheticDatasetSpec spec = SyntheticDatasetSpec.from(stepExecution.getJobParameters());
+            final ExecutionContext jobContext = stepExecution.getJobExecution().getExecutionContext();
+            jobContext.putString(SyntheticDatasetWriter.BASE_DATE, Optional.ofNullable(spec.baseDate()).orElseGet(LocalDate::now).toString());
+            for (SyntheticTable table : SyntheticTable.values()) {
+                final long reservedCount = table.reservedCount(spec);
+                final long baseId = reserveIds(table, reservedCount);
+                jobContext.putLong(table.baseIdKey(), baseId);
+                log.info("Reserved {} Ids ({} ~ {})", table.name(), baseId, baseId + reservedCount - 1);
+            }
+            return RepeatStatus.FINISHED;
+        };
+    }
+
+    @Bean
+    @StepScope
+    public Tasklet generateSyntheticDatasetTasklet() {
+        final String encodedPassword = passwordEncoder.encode(SYNTHETIC_PASSWORD);
+        return (contribution, chunkContext) -> {
+            final StepExecution stepExecution = chunkContext.getStepContext().getStepExecution();
+            final SyntheticDatasetSpec spec = SyntheticDatasetSpec.from(stepExecution.getJobParameters());
+            final ExecutionContext executionContext = stepExecution.getExecutionContext();
+            final int apartmentIndex = executionContext.getInt(LAST_APARTMENT_INDEX, -1) + 1;
+            if (apartmentIndex >= spec.apartments()) {
+                return RepeatStatus.FINISHED;
+            }
+            final SyntheticDatasetWriter writer = new SyntheticDatasetWriter(
+                    jdbcTemplate, spec, stepExecution.getJobExecution().getExecutionContext(), encodedPassword
+            );
+            final long startedAt = System.currentTimeMillis();
+            final int writtenCount = writer.write(apartmentIndex);
+            contribution.incrementWriteCount(writtenCount);
+            executionContext.putInt(LAST_APARTMENT_INDEX, apartmentIndex);
+            log.info("Generated Synthetic Apartment {}/{} : {} rows, {} ms",
+                    apartmentIndex + 1, spec.apartments(), writtenCount, System.currentTimeMillis() - startedAt);
+            return RepeatStatus.CONTINUABLE;
+        };
+    }
+
+    private long reserveIds(final SyntheticTable table, final long reservedCount) {
+        final long maxId = Optional.ofNullable(
+                jdbcTemplate.queryForObject(String.format("SELECT MAX(%s) FROM %s", table.idColumn(), table.name()), Long.class)
+        ).orElse(0L);
+        if (table.generatorName() == null) {
+            final long baseId = maxId + 1;
+            restartIdentity(table, baseId + reservedCount);
+            return baseId;
+        }
+
+        final List<Long> nextIds = jdbcTemplate.queryForList(
+                String.format("SELECT %s FROM %s WHERE %s = ?",
+                        PooledIdGenerator.VALUE_COLUMN, PooledIdGenerator.TABLE, PooledIdGenerator.PK_COLUMN),
+                Long.class, table.generatorName()
+        );
+        final long baseId = Math.max(maxId, nextIds.isEmpty() ? 0L : nextIds.get(0)) + 1;
+        // pooled optimizer 는 읽어온 값에서 ALLOCATION_SIZE 만큼 아래 구간을 사용하므로 그만큼 더 뒤로 옮긴다.
+        final long nextId = baseId + reservedCount + PooledIdGenerator.ALLOCATION_SIZE;
+        if (nextIds.isEmpty()) {
+            jdbcTemplate.update(
+                    String.format("INSERT INTO %s (%s, %s) VALUES (?, ?)",
+                            PooledIdGenerator.TABLE, PooledIdGenerator.PK_COLUMN, PooledIdGenerator.VALUE_COLUMN),
+                    table.generatorName(), nextId
+            );
+        } else {
+            jdbcTemplate.update(
+                    String.format("UPDATE %s SET %s = ? WHERE %s = ?",
+                            PooledIdGenerator.TABLE, PooledIdGenerator.VALUE_COLUMN, PooledIdGenerator.PK_COLUMN),
+                    nextId, table.generatorName()
+            );
+        }
+        return baseId;
+    }
+
+    private void restartIdentity(final SyntheticTable table, final long nextId) {
+        final String databaseProductName = jdbcTemplate.execute(
+                (ConnectionCallback<String>) connection -> connection.getMetaData().getDatabaseProductName()
+        );
+        if ("H2".equalsIgnoreCase(databaseProductName)) {
+            jdbcTemplate.execute(String.format("ALTER TABLE %s ALTER COLUMN %s RESTART WITH %d", table.name(), table.idColumn(), nextId));
+        } else {
+            jdbcTemplate.execute(String.format("ALTER TABLE %s AUTO_INCREMENT = %d", table.name(), nextId));
+        }
+    }
+
+}
@@ -0,0 +1,434 @@
+package kr.apartribebackend.global.config;
+
+import kr.apartribebackend.article.domain.BoardType;
+import kr.apartribebackend.article.domain.RecruitStatus;
+import kr.apartribebackend.category.domain.CategoryTag;
+import kr.apartribebackend.global.utils.ExcerptUtil;
+import kr.apartribebackend.member.domain.AuthStatus;
+import kr.apartribebackend.member.domain.MemberType;
+import kr.apartribebackend.member.domain.Position;
+import kr.apartribebackend.member.domain.UserType;
+import org.springframework.batch.core.JobParameter;
+import org.springframework.batch.core.JobParameters;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.*;
+import java.util.function.ToLongFunction;
+
+/**
+ * 합성 데이터 Job 에서 아파트 하나에 속한 주민, 카테고리, 게시글(ARTICLE / TOGETHER), 댓글, 좋아요를 만들어 저장한다.
+ * 모든 ID 는 reserveSyntheticIdStep 이 예약한 구간 안에서 (아파트 순번, 주민 순번, 게시글 순번) 으로 계산하므로
+ * 같은 아파트를 다시 만들어도 같은 ID 가 나오고, 테이블별 버퍼는 ROWS_PER_STATEMENT 건씩 하나의 INSERT 문으로 저장된다.
+ */
+class SyntheticDatasetWriter {
+
+    static final String BASE_DATE = "baseDate";
+
+    private static final int ROWS_PER_STATEMENT = 500;
+    private static final long SEED_MULTIPLIER = 1_000_003L;
+    private static final int DATE_RANGE_DAYS = 365;
+    private static final long COMMENT_WINDOW_SECONDS = 3 * 24 * 60 * 60L;
+    private static final double TOGETHER_RATIO = 0.2;
+    private static final double ONLY_APART_USER_RATIO = 0.3;
+    private static final double REPLY_RATIO = 0.2;
+    private static final String SYSTEM_AUDITOR = "SyntheticDataset";
+
+    private static final List<String> ARTICLE_CATEGORIES = List.of("자유 게시판", "신혼 부부 정보 공유", "고양이 집사 모임");
+    private static final List<String> TOGETHER_CATEGORIES = List.of("동호회", "친목회", "카풀", "공동구매");
+    private static final int CATEGORIES_PER_APARTMENT = ARTICLE_CATEGORIES.size() + TOGETHER_CATEGORIES.size();
+    private static final List<Position> RESIDENT_POSITIONS = List.of(Position.OWNER, Position.LESSOR, Position.LESSEE);
+
+    private static final List<String> APART_BRANDS = List.of("래미안", "자이", "힐스테이트", "푸르지오", "아이파크", "더샵", "롯데캐슬", "e편한세상");
+    private static final List<String> APART_AREAS = List.of("센트럴", "리버뷰", "파크", "포레", "시티", "레이크", "마리나", "퍼스트");
+    private static final List<String> SURNAMES = List.of("김", "이", "박", "최", "정", "강", "조", "윤", "장", "임", "한", "오");
+    private static final List<String> GIVEN_NAMES = List.of("민준", "서연", "도윤", "하은", "시우", "지민", "예준", "수아", "주원", "지우", "현우", "서윤");
+    private static final List<String> NICKNAME_WORDS = List.of("햇살", "산책러", "고양이집사", "초보맘", "야근러", "헬린이", "커피중독", "텃밭지기");
+    private static final List<String> PLACES = List.of("놀이터", "지하주차장", "헬스장", "관리사무소", "커뮤니티센터", "분리수거장",
+            "엘리베이터", "정문", "후문", "독서실", "택배보관함", "산책로");
+    private static final List<String> TOPICS = List.of("층간소음", "주차 문제", "택배 분실", "반려견 산책", "재활용 배출", "단지 내 공사",
+            "엘리베이터 점검", "관리비", "아이 등하원", "중고 거래", "맛집 추천", "헬스장 이용시간");
+    private static final List<String> TITLES = List.of("%s 관련해서 문의드립니다", "%s 때문에 고민입니다", "%s 정보 공유합니다",
+            "%s 어떻게 생각하세요?", "오늘 %s 상황 공유드려요", "[질문] %s");
+    private static final List<String> SENTENCES = List.of(
+            "요즘 %1$s 근처에서 %2$s 이야기가 자주 나오네요.",
+            "혹시 %1$s 자주 이용하시는 분들 계신가요?",
+            "관리사무소에 %2$s 문의해보니 다음 주에 처리된다고 합니다.",
+            "저녁 시간대 %1$s 은(는) 특히 붐비는 것 같아요.",
+            "같은 동 이웃분들 의견도 궁금합니다.",
+            "지난번에도 %2$s 때문에 비슷한 일이 있었는데 아직 해결이 안 됐어요.",
+            "좋은 정보 있으면 댓글로 알려주세요.",
+            "주말에 %1$s 에서 잠깐 모여서 이야기해보면 어떨까요?",
+            "아이들이 많이 다니는 곳이라 조금 더 조심하면 좋겠습니다.",
+            "**%2$s** 관련 공지는 게시판에서 다시 확인 부탁드립니다."
+    );
+    private static final List<String> COMMENTS = List.of("저도 같은 생각입니다.", "좋은 정보 감사합니다!", "관리사무소에 한번 더 말해볼게요.",
+            "저희 집도 비슷해요 ㅠㅠ", "참여하고 싶습니다.", "혹시 몇 시쯤인가요?", "공감합니다.", "내용 정리해주셔서 감사해요.",
+            "다음 주에 같이 확인해봐요.", "좋아요 누르고 갑니다.");
+    private static final List<String> TOGETHER_TITLES = List.of("%s 같이 하실 분 모집합니다", "이번 주 %s 인원 구해요", "[%s] 멤버 추가 모집");
+    private static final List<String> MEET_TIMES = List.of("매주 토요일 오전 10시", "평일 저녁 8시", "격주 일요일 오후 2시", "매일 아침 7시");
+    private static final List<String> TARGETS = List.of("누구나", "초등학생 자녀를 둔 부모", "20~30대 주민", "반려동물을 키우는 주민");
+
+    private final JdbcTemplate jdbcTemplate;
+    private final SyntheticDatasetSpec spec;
+    private final ExecutionContext jobContext;
+    private final String encodedPassword;
+    private final LocalDateTime baseTime;
+
+    SyntheticDatasetWriter(final JdbcTemplate jdbcTemplate,
+                           final SyntheticDatasetSpec spec,
+                           final ExecutionContext jobContext,
+                           final String encodedPassword) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.spec = spec;
+        this.jobContext = jobContext;
+        this.encodedPassword = encodedPassword;
+        this.baseTime = LocalDate.parse(jobContext.getString(BASE_DATE)).atTime(LocalTime.of(23, 59, 59));
+    }
+
+    /**
+     * apartmentIndex 번째 아파트와 그 하위 데이터를 만들어 저장한다.
+     * @param apartmentIndex
+     * @return 저장한 row 수
+     */
+    int write(final int apartmentIndex) {
+        final Random random = new Random(spec.seed() * SEED_MULTIPLIER + apartmentIndex);
+        final MultiRowInsert apartmentInsert = new MultiRowInsert(jdbcTemplate, "APARTMENT",
+                List.of("APART_ID", "CODE", "NAME", "MEMBER_SEQUENCE", "CREATED_AT", "UPDATED_AT", "CREATED_BY", "UPDATED_BY"));
+        final MultiRowInsert categoryInsert = new MultiRowInsert(jdbcTemplate, "CATEGORY",
+                List.of("CATEGORY_ID", "TAG", "NAME", "APART_ID", "CREATED_AT", "UPDATED_AT", "CREATED_BY", "UPDATED_BY"), apartmentInsert);
+        final MultiRowInsert memberInsert = new MultiRowInsert(jdbcTemplate, "MEMBER",
+                List.of("MEMBER_ID", "EMAIL", "PASSWORD", "NAME", "NICKNAME", "PROFILE_IMAGE", "USER_TYPE", "POSITION",
+                        "AUTH_STATUS", "MEMBER_TYPE", "APART_CODE", "APART_NAME", "APART_ID", "CREATED_AT", "UPDATED_AT"), apartmentInsert);
+        final MultiRowInsert boardInsert = new MultiRowInsert(jdbcTemplate, "BOARD",
+                List.of("BOARD_ID", "BOARD_TYPE", "TITLE", "CONTENT", "EXCERPT", "LIKES", "SAW", "MEMBER_ID", "APART_ID",
+                        "ONLY_APART_USER", "CREATED_AT", "UPDATED_AT", "CREATED_BY", "UPDATED_BY"), memberInsert, categoryInsert);
+        final MultiRowInsert articleInsert = new MultiRowInsert(jdbcTemplate, "ARTICLE",
+                List.of("BOARD_ID", "CATEGORY_ID"), boardInsert);
+        final MultiRowInsert togetherInsert = new MultiRowInsert(jdbcTemplate, "TOGETHER",
+                List.of("BOARD_ID", "CATEGORY_ID", "DESCRIPTION", "RECRUIT_FROM", "RECRUIT_TO", "RECRUIT_STATUS",
+                        "MEET_TIME", "TARGET", "LOCATION", "CONTRIBUE_STATUS", "PARTICIPANT_COUNT"), boardInsert);
+        final MultiRowInsert commentInsert = new MultiRowInsert(jdbcTemplate, "COMMENT",
+                List.of("COMMENT_ID", "CONTENT", "LIKES", "BOARD_ID", "MEMBER_ID", "PARENT_ID",
+                        "CREATED_AT", "UPDATED_AT", "CREATED_BY", "UPDATED_BY"), boardInsert);
+        final MultiRowInsert likedInsert = new MultiRowInsert(jdbcTemplate, "LIKED",
+                List.of("LIKED_ID", "TAG", "MEMBER_ID", "CREATED_AT", "UPDATED_AT", "CREATED_BY", "UPDATED_BY"), memberInsert);
+        final MultiRowInsert boardLikedInsert = new MultiRowInsert(jdbcTemplate, "BOARD_LIKED",
+                List.of("LIKED_ID", "BOARD_ID"), boardInsert, likedInsert);
+        final List<MultiRowInsert> inserts = List.of(apartmentInsert, categoryInsert, memberInsert, boardInsert,
+                articleInsert, togetherInsert, commentInsert, likedInsert, boardLikedInsert);
+
+        final int membersPerApartment = spec.membersPerApartment();
+        final long apartId = baseId(SyntheticTable.APARTMENT) + apartmentIndex;
+        final String apartCode = String.format("SYN%d", apartId);
+        final String apartName = String.format("%s %s %d단지", pick(random, APART_BRANDS), pick(random, APART_AREAS), apartmentIndex + 1);
+        final Timestamp apartCreatedAt = Timestamp.valueOf(baseTime.minusDays(DATE_RANGE_DAYS * 2L));
+        apartmentInsert.add(apartId, apartCode, apartName, 0, apartCreatedAt, apartCreatedAt, SYSTEM_AUDITOR, SYSTEM_AUDITOR);
+
+        final long categoryBaseId = baseId(SyntheticTable.CATEGORY) + (long) apartmentIndex * CATEGORIES_PER_APARTMENT;
+        for (int index = 0; index < CATEGORIES_PER_APARTMENT; index++) {
+            final boolean article = index < ARTICLE_CATEGORIES.size();
+            categoryInsert.add(categoryBaseId + index,
+                    article ? CategoryTag.ARTICLE : CategoryTag.TOGETHER,
+                    article ? ARTICLE_CATEGORIES.get(index) : TOGETHER_CATEGORIES.get(index - ARTICLE_CATEGORIES.size()),
+                    apartId, apartCreatedAt, apartCreatedAt, SYSTEM_AUDITOR, SYSTEM_AUDITOR);
+        }
+
+        final long memberBaseId = baseId(SyntheticTable.MEMBER) + (long) apartmentIndex * membersPerApartment;
+        final String[] nicknames = new String[membersPerApartment];
+        for (int memberIndex = 0; memberIndex < membersPerApartment; memberIndex++) {
+            final long memberId = memberBaseId + memberIndex;
+            nicknames[memberIndex] = pick(random, NICKNAME_WORDS) + memberId;
+            final Timestamp joinedAt = Timestamp.valueOf(baseTime.minusDays(DATE_RANGE_DAYS + random.nextInt(DATE_RANGE_DAYS)));
+            memberInsert.add(memberId, String.format("synthetic%d@apartribe.kr", memberId), encodedPassword,
+                    pick(random, SURNAMES) + pick(random, GIVEN_NAMES), nicknames[memberIndex], "",
+                    UserType.RESIDENT.name(), pick(random, RESIDENT_POSITIONS).name(), AuthStatus.COMPLETED.name(),
+                    MemberType.GENERAL.name(), apartCode, apartName, apartId, joinedAt, joinedAt);
+        }
+
+        final long commentStride = SyntheticTable.commentStride(spec);
+        for (int memberIndex = 0; memberIndex < membersPerApartment; memberIndex++) {
+            for (int boardIndex = 0; boardIndex < spec.boardsPerMember(); boardIndex++) {
+                final long boardOrdinal = ((long) apartmentIndex * membersPerApartment + memberIndex) * spec.boardsPerMember() + boardIndex;
+                final long boardId = baseId(SyntheticTable.BOARD) + boardOrdinal;
+                final LocalDateTime createdAt = skewedCreatedAt(random);
+                final List<Integer> likers = likers(random, memberIndex);
+                final int commentCount = random.nextInt((int) commentStride);
+                final String place = pick(random, PLACES);
+                final String topic = pick(random, TOPICS);
+                final boolean together = random.nextDouble() < TOGETHER_RATIO;
+                final int categoryIndex = together
+                        ? ARTICLE_CATEGORIES.size() + random.nextInt(TOGETHER_CATEGORIES.size())
+                        : random.nextInt(ARTICLE_CATEGORIES.size());
+                final String content = content(random, place, topic);
+                final int saw = likers.size() * (3 + random.nextInt(18)) + commentCount + random.nextInt(50);
+
+                boardInsert.add(boardId, together ? BoardType.TOGETHER : BoardType.ARTICLE,
+                        together
+                                ? String.format(pick(random, TOGETHER_TITLES), TOGETHER_CATEGORIES.get(categoryIndex - ARTICLE_CATEGORIES.size()))
+                                : String.format(pick(random, TITLES), topic),
+                        content, ExcerptUtil.extract(content), likers.size(), saw, memberBaseId + memberIndex, apartId,
+                        random.nextDouble() < ONLY_APART_USER_RATIO, Timestamp.valueOf(createdAt), Timestamp.valueOf(createdAt),
+                        nicknames[memberIndex], nicknames[memberIndex]);
+                if (together) {
+                    final LocalDate recruitFrom = createdAt.toLocalDate().plusDays(random.nextInt(8));
+                    final LocalDate recruitTo = recruitFrom.plusDays(7 + random.nextInt(31));
+                    togetherInsert.add(boardId, categoryBaseId + categoryIndex,
+                            String.format("%s 에서 %s 함께 해요.", place, topic), Date.valueOf(recruitFrom), Date.valueOf(recruitTo),
+                            recruitStatus(recruitFrom, recruitTo).name(), pick(random, MEET_TIMES), pick(random, TARGETS),
+                            place, random.nextBoolean(), 0);
+                } else {
+                    articleInsert.add(boardId, categoryBaseId + categoryIndex);
+                }
+
+                final long commentBaseId = baseId(SyntheticTable.COMMENT) + boardOrdinal * commentStride;
+                final List<Long> rootCommentIds = new ArrayList<>();
+                LocalDateTime commentedAt = createdAt;
+                for (int commentIndex = 0; commentIndex < commentCount; commentIndex++) {
+                    final long commentId = commentBaseId + commentIndex;
+                    final int commenterIndex = random.nextInt(membersPerApartment);
+                    final Long parentId = !rootCommentIds.isEmpty() && random.nextDouble() < REPLY_RATIO
+                            ? rootCommentIds.get(random.nextInt(rootCommentIds.size()))
+                            : null;
+                    if (parentId == null) {
+                        rootCommentIds.add(commentId);
+                    }
+                    commentedAt = after(random, commentedAt, COMMENT_WINDOW_SECONDS / commentStride);
+                    commentInsert.add(commentId, pick(random, COMMENTS), 0, boardId, memberBaseId + commenterIndex, parentId,
+                            Timestamp.valueOf(commentedAt), Timestamp.valueOf(commentedAt),
+                            nicknames[commenterIndex], nicknames[commenterIndex]);
+                }
+
+                final long likedBaseId = baseId(SyntheticTable.LIKED) + boardOrdinal * membersPerApartment;
+                for (int likerIndex : likers) {
+                    final long likedId = likedBaseId + likerIndex;
+                    final Timestamp likedAt = Timestamp.valueOf(after(random, createdAt, COMMENT_WINDOW_SECONDS));
+                    likedInsert.add(likedId, "BOARD", memberBaseId + likerIndex, likedAt, likedAt,
+                            nicknames[likerIndex], nicknames[likerIndex]);
+                    boardLikedInsert.add(likedId, boardId);
+                }
+            }
+        }
+
+        inserts.forEach(MultiRowInsert::flush);
+        return inserts.stream().mapToInt(MultiRowInsert::getInsertedCount).sum();
+    }
+
+    private long baseId(final SyntheticTable table) {
+        return jobContext.getLong(table.baseIdKey());
+    }
+
+    /**
+     * 작성일은 baseTime 으로부터 DATE_RANGE_DAYS 이내이며, u^dateSkew 로 뽑으므로 dateSkew 가 클수록 최근에 몰린다.
+     */
+    private LocalDateTime skewedCreatedAt(final Random random) {
+        final long rangeSeconds = DATE_RANGE_DAYS * 24 * 60 * 60L;
+        return baseTime.minusSeconds((long) (rangeSeconds * Math.pow(random.nextDouble(), spec.dateSkew())));
+    }
+
+    private LocalDateTime after(final Random random, final LocalDateTime from, final long maxGapSeconds) {
+        final LocalDateTime next = from.plusSeconds(1 + (long) (random.nextDouble() * maxGapSeconds));
+        return next.isAfter(baseTime) ? baseTime : next;
+    }
+
+    /**
+     * 게시글마다 인기도(평균 1 인 지수분포) 를 곱한 확률로 주민 각각이 좋아요를 누른다.
+     * 주민을 하나씩 검사하지 않고 기하분포로 다음 좋아요 주민까지 건너뛰므로 좋아요 수에 비례하는 시간만 든다. 작성자 본인은 제외한다.
+     */
+    private List<Integer> likers(final Random random, final int writerIndex) {
+        final double density = Math.min(1.0, spec.likeDensity() * -Math.log(1 - random.nextDouble()));
+        final List<Integer> likers = new ArrayList<>();
+        if (density <= 0) {
+            return likers;
+        }
+        final double logNotLiked = Math.log(1 - density);
+        int likerIndex = -1;
+        while (true) {
+            final double skip = density >= 1 ? 0 : Math.floor(Math.log(1 - random.nextDouble()) / logNotLiked);
+            if (likerIndex + 1 + skip >= spec.membersPerApartment()) {
+                return likers;
+            }
+            likerIndex += 1 + (int) skip;
+            if (likerIndex != writerIndex) {
+                likers.add(likerIndex);
+            }
+        }
+    }
+
+    private RecruitStatus recruitStatus(final LocalDate recruitFrom, final LocalDate recruitTo) {
+        final LocalDate baseDate = baseTime.toLocalDate();
+        if (baseDate.isBefore(recruitFrom)) {
+            return RecruitStatus.NOT_YET;
+        }
+        return baseDate.isAfter(recruitTo) ? RecruitStatus.END : RecruitStatus.STILL;
+    }
+
+    private static String content(final Random random, final String place, final String topic) {
+        final StringBuilder content = new StringBuilder();
+        final int sentenceCount = 3 + random.nextInt(6);
+        for (int index = 0; index < sentenceCount; index++) {
+            content.append("<p>").append(String.format(pick(random, SENTENCES), place, topic)).append("</p>");
+        }
+        return content.toString();
+    }
+
+    private static <T> T pick(final Random random, final List<T> candidates) {
+        return candidates.get(random.nextInt(candidates.size()));
+    }
+
+    /**
+     * 합성 데이터 Job Parameter. 값은 String / Long / Double 어느 타입으로 넘겨도 된다.
+     */
+    record SyntheticDatasetSpec(long seed,
+                                int apartments,
+                                int membersPerApartment,
+                                int boardsPerMember,
+                                int commentsPerBoard,
+                                double likeDensity,
+                                double dateSkew,
+                                LocalDate baseDate) {
+
+        SyntheticDatasetSpec {
+            if (apartments < 1 || membersPerApartment < 1 || boardsPerMember < 0 || commentsPerBoard < 0) {
+                throw new IllegalArgumentException("apartments, membersPerApartment 는 1 이상, boardsPerMember, commentsPerBoard 는 0 이상이어야 합니다.");
+            }
+            if (likeDensity < 0 || likeDensity > 1 || dateSkew <= 0) {
+                throw new IllegalArgumentException("likeDensity 는 0 ~ 1, dateSkew 는 0 보다 커야 합니다.");
+            }
+        }
+
+        static SyntheticDatasetSpec from(final JobParameters jobParameters) {
+            final String baseDate = parameter(jobParameters, BASE_DATE, null);
+            return new SyntheticDatasetSpec(
+                    Long.parseLong(parameter(jobParameters, "seed", "42")),
+                    Integer.parseInt(parameter(jobParameters, "apartments", "10")),
+                    Integer.parseInt(parameter(jobParameters, "membersPerApartment", "100")),
+                    Integer.parseInt(parameter(jobParameters, "boardsPerMember", "10")),
+                    Integer.parseInt(parameter(jobParameters, "commentsPerBoard", "5")),
+                    Double.parseDouble(parameter(jobParameters, "likeDensity", "0.05")),
+                    Double.parseDouble(parameter(jobParameters, "dateSkew", "2.0")),
+                    baseDate == null ? null : LocalDate.parse(baseDate)
+            );
+        }
+
+        private static String parameter(final JobParameters jobParameters, final String key, final String defaultValue) {
+            final JobParameter<?> parameter = jobParameters.getParameter(key);
+            return parameter == null ? defaultValue : String.valueOf(parameter.getValue());
+        }
+
+        long boardCount() {
+            return (long) apartments * membersPerApartment * boardsPerMember;
+        }
+    }
+
+    /**
+     * 합성 데이터가 ID 를 직접 지정해 저장하는 테이블. generatorName 이 없으면 IDENTITY 전략 테이블이다.
+     * 댓글과 좋아요는 게시글마다 최대 개수만큼 ID 를 예약해두고 그 안에서 순번으로 계산한다.
+     */
+    enum SyntheticTable {
+
+        APARTMENT("APART_ID", null, spec -> spec.apartments()),
+        MEMBER("MEMBER_ID", null, spec -> (long) spec.apartments() * spec.membersPerApartment()),
+        CATEGORY("CATEGORY_ID", "CATEGORY", spec -> (long) spec.apartments() * CATEGORIES_PER_APARTMENT),
+        BOARD("BOARD_ID", "BOARD", SyntheticDatasetSpec::boardCount),
+        COMMENT("COMMENT_ID", "COMMENT", spec -> spec.boardCount() * commentStride(spec)),
+        LIKED("LIKED_ID", "LIKED", spec -> spec.boardCount() * spec.membersPerApartment());
+
+        private final String idColumn;
+        private final String generatorName;
+        private final ToLongFunction<SyntheticDatasetSpec> reservedCounter;
+
+        SyntheticTable(final String idColumn,
+                       final String generatorName,
+                       final ToLongFunction<SyntheticDatasetSpec> reservedCounter) {
+            this.idColumn = idColumn;
+            this.generatorName = generatorName;
+            this.reservedCounter = reservedCounter;
+        }
+
+        /**
+         * 게시글당 댓글 수는 0 ~ 2 * commentsPerBoard 에서 고르므로 평균이 commentsPerBoard 가 된다.
+         */
+        static long commentStride(final SyntheticDatasetSpec spec) {
+            return 2L * spec.commentsPerBoard() + 1;
+        }
+
+        String idColumn() { return idColumn; }
+
+        String generatorName() { return generatorName; }
+
+        String baseIdKey() { return name() + "_BASE_ID"; }
+
+        long reservedCount(final SyntheticDatasetSpec spec) { return reservedCounter.applyAsLong(spec); }
+    }
+
+    /**
+     * 한 테이블의 row 를 모아 ROWS_PER_STATEMENT 건마다 INSERT INTO ... VALUES (...), (...), ... 하나로 저장하는 버퍼.
+     * 저장 전에 FK 로 참조하는 부모 테이블 버퍼를 먼저 비운다.
+     */
+    static class MultiRowInsert {
+
+        private final JdbcTemplate jdbcTemplate;
+        private final String insertPrefix;
+        private final String rowPlaceholder;
+        private final int columnCount;
+        private final List<MultiRowInsert> parents;
+        private final List<Object> values = new ArrayList<>();
+        private String fullStatement;
+        private int rowCount;
+        private int insertedCount;
+
+        MultiRowInsert(final JdbcTemplate jdbcTemplate,
+                       final String table,
+                       final List<String> columns,
+                       final MultiRowInsert... parents) {
+            this.jdbcTemplate = jdbcTemplate;
+            this.insertPrefix = String.format("INSERT INTO %s (%s) VALUES ", table, String.join(", ", columns));
+            this.rowPlaceholder = "(" + String.join(", ", Collections.nCopies(columns.size(), "?")) + ")";
+            this.columnCount = columns.size();
+            this.parents = List.of(parents);
+        }
+
+        void add(final Object... row) {
+            if (row.length != columnCount) {
+                throw new IllegalArgumentException(String.format("%s 개의 컬럼 값이 필요합니다. (%s)", columnCount, insertPrefix));
+            }
+            values.addAll(Arrays.asList(row));
+            if (++rowCount == ROWS_PER_STATEMENT) {
+                flush();
+            }
+        }
+
+        void flush() {
+            parents.forEach(MultiRowInsert::flush);
+            if (rowCount == 0) {
+                return;
+            }
+            jdbcTemplate.update(statement(rowCount), values.toArray());
+            insertedCount += rowCount;
+            values.clear();
+            rowCount = 0;
+        }
+
+        int getInsertedCount() {
+            return insertedCount;
+        }
+
+        private String statement(final int rows) {
+            if (rows == ROWS_PER_STATEMENT && fullStatement != null) {
+                return fullStatement;
+            }
+            final String statement = insertPrefix + String.join(", ", Collections.nCopies(rows, rowPlaceholder));
+            if (rows == ROWS_PER_STATEMENT) {
+                fullStatement = statement;
+            }
+            return statement;
+        }
+    }
+
+}
@@ -2,6 +2,8 @@ package kr.apartribebackend.global.config;
 
 import kr.apartribebackend.article.converter.CategoryConverter;
 import kr.apartribebackend.article.converter.LevelConverter;
+import kr.apartribebackend.global.interceptor.ApartUserHandlerRegistry;
+import kr.apartribebackend.global.interceptor.ApartUserInterceptor;
 import kr.apartribebackend.global.resolver.AuthenticationResolver;
 import kr.apartribebackend.global.resolver.TokenResolver;
 import kr.apartribebackend.member.repository.MemberRepository;
@@ -9,6 +11,7 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.format.FormatterRegistry;
 import org.springframework.web.method.support.HandlerMethodArgumentResolver;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
 import java.util.List;
@@ -18,7 +21,7 @@ import java.util.List;
 public class WebMvcConfig implements WebMvcConfigurer {
 
     private final MemberRepository memberRepository;
-
+    private final ApartUserHandlerRegistry apartUserHandlerRegistry;
 
     @Override
     public void addFormatters(FormatterRegistry registry) {
@@ -31,4 +34,10 @@ public class WebMvcConfig implements WebMvcConfigurer {
         resolvers.add(new TokenResolver(memberRepository));
         resolvers.add(new AuthenticationResolver());
     }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new ApartUserInterceptor(apartUserHandlerRegistry))
+                .addPathPatterns("/api/**");
+    }
 }
@@ -0,0 +1,30 @@
+package kr.apartribebackend.global.controller;
+
+import kr.apartribebackend.global.service.keyring.JwtKeyRing;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * AccessToken 검증용 공개키 (JWKS) 엔드포인트. 표준 포맷을 따라야 하므로 APIResponse 로 감싸지 않는다.
+ */
+@RequiredArgsConstructor
+@RestController
+public class JwksController {
+
+    private final JwtKeyRing jwtKeyRing;
+
+    @GetMapping("/.well-known/jwks.json")
+    public ResponseEntity<Map<String, List<Map<String, Object>>>> jwks() {
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.maxAge(Duration.ofMinutes(5)).cachePublic())
+                .body(Map.of("keys", jwtKeyRing.publicJwks()));
+    }
+
+}
@@ -0,0 +1,35 @@
+package kr.apartribebackend.global.controller;
+
+import kr.apartribebackend.comment.service.CommentService;
+import kr.apartribebackend.global.service.LiveEventService;
+import kr.apartribebackend.member.principal.AuthenticatedMember;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+@RequiredArgsConstructor
+@RestController
+public class LiveEventController {
+
+    private final LiveEventService liveEventService;
+    private final CommentService commentService;
+
+    @GetMapping(value = "/api/{apartId}/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter subscribeApartmentEvents(@PathVariable final String apartId) {
+        return liveEventService.subscribeApartment(apartId);
+    }
+
+    @GetMapping(value = "/api/{apartId}/{boardId}/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter subscribeBoardEvents(
+            @AuthenticationPrincipal final AuthenticatedMember authenticatedMember,
+            @PathVariable final String apartId,
+            @PathVariable final Long boardId
+    ) {
+        return commentService.subscribeBoardEvents(apartId, authenticatedMember.toDto(), boardId);
+    }
+
+}
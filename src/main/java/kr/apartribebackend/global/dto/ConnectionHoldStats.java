@@ -0,0 +1,21 @@
+package kr.apartribebackend.global.dto;
+
+/**
+ * 엔드포인트별 DB Connection 점유 시간의 누적 통계.
+ * @param endpoint HTTP 메서드 + 매핑된 URI 패턴
+ * @param requests 요청 수
+ * @param connections 요청들이 얻은 Connection 수
+ * @param holdNanos 요청들이 Connection 을 점유한 시간 합
+ * @param maxRequestHoldNanos 한 요청이 Connection 을 점유한 가장 긴 시간
+ */
+public record ConnectionHoldStats(String endpoint,
+                                  long requests,
+                                  long connections,
+                                  long holdNanos,
+                                  long maxRequestHoldNanos) {
+
+    public double averageHoldMillis() {
+        return requests == 0 ? 0 : holdNanos / 1_000_000.0 / requests;
+    }
+
+}
@@ -0,0 +1,42 @@
+package kr.apartribebackend.global.dto;
+
+/**
+ * SSE 로 구독자에게 전달되는 이벤트 하나.
+ * @param type
+ * @param targetId 이벤트 대상 (게시글 / 댓글) ID
+ * @param data COMMENT_CREATED 는 LiveCommentResponse, COMMENT_DELETED 는 삭제된 댓글 수, 나머지는 좋아요 수 / 댓글 수 증감
+ */
+public record LiveEvent(Type type, Long targetId, Object data) {
+
+    public LiveEvent merge(final LiveEvent next) {
+        return switch (type.merge) {
+            case REPLACE -> next;
+            case SUM -> new LiveEvent(type, targetId, ((Number) data).intValue() + ((Number) next.data).intValue());
+            case APPEND -> throw new IllegalStateException("APPEND 이벤트는 병합할 수 없습니다.");
+        };
+    }
+
+    /**
+     * 같은 tick 안에 같은 대상으로 발행된 이벤트를 합치는 방식. APPEND 는 모두 전달하고, REPLACE 는 마지막 값만, SUM 은 합만 전달한다.
+     */
+    public enum Merge { APPEND, REPLACE, SUM }
+
+    public enum Type {
+        COMMENT_CREATED(Merge.APPEND),
+        COMMENT_DELETED(Merge.APPEND),
+        BOARD_LIKES(Merge.REPLACE),
+        COMMENT_LIKES(Merge.REPLACE),
+        BOARD_COMMENTS(Merge.SUM);
+
+        private final Merge merge;
+
+        Type(final Merge merge) {
+            this.merge = merge;
+        }
+
+        public Merge getMerge() {
+            return merge;
+        }
+    }
+
+}
@@ -0,0 +1,26 @@
+package kr.apartribebackend.global.dto;
+
+/**
+ * 응답 캐시의 누적 통계.
+ * @param hits
+ * @param misses
+ * @param evictions 용량 초과 / 만료로 제거된 항목 수
+ * @param invalidations 태그 무효화로 제거된 항목 수
+ * @param rejectedStores 조회 도중 태그가 무효화되어 저장하지 않은 항목 수
+ * @param size 현재 항목 수
+ * @param weight 현재 저장된 응답 크기 합 (char)
+ */
+public record ResponseCacheStats(long hits,
+                                 long misses,
+                                 long evictions,
+                                 long invalidations,
+                                 long rejectedStores,
+                                 int size,
+                                 long weight) {
+
+    public double hitRatio() {
+        final long requests = hits + misses;
+        return requests == 0 ? 0 : (double) hits / requests;
+    }
+
+}
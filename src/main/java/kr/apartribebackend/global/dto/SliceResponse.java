@@ -0,0 +1,54 @@
+package kr.apartribebackend.global.dto;
+
+import org.springframework.data.domain.Slice;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * 커서 기반 목록 응답. 다음 페이지가 있으면 마지막 항목의 작성일시와 ID 를 nextLastCreatedAt / nextLastId 로 내려주며,
+ * 클라이언트는 이 값을 그대로 다음 요청의 lastCreatedAt / lastId 로 보낸다.
+ */
+public record SliceResponse<T>(
+        int size,
+        boolean hasNext,
+        int resultsSize,
+        LocalDateTime nextLastCreatedAt,
+        Long nextLastId,
+        List<T> results
+) {
+
+    public static <T> SliceResponse<T> from(Slice<T> slice) {
+        return new SliceResponse<>(
+                slice.getSize(),
+                slice.hasNext(),
+                slice.getNumberOfElements(),
+                null,
+                null,
+                slice.getContent()
+        );
+    }
+
+    /**
+     * @param slice
+     * @param createdAtExtractor 항목의 작성일시
+     * @param idExtractor 항목의 ID
+     * @return
+     */
+    public static <T> SliceResponse<T> from(Slice<T> slice,
+                                            Function<? super T, LocalDateTime> createdAtExtractor,
+                                            Function<? super T, Long> idExtractor) {
+        final List<T> content = slice.getContent();
+        final T last = slice.hasNext() && !content.isEmpty() ? content.get(content.size() - 1) : null;
+        return new SliceResponse<>(
+                slice.getSize(),
+                slice.hasNext(),
+                slice.getNumberOfElements(),
+                last != null ? createdAtExtractor.apply(last) : null,
+                last != null ? idExtractor.apply(last) : null,
+                content
+        );
+    }
+
+}
@@ -0,0 +1,10 @@
+package kr.apartribebackend.global.exception;
+
+import io.jsonwebtoken.JwtException;
+
+public class RevokedAccessTokenException extends JwtException {
+
+    public RevokedAccessTokenException() {
+        super("폐기된 토큰입니다.");
+    }
+}
@@ -0,0 +1,38 @@
+package kr.apartribebackend.global.filter;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import kr.apartribebackend.global.service.ConnectionHoldTimeService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+
+/**
+ * 인증 필터에서의 회원 조회까지 포함하도록 Security 필터보다 먼저 요청의 Connection 점유 시간 측정을 시작하고,
+ * 응답 후 매핑된 URI 패턴 (없으면 UNMAPPED) 별로 기록한다. 경로 변수 값마다 통계가 나뉘지 않도록 실제 URI 대신 패턴을 사용한다.
+ */
+@RequiredArgsConstructor
+public class ConnectionHoldTimeFilter extends OncePerRequestFilter {
+
+    private static final String UNMAPPED = "UNMAPPED";
+
+    private final ConnectionHoldTimeService connectionHoldTimeService;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        connectionHoldTimeService.beginRequest();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            final Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+            connectionHoldTimeService.endRequest(request.getMethod() + " " + (pattern != null ? pattern : UNMAPPED));
+        }
+    }
+
+}
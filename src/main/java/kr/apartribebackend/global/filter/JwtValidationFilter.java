@@ -11,6 +11,8 @@ import kr.apartribebackend.apart.dto.ApartmentDto;
 import kr.apartribebackend.global.dto.ReIssueTokenReq;
 import kr.apartribebackend.global.dto.TokenResponse;
 import kr.apartribebackend.global.exception.NotExistsRefreshTokenException;
+import kr.apartribebackend.global.exception.RevokedAccessTokenException;
+import kr.apartribebackend.global.service.AccessTokenRevocationService;
 import kr.apartribebackend.global.service.JwtService;
 import kr.apartribebackend.member.domain.Member;
 import kr.apartribebackend.member.domain.MemberType;
@@ -29,8 +31,9 @@ import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
+import java.time.Instant;
 import java.util.Arrays;
-import java.util.Map;
+import java.util.Date;
 import java.util.Set;
 
 import static org.springframework.http.HttpHeaders.AUTHORIZATION;
@@ -44,6 +47,7 @@ public class JwtValidationFilter extends OncePerRequestFilter {
     private final MemberRepository memberRepository;
     private final RefreshTokenRepository refreshTokenRepository;
     private final ObjectMapper objectMapper;
+    private final AccessTokenRevocationService accessTokenRevocationService;
     private String reIssuedTokenPath = "/api/reissue/token";
     private Set<String> filterExcludePath = Set.of("/api/auth");
 
@@ -74,7 +78,7 @@ public class JwtValidationFilter extends OncePerRequestFilter {
             final String subjectNickname = extractedAllClaims.getSubject();
             final String tokenType = (String) extractedAllClaims.get("type");
 
-            final Member member = memberRepository.findMemberWithRefreshTokenByNicknameAndRefreshTokenValue(
+            final Member member = memberRepository.findMemberWithRefreshTokenAndApartInfoByNickname(
                     subjectNickname, reIssueTokenReq.refreshToken()
             );
             if (member == null || tokenType == null || !tokenType.equals("refresh")) {
@@ -89,12 +93,7 @@ public class JwtValidationFilter extends OncePerRequestFilter {
             final Long refreshTokenId = member.getRefreshToken().getId();
             refreshTokenRepository.updateToken(newRefreshToken.getToken(), refreshTokenId);
             final String reIssuedAccessToken = jwtService.generateAccessToken(
-                    member.getNickname(),
-                    Map.of(
-                            "email", member.getEmail(),
-                            "role", "추가해야함",
-                            "memberType", member.getMemberType()
-                    )
+                    AuthenticatedMember.from(MemberDto.from(member), ApartmentDto.from(member.getApartment()))
             );
             final String reIssuedTokenResponse =
                     objectMapper.writeValueAsString(TokenResponse.of(reIssuedAccessToken, reIssuedRefreshToken));
@@ -111,8 +110,15 @@ public class JwtValidationFilter extends OncePerRequestFilter {
         }
 
         final String accessToken = authHeader.substring(7);
-        if (jwtService.isAccessTokenValid(accessToken)) {
-            final Claims claims = jwtService.extractAllClaims(accessToken, JwtService.TokenType.ACCESS);
+        final Claims claims = jwtService.extractAllClaims(accessToken, JwtService.TokenType.ACCESS);
+        if (claims.getExpiration().after(new Date())) {
+            if (jwtService.isStatelessPrincipalEnabled() && claims.containsKey(AuthenticatedMember.MEMBER_ID_CLAIM)) {
+                final AuthenticatedMember authenticatedMember = AuthenticatedMember.fromClaims(claims);
+                checkRevoked(authenticatedMember.getId(), jwtService.extractIssuedAt(claims));
+                authenticate(authenticatedMember);
+                filterChain.doFilter(request, response);
+                return;
+            }
             final String userEmail = claims.get("email", String.class);
             final String memberTypeString = (String) claims.get("memberType");
             final MemberType memberType = Arrays.stream(MemberType.values()).filter(m -> m.name().equals(memberTypeString))
@@ -121,18 +127,28 @@ public class JwtValidationFilter extends OncePerRequestFilter {
             final Member member = memberRepository.findMemberWithApartInfoByEmailAndMemberType(userEmail, memberType)
                     .orElse(null);
             if (member != null) {
+                checkRevoked(member.getId(), jwtService.extractIssuedAt(claims));
                 final AuthenticatedMember authenticatedMember = AuthenticatedMember.from(
                         MemberDto.from(member), ApartmentDto.from(member.getApartment())
                 );
-                authenticatedMember.setOriginalEntity(member);
-                final UsernamePasswordAuthenticationToken authenticationToken = UsernamePasswordAuthenticationToken
-                        .authenticated(authenticatedMember, null, authenticatedMember.getAuthorities());
-                SecurityContextHolder.getContext().setAuthentication(authenticationToken);
+                authenticate(authenticatedMember);
             }
         }
         filterChain.doFilter(request, response);
     }
 
+    private void checkRevoked(Long memberId, Instant issuedAt) {
+        if (accessTokenRevocationService.isRevoked(memberId, issuedAt)) {
+            throw new RevokedAccessTokenException();
+        }
+    }
+
+    private void authenticate(AuthenticatedMember authenticatedMember) {
+        final UsernamePasswordAuthenticationToken authenticationToken = UsernamePasswordAuthenticationToken
+                .authenticated(authenticatedMember, null, authenticatedMember.getAuthorities());
+        SecurityContextHolder.getContext().setAuthentication(authenticationToken);
+    }
+
     private boolean requestURIContainsExcludeURI(HttpServletRequest httpServletRequest) {
         return filterExcludePath.stream()
                 .anyMatch(excludePath -> httpServletRequest.getRequestURI().contains(excludePath));
@@ -7,8 +7,9 @@ import jakarta.servlet.http.HttpServletResponse;
 import kr.apartribebackend.global.dto.TokenResponse;
 import kr.apartribebackend.global.service.JwtService;
 import kr.apartribebackend.member.domain.Member;
-import kr.apartribebackend.member.domain.MemberType;
+import kr.apartribebackend.member.exception.UserNotFoundException;
 import kr.apartribebackend.member.principal.AuthenticatedMember;
+import kr.apartribebackend.member.repository.MemberRepository;
 import kr.apartribebackend.token.refresh.domain.RefreshToken;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -18,7 +19,6 @@ import org.springframework.security.web.authentication.SimpleUrlAuthenticationSu
 import org.springframework.transaction.annotation.Transactional;
 
 import java.io.IOException;
-import java.util.Map;
 
 // TODO 전체적인 리팩토리 필요
 @Slf4j @RequiredArgsConstructor
@@ -28,6 +28,8 @@ public class JsonLoginSuccessHandler extends SimpleUrlAuthenticationSuccessHandl
 
     private final ObjectMapper objectMapper;
 
+    private final MemberRepository memberRepository;
+
     @Transactional
     @Override
     public void onAuthenticationSuccess(HttpServletRequest request,
@@ -36,17 +38,11 @@ public class JsonLoginSuccessHandler extends SimpleUrlAuthenticationSuccessHandl
         log.info("JsonLoginSuccessHandler Triggered");
         final AuthenticatedMember authenticatedMember = (AuthenticatedMember) authentication.getPrincipal();
 
-        final String accessToken = jwtService.generateAccessToken(
-                authenticatedMember.getUsername(),
-                Map.of(
-                        "email", authenticatedMember.getEmail(),
-                        "role", "추가해야함",
-                        "memberType", authenticatedMember.getMemberType()
-                )
-        );
+        final String accessToken = jwtService.generateAccessToken(authenticatedMember);
 
         final String refToken = jwtService.generateRefreshToken(authenticatedMember.getUsername());
-        final Member member = ((AuthenticatedMember) authentication.getPrincipal()).getOriginalEntity();
+        final Member member = memberRepository.findMemberWithRefreshTokenById(authenticatedMember.getId())
+                .orElseThrow(UserNotFoundException::new);
         final RefreshToken refreshToken = RefreshToken.builder()
                 .token(refToken)
                 .build();
@@ -0,0 +1,95 @@
+package kr.apartribebackend.global.interceptor;
+
+import kr.apartribebackend.global.annotation.ApartUser;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.event.ContextRefreshedEvent;
+import org.springframework.core.DefaultParameterNameDiscoverer;
+import org.springframework.core.MethodParameter;
+import org.springframework.core.ParameterNameDiscoverer;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerMapping;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * @ApartUser 가 붙은 HandlerMethod 의 검증 정보를 기동 시점에 한번만 계산해두는 Registry.
+ * 매 요청마다 파라미터 이름을 리플렉션으로 조회하고 "apartId" 와 문자열 비교하던 작업을 Map 조회 한번으로 대체한다.
+ */
+@Slf4j
+@Component
+public class ApartUserHandlerRegistry implements ApplicationListener<ContextRefreshedEvent> {
+
+    private static final String APART_ID_PARAMETER_NAME = "apartId";
+    private static final ApartUserMetadata NOT_APART_USER_HANDLER = new ApartUserMetadata(false, false, null);
+
+    private final Map<Method, ApartUserMetadata> metadataHolder = new ConcurrentHashMap<>();
+    private final ParameterNameDiscoverer parameterNameDiscoverer = new DefaultParameterNameDiscoverer();
+
+    @Override
+    public void onApplicationEvent(ContextRefreshedEvent event) {
+        event.getApplicationContext()
+                .getBeansOfType(RequestMappingHandlerMapping.class)
+                .values()
+                .forEach(handlerMapping -> handlerMapping.getHandlerMethods().values()
+                        .forEach(handlerMethod -> metadataHolder.computeIfAbsent(handlerMethod.getMethod(), this::resolveMetadata)));
+        log.info("Resolved ApartUser Metadata For {} HandlerMethods", metadataHolder.size());
+    }
+
+    /**
+     * 기동 시점에 등록되지 않은 HandlerMethod 는 최초 요청시에 계산하여 저장한다.
+     * @param handlerMethod
+     * @return
+     */
+    public ApartUserMetadata findMetadata(HandlerMethod handlerMethod) {
+        return metadataHolder.computeIfAbsent(handlerMethod.getMethod(), this::resolveMetadata);
+    }
+
+    private ApartUserMetadata resolveMetadata(Method method) {
+        final ApartUser apartUser = method.getAnnotation(ApartUser.class);
+        if (apartUser == null) {
+            return NOT_APART_USER_HANDLER;
+        }
+        if (!apartUser.checkApartment()) {
+            return new ApartUserMetadata(true, false, null);
+        }
+        return new ApartUserMetadata(true, true, resolveApartIdVariableName(method));
+    }
+
+    /**
+     * String 타입의 apartId 파라미터가 바인딩되는 PathVariable 의 이름을 찾는다.
+     * @param method
+     * @return apartId 파라미터가 없으면 null
+     */
+    private String resolveApartIdVariableName(Method method) {
+        final String[] parameterNames = parameterNameDiscoverer.getParameterNames(method);
+        if (parameterNames == null) {
+            return null;
+        }
+        for (int index = 0; index < parameterNames.length; index++) {
+            final MethodParameter methodParameter = new MethodParameter(method, index);
+            final PathVariable pathVariable = methodParameter.getParameterAnnotation(PathVariable.class);
+            if (
+                    pathVariable != null &&
+                    parameterNames[index].equals(APART_ID_PARAMETER_NAME) &&
+                    methodParameter.getParameterType() == String.class
+            ) {
+                return StringUtils.hasText(pathVariable.value()) ? pathVariable.value() : parameterNames[index];
+            }
+        }
+        return null;
+    }
+
+    /**
+     * @param apartUser @ApartUser 가 붙은 HandlerMethod 인지 여부
+     * @param checkApartment PathVariable 과 인증객체의 apartCode 를 비교해야하는지 여부
+     * @param apartIdVariableName 비교할 PathVariable 이름
+     */
+    public record ApartUserMetadata(boolean apartUser, boolean checkApartment, String apartIdVariableName) { }
+
+}
@@ -0,0 +1,78 @@
+package kr.apartribebackend.global.interceptor;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import kr.apartribebackend.apart.exception.ApartRequestNotMatchWithMemberApartException;
+import kr.apartribebackend.apart.exception.NeedApartmentAuthException;
+import kr.apartribebackend.apart.exception.NeedToMakeCommunityException;
+import kr.apartribebackend.global.exception.NonAuthorizedException;
+import kr.apartribebackend.global.interceptor.ApartUserHandlerRegistry.ApartUserMetadata;
+import kr.apartribebackend.member.domain.AuthStatus;
+import kr.apartribebackend.member.principal.AuthenticatedMember;
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.util.Map;
+
+/**
+ * @ApartUser 가 붙은 HandlerMethod 에 대해
+ * 1. 아파트 인증을 완료한 사용자인지 확인하고
+ * 2. checkApartment 가 true 이면 PathVariable 의 apartId 와 인증객체의 아파트 코드가 일치하는지 확인한다.
+ */
+@RequiredArgsConstructor
+public class ApartUserInterceptor implements HandlerInterceptor {
+
+    private final ApartUserHandlerRegistry apartUserHandlerRegistry;
+
+    @Override
+    public boolean preHandle(HttpServletRequest request,
+                             HttpServletResponse response,
+                             Object handler) {
+        if (!(handler instanceof HandlerMethod handlerMethod)) {
+            return true;
+        }
+        final ApartUserMetadata apartUserMetadata = apartUserHandlerRegistry.findMetadata(handlerMethod);
+        if (!apartUserMetadata.apartUser()) {
+            return true;
+        }
+
+        final AuthenticatedMember authenticatedMember = resolveAuthenticatedMember();
+        if (authenticatedMember.getAuthStatus() == AuthStatus.INCOMPLETE) {
+            throw new NeedApartmentAuthException();
+        } else if (authenticatedMember.getAuthStatus() == AuthStatus.PENDING) {
+            throw new NeedToMakeCommunityException();
+        }
+        if (!apartUserMetadata.checkApartment() || apartUserMetadata.apartIdVariableName() == null) {
+            return true;
+        }
+
+        final String apartPathVariable = retrieveApartPathVariable(request, apartUserMetadata.apartIdVariableName());
+        if (apartPathVariable != null && !apartPathVariable.equals(authenticatedMember.getApartmentDto().getCode())) {
+            throw new ApartRequestNotMatchWithMemberApartException();
+        }
+        return true;
+    }
+
+    private AuthenticatedMember resolveAuthenticatedMember() {
+        final Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !(authentication.getPrincipal() instanceof AuthenticatedMember authenticatedMember)) {
+            throw new NonAuthorizedException();
+        }
+        return authenticatedMember;
+    }
+
+    @SuppressWarnings("unchecked")
+    private String retrieveApartPathVariable(HttpServletRequest request, String apartIdVariableName) {
+        final Map<String, String> uriTemplateVariables =
+                (Map<String, String>) request.getAttribute(HandlerMapping.URI_TEMPLATE_VARIABLES_ATTRIBUTE);
+        if (uriTemplateVariables == null) {
+            return null;
+        }
+        return uriTemplateVariables.get(apartIdVariableName);
+    }
+
+}
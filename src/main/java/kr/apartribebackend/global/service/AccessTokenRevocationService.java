@@ -0,0 +1,114 @@
+package kr.apartribebackend.global.service;
+
+import kr.apartribebackend.global.utils.LongBloomFilter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 로그아웃, 비밀번호 변경 등으로 인해 아직 만료되지 않은 AccessToken 을 무효화하기 위한 서비스.
+ * 대부분의 요청은 폐기된 회원이 아니므로 Bloom Filter 로 먼저 걸러내고, Bloom Filter 에 걸린 경우에만 폐기 시각을 비교한다.
+ * 폐기 기록은 AccessToken 만료시간 동안만 유지하면 되므로, 두 세대의 Bloom Filter 를 만료시간마다 교체한다.
+ * 폐기 기록은 이 노드의 메모리에만 있다. 다른 노드는 폐기를 알지 못하고, 재시작하면 아직 만료되지 않은 폐기된 AccessToken 이 다시 통과한다.
+ * 따라서 여러 노드로 띄우는 경우 Stateless Principal 모드에서는 AccessToken 만료시간 (stateless-principal.expiration) 을 짧게 유지해야 한다.
+ */
+@Slf4j
+@Service
+public class AccessTokenRevocationService {
+
+    private static final int EXPECTED_REVOCATIONS = 10_000;
+    private static final double FALSE_POSITIVE_PROBABILITY = 0.01;
+
+    private final Map<Long, Instant> revokedAtHolder = new ConcurrentHashMap<>();
+    private final long retentionMillis;
+    private final boolean statelessPrincipalEnabled;
+    private volatile LongBloomFilter currentGeneration = newGeneration();
+    private volatile LongBloomFilter previousGeneration = newGeneration();
+
+    public AccessTokenRevocationService(
+            @Value("${application.security.jwt.expiration}") long accessTokenExpiration,
+            @Value("${application.security.jwt.stateless-principal.enabled:false}") boolean statelessPrincipalEnabled
+    ) {
+        this.retentionMillis = accessTokenExpiration;
+        this.statelessPrincipalEnabled = statelessPrincipalEnabled;
+    }
+
+    /**
+     * memberId 에게 커밋 시점 이전에 발급된 모든 AccessToken 을 무효화한다.
+     * 롤백된 변경으로 토큰이 폐기되지 않도록, 트랜잭션 안에서 호출되면 커밋된 뒤에 반영한다.
+     * @param memberId
+     */
+    public void revoke(Long memberId) {
+        afterCommit(() -> {
+            revokedAtHolder.put(memberId, Instant.now());
+            currentGeneration.put(memberId);
+        });
+    }
+
+    /**
+     * 닉네임, 아파트 인증 정보처럼 AccessToken Claim 에 실린 정보가 변경된 경우 호출한다.
+     * DB 에서 Principal 을 조회하는 모드에서는 Claim 이 오래되어도 문제가 없으므로 폐기하지 않는다.
+     * @param memberId
+     */
+    public void revokeStaleClaims(Long memberId) {
+        if (statelessPrincipalEnabled) {
+            revoke(memberId);
+        }
+    }
+
+    /**
+     * 발급 시각은 JwtService.extractIssuedAt 의 밀리초 단위 값이므로, 폐기 시각도 밀리초 단위로 내림하여 비교한다.
+     * 폐기 직후 같은 초에 다시 로그인해 받은 토큰은 통과하고, 폐기와 같은 밀리초에 발급된 토큰만 폐기된 것으로 본다.
+     * iatMillis 가 없는 이전 토큰은 초 단위 iat 로 비교되므로, 폐기와 같은 초에 발급되었다면 폐기된 것으로 본다.
+     * @param memberId
+     * @param issuedAt
+     * @return
+     */
+    public boolean isRevoked(Long memberId, Instant issuedAt) {
+        if (memberId == null || issuedAt == null) {
+            return false;
+        }
+        if (!currentGeneration.mightContain(memberId) && !previousGeneration.mightContain(memberId)) {
+            return false;
+        }
+        final Instant revokedAt = revokedAtHolder.get(memberId);
+        return revokedAt != null && !issuedAt.isAfter(revokedAt.truncatedTo(ChronoUnit.MILLIS));
+    }
+
+    /**
+     * 보관기간이 지난 폐기 기록을 제거하고 Bloom Filter 세대를 교체한다.
+     * 교체 주기가 보관기간과 같으므로, 남아있는 폐기 기록은 항상 현재 혹은 이전 세대에 포함되어 있다.
+     */
+    public void rotate() {
+        final Instant evictBefore = Instant.now().minusMillis(retentionMillis);
+        revokedAtHolder.values().removeIf(revokedAt -> revokedAt.isBefore(evictBefore));
+        previousGeneration = currentGeneration;
+        currentGeneration = newGeneration();
+        log.info("Rotated AccessToken Revocation Filter, {} Revocations Remain", revokedAtHolder.size());
+    }
+
+    private static LongBloomFilter newGeneration() {
+        return new LongBloomFilter(EXPECTED_REVOCATIONS, FALSE_POSITIVE_PROBABILITY);
+    }
+
+    private void afterCommit(final Runnable runnable) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            runnable.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                runnable.run();
+            }
+        });
+    }
+
+}
@@ -0,0 +1,150 @@
+package kr.apartribebackend.global.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * 페이징 목록의 totalCount 를 매번 COUNT(*) 로 구하지 않기 위한 근사 카운터.
+ * 키별 카운터는 처음 조회될 때 정확한 COUNT 로 초기화되고, 이후 등록 / 삭제 시 커밋 이후에 증감된다.
+ * 수정 충돌, 롤백, 일괄 삭제 등으로 생기는 오차는 주기적으로 카운터를 비워(reconcile) 다음 조회때 다시 세도록 하여 보정한다.
+ */
+@Slf4j
+@Service
+public class ApproximateCountService {
+
+    private final Map<CountKey, AtomicLong> counterHolder = new ConcurrentHashMap<>();
+
+    /**
+     * key 에 해당하는 개수를 반환한다. 카운터가 없거나 exact 가 true 이면 exactCounter 로 세고, 그 결과로 카운터를 갱신한다.
+     * COUNT 쿼리는 ConcurrentHashMap 의 bin lock 밖에서 실행하고, 동시에 센 결과 중 먼저 등록된 카운터를 사용한다.
+     * @param key null 이면 캐싱하지 않고 항상 exactCounter 를 사용한다.
+     * @param exact
+     * @param exactCounter
+     * @return
+     */
+    public long count(final CountKey key, final boolean exact, final LongSupplier exactCounter) {
+        if (key == null) {
+            return exactCounter.getAsLong();
+        }
+        if (exact) {
+            final long exactCount = exactCounter.getAsLong();
+            counterHolder.put(key, new AtomicLong(exactCount));
+            return exactCount;
+        }
+        final AtomicLong counter = counterHolder.get(key);
+        if (counter != null) {
+            return counter.get();
+        }
+        final long exactCount = exactCounter.getAsLong();
+        final AtomicLong registered = counterHolder.putIfAbsent(key, new AtomicLong(exactCount));
+        return registered != null ? registered.get() : exactCount;
+    }
+
+    /**
+     * 게시글 등록 시 아파트 게시판의 그룹별 / 전체 카운터와 작성자의 게시글 카운터를 증가시킨다.
+     * @param apartCode
+     * @param boardType
+     * @param group
+     * @param memberId
+     */
+    public void incrementBoard(final String apartCode, final String boardType, final String group, final Long memberId) {
+        afterCommit(() -> add(1, boardKeys(apartCode, boardType, group, memberId)));
+    }
+
+    public void decrementBoard(final String apartCode, final String boardType, final String group, final Long memberId) {
+        afterCommit(() -> add(-1, boardKeys(apartCode, boardType, group, memberId)));
+    }
+
+    /**
+     * 게시글의 카테고리 / 공지 레벨이 바뀐 경우 그룹 카운터만 옮긴다.
+     * @param apartCode
+     * @param boardType
+     * @param fromGroup
+     * @param toGroup
+     */
+    public void moveBoard(final String apartCode, final String boardType, final String fromGroup, final String toGroup) {
+        final CountKey from = CountKey.board(apartCode, boardType, fromGroup);
+        final CountKey to = CountKey.board(apartCode, boardType, toGroup);
+        if (from.equals(to)) {
+            return;
+        }
+        afterCommit(() -> {
+            add(-1, from);
+            add(1, to);
+        });
+    }
+
+    public void incrementComment(final Long memberId) {
+        afterCommit(() -> add(1, CountKey.memberComments(memberId)));
+    }
+
+    public void decrementComment(final Long memberId) {
+        afterCommit(() -> add(-1, CountKey.memberComments(memberId)));
+    }
+
+    /**
+     * 모든 카운터를 비운다. 각 카운터는 다음 조회때 정확한 COUNT 로 다시 초기화된다.
+     */
+    public void reconcile() {
+        log.info("Reconciling {} Approximate Counters", counterHolder.size());
+        counterHolder.clear();
+    }
+
+    private void add(final long delta, final CountKey... keys) {
+        for (CountKey key : keys) {
+            final AtomicLong counter = counterHolder.get(key);
+            if (counter != null) {
+                counter.updateAndGet(current -> Math.max(0, current + delta));
+            }
+        }
+    }
+
+    private CountKey[] boardKeys(final String apartCode, final String boardType, final String group, final Long memberId) {
+        return new CountKey[] {
+                CountKey.board(apartCode, boardType, group),
+                CountKey.board(apartCode, boardType, CountKey.ALL),
+                CountKey.memberBoards(memberId)
+        };
+    }
+
+    private void afterCommit(final Runnable runnable) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            runnable.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                runnable.run();
+            }
+        });
+    }
+
+    /**
+     * 카운터 키. scope 는 아파트 코드나 회원 ID, target 은 게시판 종류, group 은 카테고리 / 공지 레벨이다. (전체는 ALL)
+     */
+    public record CountKey(String scope, String target, String group) {
+
+        public static final String ALL = "ALL";
+
+        public static CountKey board(final String apartCode, final String boardType, final String group) {
+            return new CountKey(apartCode, boardType, group == null || group.isBlank() ? ALL : group);
+        }
+
+        public static CountKey memberBoards(final Long memberId) {
+            return new CountKey(String.valueOf(memberId), "MEMBER_BOARD", ALL);
+        }
+
+        public static CountKey memberComments(final Long memberId) {
+            return new CountKey(String.valueOf(memberId), "MEMBER_COMMENT", ALL);
+        }
+    }
+
+}
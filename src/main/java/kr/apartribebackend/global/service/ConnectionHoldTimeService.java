@@ -0,0 +1,104 @@
+package kr.apartribebackend.global.service;
+
+import kr.apartribebackend.global.dto.ConnectionHoldStats;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 요청마다 DB Connection 을 얼마나 오래 점유했는지 잰다.
+ * Connection 을 얻은 시점부터 반환(close)한 시점까지를 점유 시간으로 보고, 요청을 처리한 스레드에서 반환된 Connection 만 그 요청에 합산한다.
+ * (HomeService 처럼 다른 스레드로 나눠 조회하는 경우 그 스레드의 점유 시간은 요청에 합산되지 않는다)
+ * 요청 하나의 점유 시간이 warn-threshold 를 넘으면 엔드포인트와 함께 로그를 남긴다.
+ */
+@Slf4j
+@Service
+public class ConnectionHoldTimeService {
+
+    private static final int MAX_ENDPOINTS = 1_000;
+    private static final String OTHER_ENDPOINT = "OTHER";
+
+    private final ThreadLocal<RequestHold> requestHolder = new ThreadLocal<>();
+    private final Map<String, EndpointHold> endpoints = new ConcurrentHashMap<>();
+
+    @Value("${application.datasource.hold-time.warn-threshold:500}")
+    private long warnThresholdMillis;
+
+    public void beginRequest() {
+        requestHolder.set(new RequestHold());
+    }
+
+    /**
+     * 현재 스레드의 요청에 반환된 Connection 의 점유 시간을 더한다. 요청 밖 (스케줄러, 배치 등) 에서 반환된 Connection 은 무시한다.
+     * @param holdNanos
+     */
+    public void connectionReleased(final long holdNanos) {
+        final RequestHold requestHold = requestHolder.get();
+        if (requestHold != null) {
+            requestHold.connections++;
+            requestHold.holdNanos += holdNanos;
+        }
+    }
+
+    /**
+     * 요청의 점유 시간을 엔드포인트 통계에 더한다. Connection 을 쓰지 않은 요청은 기록하지 않는다.
+     * @param endpoint
+     */
+    public void endRequest(final String endpoint) {
+        final RequestHold requestHold = requestHolder.get();
+        requestHolder.remove();
+        if (requestHold == null || requestHold.connections == 0) {
+            return;
+        }
+        final String key = endpoints.size() < MAX_ENDPOINTS || endpoints.containsKey(endpoint) ? endpoint : OTHER_ENDPOINT;
+        endpoints.computeIfAbsent(key, k -> new EndpointHold()).add(requestHold);
+        final long holdMillis = requestHold.holdNanos / 1_000_000;
+        if (holdMillis > warnThresholdMillis) {
+            log.warn("Long Connection Hold endpoint={} holdMillis={} connections={}", endpoint, holdMillis, requestHold.connections);
+        }
+    }
+
+    /**
+     * 점유 시간 합이 큰 순서로 limit 개의 엔드포인트 통계를 반환한다.
+     * @param limit
+     * @return
+     */
+    public List<ConnectionHoldStats> stats(final int limit) {
+        return endpoints.entrySet().stream()
+                .map(entry -> entry.getValue().toStats(entry.getKey()))
+                .sorted(Comparator.comparingLong(ConnectionHoldStats::holdNanos).reversed())
+                .limit(limit)
+                .toList();
+    }
+
+    private static final class RequestHold {
+        private int connections;
+        private long holdNanos;
+    }
+
+    private static final class EndpointHold {
+
+        private final AtomicLong requests = new AtomicLong();
+        private final AtomicLong connections = new AtomicLong();
+        private final AtomicLong holdNanos = new AtomicLong();
+        private final AtomicLong maxRequestHoldNanos = new AtomicLong();
+
+        void add(final RequestHold requestHold) {
+            requests.incrementAndGet();
+            connections.addAndGet(requestHold.connections);
+            holdNanos.addAndGet(requestHold.holdNanos);
+            maxRequestHoldNanos.accumulateAndGet(requestHold.holdNanos, Math::max);
+        }
+
+        ConnectionHoldStats toStats(final String endpoint) {
+            return new ConnectionHoldStats(endpoint, requests.get(), connections.get(), holdNanos.get(), maxRequestHoldNanos.get());
+        }
+    }
+
+}
@@ -32,8 +32,6 @@ public class JsonLoginUserDetailsService implements UserDetailsService {
         final MemberDto memberDto = MemberDto.from(member);
         final ApartmentDto apartmentDto = ApartmentDto.from(apartment);
 
-        final AuthenticatedMember authenticatedMember = AuthenticatedMember.from(memberDto, apartmentDto);
-        authenticatedMember.setOriginalEntity(member);
-        return authenticatedMember;
+        return AuthenticatedMember.from(memberDto, apartmentDto);
     }
 }
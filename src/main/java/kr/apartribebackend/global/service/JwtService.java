@@ -1,26 +1,33 @@
 package kr.apartribebackend.global.service;
 
 
-import io.jsonwebtoken.Claims;
-import io.jsonwebtoken.ExpiredJwtException;
-import io.jsonwebtoken.Jwts;
-import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.Keys;
+import io.jsonwebtoken.security.SignatureException;
+import jakarta.annotation.PostConstruct;
+import kr.apartribebackend.global.service.keyring.JwtKeyRing;
+import kr.apartribebackend.global.service.keyring.JwtSigningKey;
+import kr.apartribebackend.member.principal.AuthenticatedMember;
+import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
+import java.nio.charset.StandardCharsets;
 import java.security.Key;
+import java.time.Instant;
 import java.time.LocalDateTime;
 import java.util.*;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
 // TODO 전체적인 리팩토링 필요
+@RequiredArgsConstructor
 @Service
 public class JwtService {
 
-    @Value("${application.security.jwt.secret-key}")
-    private String accessTokenSecretKey;
+    public static final String ISSUED_AT_MILLIS_CLAIM = "iatMillis";
+
+    private final JwtKeyRing jwtKeyRing;
 
     @Value("${application.security.jwt.refresh-token.secret-key}")
     private String refreshTokenSecretKey;
@@ -31,6 +38,38 @@ public class JwtService {
     @Value("${application.security.jwt.refresh-token.expiration}")
     private long refreshTokenExpiration;
 
+    @Value("${application.security.jwt.stateless-principal.enabled:false}")
+    private boolean statelessPrincipalEnabled;
+
+    @Value("${application.security.jwt.stateless-principal.expiration:300000}")
+    private long statelessPrincipalExpiration;
+
+    private Key refreshTokenSigningKey;
+    private JwtParser accessTokenParser;
+    private JwtParser refreshTokenParser;
+
+    /**
+     * 매 요청마다 secret 을 Key 로 변환하고 Parser 를 생성하지 않도록, 기동 시점에 한번만 생성한다.
+     * AccessToken Parser 는 헤더의 kid 로 KeyRing 에서 검증키를 찾는다.
+     */
+    @PostConstruct
+    public void initialize() {
+        this.refreshTokenSigningKey = Keys.hmacShaKeyFor(refreshTokenSecretKey.getBytes(StandardCharsets.UTF_8));
+        this.refreshTokenParser = Jwts.parserBuilder()
+                .setSigningKey(refreshTokenSigningKey)
+                .build();
+        this.accessTokenParser = Jwts.parserBuilder()
+                .setSigningKeyResolver(new SigningKeyResolverAdapter() {
+                    @Override
+                    public Key resolveSigningKey(JwsHeader header, Claims claims) {
+                        return jwtKeyRing.findVerificationKey(header.getKeyId())
+                                .map(JwtSigningKey::verificationKey)
+                                .orElseThrow(() -> new SignatureException("알 수 없는 서명키 입니다."));
+                    }
+                })
+                .build();
+    }
+
     public String getDecodedTokenExcludeSignature(String jwt) {
         return Arrays.stream(jwt.split("\\."))
                 .limit(2)
@@ -68,6 +107,21 @@ public class JwtService {
         return extractExpiration(token, tokenType).before(new Date());
     }
 
+    /**
+     * 표준 iat 는 초 단위이므로, 발급 시각은 밀리초 단위로 함께 싣는 iatMillis Claim 을 우선 사용한다.
+     * iatMillis 가 없는 이전 토큰은 iat 를 그대로 사용한다.
+     * @param claims
+     * @return
+     */
+    public Instant extractIssuedAt(Claims claims) {
+        final Long issuedAtMillis = claims.get(ISSUED_AT_MILLIS_CLAIM, Long.class);
+        if (issuedAtMillis != null) {
+            return Instant.ofEpochMilli(issuedAtMillis);
+        }
+        final Date issuedAt = claims.getIssuedAt();
+        return issuedAt != null ? issuedAt.toInstant() : null;
+    }
+
     public Date extractExpiration(String token, TokenType tokenType) {
         return extractClaim(token, tokenType, Claims::getExpiration);
     }
@@ -78,17 +132,39 @@ public class JwtService {
     }
 
     public Claims extractAllClaims(String token, TokenType tokenType) {
-        String secretKey = accessTokenSecretKey;
-        if (tokenType.equals(TokenType.REFRESH)) secretKey = refreshTokenSecretKey;
-        return Jwts.parserBuilder()
-                .setSigningKey(getSigningKey(secretKey))
-                .build()
+        final JwtParser jwtParser = tokenType.equals(TokenType.REFRESH) ? refreshTokenParser : accessTokenParser;
+        return jwtParser
                 .parseClaimsJws(token)
                 .getBody();
     }
 
     ////////////////////////////// GENERATE & BUILD //////////////////////////////
 
+    public boolean isStatelessPrincipalEnabled() {
+        return statelessPrincipalEnabled;
+    }
+
+    /**
+     * Stateless Principal 모드에서는 AuthenticatedMember 를 복원할 수 있는 Claim 을 모두 싣고, 짧은 만료시간을 사용한다.
+     * @param authenticatedMember
+     * @return
+     */
+    public String generateAccessToken(AuthenticatedMember authenticatedMember) {
+        if (statelessPrincipalEnabled) {
+            final Map<String, Object> claims = authenticatedMember.toClaims();
+            claims.put("role", "추가해야함");
+            return buildToken(authenticatedMember.getUsername(), claims, statelessPrincipalExpiration);
+        }
+        return generateAccessToken(
+                authenticatedMember.getUsername(),
+                Map.of(
+                        "email", authenticatedMember.getEmail(),
+                        "role", "추가해야함",
+                        "memberType", authenticatedMember.getMemberType()
+                )
+        );
+    }
+
     public String generateAccessToken(String subject) {
         return generateAccessToken(subject, new HashMap<>());
     }
@@ -103,7 +179,9 @@ public class JwtService {
         return buildToken(subject,
                 new HashMap<>(Map.of("type", "refresh")),
                 refreshTokenExpiration,
-                getSigningKey(refreshTokenSecretKey));
+                null,
+                refreshTokenSigningKey,
+                SignatureAlgorithm.HS512);
     }
 
     public String generateRefreshToken(String subject, String createdAt) {
@@ -116,32 +194,44 @@ public class JwtService {
                         )
                 ),
                 refreshTokenExpiration,
-                getSigningKey(refreshTokenSecretKey)
+                null,
+                refreshTokenSigningKey,
+                SignatureAlgorithm.HS512
         );
     }
 
     private String buildToken(String subject, Map<String, ?> extraClaims, long expiration) {
+        final JwtSigningKey signingKey = jwtKeyRing.currentSigningKey();
         return buildToken(subject,
                 extraClaims,
                 expiration,
-                getSigningKey(accessTokenSecretKey));
-    }
-
-    private String buildToken(String subject, Map<String, ?> extraClaims, long expiration, Key key) {
-        return Jwts.builder()
+                signingKey.kid(),
+                signingKey.signingKey(),
+                signingKey.algorithm());
+    }
+
+    private String buildToken(String subject,
+                              Map<String, ?> extraClaims,
+                              long expiration,
+                              String kid,
+                              Key key,
+                              SignatureAlgorithm signatureAlgorithm) {
+        final JwtBuilder jwtBuilder = Jwts.builder();
+        if (kid != null) {
+            jwtBuilder.setHeaderParam(JwsHeader.KEY_ID, kid);
+        }
+        final long issuedAtMillis = System.currentTimeMillis();
+        return jwtBuilder
                 .setClaims(extraClaims)
+                .claim(ISSUED_AT_MILLIS_CLAIM, issuedAtMillis)
                 .setSubject(subject)
                 .setIssuer("APARTRIBE")
-                .setIssuedAt(new Date(System.currentTimeMillis()))
-                .setExpiration(new Date(System.currentTimeMillis() + expiration))
-                .signWith(key, SignatureAlgorithm.HS512)
+                .setIssuedAt(new Date(issuedAtMillis))
+                .setExpiration(new Date(issuedAtMillis + expiration))
+                .signWith(key, signatureAlgorithm)
                 .compact();
     }
 
-    private Key getSigningKey(String keyType) {
-        return Keys.hmacShaKeyFor(keyType.getBytes());
-    }
-
     public enum TokenType {
         ACCESS,
         REFRESH
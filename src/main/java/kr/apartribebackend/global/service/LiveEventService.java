@@ -0,0 +1,344 @@
+package kr.apartribebackend.global.service;
+
+import kr.apartribebackend.global.dto.LiveEvent;
+import kr.apartribebackend.global.dto.LiveEvent.Merge;
+import kr.apartribebackend.global.dto.LiveEvent.Type;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * 게시글별 / 아파트별 실시간 이벤트(SSE) 구독과 발행.
+ *
+ * 구독 연결은 비동기 서블릿 요청(SseEmitter) 으로 유지되므로 대기 중인 구독자는 요청 스레드를 점유하지 않는다.
+ * 구독자 목록은 토픽 해시로 나눈 STRIPES 개의 구역에 나눠 담고 구역마다 따로 잠가, 구독 / 해제 / 발행이 서로 다른 토픽끼리는 경합하지 않는다.
+ * 발행된 이벤트는 바로 보내지 않고 토픽별로 모아두었다가 flush() 가 호출될 때(tick) 같은 대상의 이벤트를 병합(LiveEvent.Merge) 해 구독자마다 한 번에 보낸다.
+ * 구독자마다 보내지 못한 이벤트를 BUFFER_CAPACITY 개까지만 쌓아두고, 이를 넘기면 느린 구독자로 보고 연결을 끊는다. 클라이언트는 재연결 후 목록을 다시 조회한다.
+ */
+@Slf4j
+@Service
+public class LiveEventService {
+
+    public static final int STRIPES = 64;
+    public static final int BUFFER_CAPACITY = 256;
+    public static final Duration CONNECTION_TIMEOUT = Duration.ofMinutes(30);
+    public static final Duration HEARTBEAT_INTERVAL = Duration.ofSeconds(15);
+
+    private static final String EVENT_NAME = "events";
+
+    private final Executor liveEventExecutor;
+    private final Stripe[] stripes = new Stripe[STRIPES];
+    private final Map<String, TopicBatch> pending = new ConcurrentHashMap<>();
+
+    public LiveEventService(@Qualifier("liveEventExecutor") final Executor liveEventExecutor) {
+        this.liveEventExecutor = liveEventExecutor;
+        for (int index = 0; index < STRIPES; index++) {
+            stripes[index] = new Stripe();
+        }
+    }
+
+    /**
+     * 게시글의 댓글 등록 / 삭제, 게시글 / 댓글 좋아요 수 변경을 구독한다.
+     * @param boardId
+     * @return
+     */
+    public SseEmitter subscribeBoard(final Long boardId) {
+        return subscribe(boardTopic(boardId));
+    }
+
+    /**
+     * 아파트 전체 게시글의 좋아요 수, 댓글 수 변경을 구독한다. 댓글 내용은 포함하지 않는다.
+     * @param apartCode
+     * @return
+     */
+    public SseEmitter subscribeApartment(final String apartCode) {
+        return subscribe(apartTopic(apartCode));
+    }
+
+    /**
+     * 댓글 등록을 커밋 후 발행한다.
+     * @param apartCode 게시글의 아파트 코드
+     * @param boardId
+     * @param commentId
+     * @param comment 구독자에게 전달할 댓글 내용
+     */
+    public void publishCommentCreated(final String apartCode, final Long boardId, final Long commentId, final Object comment) {
+        afterCommit(() -> {
+            enqueue(boardTopic(boardId), new LiveEvent(Type.COMMENT_CREATED, commentId, comment));
+            enqueue(apartTopic(apartCode), new LiveEvent(Type.BOARD_COMMENTS, boardId, 1));
+        });
+    }
+
+    /**
+     * 댓글 삭제를 커밋 후 발행한다.
+     * @param apartCode
+     * @param boardId
+     * @param commentId
+     * @param deletedCount 함께 삭제된 대댓글을 포함한 삭제된 댓글 수
+     */
+    public void publishCommentDeleted(final String apartCode, final Long boardId, final Long commentId, final int deletedCount) {
+        afterCommit(() -> {
+            enqueue(boardTopic(boardId), new LiveEvent(Type.COMMENT_DELETED, commentId, deletedCount));
+            enqueue(apartTopic(apartCode), new LiveEvent(Type.BOARD_COMMENTS, boardId, -deletedCount));
+        });
+    }
+
+    public void publishBoardLikes(final String apartCode, final Long boardId, final int liked) {
+        afterCommit(() -> {
+            final LiveEvent event = new LiveEvent(Type.BOARD_LIKES, boardId, liked);
+            enqueue(boardTopic(boardId), event);
+            enqueue(apartTopic(apartCode), event);
+        });
+    }
+
+    public void publishCommentLikes(final Long boardId, final Long commentId, final int liked) {
+        afterCommit(() -> enqueue(boardTopic(boardId), new LiveEvent(Type.COMMENT_LIKES, commentId, liked)));
+    }
+
+    /**
+     * 지난 tick 이후 모인 이벤트를 토픽별로 병합해 구독자들에게 보낸다. FlushLiveEventsTask 가 주기적으로 호출한다.
+     */
+    public void flush() {
+        for (String topic : pending.keySet()) {
+            final TopicBatch batch = pending.remove(topic);
+            if (batch == null) {
+                continue;
+            }
+            final List<LiveEvent> events = batch.events();
+            for (Subscriber subscriber : stripeOf(topic).subscribers(topic)) {
+                if (!subscriber.offer(events)) {
+                    log.debug("Dropping slow SSE subscriber of {}", topic);
+                    subscriber.close();
+                    continue;
+                }
+                subscriber.trySend(liveEventExecutor);
+            }
+        }
+    }
+
+    /**
+     * HEARTBEAT_INTERVAL 동안 아무것도 보내지 않은 구독자에게 SSE 주석을 보내 연결을 유지하고, 끊어진 연결을 정리한다.
+     */
+    public void heartbeat() {
+        final long threshold = System.currentTimeMillis() - HEARTBEAT_INTERVAL.toMillis();
+        for (Stripe stripe : stripes) {
+            for (Subscriber subscriber : stripe.allSubscribers()) {
+                subscriber.trySendHeartbeat(liveEventExecutor, threshold);
+            }
+        }
+    }
+
+    private SseEmitter subscribe(final String topic) {
+        final SseEmitter emitter = new SseEmitter(CONNECTION_TIMEOUT.toMillis());
+        final Subscriber subscriber = new Subscriber(topic, emitter);
+        final Stripe stripe = stripeOf(topic);
+        emitter.onCompletion(() -> stripe.remove(subscriber));
+        emitter.onTimeout(emitter::complete);
+        emitter.onError(throwable -> stripe.remove(subscriber));
+        stripe.add(subscriber);
+        subscriber.trySendHeartbeat(liveEventExecutor, Long.MAX_VALUE);
+        return emitter;
+    }
+
+    private void enqueue(final String topic, final LiveEvent event) {
+        if (!stripeOf(topic).hasSubscribers(topic)) {
+            return;
+        }
+        pending.compute(topic, (key, batch) -> {
+            final TopicBatch topicBatch = batch == null ? new TopicBatch() : batch;
+            topicBatch.add(event);
+            return topicBatch;
+        });
+    }
+
+    private Stripe stripeOf(final String topic) {
+        return stripes[Math.floorMod(topic.hashCode(), STRIPES)];
+    }
+
+    private static String boardTopic(final Long boardId) {
+        return "board:" + boardId;
+    }
+
+    private static String apartTopic(final String apartCode) {
+        return "apart:" + apartCode;
+    }
+
+    private void afterCommit(final Runnable runnable) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            runnable.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                runnable.run();
+            }
+        });
+    }
+
+    /**
+     * 토픽 → 구독자 목록. 구역마다 자신의 모니터로 잠근다.
+     */
+    static final class Stripe {
+
+        private final Map<String, Set<Subscriber>> subscribers = new HashMap<>();
+
+        synchronized void add(final Subscriber subscriber) {
+            subscribers.computeIfAbsent(subscriber.topic, key -> new HashSet<>()).add(subscriber);
+        }
+
+        synchronized void remove(final Subscriber subscriber) {
+            final Set<Subscriber> topicSubscribers = subscribers.get(subscriber.topic);
+            if (topicSubscribers != null && topicSubscribers.remove(subscriber) && topicSubscribers.isEmpty()) {
+                subscribers.remove(subscriber.topic);
+            }
+        }
+
+        synchronized boolean hasSubscribers(final String topic) {
+            return subscribers.containsKey(topic);
+        }
+
+        synchronized List<Subscriber> subscribers(final String topic) {
+            final Set<Subscriber> topicSubscribers = subscribers.get(topic);
+            return topicSubscribers == null ? List.of() : new ArrayList<>(topicSubscribers);
+        }
+
+        synchronized List<Subscriber> allSubscribers() {
+            final List<Subscriber> all = new ArrayList<>();
+            subscribers.values().forEach(all::addAll);
+            return all;
+        }
+    }
+
+    /**
+     * 한 토픽에 한 tick 동안 발행된 이벤트. 병합 가능한 이벤트는 (타입, 대상) 마다 하나만 남기고 마지막 발행 위치로 옮긴다.
+     */
+    static final class TopicBatch {
+
+        private long sequence;
+        private final LinkedHashMap<String, LiveEvent> events = new LinkedHashMap<>();
+
+        synchronized void add(final LiveEvent event) {
+            if (event.type().getMerge() == Merge.APPEND) {
+                events.put("#" + ++sequence, event);
+                return;
+            }
+            final String key = event.type() + ":" + event.targetId();
+            final LiveEvent previous = events.remove(key);
+            events.put(key, previous == null ? event : previous.merge(event));
+        }
+
+        synchronized List<LiveEvent> events() {
+            return new ArrayList<>(events.values());
+        }
+    }
+
+    /**
+     * SSE 연결 하나. 보내지 못한 이벤트를 buffer 에 모아두고, 한 번에 하나의 전송만 Executor 에서 수행한다.
+     */
+    static final class Subscriber {
+
+        private final String topic;
+        private final SseEmitter emitter;
+        private final ArrayDeque<LiveEvent> buffer = new ArrayDeque<>();
+        private boolean sending;
+        private boolean closed;
+        private volatile long lastSentAt = System.currentTimeMillis();
+
+        Subscriber(final String topic, final SseEmitter emitter) {
+            this.topic = topic;
+            this.emitter = emitter;
+        }
+
+        /**
+         * @return 버퍼가 BUFFER_CAPACITY 를 넘으면 false
+         */
+        synchronized boolean offer(final List<LiveEvent> events) {
+            if (closed) {
+                return true;
+            }
+            if (buffer.size() + events.size() > BUFFER_CAPACITY) {
+                return false;
+            }
+            buffer.addAll(events);
+            return true;
+        }
+
+        void trySend(final Executor executor) {
+            final List<LiveEvent> events;
+            synchronized (this) {
+                if (closed || sending || buffer.isEmpty()) {
+                    return;
+                }
+                events = new ArrayList<>(buffer);
+                buffer.clear();
+                sending = true;
+            }
+            execute(executor, () -> emitter.send(SseEmitter.event().name(EVENT_NAME).data(events, MediaType.APPLICATION_JSON)), events);
+        }
+
+        void trySendHeartbeat(final Executor executor, final long threshold) {
+            synchronized (this) {
+                if (closed || sending || lastSentAt > threshold) {
+                    return;
+                }
+                sending = true;
+            }
+            execute(executor, () -> emitter.send(SseEmitter.event().comment("heartbeat")), List.of());
+        }
+
+        void close() {
+            synchronized (this) {
+                if (closed) {
+                    return;
+                }
+                closed = true;
+                buffer.clear();
+            }
+            emitter.complete();
+        }
+
+        private void execute(final Executor executor, final Send send, final List<LiveEvent> events) {
+            try {
+                executor.execute(() -> {
+                    try {
+                        send.run();
+                        lastSentAt = System.currentTimeMillis();
+                    } catch (IOException | IllegalStateException e) {
+                        close();
+                        return;
+                    }
+                    synchronized (this) {
+                        sending = false;
+                    }
+                    trySend(executor);
+                });
+            } catch (TaskRejectedException | RejectedExecutionException e) {
+                synchronized (this) {
+                    for (int index = events.size() - 1; index >= 0; index--) {
+                        buffer.addFirst(events.get(index));
+                    }
+                    sending = false;
+                }
+            }
+        }
+    }
+
+    @FunctionalInterface
+    interface Send {
+        void run() throws IOException;
+    }
+
+}
@@ -0,0 +1,273 @@
+package kr.apartribebackend.global.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.util.RawValue;
+import jakarta.servlet.http.HttpServletRequest;
+import kr.apartribebackend.global.dto.ResponseCacheStats;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Supplier;
+
+/**
+ * 조회하는 회원과 상관없이 같은 응답을 내려주는 조회 API (게시글 목록, 카테고리, 위젯 등) 의 응답 캐시.
+ * 응답 data 를 미리 직렬화한 JSON 문자열로 저장하므로 캐시 hit 시에는 쿼리도 직렬화도 하지 않는다.
+ * 항목마다 태그 (아파트, 게시글, 카테고리) 를 달아두고, 변경이 커밋되면 해당 태그의 항목을 모두 제거한다.
+ * 저장된 응답 크기 합이 MAX_WEIGHT 를 넘으면 가장 오래 사용되지 않은 항목부터 EVICTION_TARGET 까지 제거하고, 조회수 / 날짜 기준 위젯처럼 태그로 잡히지 않는 변경은 TIME_TO_LIVE 가 지나면 다시 조회한다.
+ * 조회는 ConcurrentHashMap 에서 잠금 없이 읽고 항목의 마지막 사용 시각만 갱신한다. 저장 / 무효화 / 제거만 writeLock 으로 직렬화한다.
+ */
+@RequiredArgsConstructor
+@Service
+public class ResponseCacheService {
+
+    public static final long MAX_WEIGHT = 32L * 1024 * 1024;
+    public static final Duration TIME_TO_LIVE = Duration.ofMinutes(5);
+    public static final long EVICTION_TARGET = MAX_WEIGHT / 10 * 9;
+
+    private static final int GENERATION_STRIPES = 1024;
+
+    private final ObjectMapper objectMapper;
+
+    private final ConcurrentHashMap<String, Entry> entries = new ConcurrentHashMap<>(256);
+    private final Object writeLock = new Object();
+    private final Map<String, Set<String>> keysByTag = new HashMap<>();
+    private final AtomicLongArray generations = new AtomicLongArray(GENERATION_STRIPES);
+    private volatile long weight;
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong evictions = new AtomicLong();
+    private final AtomicLong invalidations = new AtomicLong();
+    private final AtomicLong rejectedStores = new AtomicLong();
+
+    public static String apartTag(final String apartCode) {
+        return "apart:" + apartCode;
+    }
+
+    public static String boardTag(final Long boardId) {
+        return "board:" + boardId;
+    }
+
+    public static String categoryTag(final String apartCode) {
+        return "category:" + apartCode;
+    }
+
+    /**
+     * 요청 URI 와 정렬된 쿼리 파라미터로 캐시 키를 만든다. 파라미터 순서가 달라도 같은 키가 된다.
+     * @param request
+     * @return
+     */
+    public static String key(final HttpServletRequest request) {
+        final StringBuilder key = new StringBuilder(request.getRequestURI());
+        final Map<String, String[]> parameters = new TreeMap<>(request.getParameterMap());
+        char separator = '?';
+        for (Map.Entry<String, String[]> parameter : parameters.entrySet()) {
+            for (String value : parameter.getValue()) {
+                key.append(separator).append(parameter.getKey()).append('=').append(value);
+                separator = '&';
+            }
+        }
+        return key.toString();
+    }
+
+    /**
+     * 캐시된 JSON 을 반환하고, 없으면 supplier 의 결과를 직렬화해 저장한 뒤 반환한다.
+     * @param key
+     * @param tags
+     * @param supplier
+     * @return 응답에 그대로 쓰이는 JSON
+     */
+    public RawValue getJson(final String key, final String[] tags, final Supplier<?> supplier) {
+        final Optional<String> cached = getIfPresent(key, String.class);
+        if (cached.isPresent()) {
+            return new RawValue(cached.get());
+        }
+        final long stamp = stamp(tags);
+        final String json = writeJson(supplier.get());
+        put(key, tags, json, json.length(), stamp);
+        return new RawValue(json);
+    }
+
+    public <T> Optional<T> getIfPresent(final String key, final Class<T> type) {
+        final Entry entry = entries.get(key);
+        if (entry == null) {
+            misses.incrementAndGet();
+            return Optional.empty();
+        }
+        final long now = System.nanoTime();
+        if (entry.expiresAt < now) {
+            synchronized (writeLock) {
+                if (entries.remove(key, entry)) {
+                    detach(key, entry);
+                    evictions.incrementAndGet();
+                }
+            }
+            misses.incrementAndGet();
+            return Optional.empty();
+        }
+        if (!type.isInstance(entry.value)) {
+            misses.incrementAndGet();
+            return Optional.empty();
+        }
+        entry.lastAccessedAt = now;
+        hits.incrementAndGet();
+        return Optional.of(type.cast(entry.value));
+    }
+
+    /**
+     * 조회를 시작하기 전에 태그들의 현재 세대를 읽는다. put 할 때 세대가 바뀌어 있으면 조회 도중 무효화된 것이므로 저장하지 않는다.
+     * @param tags
+     * @return
+     */
+    public long stamp(final String... tags) {
+        long stamp = 0;
+        for (String tag : tags) {
+            stamp += generations.get(slot(tag));
+        }
+        return stamp;
+    }
+
+    public void put(final String key, final String[] tags, final Object value, final int valueWeight, final long stamp) {
+        synchronized (writeLock) {
+            if (stamp(tags) != stamp) {
+                rejectedStores.incrementAndGet();
+                return;
+            }
+            if (valueWeight > MAX_WEIGHT) {
+                return;
+            }
+            remove(key);
+            final long now = System.nanoTime();
+            entries.put(key, new Entry(value, valueWeight, tags, now + TIME_TO_LIVE.toNanos(), now));
+            for (String tag : tags) {
+                keysByTag.computeIfAbsent(tag, ignored -> new HashSet<>()).add(key);
+            }
+            weight += valueWeight;
+            evictOverflow();
+        }
+    }
+
+    /**
+     * 태그가 달린 항목을 모두 제거한다. 트랜잭션 안에서 호출되면 커밋된 뒤에 제거한다.
+     * @param tags
+     */
+    public void invalidate(final String... tags) {
+        afterCommit(() -> {
+            for (String tag : tags) {
+                generations.incrementAndGet(slot(tag));
+            }
+            synchronized (writeLock) {
+                for (String tag : tags) {
+                    final Set<String> keys = keysByTag.get(tag);
+                    if (keys == null) {
+                        continue;
+                    }
+                    for (String key : List.copyOf(keys)) {
+                        remove(key);
+                        invalidations.incrementAndGet();
+                    }
+                }
+            }
+        });
+    }
+
+    public ResponseCacheStats stats() {
+        return new ResponseCacheStats(
+                hits.get(),
+                misses.get(),
+                evictions.get(),
+                invalidations.get(),
+                rejectedStores.get(),
+                entries.size(),
+                weight
+        );
+    }
+
+    /**
+     * MAX_WEIGHT 를 넘으면 마지막 사용 시각이 오래된 항목부터 EVICTION_TARGET 까지 제거한다. 한 번에 여유를 두고 비워 정렬이 매 저장마다 일어나지 않게 한다.
+     * writeLock 을 잡은 상태에서만 호출한다.
+     */
+    private void evictOverflow() {
+        if (weight <= MAX_WEIGHT) {
+            return;
+        }
+        final List<Map.Entry<String, Entry>> eldest = new ArrayList<>(entries.entrySet());
+        eldest.sort(Comparator.comparingLong(entry -> entry.getValue().lastAccessedAt));
+        for (Map.Entry<String, Entry> entry : eldest) {
+            if (weight <= EVICTION_TARGET) {
+                break;
+            }
+            if (entries.remove(entry.getKey(), entry.getValue())) {
+                detach(entry.getKey(), entry.getValue());
+                evictions.incrementAndGet();
+            }
+        }
+    }
+
+    private void remove(final String key) {
+        final Entry entry = entries.remove(key);
+        if (entry != null) {
+            detach(key, entry);
+        }
+    }
+
+    private void detach(final String key, final Entry entry) {
+        weight -= entry.weight;
+        for (String tag : entry.tags) {
+            final Set<String> keys = keysByTag.get(tag);
+            if (keys != null && keys.remove(key) && keys.isEmpty()) {
+                keysByTag.remove(tag);
+            }
+        }
+    }
+
+    private String writeJson(final Object value) {
+        try {
+            return objectMapper.writeValueAsString(value);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static int slot(final String tag) {
+        return Math.floorMod(tag.hashCode(), GENERATION_STRIPES);
+    }
+
+    private void afterCommit(final Runnable runnable) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            runnable.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                runnable.run();
+            }
+        });
+    }
+
+    private static final class Entry {
+        private final Object value;
+        private final int weight;
+        private final String[] tags;
+        private final long expiresAt;
+        private volatile long lastAccessedAt;
+
+        private Entry(final Object value, final int weight, final String[] tags, final long expiresAt, final long lastAccessedAt) {
+            this.value = value;
+            this.weight = weight;
+            this.tags = tags;
+            this.expiresAt = expiresAt;
+            this.lastAccessedAt = lastAccessedAt;
+        }
+    }
+
+}
@@ -0,0 +1,202 @@
+package kr.apartribebackend.global.service.keyring;
+
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.security.Keys;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigInteger;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.GeneralSecurityException;
+import java.security.KeyPair;
+import java.security.KeyStore;
+import java.security.PrivateKey;
+import java.security.cert.Certificate;
+import java.security.interfaces.ECPublicKey;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * ES256 (P-256) 비대칭 KeyRing.
+ * 공개키는 JWKS 로 노출되어 다른 노드가 DB 나 secret 공유 없이 토큰을 검증할 수 있다.
+ * 키는 모든 노드가 같은 PKCS12 KeyStore (마운트된 secret) 에서 읽으므로 재시작하거나 노드가 늘어나도 같은 키로 서명 / 검증한다.
+ * 서명은 KeyStore 에서 가장 최근에 만들어진 키로 하고, rotate() 는 KeyStore 를 다시 읽어 운영자가 추가한 키로 서명을 넘긴다.
+ * KeyStore 에서 빠지거나 서명에서 밀려난 키는 retention (AccessToken 만료시간) 동안 검증용으로만 남겨둔다.
+ * 메모리에서 키를 생성하는 generating() 은 노드마다 키가 달라지고 재시작하면 사라지므로 local / test 프로파일에서만 사용한다.
+ */
+@Slf4j
+public class EcJwtKeyRing implements JwtKeyRing {
+
+    private static final int P256_COORDINATE_LENGTH = 32;
+
+    private final Map<String, JwtSigningKey> keys = new ConcurrentHashMap<>();
+    private final Map<String, Instant> retiredAt = new ConcurrentHashMap<>();
+    private final Duration retention;
+    private final Supplier<List<JwtSigningKey>> keySource;
+    private volatile JwtSigningKey current;
+
+    private EcJwtKeyRing(Duration retention, Supplier<List<JwtSigningKey>> keySource) {
+        this.retention = retention;
+        this.keySource = keySource;
+        final List<JwtSigningKey> loaded = keySource.get();
+        loaded.forEach(key -> keys.put(key.kid(), key));
+        this.current = newestOf(loaded);
+    }
+
+    /**
+     * KeyStore 의 모든 EC 키 엔트리를 읽는다. alias 가 kid 가 되고, 엔트리 생성일이 가장 늦은 키로 서명한다.
+     * @param keyStorePath PKCS12 파일 경로
+     * @param password KeyStore 와 키 엔트리의 비밀번호
+     * @param retention
+     * @return
+     */
+    public static EcJwtKeyRing fromKeyStore(Path keyStorePath, char[] password, Duration retention) {
+        return new EcJwtKeyRing(retention, () -> loadKeyStore(keyStorePath, password));
+    }
+
+    /**
+     * 메모리에서 키를 생성하고, rotate() 마다 새 키를 생성한다. 개발용.
+     * @param retention
+     * @return
+     */
+    public static EcJwtKeyRing generating(Duration retention) {
+        return new EcJwtKeyRing(retention, () -> List.of(generateKey()));
+    }
+
+    @Override
+    public JwtSigningKey currentSigningKey() {
+        return current;
+    }
+
+    @Override
+    public Optional<JwtSigningKey> findVerificationKey(String kid) {
+        if (kid == null) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(keys.get(kid));
+    }
+
+    @Override
+    public List<Map<String, Object>> publicJwks() {
+        return keys.values().stream()
+                .sorted(Comparator.comparing(JwtSigningKey::activatedAt).reversed())
+                .map(EcJwtKeyRing::toJwk)
+                .toList();
+    }
+
+    /**
+     * KeyStore 를 읽지 못하면 기존 키로 계속 서명한다.
+     */
+    @Override
+    public synchronized void rotate() {
+        final List<JwtSigningKey> loaded;
+        final JwtSigningKey newest;
+        try {
+            loaded = keySource.get();
+            newest = newestOf(loaded);
+        } catch (IllegalStateException e) {
+            log.warn("Jwt SigningKey Reload Failed", e);
+            return;
+        }
+        final JwtSigningKey previous = current;
+        final Set<String> loadedKids = new HashSet<>();
+        loaded.forEach(key -> {
+            keys.put(key.kid(), key);
+            retiredAt.remove(key.kid());
+            loadedKids.add(key.kid());
+        });
+        if (!newest.activatedAt().isBefore(previous.activatedAt())) {
+            current = newest;
+        }
+        if (!current.kid().equals(previous.kid())) {
+            log.info("Jwt SigningKey Rotated {} --> {}", previous.kid(), current.kid());
+        }
+        final Instant now = Instant.now();
+        keys.keySet().stream()
+                .filter(kid -> !loadedKids.contains(kid) && !kid.equals(current.kid()))
+                .forEach(kid -> retiredAt.putIfAbsent(kid, now));
+
+        final Instant evictBefore = now.minus(retention);
+        retiredAt.entrySet().removeIf(entry -> {
+            if (entry.getValue().isBefore(evictBefore)) {
+                keys.remove(entry.getKey());
+                return true;
+            }
+            return false;
+        });
+    }
+
+    private static JwtSigningKey newestOf(List<JwtSigningKey> loaded) {
+        return loaded.stream()
+                .max(Comparator.comparing(JwtSigningKey::activatedAt))
+                .orElseThrow(() -> new IllegalStateException("KeyStore 에 ES256 서명키가 없습니다."));
+    }
+
+    private static List<JwtSigningKey> loadKeyStore(Path keyStorePath, char[] password) {
+        try (InputStream inputStream = Files.newInputStream(keyStorePath)) {
+            final KeyStore keyStore = KeyStore.getInstance("PKCS12");
+            keyStore.load(inputStream, password);
+            final List<JwtSigningKey> loaded = new ArrayList<>();
+            for (String alias : Collections.list(keyStore.aliases())) {
+                if (!keyStore.isKeyEntry(alias)) {
+                    continue;
+                }
+                final Certificate certificate = keyStore.getCertificate(alias);
+                if (certificate == null || !(certificate.getPublicKey() instanceof ECPublicKey publicKey)) {
+                    continue;
+                }
+                loaded.add(new JwtSigningKey(
+                        alias,
+                        SignatureAlgorithm.ES256,
+                        (PrivateKey) keyStore.getKey(alias, password),
+                        publicKey,
+                        keyStore.getCreationDate(alias).toInstant()
+                ));
+            }
+            return loaded;
+        } catch (IOException | GeneralSecurityException e) {
+            throw new IllegalStateException("Jwt KeyStore 를 읽을 수 없습니다. path=" + keyStorePath, e);
+        }
+    }
+
+    private static JwtSigningKey generateKey() {
+        final KeyPair keyPair = Keys.keyPairFor(SignatureAlgorithm.ES256);
+        return new JwtSigningKey(
+                "es256-" + UUID.randomUUID(),
+                SignatureAlgorithm.ES256,
+                keyPair.getPrivate(),
+                keyPair.getPublic(),
+                Instant.now()
+        );
+    }
+
+    private static Map<String, Object> toJwk(JwtSigningKey signingKey) {
+        final ECPublicKey publicKey = (ECPublicKey) signingKey.verificationKey();
+        final Map<String, Object> jwk = new LinkedHashMap<>();
+        jwk.put("kty", "EC");
+        jwk.put("crv", "P-256");
+        jwk.put("use", "sig");
+        jwk.put("alg", signingKey.algorithm().getValue());
+        jwk.put("kid", signingKey.kid());
+        jwk.put("x", encodeCoordinate(publicKey.getW().getAffineX()));
+        jwk.put("y", encodeCoordinate(publicKey.getW().getAffineY()));
+        return jwk;
+    }
+
+    /**
+     * BigInteger.toByteArray() 는 부호 비트때문에 앞에 0 이 붙거나 길이가 짧을 수 있으므로, 고정 길이(32 byte) unsigned 로 맞춘 후 base64url 인코딩한다.
+     */
+    private static String encodeCoordinate(BigInteger coordinate) {
+        final byte[] bytes = coordinate.toByteArray();
+        final byte[] fixed = new byte[P256_COORDINATE_LENGTH];
+        final int copyLength = Math.min(bytes.length, P256_COORDINATE_LENGTH);
+        System.arraycopy(bytes, bytes.length - copyLength, fixed, P256_COORDINATE_LENGTH - copyLength, copyLength);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(fixed);
+    }
+
+}
@@ -0,0 +1,45 @@
+package kr.apartribebackend.global.service.keyring;
+
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.security.Keys;
+
+import java.nio.charset.StandardCharsets;
+import java.security.Key;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 기존 방식 (HS512 + 공유 secret) 의 KeyRing. 키는 생성 시점에 한번만 변환하여 재사용한다.
+ */
+public class HmacJwtKeyRing implements JwtKeyRing {
+
+    private static final String KID = "hs512-default";
+
+    private final JwtSigningKey signingKey;
+
+    public HmacJwtKeyRing(String secretKey) {
+        final Key key = Keys.hmacShaKeyFor(secretKey.getBytes(StandardCharsets.UTF_8));
+        this.signingKey = new JwtSigningKey(KID, SignatureAlgorithm.HS512, key, key, Instant.now());
+    }
+
+    @Override
+    public JwtSigningKey currentSigningKey() {
+        return signingKey;
+    }
+
+    @Override
+    public Optional<JwtSigningKey> findVerificationKey(String kid) {
+        if (kid == null || kid.equals(KID)) {
+            return Optional.of(signingKey);
+        }
+        return Optional.empty();
+    }
+
+    @Override
+    public List<Map<String, Object>> publicJwks() {
+        return List.of();
+    }
+
+}
@@ -0,0 +1,33 @@
+package kr.apartribebackend.global.service.keyring;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * AccessToken 서명/검증에 사용되는 키 묶음.
+ * 서명은 항상 currentSigningKey() 로 수행하고, 검증은 토큰 헤더의 kid 로 키를 찾아 수행한다.
+ */
+public interface JwtKeyRing {
+
+    JwtSigningKey currentSigningKey();
+
+    /**
+     * kid 에 해당하는 검증키를 반환한다. kid 가 없는 (kid 도입 이전에 발급된) 토큰은 구현체가 처리 여부를 결정한다.
+     * @param kid
+     * @return
+     */
+    Optional<JwtSigningKey> findVerificationKey(String kid);
+
+    /**
+     * 외부에 공개 가능한 검증키 목록 (JWKS 의 keys). 대칭키는 공개하지 않는다.
+     * @return
+     */
+    List<Map<String, Object>> publicJwks();
+
+    /**
+     * 새로운 서명키를 발급하고, 보관기간이 지난 이전 키를 제거한다. 회전을 지원하지 않는 구현체는 아무것도 하지 않는다.
+     */
+    default void rotate() {}
+
+}
@@ -0,0 +1,20 @@
+package kr.apartribebackend.global.service.keyring;
+
+import io.jsonwebtoken.SignatureAlgorithm;
+
+import java.security.Key;
+import java.time.Instant;
+
+/**
+ * KeyRing 에 보관되는 하나의 서명키.
+ * kid 는 JWT 헤더에 실려 검증 시 어떤 키로 검증해야하는지 식별하는데 사용된다.
+ * 대칭키(HS512) 의 경우 signingKey 와 verificationKey 가 동일하다.
+ */
+public record JwtSigningKey(
+        String kid,
+        SignatureAlgorithm algorithm,
+        Key signingKey,
+        Key verificationKey,
+        Instant activatedAt
+) {
+}
@@ -0,0 +1,76 @@
+package kr.apartribebackend.global.utils;
+
+import org.springframework.util.StringUtils;
+
+import java.util.regex.Pattern;
+
+/**
+ * 게시글 본문(HTML / 마크다운) 에서 목록 조회용 평문 요약을 만든다.
+ * 길이는 char 가 아닌 code point 기준으로 자르기 때문에 이모지 같은 surrogate pair 가 중간에서 잘리지 않는다.
+ * 강조 기호 (*, _, ~~, `) 는 단어 경계에서 짝을 이룬 경우에만 제거하므로 snake_case, 2*3*4 같은 본문은 그대로 남는다.
+ */
+public class ExcerptUtil {
+
+    public static final int MAX_LENGTH = 150;
+
+    private static final String ELLIPSIS = "…";
+    private static final Pattern SCRIPT_OR_STYLE = Pattern.compile("(?is)<(script|style)[^>]*>.*?</\\1>");
+    private static final Pattern HTML_TAG = Pattern.compile("(?s)<[^>]*>");
+    private static final Pattern MARKDOWN_IMAGE = Pattern.compile("!\\[[^\\]]*]\\([^)]*\\)");
+    private static final Pattern MARKDOWN_LINK = Pattern.compile("\\[([^\\]]*)]\\([^)]*\\)");
+    private static final Pattern MARKDOWN_BLOCK = Pattern.compile("(?m)^\\s{0,3}(#{1,6}|>|[-*+]|\\d+\\.)\\s+");
+    private static final Pattern MARKDOWN_CODE = Pattern.compile("(`+)(?=\\S)(.+?)(?<=\\S)\\1");
+    private static final Pattern MARKDOWN_EMPHASIS =
+            Pattern.compile("(?<![\\w*~])(\\*{1,3}|_{1,3}|~~)(?=\\S)(.+?)(?<=\\S)\\1(?![\\w*~])");
+    private static final int MAX_EMPHASIS_DEPTH = 3;
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    public static String extract(final String content) {
+        if (!StringUtils.hasText(content)) {
+            return "";
+        }
+        String plain = SCRIPT_OR_STYLE.matcher(content).replaceAll(" ");
+        plain = HTML_TAG.matcher(plain).replaceAll(" ");
+        plain = MARKDOWN_IMAGE.matcher(plain).replaceAll(" ");
+        plain = MARKDOWN_LINK.matcher(plain).replaceAll("$1");
+        plain = MARKDOWN_BLOCK.matcher(plain).replaceAll("");
+        plain = MARKDOWN_CODE.matcher(plain).replaceAll("$2");
+        plain = stripEmphasis(plain);
+        plain = unescapeEntities(plain);
+        plain = WHITESPACE.matcher(plain).replaceAll(" ").strip();
+        return truncate(plain);
+    }
+
+    /**
+     * **_굵은 기울임_** 처럼 겹친 강조는 바깥부터 한 겹씩 벗겨낸다.
+     */
+    private static String stripEmphasis(final String text) {
+        String stripped = text;
+        for (int depth = 0; depth < MAX_EMPHASIS_DEPTH; depth++) {
+            final String next = MARKDOWN_EMPHASIS.matcher(stripped).replaceAll("$2");
+            if (next.equals(stripped)) {
+                break;
+            }
+            stripped = next;
+        }
+        return stripped;
+    }
+
+    private static String truncate(final String plain) {
+        if (plain.codePointCount(0, plain.length()) <= MAX_LENGTH) {
+            return plain;
+        }
+        final int end = plain.offsetByCodePoints(0, MAX_LENGTH - ELLIPSIS.length());
+        return plain.substring(0, end).stripTrailing() + ELLIPSIS;
+    }
+
+    private static String unescapeEntities(final String text) {
+        return text.replace("&nbsp;", " ")
+                .replace("&lt;", "<")
+                .replace("&gt;", ">")
+                .replace("&quot;", "\"")
+                .replace("&#39;", "'")
+                .replace("&amp;", "&");
+    }
+
+}
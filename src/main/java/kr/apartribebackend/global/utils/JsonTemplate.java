@@ -0,0 +1,64 @@
+package kr.apartribebackend.global.utils;
+
+import com.fasterxml.jackson.databind.util.RawValue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 직렬화된 JSON 객체에서 일부 필드의 값만 바꿔 끼울 수 있도록 값 위치를 기준으로 나눠 둔 템플릿.
+ * 바꿀 필드는 boolean / 숫자 같은 스칼라 값이어야 하고, JSON 에 나오는 순서대로 지정해야 한다. 목록 항목처럼 같은 이름이 여러 번 나오면 그 횟수만큼 지정한다.
+ * 문자열 안의 따옴표는 이스케이프되므로 {@code "필드명":} 은 필드 이름 위치에서만 나타난다.
+ */
+public class JsonTemplate {
+
+    private final String[] segments;
+
+    private JsonTemplate(final String[] segments) {
+        this.segments = segments;
+    }
+
+    public static JsonTemplate of(final String json, final String... fields) {
+        final List<String> segments = new ArrayList<>(fields.length + 1);
+        int from = 0;
+        for (String field : fields) {
+            final String name = "\"" + field + "\":";
+            final int nameAt = json.indexOf(name, from);
+            if (nameAt < 0) {
+                throw new IllegalArgumentException(field + " 필드를 찾을 수 없습니다.");
+            }
+            final int valueAt = nameAt + name.length();
+            int valueEnd = valueAt;
+            while (valueEnd < json.length() && json.charAt(valueEnd) != ',' && json.charAt(valueEnd) != '}') {
+                valueEnd++;
+            }
+            segments.add(json.substring(from, valueAt));
+            from = valueEnd;
+        }
+        segments.add(json.substring(from));
+        return new JsonTemplate(segments.toArray(String[]::new));
+    }
+
+    /**
+     * 지정한 필드 순서대로 값을 끼워 JSON 을 만든다.
+     * @param values
+     * @return
+     */
+    public RawValue render(final Object... values) {
+        final StringBuilder json = new StringBuilder(weight() + values.length * 8);
+        for (int i = 0; i < values.length; i++) {
+            json.append(segments[i]).append(values[i]);
+        }
+        json.append(segments[segments.length - 1]);
+        return new RawValue(json.toString());
+    }
+
+    public int weight() {
+        int weight = 0;
+        for (String segment : segments) {
+            weight += segment.length();
+        }
+        return weight;
+    }
+
+}
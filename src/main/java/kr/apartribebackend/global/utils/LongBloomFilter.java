@@ -0,0 +1,66 @@
+package kr.apartribebackend.global.utils;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * long 값 전용 Bloom Filter. 락 없이 여러 스레드에서 put / mightContain 할 수 있다.
+ * mightContain 이 false 이면 절대 put 된 적이 없는 값이고, true 이면 put 되었을 가능성이 있는 값이다.
+ */
+public class LongBloomFilter {
+
+    private final AtomicLongArray bits;
+    private final int bitSize;
+    private final int hashCount;
+
+    public LongBloomFilter(int expectedInsertions, double falsePositiveProbability) {
+        final long optimalBitSize = (long) Math.ceil(
+                -expectedInsertions * Math.log(falsePositiveProbability) / (Math.log(2) * Math.log(2)));
+        this.bitSize = (int) Math.max(64, Math.min(optimalBitSize, Integer.MAX_VALUE - 63));
+        this.hashCount = Math.max(1, (int) Math.round((double) bitSize / expectedInsertions * Math.log(2)));
+        this.bits = new AtomicLongArray((bitSize + 63) / 64);
+    }
+
+    public void put(long value) {
+        final long hash1 = mix(value);
+        final long hash2 = mix(hash1);
+        for (int i = 0; i < hashCount; i++) {
+            final int index = index(hash1 + i * hash2);
+            final long mask = 1L << index;
+            final int slot = index >>> 6;
+            long current;
+            do {
+                current = bits.get(slot);
+                if ((current & mask) != 0) break;
+            } while (!bits.compareAndSet(slot, current, current | mask));
+        }
+    }
+
+    public boolean mightContain(long value) {
+        final long hash1 = mix(value);
+        final long hash2 = mix(hash1);
+        for (int i = 0; i < hashCount; i++) {
+            final int index = index(hash1 + i * hash2);
+            if ((bits.get(index >>> 6) & (1L << index)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private int index(long combinedHash) {
+        return (int) ((combinedHash & Long.MAX_VALUE) % bitSize);
+    }
+
+    /**
+     * MurmurHash3 의 fmix64
+     */
+    private static long mix(long value) {
+        value ^= value >>> 33;
+        value *= 0xff51afd7ed558ccdL;
+        value ^= value >>> 33;
+        value *= 0xc4ceb93fe53a87e3L;
+        value ^= value >>> 33;
+        return value;
+    }
+
+}
@@ -0,0 +1,59 @@
+package kr.apartribebackend.global.utils;
+
+import java.util.Arrays;
+import java.util.Collection;
+
+/**
+ * 정렬된 long 배열 하나로 유지하는 Set. 박싱된 Long 을 담는 HashSet 보다 원소당 메모리가 훨씬 작고 contains 는 이진 탐색이다.
+ * 추가 / 삭제는 배열을 밀고 당기므로 원소 수에 비례하지만, 회원 한 명이 좋아요한 ID 처럼 조회가 대부분인 작은 집합에 적합하다.
+ * 스레드 안전하지 않으므로 호출하는 쪽에서 동기화해야 한다.
+ */
+public class SortedLongSet {
+
+    private long[] values;
+    private int size;
+
+    private SortedLongSet(final long[] values, final int size) {
+        this.values = values;
+        this.size = size;
+    }
+
+    public static SortedLongSet of(final Collection<Long> values) {
+        final long[] sorted = values.stream().mapToLong(Long::longValue).sorted().distinct().toArray();
+        return new SortedLongSet(sorted, sorted.length);
+    }
+
+    public boolean contains(final long value) {
+        return Arrays.binarySearch(values, 0, size, value) >= 0;
+    }
+
+    public boolean add(final long value) {
+        final int index = Arrays.binarySearch(values, 0, size, value);
+        if (index >= 0) {
+            return false;
+        }
+        final int insertAt = -index - 1;
+        if (size == values.length) {
+            values = Arrays.copyOf(values, Math.max(8, size + (size >> 1)));
+        }
+        System.arraycopy(values, insertAt, values, insertAt + 1, size - insertAt);
+        values[insertAt] = value;
+        size++;
+        return true;
+    }
+
+    public boolean remove(final long value) {
+        final int index = Arrays.binarySearch(values, 0, size, value);
+        if (index < 0) {
+            return false;
+        }
+        System.arraycopy(values, index + 1, values, index, size - index - 1);
+        size--;
+        return true;
+    }
+
+    public int size() {
+        return size;
+    }
+
+}
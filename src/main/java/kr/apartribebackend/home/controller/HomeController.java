@@ -0,0 +1,29 @@
+package kr.apartribebackend.home.controller;
+
+import kr.apartribebackend.global.dto.APIResponse;
+import kr.apartribebackend.home.dto.HomeResponse;
+import kr.apartribebackend.home.service.HomeService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RestController;
+
+@RequiredArgsConstructor
+@RestController
+public class HomeController {
+
+    private static final String SERVER_TIMING = "Server-Timing";
+
+    private final HomeService homeService;
+
+    @GetMapping("/api/{apartId}/home")
+    public ResponseEntity<APIResponse<HomeResponse>> findHome(@PathVariable final String apartId) {
+        final HomeResponse homeResponse = homeService.findHome(apartId);
+        final APIResponse<HomeResponse> apiResponse = APIResponse.SUCCESS(homeResponse);
+        return ResponseEntity.ok()
+                .header(SERVER_TIMING, homeResponse.serverTiming())
+                .body(apiResponse);
+    }
+
+}
@@ -0,0 +1,28 @@
+package kr.apartribebackend.home.dto;
+
+/**
+ * 홈 화면을 구성하는 위젯 하나의 조회 결과.
+ * @param status OK, TIMEOUT, FAILED, REJECTED 중 하나. OK 가 아니면 data 는 null 이다.
+ * @param elapsedMillis 홈 화면 요청 시작부터 이 위젯의 조회가 끝날 때까지 걸린 시간
+ * @param data
+ */
+public record HomePartResponse(
+        String status,
+        double elapsedMillis,
+        Object data
+) {
+
+    public static final String OK = "OK";
+    public static final String TIMEOUT = "TIMEOUT";
+    public static final String FAILED = "FAILED";
+    public static final String REJECTED = "REJECTED";
+
+    public static HomePartResponse ok(final double elapsedMillis, final Object data) {
+        return new HomePartResponse(OK, elapsedMillis, data);
+    }
+
+    public static HomePartResponse failed(final String status, final double elapsedMillis) {
+        return new HomePartResponse(status, elapsedMillis, null);
+    }
+
+}
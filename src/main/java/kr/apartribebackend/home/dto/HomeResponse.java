@@ -0,0 +1,27 @@
+package kr.apartribebackend.home.dto;
+
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * @param elapsedMillis 홈 화면 전체 조회 시간
+ * @param parts 위젯 이름 → 위젯 조회 결과
+ */
+public record HomeResponse(
+        double elapsedMillis,
+        Map<String, HomePartResponse> parts
+) {
+
+    /**
+     * 위젯별 조회 시간을 Server-Timing 헤더 값으로 만든다. ex) top5ByLiked;dur=12.3, announceWidgets;desc="TIMEOUT";dur=800.0
+     * @return
+     */
+    public String serverTiming() {
+        return parts.entrySet().stream()
+                .map(part -> part.getValue().status().equals(HomePartResponse.OK)
+                        ? String.format("%s;dur=%.1f", part.getKey(), part.getValue().elapsedMillis())
+                        : String.format("%s;desc=\"%s\";dur=%.1f", part.getKey(), part.getValue().status(), part.getValue().elapsedMillis()))
+                .collect(Collectors.joining(", "));
+    }
+
+}
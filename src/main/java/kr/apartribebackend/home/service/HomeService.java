@@ -0,0 +1,99 @@
+package kr.apartribebackend.home.service;
+
+import kr.apartribebackend.article.service.AnnounceService;
+import kr.apartribebackend.article.service.ArticleService;
+import kr.apartribebackend.category.service.CategoryService;
+import kr.apartribebackend.comment.service.CommentService;
+import kr.apartribebackend.home.dto.HomePartResponse;
+import kr.apartribebackend.home.dto.HomeResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.*;
+import java.util.function.Supplier;
+
+/**
+ * 커뮤니티 홈 화면의 위젯들을 한 번에 조회한다.
+ * 위젯 조회는 homeWidgetExecutor 에서 동시에 실행하고, PART_TIMEOUT 안에 끝나지 않거나 실패한 위젯은 data 없이 상태만 내려주어 나머지 위젯은 그대로 보여줄 수 있게 한다.
+ * 시간이 초과된 조회는 응답에서만 빠지고 실행은 끝까지 계속된다.
+ */
+@Slf4j
+@Service
+public class HomeService {
+
+    public static final Duration PART_TIMEOUT = Duration.ofMillis(800);
+    public static final int BEST_COMMENTERS_SIZE = 10;
+
+    private final ArticleService articleService;
+    private final AnnounceService announceService;
+    private final CommentService commentService;
+    private final CategoryService categoryService;
+    private final Executor homeWidgetExecutor;
+
+    public HomeService(final ArticleService articleService,
+                       final AnnounceService announceService,
+                       final CommentService commentService,
+                       final CategoryService categoryService,
+                       @Qualifier("homeWidgetExecutor") final Executor homeWidgetExecutor) {
+        this.articleService = articleService;
+        this.announceService = announceService;
+        this.commentService = commentService;
+        this.categoryService = categoryService;
+        this.homeWidgetExecutor = homeWidgetExecutor;
+    }
+
+    /**
+     * 좋아요 / 조회수 베스트 게시물, 공지사항 위젯, 베스트 댓글 작성자, 게시글 / 함께해요 카테고리 목록
+     * @param apartId
+     * @return
+     */
+    public HomeResponse findHome(final String apartId) {
+        final Map<String, Supplier<Object>> widgets = new LinkedHashMap<>();
+        widgets.put("top5ByLiked", () -> articleService.findTop5ArticleViaLiked(apartId));
+        widgets.put("top5ByView", () -> articleService.findTop5ArticleViaView(apartId));
+        widgets.put("announceWidgets", () -> announceService.findWidgetValues(apartId));
+        widgets.put("bestCommenters", () -> commentService.bestCommentRankViaLastWeek(apartId, BEST_COMMENTERS_SIZE));
+        widgets.put("articleCategories", () -> categoryService.listArticleCategory(apartId));
+        widgets.put("togetherCategories", () -> categoryService.listTogetherCategory(apartId));
+
+        final long startedAt = System.nanoTime();
+        final Map<String, CompletableFuture<HomePartResponse>> futures = new LinkedHashMap<>();
+        widgets.forEach((name, widget) -> futures.put(name, fetch(name, widget, startedAt)));
+        CompletableFuture.allOf(futures.values().toArray(CompletableFuture[]::new)).join();
+
+        final Map<String, HomePartResponse> parts = new LinkedHashMap<>();
+        futures.forEach((name, future) -> parts.put(name, future.join()));
+        return new HomeResponse(elapsedMillis(startedAt), parts);
+    }
+
+    private CompletableFuture<HomePartResponse> fetch(final String name, final Supplier<Object> widget, final long startedAt) {
+        try {
+            return CompletableFuture.supplyAsync(widget, homeWidgetExecutor)
+                    .orTimeout(PART_TIMEOUT.toMillis(), TimeUnit.MILLISECONDS)
+                    .handle((data, throwable) -> {
+                        if (throwable == null) {
+                            return HomePartResponse.ok(elapsedMillis(startedAt), data);
+                        }
+                        final Throwable cause = throwable instanceof CompletionException ? throwable.getCause() : throwable;
+                        if (cause instanceof TimeoutException) {
+                            log.warn("Home widget {} timed out", name);
+                            return HomePartResponse.failed(HomePartResponse.TIMEOUT, elapsedMillis(startedAt));
+                        }
+                        log.warn("Home widget {} failed", name, cause);
+                        return HomePartResponse.failed(HomePartResponse.FAILED, elapsedMillis(startedAt));
+                    });
+        } catch (RejectedExecutionException e) {
+            log.warn("Home widget {} rejected", name);
+            return CompletableFuture.completedFuture(HomePartResponse.failed(HomePartResponse.REJECTED, elapsedMillis(startedAt)));
+        }
+    }
+
+    private static double elapsedMillis(final long startedAt) {
+        return (System.nanoTime() - startedAt) / 1_000_000.0;
+    }
+
+}
@@ -0,0 +1,49 @@
+package kr.apartribebackend.likes.controller;
+
+import kr.apartribebackend.global.dto.APIResponse;
+import kr.apartribebackend.likes.dto.MemberLikedRes;
+import kr.apartribebackend.likes.service.MemberLikeIndexService;
+import kr.apartribebackend.member.principal.AuthenticatedMember;
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RequiredArgsConstructor
+@RestController
+public class MemberLikedController {
+
+    private static final int MAX_IDS = 200;
+
+    private final MemberLikeIndexService memberLikeIndexService;
+
+    /**
+     * 목록 화면에 보이는 게시글 / 댓글 중 로그인한 회원이 좋아요한 ID 만 반환한다.
+     * 목록 응답은 회원과 상관없이 캐시되므로, 좋아요 여부는 이 API 로 따로 받아 표시한다.
+     * @param boardIds 최대 MAX_IDS 개
+     * @param commentIds 최대 MAX_IDS 개
+     * @param authenticatedMember
+     * @return
+     */
+    @GetMapping("/api/member/liked")
+    public APIResponse<MemberLikedRes> findMemberLiked(
+            @RequestParam(required = false, defaultValue = "") final List<Long> boardIds,
+            @RequestParam(required = false, defaultValue = "") final List<Long> commentIds,
+            @AuthenticationPrincipal final AuthenticatedMember authenticatedMember
+    ) {
+        final Long memberId = authenticatedMember == null ? null : authenticatedMember.toDto().getId();
+        final MemberLikedRes memberLikedRes = new MemberLikedRes(
+                memberLikeIndexService.filterLikedBoards(memberId, limit(boardIds)),
+                memberLikeIndexService.filterLikedComments(memberId, limit(commentIds))
+        );
+        return APIResponse.SUCCESS(memberLikedRes);
+    }
+
+    private static List<Long> limit(final List<Long> ids) {
+        return ids.size() > MAX_IDS ? ids.subList(0, MAX_IDS) : ids;
+    }
+
+}
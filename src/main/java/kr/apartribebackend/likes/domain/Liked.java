@@ -2,6 +2,7 @@ package kr.apartribebackend.likes.domain;
 
 import jakarta.persistence.*;
 import kr.apartribebackend.global.domain.BaseEntity;
+import kr.apartribebackend.global.domain.PooledIdGenerator;
 import kr.apartribebackend.member.domain.Member;
 import lombok.AccessLevel;
 import lombok.Getter;
@@ -17,7 +18,16 @@ import java.util.Objects;
 @DiscriminatorColumn(name = "TAG")
 public abstract class Liked extends BaseEntity {
 
-    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Id
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "LIKED_ID_GENERATOR")
+    @TableGenerator(
+            name = "LIKED_ID_GENERATOR",
+            table = PooledIdGenerator.TABLE,
+            pkColumnName = PooledIdGenerator.PK_COLUMN,
+            valueColumnName = PooledIdGenerator.VALUE_COLUMN,
+            pkColumnValue = "LIKED",
+            allocationSize = PooledIdGenerator.ALLOCATION_SIZE
+    )
     @Column(name = "LIKED_ID")
     private Long id;
 
@@ -0,0 +1,12 @@
+package kr.apartribebackend.likes.dto;
+
+/**
+ * 목록 조회 응답의 게시글 항목. 조회한 회원의 좋아요 여부를 MemberLikeIndexService 로 채운다.
+ */
+public interface MemberLikedBoard {
+
+    Long getId();
+
+    void setMemberLiked(boolean memberLiked);
+
+}
@@ -0,0 +1,9 @@
+package kr.apartribebackend.likes.dto;
+
+import java.util.List;
+
+public record MemberLikedRes(
+        List<Long> boardIds,
+        List<Long> commentIds
+) {
+}
@@ -16,4 +16,7 @@ public interface BoardLikedRepository
     @Query(value = "select bl from BoardLiked bl where bl.member.id = :memberId")
     List<BoardLiked> findBoardLikedsByMemberId(@Param("memberId") Long memberId);
 
+    @Query(value = "select bl.board.id from BoardLiked bl where bl.member.id = :memberId")
+    List<Long> findBoardIdsByMemberId(@Param("memberId") Long memberId);
+
 }
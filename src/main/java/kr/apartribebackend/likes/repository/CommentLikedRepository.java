@@ -16,4 +16,7 @@ public interface CommentLikedRepository
     @Query(value = "select cl from CommentLiked as cl where cl.member.id = :memberId")
     List<CommentLiked> findCommentLikedsByMemberId(@Param("memberId") Long memberId);
 
+    @Query(value = "select cl.comment.id from CommentLiked as cl where cl.member.id = :memberId")
+    List<Long> findCommentIdsByMemberId(@Param("memberId") Long memberId);
+
 }
@@ -8,6 +8,4 @@ public interface CustomBoardLikedRepository {
 
     Optional<BoardLiked> findBoardLikedByMember(Long memberId, Long boardId);
 
-    Integer isMemberLikedToBoard(Long memberId, Long boardId);
-
 }
@@ -8,6 +8,4 @@ public interface CustomCommentLikedRepository {
 
     Optional<CommentLiked> findCommentLikedByMember(Long memberId, Long commentId);
 
-    Integer isMemberLikedToComment(Long memberId, Long commentId);
-
 }
@@ -31,18 +31,4 @@ public class CustomCommentLikedRepositoryImpl implements CustomCommentLikedRepos
         return Optional.ofNullable(result);
     }
 
-    @Override
-    public Integer isMemberLikedToComment(Long memberId, Long commentId) {
-        return jpaQueryFactory
-                .selectOne()
-                .from(commentLiked)
-                .innerJoin(commentLiked.member, member)
-                .innerJoin(commentLiked.comment, comment)
-                .where(
-                        member.id.eq(memberId),
-                        comment.id.eq(commentId)
-                )
-                .fetchFirst();
-    }
-
 }
@@ -1,7 +1,10 @@
 package kr.apartribebackend.likes.service;
 
 import kr.apartribebackend.article.domain.Board;
+import kr.apartribebackend.article.service.HotBoardService;
+import kr.apartribebackend.change.service.BoardChangeService;
 import kr.apartribebackend.comment.domain.Comment;
+import kr.apartribebackend.global.service.LiveEventService;
 import kr.apartribebackend.likes.domain.CommentLiked;
 import kr.apartribebackend.likes.dto.BoardLikedRes;
 import kr.apartribebackend.likes.domain.BoardLiked;
@@ -23,6 +26,10 @@ public class LikeService {
     
     private final BoardLikedRepository boardLikesRepository;
     private final CommentLikedRepository commentLikedRepository;
+    private final HotBoardService hotBoardService;
+    private final LiveEventService liveEventService;
+    private final BoardChangeService boardChangeService;
+    private final MemberLikeIndexService memberLikeIndexService;
 
     @Transactional(readOnly = true)
     public Optional<BoardLiked> findBoardLikedByMember(final Long memberId, final Long boardId) {
@@ -33,22 +40,26 @@ public class LikeService {
         final BoardLiked boardLikes = BoardLiked.builder().board(board).member(member).build();
         boardLikesRepository.save(boardLikes);
         board.reflectArticleLike();
+        memberLikeIndexService.boardLiked(member.getId(), board.getId());
+        hotBoardService.recordLike(board.getApartment().getCode(), board.getId());
+        liveEventService.publishBoardLikes(board.getApartment().getCode(), board.getId(), board.getLiked());
+        boardChangeService.likeCountChanged(board.getApartment().getCode(), board.getId(), board.getBoardType(), board.getLiked());
         return new BoardLikedRes(true);
     }
 
     public BoardLikedRes decreaseLikesToBoard(final BoardLiked boardLiked, final Board board) {
         board.decreaseArticleLike();
         boardLikesRepository.delete(boardLiked);
+        memberLikeIndexService.boardUnliked(boardLiked.getMember().getId(), board.getId());
+        hotBoardService.recordUnlike(board.getApartment().getCode(), board.getId());
+        liveEventService.publishBoardLikes(board.getApartment().getCode(), board.getId(), board.getLiked());
+        boardChangeService.likeCountChanged(board.getApartment().getCode(), board.getId(), board.getBoardType(), board.getLiked());
         return new BoardLikedRes(false);
     }
 
     @Transactional(readOnly = true)
     public BoardLikedRes isMemberLikedToBoard(final Long memberId, final Long boardId) {
-        final Integer memberLikedToBoard = boardLikesRepository.isMemberLikedToBoard(memberId, boardId);
-        if (memberLikedToBoard != null) {
-            return new BoardLikedRes(true);
-        }
-        return new BoardLikedRes(false);
+        return new BoardLikedRes(memberLikeIndexService.isBoardLiked(memberId, boardId));
     }
 
     @Transactional(readOnly = true)
@@ -60,22 +71,22 @@ public class LikeService {
         final CommentLiked commentLiked = CommentLiked.builder().comment(comment).member(member).build();
         commentLikedRepository.save(commentLiked);
         comment.reflectCommentLike();
+        memberLikeIndexService.commentLiked(member.getId(), comment.getId());
+        liveEventService.publishCommentLikes(comment.getBoard().getId(), comment.getId(), comment.getLiked());
         return new CommentLikedRes(true);
     }
 
     public CommentLikedRes decreaseLikesToComment(final CommentLiked commentLiked, final Comment comment) {
         comment.decreaseCommentLike();
         commentLikedRepository.delete(commentLiked);
+        memberLikeIndexService.commentUnliked(commentLiked.getMember().getId(), comment.getId());
+        liveEventService.publishCommentLikes(comment.getBoard().getId(), comment.getId(), comment.getLiked());
         return new CommentLikedRes(false);
     }
 
     @Transactional(readOnly = true)
     public CommentLikedRes isMemberLikedToComment(final Long memberId, final Long commentId) {
-        final Integer memberLikedToComment = commentLikedRepository.isMemberLikedToComment(memberId, commentId);
-        if (memberLikedToComment != null) {
-            return new CommentLikedRes(true);
-        }
-        return new CommentLikedRes(false);
+        return new CommentLikedRes(memberLikeIndexService.isCommentLiked(memberId, commentId));
     }
 
     @Transactional(readOnly = true)
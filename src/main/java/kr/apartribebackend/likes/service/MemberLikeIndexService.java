@@ -0,0 +1,218 @@
+package kr.apartribebackend.likes.service;
+
+import kr.apartribebackend.global.utils.SortedLongSet;
+import kr.apartribebackend.likes.dto.MemberLikedBoard;
+import kr.apartribebackend.likes.repository.BoardLikedRepository;
+import kr.apartribebackend.likes.repository.CommentLikedRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.ToIntFunction;
+
+/**
+ * 회원별로 좋아요한 게시글 / 댓글 ID 를 메모리에 들고 있는 인덱스. 좋아요 여부를 exists 서브쿼리 없이 확인할 수 있게 한다.
+ * 회원의 인덱스는 처음 조회될 때 BOARD_LIKED / COMMENT_LIKED 에서 읽어오고, 이후에는 LikeService 의 좋아요 / 취소가 커밋될 때 갱신한다.
+ * 아직 읽어오지 않은 회원의 변경은 버린다. 나중에 읽어올 때 커밋된 결과가 그대로 보이기 때문이다.
+ * 이를 위해 읽어오기는 호출한 쪽의 트랜잭션 (먼저 시작된 스냅샷) 이 아닌 새 읽기 전용 트랜잭션에서, 인덱스에 회원 자리를 만든 뒤에 실행한다.
+ * 자리를 만들기 전에 커밋된 변경은 새 트랜잭션에서 보이고, 그 뒤에 커밋된 변경은 읽어오기가 끝날 때까지 기다렸다가 반영된다.
+ * 인덱스에 올라간 회원 수가 MAX_MEMBERS 를, ID 수 합이 MAX_IDS 를 넘으면 가장 오래 조회되지 않은 회원부터 내린다.
+ */
+@RequiredArgsConstructor
+@Service
+public class MemberLikeIndexService {
+
+    public static final int MAX_MEMBERS = 20_000;
+    public static final long MAX_IDS = 4_000_000;
+
+    private final BoardLikedRepository boardLikedRepository;
+    private final CommentLikedRepository commentLikedRepository;
+    private final PlatformTransactionManager transactionManager;
+
+    private final LinkedHashMap<Long, MemberLikes> members = new LinkedHashMap<>(1024, 0.75f, true);
+    private long totalIds;
+
+    public boolean isBoardLiked(final Long memberId, final Long boardId) {
+        if (memberId == null) {
+            return false;
+        }
+        final MemberLikes memberLikes = load(memberId);
+        synchronized (memberLikes) {
+            return memberLikes.boardIds.contains(boardId);
+        }
+    }
+
+    public boolean isCommentLiked(final Long memberId, final Long commentId) {
+        if (memberId == null) {
+            return false;
+        }
+        final MemberLikes memberLikes = load(memberId);
+        synchronized (memberLikes) {
+            return memberLikes.commentIds.contains(commentId);
+        }
+    }
+
+    /**
+     * boardIds 중 회원이 좋아요한 게시글 ID 만 반환한다.
+     * @param memberId
+     * @param boardIds
+     * @return
+     */
+    public List<Long> filterLikedBoards(final Long memberId, final Collection<Long> boardIds) {
+        if (memberId == null || boardIds.isEmpty()) {
+            return List.of();
+        }
+        final MemberLikes memberLikes = load(memberId);
+        synchronized (memberLikes) {
+            return boardIds.stream().filter(memberLikes.boardIds::contains).distinct().toList();
+        }
+    }
+
+    /**
+     * commentIds 중 회원이 좋아요한 댓글 ID 만 반환한다.
+     * @param memberId
+     * @param commentIds
+     * @return
+     */
+    public List<Long> filterLikedComments(final Long memberId, final Collection<Long> commentIds) {
+        if (memberId == null || commentIds.isEmpty()) {
+            return List.of();
+        }
+        final MemberLikes memberLikes = load(memberId);
+        synchronized (memberLikes) {
+            return commentIds.stream().filter(memberLikes.commentIds::contains).distinct().toList();
+        }
+    }
+
+    /**
+     * 목록의 게시글마다 회원의 좋아요 여부를 채운다.
+     * @param memberId
+     * @param boards
+     */
+    public void markLikedBoards(final Long memberId, final List<? extends MemberLikedBoard> boards) {
+        final Set<Long> likedBoardIds = new HashSet<>(
+                filterLikedBoards(memberId, boards.stream().map(MemberLikedBoard::getId).toList())
+        );
+        boards.forEach(board -> board.setMemberLiked(likedBoardIds.contains(board.getId())));
+    }
+
+    public void boardLiked(final Long memberId, final Long boardId) {
+        afterCommit(() -> update(memberId, memberLikes -> memberLikes.boardIds.add(boardId) ? 1 : 0));
+    }
+
+    public void boardUnliked(final Long memberId, final Long boardId) {
+        afterCommit(() -> update(memberId, memberLikes -> memberLikes.boardIds.remove(boardId) ? -1 : 0));
+    }
+
+    public void commentLiked(final Long memberId, final Long commentId) {
+        afterCommit(() -> update(memberId, memberLikes -> memberLikes.commentIds.add(commentId) ? 1 : 0));
+    }
+
+    public void commentUnliked(final Long memberId, final Long commentId) {
+        afterCommit(() -> update(memberId, memberLikes -> memberLikes.commentIds.remove(commentId) ? -1 : 0));
+    }
+
+    /**
+     * 커밋된 뒤 회원을 인덱스에서 내린다. 회원 탈퇴처럼 좋아요가 LikeService 를 거치지 않고 지워질 때 호출한다.
+     * @param memberId
+     */
+    public void evict(final Long memberId) {
+        afterCommit(() -> remove(memberId));
+    }
+
+    private synchronized void remove(final Long memberId) {
+        final MemberLikes memberLikes = members.remove(memberId);
+        if (memberLikes != null) {
+            totalIds -= memberLikes.weight;
+        }
+    }
+
+    private MemberLikes load(final Long memberId) {
+        final MemberLikes memberLikes;
+        synchronized (this) {
+            memberLikes = members.computeIfAbsent(memberId, MemberLikes::new);
+        }
+        synchronized (memberLikes) {
+            if (memberLikes.boardIds == null) {
+                final TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+                transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+                transactionTemplate.setReadOnly(true);
+                final LoadedLikes loaded = transactionTemplate.execute(status -> new LoadedLikes(
+                        SortedLongSet.of(boardLikedRepository.findBoardIdsByMemberId(memberId)),
+                        SortedLongSet.of(commentLikedRepository.findCommentIdsByMemberId(memberId))
+                ));
+                memberLikes.boardIds = loaded.boardIds();
+                memberLikes.commentIds = loaded.commentIds();
+                reweigh(memberLikes, memberLikes.boardIds.size() + memberLikes.commentIds.size());
+            }
+        }
+        return memberLikes;
+    }
+
+    private void update(final Long memberId, final ToIntFunction<MemberLikes> change) {
+        final MemberLikes memberLikes;
+        synchronized (this) {
+            memberLikes = members.get(memberId);
+        }
+        if (memberLikes == null) {
+            return;
+        }
+        synchronized (memberLikes) {
+            if (memberLikes.boardIds != null) {
+                reweigh(memberLikes, change.applyAsInt(memberLikes));
+            }
+        }
+    }
+
+    private synchronized void reweigh(final MemberLikes memberLikes, final int delta) {
+        memberLikes.weight += delta;
+        if (members.get(memberLikes.memberId) != memberLikes) {
+            return;
+        }
+        totalIds += delta;
+        final Iterator<Map.Entry<Long, MemberLikes>> eldest = members.entrySet().iterator();
+        while ((members.size() > MAX_MEMBERS || totalIds > MAX_IDS) && eldest.hasNext()) {
+            final MemberLikes evicted = eldest.next().getValue();
+            if (evicted == memberLikes) {
+                break;
+            }
+            eldest.remove();
+            totalIds -= evicted.weight;
+        }
+    }
+
+    private void afterCommit(final Runnable runnable) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            runnable.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                runnable.run();
+            }
+        });
+    }
+
+    private record LoadedLikes(SortedLongSet boardIds, SortedLongSet commentIds) { }
+
+    @RequiredArgsConstructor
+    private static class MemberLikes {
+        private final Long memberId;
+        private SortedLongSet boardIds;
+        private SortedLongSet commentIds;
+        private long weight;
+    }
+
+}
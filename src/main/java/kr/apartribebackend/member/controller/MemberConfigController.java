@@ -62,14 +62,20 @@ public class MemberConfigController {
         memberConfigService.updateSingleMemberNickname(authenticatedMember, memberChangeNicknameReq.nickname());
     }
 
+    @PostMapping("/logout")
+    public void logout(@AuthenticationPrincipal final AuthenticatedMember authenticatedMember) {
+        memberConfigService.logout(authenticatedMember.toDto());
+    }
+
     @GetMapping("/comment")
     public APIResponse<PageResponse<MemberCommentRes>> fetchCommentsForMember(
             @AuthenticationPrincipal final AuthenticatedMember authenticatedMember,
+            @RequestParam(required = false, defaultValue = "false") final boolean exactCount,
             @PageableDefault(sort = "createdAt", direction = Sort.Direction.DESC) final Pageable pageable
     ) {
         final MemberDto memberDto = authenticatedMember.toDto();
         final ApartmentDto apartmentDto = authenticatedMember.getApartmentDto();
-        final Page<MemberCommentRes> memberCommentRes = memberConfigService.fetchCommentsForMember(memberDto, apartmentDto, pageable);
+        final Page<MemberCommentRes> memberCommentRes = memberConfigService.fetchCommentsForMember(memberDto, apartmentDto, exactCount, pageable);
         final PageResponse<MemberCommentRes> pageResponse = PageResponse.from(memberCommentRes);
         final APIResponse<PageResponse<MemberCommentRes>> apiResponse = APIResponse.SUCCESS(pageResponse);
         return apiResponse;
@@ -78,11 +84,12 @@ public class MemberConfigController {
     @GetMapping("/article")
     public APIResponse<PageResponse<MemberBoardResponse>> fetchArticlesForMember(
             @AuthenticationPrincipal final AuthenticatedMember authenticatedMember,
+            @RequestParam(required = false, defaultValue = "false") final boolean exactCount,
             @PageableDefault(sort = "createdAt", direction = Sort.Direction.DESC) final Pageable pageable
     ) {
         final MemberDto memberDto = authenticatedMember.toDto();
         final ApartmentDto apartmentDto = authenticatedMember.getApartmentDto();
-        final Page<MemberBoardResponse> memberArticleRes = memberConfigService.fetchArticlesForMember(memberDto, apartmentDto, pageable);
+        final Page<MemberBoardResponse> memberArticleRes = memberConfigService.fetchArticlesForMember(memberDto, apartmentDto, exactCount, pageable);
         final PageResponse<MemberBoardResponse> pageResponse = PageResponse.from(memberArticleRes);
         final APIResponse<PageResponse<MemberBoardResponse>> apiResponse = APIResponse.SUCCESS(pageResponse);
         return apiResponse;
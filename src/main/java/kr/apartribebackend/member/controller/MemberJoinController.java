@@ -72,8 +72,9 @@ public class MemberJoinController {
         }
 
         member.changePassword(passwordEncoder.encode(memberJoinReq.password()));
-        emailTokenByEmail.changeMember(member);
         memberRepository.save(member);
+        emailTokenByEmail.changeMember(member);
+        emailTokenRepository.save(emailTokenByEmail);
         agreementsRepository.save(agreements);
 
         return ResponseEntity
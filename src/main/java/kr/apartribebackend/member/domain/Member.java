@@ -6,11 +6,17 @@ import kr.apartribebackend.global.domain.TimeBaseEntity;
 import kr.apartribebackend.token.refresh.domain.RefreshToken;
 import lombok.*;
 import lombok.experimental.SuperBuilder;
+import org.hibernate.Hibernate;
 
 import java.util.Objects;
 
 @SuperBuilder
 @Entity @Getter
+@NamedEntityGraph(name = "Member.withApartment", attributeNodes = @NamedAttributeNode("apartment"))
+@NamedEntityGraph(name = "Member.withRefreshToken", attributeNodes = @NamedAttributeNode("refreshToken"))
+@NamedEntityGraph(name = "Member.withRefreshTokenAndApartment", attributeNodes = {
+        @NamedAttributeNode("refreshToken"), @NamedAttributeNode("apartment")
+})
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Table(
         name = "MEMBER",
@@ -61,6 +67,12 @@ public class Member extends TimeBaseEntity {
     @Column(name = "APART_NAME")
     private String apartName;
 
+    /**
+     * 아파트 안에서 0 부터 발급되는 회원 순번. 공지사항 읽음 비트맵의 인덱스로 쓰며, 처음 공지사항을 읽을 때 발급된다.
+     */
+    @Column(name = "APART_ORDINAL")
+    private Integer apartOrdinal;
+
     @OneToOne(fetch = FetchType.LAZY, cascade = CascadeType.ALL, orphanRemoval = true)
     @JoinColumn(name = "REFRESH_TOKEN_ID")
     private RefreshToken refreshToken;
@@ -115,12 +127,34 @@ public class Member extends TimeBaseEntity {
         this.profileImageUrl = profileImageUrl;
     }
 
+    /**
+     * 연관관계의 주인(Member.apartment) 만 설정한다. Apartment.members 는 이미 초기화되어 있을 때만 동기화하여,
+     * 아파트 인증 한번에 해당 아파트의 모든 주민을 로딩하지 않도록 한다.
+     * 아파트 회원 순번(apartOrdinal) 은 아파트마다 따로 발급되므로, 다른 아파트로 바뀌면 비워서 새 아파트에서 다시 발급받게 한다.
+     * @param apartment
+     */
     public void changeApartment(Apartment apartment) {
-        if (this.apartment != null) {
+        if (!isSameApartment(this.apartment, apartment)) {
+            this.apartOrdinal = null;
+        }
+        if (this.apartment != null && isLoaded(this.apartment)) {
             this.apartment.getMembers().remove(this);
         }
         this.apartment = apartment;
-        apartment.getMembers().add(this);
+        if (isLoaded(apartment)) {
+            apartment.getMembers().add(this);
+        }
+    }
+
+    private static boolean isSameApartment(Apartment current, Apartment apartment) {
+        if (current == null || apartment == null) {
+            return current == apartment;
+        }
+        return current == apartment || (current.getId() != null && current.getId().equals(apartment.getId()));
+    }
+
+    private static boolean isLoaded(Apartment apartment) {
+        return Hibernate.isInitialized(apartment) && Hibernate.isInitialized(apartment.getMembers());
     }
 
     public void rememberApartInfo(String apartCode, String apartName) {
@@ -11,6 +11,7 @@ import java.time.LocalDateTime;
 import java.util.Objects;
 
 @Entity @Getter
+@NamedEntityGraph(name = "Forgot.withMember", attributeNodes = @NamedAttributeNode("member"))
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Table(name = "FORGOT")
 public class Forgot {
@@ -45,7 +45,7 @@ public class MemberBoardResponse {
                 .liked(board.getLiked())
                 .saw(board.getSaw())
                 .title(board.getTitle())
-                .content(board.getContent())
+                .content(board.getExcerpt())
                 .thumbnail(board.getThumbnail())
                 .commentCounts(commentResponses.size())
                 .createdAt(board.getCreatedAt())
@@ -1,9 +1,11 @@
 package kr.apartribebackend.member.principal;
 
+import io.jsonwebtoken.Claims;
 import kr.apartribebackend.apart.dto.ApartmentDto;
 import kr.apartribebackend.member.domain.*;
 import kr.apartribebackend.member.dto.MemberDto;
 import kr.apartribebackend.token.refresh.dto.RefreshTokenDto;
+import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
 import org.springframework.security.core.GrantedAuthority;
@@ -11,11 +13,15 @@ import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 
 import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Set;
 
 @Getter
 public class AuthenticatedMember implements UserDetails {
 
+    public static final String MEMBER_ID_CLAIM = "memberId";
+
     private Long id;
     private String email;
     private String password;
@@ -32,11 +38,8 @@ public class AuthenticatedMember implements UserDetails {
     private ApartmentDto apartmentDto;
     private LocalDateTime createdAt;
     private Set<? extends GrantedAuthority> authorities;
-    private Member originalEntity;
-
-    public void setOriginalEntity(Member originalEntity) {
-        this.originalEntity = originalEntity;
-    }
+    @Getter(AccessLevel.NONE)
+    private MemberDto memberDto;
 
     @Builder
     private AuthenticatedMember(Long id,
@@ -93,6 +96,56 @@ public class AuthenticatedMember implements UserDetails {
                 .build();
     }
 
+    /**
+     * Stateless Principal 모드에서 AccessToken 에 실리는 Claim. DB 조회 없이 AuthenticatedMember 를 복원할 수 있는 정보만 담는다.
+     * (password, refreshToken 은 담지 않는다. nickname 은 subject 로 실린다.)
+     * @return
+     */
+    public Map<String, Object> toClaims() {
+        final Map<String, Object> claims = new HashMap<>();
+        claims.put(MEMBER_ID_CLAIM, id);
+        claims.put("email", email);
+        claims.put("name", name);
+        claims.put("memberType", memberType.name());
+        claims.put("authStatus", authStatus.name());
+        if (userType != null) claims.put("userType", userType.name());
+        if (position != null) claims.put("position", position.name());
+        if (profileImage != null) claims.put("profileImage", profileImage);
+        if (apartCode != null) claims.put("apartCode", apartCode);
+        if (apartName != null) claims.put("apartName", apartName);
+        if (createdAt != null) claims.put("createdAt", createdAt.toString());
+        if (apartmentDto.getId() != null) claims.put("apartmentId", apartmentDto.getId());
+        claims.put("apartmentCode", apartmentDto.getCode());
+        claims.put("apartmentName", apartmentDto.getName());
+        return claims;
+    }
+
+    public static AuthenticatedMember fromClaims(Claims claims) {
+        final String userType = claims.get("userType", String.class);
+        final String position = claims.get("position", String.class);
+        final String createdAt = claims.get("createdAt", String.class);
+        return AuthenticatedMember.builder()
+                .id(claims.get(MEMBER_ID_CLAIM, Long.class))
+                .email(claims.get("email", String.class))
+                .name(claims.get("name", String.class))
+                .nickname(claims.getSubject())
+                .profileImage(claims.get("profileImage", String.class))
+                .memberType(MemberType.valueOf(claims.get("memberType", String.class)))
+                .authStatus(AuthStatus.valueOf(claims.get("authStatus", String.class)))
+                .userType(userType != null ? UserType.valueOf(userType) : null)
+                .position(position != null ? Position.valueOf(position) : null)
+                .apartCode(claims.get("apartCode", String.class))
+                .apartName(claims.get("apartName", String.class))
+                .apartmentDto(ApartmentDto.builder()
+                        .id(claims.get("apartmentId", Long.class))
+                        .code(claims.get("apartmentCode", String.class))
+                        .name(claims.get("apartmentName", String.class))
+                        .build())
+                .createdAt(createdAt != null ? LocalDateTime.parse(createdAt) : null)
+                .authorities(Set.of(new SimpleGrantedAuthority("ROLE_USER")))
+                .build();
+    }
+
     @Override
     public String getUsername() { return nickname; }
 
@@ -108,8 +161,15 @@ public class AuthenticatedMember implements UserDetails {
     @Override
     public boolean isEnabled() { return true; }
 
+    /**
+     * AuthenticatedMember 는 요청마다 생성되고 변경되지 않으므로, MemberDto 는 한번만 생성하여 재사용한다.
+     * @return
+     */
     public MemberDto toDto() {
-        return MemberDto.builder()
+        if (memberDto != null) {
+            return memberDto;
+        }
+        memberDto = MemberDto.builder()
                 .id(id)
                 .email(email)
                 .name(name)
@@ -126,6 +186,7 @@ public class AuthenticatedMember implements UserDetails {
                 .createdAt(createdAt)
                 .profileImageUrl(profileImage)
                 .build();
+        return memberDto;
     }
 
 }
@@ -5,7 +5,6 @@ import com.querydsl.core.types.Order;
 import com.querydsl.core.types.OrderSpecifier;
 import com.querydsl.core.types.dsl.ArrayPath;
 import com.querydsl.core.types.dsl.Wildcard;
-import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import kr.apartribebackend.apart.domain.Apartment;
 import kr.apartribebackend.apart.domain.QApartment;
@@ -31,6 +30,7 @@ import org.springframework.stereotype.Repository;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.LongSupplier;
 import java.util.stream.Collectors;
 
 import static kr.apartribebackend.apart.domain.QApartment.*;
@@ -73,7 +73,8 @@ public class MemberConfigRepository {
     // 내가 쓴 댓글 --> 사실 email 이 uniq 해서 아파트 정보와 join 할 필요는 없지만, 연습삼아 해본것이다.
     public Page<MemberCommentRes> findCommentsForMember(final Member member,
                                                         final Apartment apartment,
-                                                        final Pageable pageable) {
+                                                        final Pageable pageable,
+                                                        final LongSupplier totalCount) {
         final List<OrderSpecifier> ORDERS = getAllOrderSpecifiers(pageable);
 
         List<Comment> memberCommentRes = jpaQueryFactory
@@ -101,20 +102,24 @@ public class MemberConfigRepository {
 
         List<MemberCommentRes> memberCommentResList = memberCommentRes.stream().map(MemberCommentRes::from).toList();
 
-        JPAQuery<Long> countQuery = jpaQueryFactory
+        return PageableExecutionUtils.getPage(memberCommentResList, pageable, totalCount);
+    }
+
+    public long countCommentsForMember(final Long memberId) {
+        return jpaQueryFactory
                 .select(Wildcard.count)
                 .from(comment)
                 .innerJoin(comment.member, QMember.member)
                 .innerJoin(QMember.member.apartment, QApartment.apartment)
-                .where(comment.member.id.eq(member.getId()));
-
-         return PageableExecutionUtils.getPage(memberCommentResList, pageable, countQuery::fetchOne);
+                .where(comment.member.id.eq(memberId))
+                .fetchOne();
     }
 
     // TODO 리팩토링을 해야한다. (select 절이 너무나도 많다.)
     public Page<MemberBoardResponse> findArticlesForMember(final Member member,
                                                            final Apartment apartment,
-                                                           final Pageable pageable) {
+                                                           final Pageable pageable,
+                                                           final LongSupplier totalCount) {
         final List<OrderSpecifier> ORDERS = getAllOrderSpecifiers(pageable);
 
         // Board 에는 Category 연관이 없기때문에, together 로 형변환 후, getCaetgory.name() 을 하면 n + 1 이 터진다. 따라서 N + 1 이 터지기전에 미리 아파트에 맞는 카테고리를 fetchJoin 해놓는 것이 효율적이다.
@@ -141,7 +146,11 @@ public class MemberConfigRepository {
 
         final List<MemberBoardResponse> results = contents.stream().map(MemberBoardResponse::from).collect(Collectors.toList());
 
-        final JPAQuery<Long> countQuery = jpaQueryFactory
+        return PageableExecutionUtils.getPage(results, pageable, totalCount);
+    }
+
+    public long countArticlesForMember(final Long memberId, final Apartment apartment) {
+        return jpaQueryFactory
                 .select(Wildcard.count)
                 .from(board)
                 .innerJoin(board.member, QMember.member)
@@ -149,10 +158,9 @@ public class MemberConfigRepository {
                 .where(
                         QApartment.apartment.code.eq(apartment.getCode()),
                         QApartment.apartment.name.eq(apartment.getName()),
-                        QMember.member.id.eq(member.getId())
-                );
-
-        return PageableExecutionUtils.getPage(results, pageable, countQuery::fetchOne);
+                        QMember.member.id.eq(memberId)
+                )
+                .fetchOne();
     }
 
     private List<OrderSpecifier> getAllOrderSpecifiers(Pageable pageable) {
@@ -3,12 +3,14 @@ package kr.apartribebackend.member.repository;
 
 import kr.apartribebackend.member.domain.Member;
 import kr.apartribebackend.member.domain.MemberType;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
 import java.util.Optional;
 
 public interface MemberRepository extends JpaRepository<Member, Long> {
@@ -23,26 +25,24 @@ public interface MemberRepository extends JpaRepository<Member, Long> {
 
     Optional<Member> findByEmailAndNameAndMemberType(String email, String name, MemberType memberType);
 
-    @Query(value = "select m from Member as m left join fetch m.apartment as a where m.email = :email")
-    Optional<Member> findMemberWithApartInfoByEmail(@Param("email") String email);
+    @EntityGraph(value = "Member.withApartment")
+    Optional<Member> findMemberWithApartInfoByEmail(String email);
 
-    @Query(value = "select m from Member as m left join fetch m.apartment as a where m.email = :email and m.memberType = :memberType")
-    Optional<Member> findMemberWithApartInfoByEmailAndMemberType(
-            @Param("email") String email,
-            @Param("memberType") MemberType memberType
-    );
+    @EntityGraph(value = "Member.withApartment")
+    Optional<Member> findMemberWithApartInfoByEmailAndMemberType(String email, MemberType memberType);
+
+    @EntityGraph(value = "Member.withRefreshToken")
+    Optional<Member> findMemberWithRefreshTokenById(Long memberId);
 
-    @Query(value = "select m from Member as m" +
-            " inner join fetch m.refreshToken as r" +
-            " where m.nickname = :nickname and r.token = :token")
+    @EntityGraph(value = "Member.withRefreshTokenAndApartment")
+    @Query(value = "select m from Member as m where m.nickname = :nickname and m.refreshToken.token = :token")
     Member findMemberWithRefreshTokenAndApartInfoByNickname(
             @Param("nickname") String nickname,
             @Param("token") String token
     );
 
-    @Query(value = "select m from Member as m" +
-            " inner join fetch m.refreshToken as r" +
-            " where m.nickname = :nickname and r.token = :token")
+    @EntityGraph(value = "Member.withRefreshToken")
+    @Query(value = "select m from Member as m where m.nickname = :nickname and m.refreshToken.token = :token")
     Member findMemberWithRefreshTokenByNicknameAndRefreshTokenValue(
             @Param("nickname") String nickname,
             @Param("token") String token
@@ -52,4 +52,21 @@ public interface MemberRepository extends JpaRepository<Member, Long> {
     @Modifying(clearAutomatically = true)
     @Query(value = "update Member as m set m.password = :password where m.id = :memberId")
     int changePasswordByMemberId(@Param("memberId") Long memberId, @Param("password") String password);
+
+    @Query(value = "select m.apartOrdinal from Member as m where m.id = :memberId and m.apartment.code = :apartCode")
+    Optional<Integer> findApartOrdinalByIdAndApartCode(@Param("memberId") Long memberId, @Param("apartCode") String apartCode);
+
+    @Modifying
+    @Query(value = "update Member as m set m.apartOrdinal = :apartOrdinal " +
+            "where m.id = :memberId and m.apartOrdinal is null " +
+            "and m.apartment.id in (select a.id from Apartment as a where a.code = :apartCode)")
+    int assignApartOrdinal(@Param("memberId") Long memberId,
+                           @Param("apartCode") String apartCode,
+                           @Param("apartOrdinal") int apartOrdinal);
+
+    @Query(value = "select m from Member as m where m.apartment.code = :apartCode order by m.id")
+    List<Member> findMembersByApartCode(@Param("apartCode") String apartCode);
+
+    @Query(value = "select count(m) from Member as m where m.apartment.code = :apartCode")
+    long countMembersByApartCode(@Param("apartCode") String apartCode);
 }
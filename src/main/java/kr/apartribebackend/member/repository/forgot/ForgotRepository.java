@@ -1,6 +1,7 @@
 package kr.apartribebackend.member.repository.forgot;
 
 import kr.apartribebackend.member.domain.forgot.Forgot;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
@@ -12,7 +13,8 @@ import java.util.Optional;
 
 public interface ForgotRepository extends JpaRepository<Forgot, Long> {
 
-    @Query(value = "select f from Forgot as f inner join fetch f.member as m where f.identifier = :identifier")
+    @EntityGraph(value = "Forgot.withMember")
+    @Query(value = "select f from Forgot as f where f.identifier = :identifier")
     Optional<Forgot> findForgotWithMemberByIdentifier(@Param("identifier") String identifier);
 
     @Query(value = "select f from Forgot as f where f.member.id = :memberId")
@@ -3,10 +3,16 @@ package kr.apartribebackend.member.service;
 import kr.apartribebackend.apart.dto.ApartmentDto;
 import kr.apartribebackend.article.domain.Board;
 import kr.apartribebackend.article.repository.BoardRepository;
+import kr.apartribebackend.attachment.service.AttachmentService;
 import kr.apartribebackend.comment.domain.Comment;
 import kr.apartribebackend.comment.repository.CommentRepository;
+import kr.apartribebackend.comment.service.CommentLeaderboardService;
+import kr.apartribebackend.global.service.AccessTokenRevocationService;
+import kr.apartribebackend.global.service.ApproximateCountService;
+import kr.apartribebackend.global.service.ApproximateCountService.CountKey;
 import kr.apartribebackend.likes.domain.Liked;
 import kr.apartribebackend.likes.repository.LikedRepository;
+import kr.apartribebackend.likes.service.MemberLikeIndexService;
 import kr.apartribebackend.member.domain.Member;
 import kr.apartribebackend.member.domain.MemberType;
 import kr.apartribebackend.member.dto.*;
@@ -16,6 +22,7 @@ import kr.apartribebackend.member.repository.MemberConfigRepository;
 import kr.apartribebackend.member.repository.MemberRepository;
 import kr.apartribebackend.member.repository.agreements.AgreementsRepository;
 import kr.apartribebackend.member.repository.forgot.ForgotRepository;
+import kr.apartribebackend.participation.service.ParticipationService;
 import kr.apartribebackend.token.email.repository.EmailTokenRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
@@ -26,6 +33,7 @@ import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.StringUtils;
 
 import java.util.List;
+import java.util.stream.Stream;
 
 @Transactional
 @RequiredArgsConstructor
@@ -41,6 +49,12 @@ public class MemberConfigService {
     private final AgreementsRepository agreementsRepository;
     private final EmailTokenRepository emailTokenRepository;
     private final ForgotRepository forgotRepository;
+    private final AccessTokenRevocationService accessTokenRevocationService;
+    private final MemberLikeIndexService memberLikeIndexService;
+    private final ParticipationService participationService;
+    private final AttachmentService attachmentService;
+    private final CommentLeaderboardService commentLeaderboardService;
+    private final ApproximateCountService approximateCountService;
 
     public SingleMemberResponse findMemberWithApartInfoByEmailAndMemberType(final MemberDto memberDto) {
         return memberConfigRepository
@@ -51,20 +65,22 @@ public class MemberConfigService {
     public void updateSingleMemberNickname(final AuthenticatedMember authenticatedMember, final String nickname) {
         if (memberRepository.existsByNickname(nickname))
             throw new UserCantUpdateNicknameException();
-        final Member member = authenticatedMember.getOriginalEntity();
+        final Member member = resolveMember(authenticatedMember);
         member.updateNickname(nickname);
+        accessTokenRevocationService.revokeStaleClaims(member.getId());
     }
 
     public void updateSingleMemberPassword(final AuthenticatedMember authenticatedMember,
                                            final MemberChangePasswordReq memberChangePasswordReq) {
-        if (!passwordEncoder.matches(memberChangePasswordReq.currentPassword(), authenticatedMember.getPassword())) {
+        final Member member = resolveMember(authenticatedMember);
+        if (!passwordEncoder.matches(memberChangePasswordReq.currentPassword(), member.getPassword())) {
             throw new UserCantUpdatePasswordException();
         }
         if (authenticatedMember.getMemberType() == MemberType.SOCIAL) {
             throw new UserCantUpdatePasswordCaseMemberIsSocialMember();
         }
-        final Member member = authenticatedMember.getOriginalEntity();
         member.changePassword(passwordEncoder.encode(memberChangePasswordReq.newPassword()));
+        accessTokenRevocationService.revoke(member.getId());
     }
 
     // TODO MemberJoinController 에도 똑같은 것이 있으니, profileImageUrl 검증을 분리하도록 하자.
@@ -79,24 +95,43 @@ public class MemberConfigService {
                 throw new MalformedProfileImageLinkException();
             }
         }
-        final Member member = authenticatedMember.getOriginalEntity();
+        final Member member = resolveMember(authenticatedMember);
         member.updateProfileImageUrl(memberChangeImageReq.profileImageUrl());
+        accessTokenRevocationService.revokeStaleClaims(member.getId());
+    }
+
+    /**
+     * RefreshToken 을 제거하여 재발급을 막고, 이미 발급된 AccessToken 은 폐기한다.
+     * @param memberDto
+     */
+    public void logout(final MemberDto memberDto) {
+        final Member member = memberRepository.findMemberWithRefreshTokenById(memberDto.getId())
+                .orElseThrow(UserNotFoundException::new);
+        member.changeRefreshToken(null);
+        accessTokenRevocationService.revoke(member.getId());
     }
 
     public void deleteSingleUser(final MemberDto memberDto) {
         List<Long> likedIdsForMember = likedRepository.findLikedsByMemberId(memberDto.getId()).stream().map(Liked::getId).toList();
         likedRepository.deleteLikedsUsingLikedIds(likedIdsForMember);
+        memberLikeIndexService.evict(memberDto.getId());
 
         List<Board> boardsForMember  = boardRepository.findBoardsByMemberId(memberDto.getId());
         List<Long> boardIdsForMember = boardsForMember.stream().map(Board::getId).toList();
         List<Long> childCommentsIdsInBoards = commentRepository.findChildCommentsInBoardIds(boardIdsForMember).stream().map(Comment::getId).toList();
         List<Long> parentCommentsIdsInBoards = commentRepository.findParentCommentsInBoardIds(boardIdsForMember).stream().map(Comment::getId).toList();
+        commentLeaderboardService.decrementAll(commentRepository.findCommentLeaderboardSourcesInCommentIds(
+                Stream.concat(childCommentsIdsInBoards.stream(), parentCommentsIdsInBoards.stream()).toList(), commentLeaderboardService.windowStart()));
         commentRepository.deleteCommentsUsingCommentIds(childCommentsIdsInBoards);
         commentRepository.deleteCommentsUsingCommentIds(parentCommentsIdsInBoards);
+        participationService.memberDeleted(memberDto.getId(), boardIdsForMember);
+        attachmentService.removeAttachmentsOfBoards(boardIdsForMember);
         boardRepository.deleteBoardsUsingBoardIds(boardIdsForMember);
 
         List<Long> leftParentCommentIds = commentRepository.findParentCommentsByMemberId(memberDto.getId()).stream().map(Comment::getId).toList();
         List<Long> leftChildCommentIds = commentRepository.findChildCommentsByMemberId(memberDto.getId()).stream().map(Comment::getId).toList();
+        commentLeaderboardService.decrementAll(commentRepository.findCommentLeaderboardSourcesInCommentIds(
+                Stream.concat(leftChildCommentIds.stream(), leftParentCommentIds.stream()).toList(), commentLeaderboardService.windowStart()));
         commentRepository.deleteCommentsUsingCommentIds(leftChildCommentIds);
         commentRepository.deleteCommentsUsingCommentIds(leftParentCommentIds);
 
@@ -105,24 +140,39 @@ public class MemberConfigService {
         forgotRepository.deleteEmailTokenByMemberId(memberDto.getId());
 
         memberRepository.delete(memberDto.toEntity());
+        accessTokenRevocationService.revoke(memberDto.getId());
     }
 
     @Transactional(readOnly = true)
     public Page<MemberCommentRes> fetchCommentsForMember(final MemberDto memberDto,
                                                          final ApartmentDto apartmentDto,
+                                                         final boolean exactCount,
                                                          final Pageable pageable) {
-        return memberConfigRepository.findCommentsForMember(memberDto.toEntity(), apartmentDto.toEntity(), pageable);
+        return memberConfigRepository.findCommentsForMember(memberDto.toEntity(), apartmentDto.toEntity(), pageable,
+                () -> approximateCountService.count(CountKey.memberComments(memberDto.getId()), exactCount,
+                        () -> memberConfigRepository.countCommentsForMember(memberDto.getId())));
     }
 
     @Transactional(readOnly = true)
     public Page<MemberBoardResponse> fetchArticlesForMember(final MemberDto memberDto,
                                                             final ApartmentDto apartmentDto,
+                                                            final boolean exactCount,
                                                             final Pageable pageable) {
         return memberConfigRepository.findArticlesForMember(
                 memberDto.toEntity(),
                 apartmentDto.toEntity(),
-                pageable
+                pageable,
+                () -> approximateCountService.count(CountKey.memberBoards(memberDto.getId()), exactCount,
+                        () -> memberConfigRepository.countArticlesForMember(memberDto.getId(), apartmentDto.toEntity()))
         );
     }
 
+    /**
+     * 인증 필터에서 조회한 Member 는 이미 영속성 컨텍스트가 닫혀 준영속 상태이므로, 변경감지를 위해 현재 트랜잭션에서 다시 조회한다.
+     */
+    private Member resolveMember(final AuthenticatedMember authenticatedMember) {
+        return memberRepository.findById(authenticatedMember.getId())
+                .orElseThrow(UserNotFoundException::new);
+    }
+
 }
@@ -0,0 +1,61 @@
+package kr.apartribebackend.participation.controller;
+
+import kr.apartribebackend.global.annotation.ApartUser;
+import kr.apartribebackend.global.dto.APIResponse;
+import kr.apartribebackend.member.principal.AuthenticatedMember;
+import kr.apartribebackend.participation.dto.ParticipationRes;
+import kr.apartribebackend.participation.service.ParticipationService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+
+@RequiredArgsConstructor
+@RestController
+public class ParticipationController {
+
+    private final ParticipationService participationService;
+
+    @GetMapping("/api/{apartId}/together/{togetherId}/participation")
+    public APIResponse<ParticipationRes> findParticipation(
+            @PathVariable final String apartId,
+            @PathVariable final Long togetherId,
+            @AuthenticationPrincipal final AuthenticatedMember authenticatedMember
+    ) {
+        final ParticipationRes participationRes = participationService
+                .findParticipation(authenticatedMember.toDto(), apartId, togetherId);
+        return APIResponse.SUCCESS(participationRes);
+    }
+
+    /**
+     * 같은 회원의 참여가 동시에 들어와 유니크 키에 걸린 요청은 먼저 저장된 참여를 기준으로 현재 상태를 반환한다.
+     */
+    @ApartUser
+    @PostMapping("/api/{apartId}/together/{togetherId}/participation")
+    public APIResponse<ParticipationRes> join(
+            @PathVariable final String apartId,
+            @PathVariable final Long togetherId,
+            @AuthenticationPrincipal final AuthenticatedMember authenticatedMember
+    ) {
+        ParticipationRes participationRes;
+        try {
+            participationRes = participationService.join(authenticatedMember.toDto(), apartId, togetherId);
+        } catch (DataIntegrityViolationException e) {
+            participationRes = participationService.findParticipation(authenticatedMember.toDto(), apartId, togetherId);
+        }
+        return APIResponse.SUCCESS(participationRes);
+    }
+
+    @ApartUser
+    @DeleteMapping("/api/{apartId}/together/{togetherId}/participation")
+    public APIResponse<ParticipationRes> leave(
+            @PathVariable final String apartId,
+            @PathVariable final Long togetherId,
+            @AuthenticationPrincipal final AuthenticatedMember authenticatedMember
+    ) {
+        final ParticipationRes participationRes = participationService
+                .leave(authenticatedMember.toDto(), apartId, togetherId);
+        return APIResponse.SUCCESS(participationRes);
+    }
+
+}
@@ -0,0 +1,37 @@
+package kr.apartribebackend.participation.domain;
+
+import jakarta.persistence.*;
+import kr.apartribebackend.article.domain.Together;
+import kr.apartribebackend.global.domain.TimeBaseEntity;
+import kr.apartribebackend.member.domain.Member;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.experimental.SuperBuilder;
+
+/**
+ * 함께해요 참여. 회원은 함께해요 하나에 한 번만 참여할 수 있고, 동시에 같은 참여 요청이 들어와도 (TOGETHER_ID, MEMBER_ID) 유니크 키가 중복을 막는다.
+ */
+@Getter @SuperBuilder
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Entity
+@Table(
+        name = "PARTICIPATION",
+        uniqueConstraints = @UniqueConstraint(name = "uk_participation_together_member", columnNames = {"TOGETHER_ID", "MEMBER_ID"}),
+        indexes = @Index(name = "idx_participation_member", columnList = "MEMBER_ID")
+)
+public class Participation extends TimeBaseEntity {
+
+    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "PARTICIPATION_ID")
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "TOGETHER_ID", nullable = false)
+    private Together together;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "MEMBER_ID", nullable = false)
+    private Member member;
+
+}
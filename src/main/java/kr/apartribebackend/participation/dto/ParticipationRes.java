@@ -0,0 +1,20 @@
+package kr.apartribebackend.participation.dto;
+
+import kr.apartribebackend.article.domain.RecruitStatus;
+import kr.apartribebackend.article.domain.Together;
+
+public record ParticipationRes(
+        Integer capacity,
+        int participantCount,
+        RecruitStatus recruitStatus,
+        boolean joined
+) {
+    public static ParticipationRes from(final Together together, final boolean joined) {
+        return new ParticipationRes(
+                together.getCapacity(),
+                together.getParticipantCount(),
+                together.getRecruitStatus(),
+                joined
+        );
+    }
+}
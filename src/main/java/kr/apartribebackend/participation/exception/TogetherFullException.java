@@ -0,0 +1,15 @@
+package kr.apartribebackend.participation.exception;
+
+import kr.apartribebackend.global.exception.RootException;
+
+public class TogetherFullException extends RootException {
+
+    public TogetherFullException() {
+        super("모집 인원이 모두 찼습니다.");
+    }
+
+    @Override
+    public int getStatusCode() {
+        return 409;
+    }
+}
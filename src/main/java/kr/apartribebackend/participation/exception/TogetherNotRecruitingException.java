@@ -0,0 +1,15 @@
+package kr.apartribebackend.participation.exception;
+
+import kr.apartribebackend.global.exception.RootException;
+
+public class TogetherNotRecruitingException extends RootException {
+
+    public TogetherNotRecruitingException() {
+        super("모집중인 함께해요가 아닙니다.");
+    }
+
+    @Override
+    public int getStatusCode() {
+        return 400;
+    }
+}
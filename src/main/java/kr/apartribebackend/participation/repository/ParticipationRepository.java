@@ -0,0 +1,34 @@
+package kr.apartribebackend.participation.repository;
+
+import kr.apartribebackend.participation.domain.Participation;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+
+public interface ParticipationRepository extends JpaRepository<Participation, Long> {
+
+    @Query(value = "select count(p) > 0 from Participation p where p.together.id = :togetherId and p.member.id = :memberId")
+    boolean existsParticipation(@Param("togetherId") Long togetherId, @Param("memberId") Long memberId);
+
+    @Query(value = "select p.together.id from Participation p where p.member.id = :memberId")
+    List<Long> findTogetherIdsByMemberId(@Param("memberId") Long memberId);
+
+    @Query(value = "select count(p) from Participation p where p.together.id = :togetherId")
+    long countByTogetherId(@Param("togetherId") Long togetherId);
+
+    @Modifying
+    @Query(value = "delete from Participation p where p.together.id = :togetherId and p.member.id = :memberId")
+    int deleteParticipation(@Param("togetherId") Long togetherId, @Param("memberId") Long memberId);
+
+    @Modifying
+    @Query(value = "delete from Participation p where p.member.id = :memberId")
+    int deleteParticipationsByMemberId(@Param("memberId") Long memberId);
+
+    @Modifying
+    @Query(value = "delete from Participation p where p.together.id in :togetherIds")
+    int deleteParticipationsInTogetherIds(@Param("togetherIds") List<Long> togetherIds);
+
+}
@@ -0,0 +1,135 @@
+package kr.apartribebackend.participation.service;
+
+import kr.apartribebackend.article.domain.Together;
+import kr.apartribebackend.article.exception.ArticleNotFoundException;
+import kr.apartribebackend.article.repository.together.TogetherRepository;
+import kr.apartribebackend.global.service.ResponseCacheService;
+import kr.apartribebackend.member.dto.MemberDto;
+import kr.apartribebackend.member.repository.MemberRepository;
+import kr.apartribebackend.participation.domain.Participation;
+import kr.apartribebackend.participation.dto.ParticipationRes;
+import kr.apartribebackend.participation.exception.TogetherFullException;
+import kr.apartribebackend.participation.exception.TogetherNotRecruitingException;
+import kr.apartribebackend.participation.repository.ParticipationRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 함께해요 참여 / 참여 취소. 참여 인원은 TOGETHER.PARTICIPANT_COUNT 하나를 조건부 UPDATE 로만 바꾸므로
+ * 자리가 남았는지 검사하는 SELECT 없이 한 row 의 lock 안에서 검사와 증가가 끝나, 동시에 수천 건이 참여해도 최대 인원을 넘지 않는다.
+ * 참여 / 참여 취소는 멱등이다. 이미 참여한 회원의 참여, 참여하지 않은 회원의 참여 취소는 아무것도 바꾸지 않고 현재 상태를 반환한다.
+ */
+@Transactional(readOnly = true)
+@RequiredArgsConstructor
+@Service
+public class ParticipationService {
+
+    private final ParticipationRepository participationRepository;
+    private final TogetherRepository togetherRepository;
+    private final MemberRepository memberRepository;
+    private final ResponseCacheService responseCacheService;
+
+    /**
+     * 함께해요 참여 현황 조회
+     * @param memberDto
+     * @param apartId
+     * @param togetherId
+     * @return
+     */
+    public ParticipationRes findParticipation(final MemberDto memberDto, final String apartId, final Long togetherId) {
+        final Together together = findTogether(apartId, togetherId);
+        final boolean joined = memberDto.getId() != null
+                && participationRepository.existsParticipation(togetherId, memberDto.getId());
+        return ParticipationRes.from(together, joined);
+    }
+
+    /**
+     * 함께해요 참여. 자리를 먼저 차지한 뒤 참여를 저장하고, 마지막 자리였으면 모집 완료로 바꾼다.
+     * 같은 회원의 참여가 동시에 들어오면 유니크 키 때문에 하나만 저장되고 나머지는 DataIntegrityViolationException 으로 롤백된다.
+     * @param memberDto
+     * @param apartId
+     * @param togetherId
+     * @return
+     */
+    @Transactional
+    public ParticipationRes join(final MemberDto memberDto, final String apartId, final Long togetherId) {
+        final Together together = findTogether(apartId, togetherId);
+        if (participationRepository.existsParticipation(togetherId, memberDto.getId())) {
+            return ParticipationRes.from(together, true);
+        }
+        if (togetherRepository.increaseParticipantCount(togetherId) == 0) {
+            final Together current = togetherRepository.findById(togetherId).orElseThrow(ArticleNotFoundException::new);
+            if (current.getCapacity() != null && current.getParticipantCount() >= current.getCapacity()) {
+                throw new TogetherFullException();
+            }
+            throw new TogetherNotRecruitingException();
+        }
+        participationRepository.saveAndFlush(Participation.builder()
+                .together(togetherRepository.getReferenceById(togetherId))
+                .member(memberRepository.getReferenceById(memberDto.getId()))
+                .build());
+        if (togetherRepository.closeRecruitIfFull(togetherId) > 0) {
+            responseCacheService.invalidate(ResponseCacheService.apartTag(apartId), ResponseCacheService.boardTag(togetherId));
+        }
+        return ParticipationRes.from(togetherRepository.findById(togetherId).orElseThrow(ArticleNotFoundException::new), true);
+    }
+
+    /**
+     * 함께해요 참여 취소. 인원이 차서 모집 완료됐던 함께해요는 모집 종료일 전이면 다시 모집중으로 바꾼다.
+     * @param memberDto
+     * @param apartId
+     * @param togetherId
+     * @return
+     */
+    @Transactional
+    public ParticipationRes leave(final MemberDto memberDto, final String apartId, final Long togetherId) {
+        final Together together = findTogether(apartId, togetherId);
+        if (participationRepository.deleteParticipation(togetherId, memberDto.getId()) == 0) {
+            return ParticipationRes.from(together, false);
+        }
+        togetherRepository.decreaseParticipantCount(togetherId);
+        if (togetherRepository.reopenRecruitIfAvailable(togetherId, LocalDate.now()) > 0) {
+            responseCacheService.invalidate(ResponseCacheService.apartTag(apartId), ResponseCacheService.boardTag(togetherId));
+        }
+        return ParticipationRes.from(togetherRepository.findById(togetherId).orElseThrow(ArticleNotFoundException::new), false);
+    }
+
+    /**
+     * 함께해요 게시글이 삭제될 때 참여를 지운다.
+     * @param togetherId
+     */
+    @Transactional
+    public void togetherDeleted(final Long togetherId) {
+        participationRepository.deleteParticipationsInTogetherIds(List.of(togetherId));
+    }
+
+    /**
+     * 회원 탈퇴 시 회원이 참여한 함께해요에서 빠지고, 회원이 작성한 게시글의 참여를 지운다.
+     * @param memberId
+     * @param boardIdsForMember
+     */
+    @Transactional
+    public void memberDeleted(final Long memberId, final List<Long> boardIdsForMember) {
+        final List<Long> joinedTogetherIds = participationRepository.findTogetherIdsByMemberId(memberId);
+        participationRepository.deleteParticipationsByMemberId(memberId);
+        final LocalDate currentDate = LocalDate.now();
+        for (Long togetherId : joinedTogetherIds) {
+            togetherRepository.decreaseParticipantCount(togetherId);
+            togetherRepository.reopenRecruitIfAvailable(togetherId, currentDate);
+            responseCacheService.invalidate(ResponseCacheService.boardTag(togetherId));
+        }
+        if (!boardIdsForMember.isEmpty()) {
+            participationRepository.deleteParticipationsInTogetherIds(boardIdsForMember);
+        }
+    }
+
+    private Together findTogether(final String apartId, final Long togetherId) {
+        return togetherRepository.findTogetherForApartId(apartId, togetherId)
+                .orElseThrow(ArticleNotFoundException::new);
+    }
+
+}
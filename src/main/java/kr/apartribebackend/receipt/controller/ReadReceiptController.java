@@ -0,0 +1,58 @@
+package kr.apartribebackend.receipt.controller;
+
+import kr.apartribebackend.global.annotation.ApartUser;
+import kr.apartribebackend.global.dto.APIResponse;
+import kr.apartribebackend.member.domain.UserType;
+import kr.apartribebackend.member.dto.MemberDto;
+import kr.apartribebackend.member.principal.AuthenticatedMember;
+import kr.apartribebackend.receipt.dto.ReadReceiptCountRes;
+import kr.apartribebackend.receipt.dto.UnreadMemberRes;
+import kr.apartribebackend.receipt.exception.CantReadReceiptCauseInvalidUserType;
+import kr.apartribebackend.receipt.service.ReadReceiptService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RequiredArgsConstructor
+@RestController
+public class ReadReceiptController {
+
+    private final ReadReceiptService readReceiptService;
+
+    @ApartUser
+    @GetMapping("/api/{apartId}/announce/{announceId}/receipt")
+    public APIResponse<ReadReceiptCountRes> countReceipts(
+            @PathVariable final String apartId,
+            @PathVariable final Long announceId,
+            @AuthenticationPrincipal final AuthenticatedMember authenticatedMember
+    ) {
+        checkManager(authenticatedMember.toDto(), apartId);
+        final ReadReceiptCountRes readReceiptCountRes = readReceiptService.countReceipts(apartId, announceId);
+        return APIResponse.SUCCESS(readReceiptCountRes);
+    }
+
+    @ApartUser
+    @GetMapping("/api/{apartId}/announce/{announceId}/receipt/unread")
+    public APIResponse<List<UnreadMemberRes>> findUnreadMembers(
+            @PathVariable final String apartId,
+            @PathVariable final Long announceId,
+            @AuthenticationPrincipal final AuthenticatedMember authenticatedMember
+    ) {
+        checkManager(authenticatedMember.toDto(), apartId);
+        final List<UnreadMemberRes> unreadMembers = readReceiptService.findUnreadMembers(apartId, announceId);
+        return APIResponse.SUCCESS(unreadMembers);
+    }
+
+    private void checkManager(final MemberDto memberDto, final String apartId) {
+        if (memberDto.getUserType() != UserType.MANAGER
+                || memberDto.getApartmentDto() == null
+                || !apartId.equals(memberDto.getApartmentDto().getCode())) {
+            throw new CantReadReceiptCauseInvalidUserType();
+        }
+    }
+
+}
@@ -0,0 +1,39 @@
+package kr.apartribebackend.receipt.domain;
+
+import jakarta.persistence.*;
+import kr.apartribebackend.global.domain.TimeBaseEntity;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.experimental.SuperBuilder;
+
+/**
+ * 공지사항 읽음 여부. 회원마다 row 를 쌓지 않고, 아파트 회원 순번(Member.apartOrdinal) 번째 비트를 켜는 비트맵 하나로 저장한다.
+ * READ_BITMAP 은 BitSet.toByteArray() 형식이다.
+ */
+@Getter @SuperBuilder
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Entity
+@Table(name = "ANNOUNCE_READ_RECEIPT")
+public class AnnounceReadReceipt extends TimeBaseEntity {
+
+    @Id
+    @Column(name = "ANNOUNCE_ID")
+    private Long announceId;
+
+    @Column(name = "APART_CODE", nullable = false)
+    private String apartCode;
+
+    @Lob
+    @Column(name = "READ_BITMAP", nullable = false)
+    private byte[] readBitmap;
+
+    @Column(name = "READ_COUNT", nullable = false)
+    private int readCount;
+
+    public void updateReadBitmap(final byte[] readBitmap, final int readCount) {
+        this.readBitmap = readBitmap;
+        this.readCount = readCount;
+    }
+
+}
@@ -0,0 +1,13 @@
+package kr.apartribebackend.receipt.dto;
+
+/**
+ * @param readCount 공지사항을 읽은 아파트 회원 수
+ * @param unreadCount 아직 읽지 않은 아파트 회원 수
+ * @param memberCount 아파트 회원 수
+ */
+public record ReadReceiptCountRes(
+        int readCount,
+        long unreadCount,
+        long memberCount
+) {
+}
@@ -0,0 +1,15 @@
+package kr.apartribebackend.receipt.dto;
+
+import kr.apartribebackend.member.domain.Member;
+
+public record UnreadMemberRes(
+        Long memberId,
+        String nickname,
+        String profileImage
+) {
+
+    public static UnreadMemberRes from(final Member member) {
+        return new UnreadMemberRes(member.getId(), member.getNickname(), member.getProfileImageUrl());
+    }
+
+}
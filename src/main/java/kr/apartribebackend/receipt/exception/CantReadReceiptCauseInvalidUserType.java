@@ -0,0 +1,15 @@
+package kr.apartribebackend.receipt.exception;
+
+import kr.apartribebackend.global.exception.RootException;
+
+public class CantReadReceiptCauseInvalidUserType extends RootException {
+
+    public CantReadReceiptCauseInvalidUserType() {
+        super("해당 아파트의 manager 유저타입 사용자만 공지사항 읽음 현황을 조회할 수 있습니다.");
+    }
+
+    @Override
+    public int getStatusCode() {
+        return 401;
+    }
+}
@@ -0,0 +1,8 @@
+package kr.apartribebackend.receipt.repository;
+
+import kr.apartribebackend.receipt.domain.AnnounceReadReceipt;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface AnnounceReadReceiptRepository extends JpaRepository<AnnounceReadReceipt, Long> {
+
+}
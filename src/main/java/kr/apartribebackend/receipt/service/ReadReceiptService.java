@@ -0,0 +1,272 @@
+package kr.apartribebackend.receipt.service;
+
+import kr.apartribebackend.apart.exception.ApartNonExistsException;
+import kr.apartribebackend.apart.repository.ApartmentRepository;
+import kr.apartribebackend.article.domain.Announce;
+import kr.apartribebackend.article.exception.ArticleNotFoundException;
+import kr.apartribebackend.article.repository.BoardRepository;
+import kr.apartribebackend.member.dto.MemberDto;
+import kr.apartribebackend.member.repository.MemberRepository;
+import kr.apartribebackend.receipt.domain.AnnounceReadReceipt;
+import kr.apartribebackend.receipt.dto.ReadReceiptCountRes;
+import kr.apartribebackend.receipt.dto.UnreadMemberRes;
+import kr.apartribebackend.receipt.repository.AnnounceReadReceiptRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 공지사항 읽음 현황. 공지사항마다 아파트 회원 순번(Member.apartOrdinal) 을 인덱스로 하는 BitSet 을 메모리에 두고,
+ * 단일 조회 때 비트만 켠 뒤 flush 가 변경된 비트맵을 ANNOUNCE_READ_RECEIPT 에 한 row 로 덮어쓴다.
+ * 순번은 아파트마다 따로 발급되므로 (아파트 코드, 회원 ID) 로 캐시하고, 회원이 다른 아파트로 옮기면 Member.changeApartment 가 순번을 비운다.
+ * 비트맵은 처음 필요할 때 ANNOUNCE_READ_RECEIPT 에서 읽어오고, flush 된 뒤 IDLE_TIMEOUT 동안 사용되지 않으면 메모리에서 내린다.
+ * flush 전에 서버가 내려가면 마지막 flush 이후의 읽음 기록은 사라진다.
+ */
+@Transactional
+@RequiredArgsConstructor
+@Service
+public class ReadReceiptService {
+
+    public static final Duration IDLE_TIMEOUT = Duration.ofMinutes(30);
+    public static final int MAX_CACHED_ORDINALS = 100_000;
+
+    private final AnnounceReadReceiptRepository announceReadReceiptRepository;
+    private final MemberRepository memberRepository;
+    private final ApartmentRepository apartmentRepository;
+    private final BoardRepository boardRepository;
+
+    private final Map<Long, ReadBitmap> bitmaps = new ConcurrentHashMap<>();
+    private final Map<OrdinalKey, Integer> ordinals = Collections.synchronizedMap(
+            new LinkedHashMap<>(1024, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(final Map.Entry<OrdinalKey, Integer> eldest) {
+                    return size() > MAX_CACHED_ORDINALS;
+                }
+            });
+
+    /**
+     * 아파트 회원이 공지사항을 읽었음을 기록한다. 다른 아파트 회원이나 비회원의 조회는 기록하지 않는다.
+     * @param memberDto
+     * @param apartCode
+     * @param announceId
+     */
+    public void recordRead(final MemberDto memberDto, final String apartCode, final Long announceId) {
+        if (memberDto.getId() == null || memberDto.getApartmentDto() == null
+                || !apartCode.equals(memberDto.getApartmentDto().getCode())) {
+            return;
+        }
+        final OptionalInt ordinal = ordinalOf(memberDto.getId(), apartCode);
+        if (ordinal.isEmpty()) {
+            return;
+        }
+        final ReadBitmap readBitmap = load(apartCode, announceId);
+        synchronized (readBitmap) {
+            if (!readBitmap.bits.get(ordinal.getAsInt())) {
+                readBitmap.bits.set(ordinal.getAsInt());
+                readBitmap.dirty = true;
+            }
+        }
+    }
+
+    /**
+     * 읽은 회원 수는 비트맵의 켜진 비트 수이고, 읽지 않은 회원 수는 아파트 회원 수에서 뺀 값이다.
+     * @param apartCode
+     * @param announceId
+     * @return
+     */
+    @Transactional(readOnly = true)
+    public ReadReceiptCountRes countReceipts(final String apartCode, final Long announceId) {
+        checkAnnounceInApartment(apartCode, announceId);
+        final ReadBitmap readBitmap = load(apartCode, announceId);
+        final int readCount;
+        synchronized (readBitmap) {
+            readCount = readBitmap.bits.cardinality();
+        }
+        final long memberCount = memberRepository.countMembersByApartCode(apartCode);
+        return new ReadReceiptCountRes(readCount, Math.max(0, memberCount - readCount), memberCount);
+    }
+
+    /**
+     * 아파트 회원 중 비트맵에 비트가 켜져 있지 않은 회원. 순번이 아직 없는 회원은 공지사항을 읽은 적이 없는 회원이다.
+     * @param apartCode
+     * @param announceId
+     * @return
+     */
+    @Transactional(readOnly = true)
+    public List<UnreadMemberRes> findUnreadMembers(final String apartCode, final Long announceId) {
+        checkAnnounceInApartment(apartCode, announceId);
+        final ReadBitmap readBitmap = load(apartCode, announceId);
+        final BitSet bits;
+        synchronized (readBitmap) {
+            bits = (BitSet) readBitmap.bits.clone();
+        }
+        return memberRepository.findMembersByApartCode(apartCode).stream()
+                .filter(member -> member.getApartOrdinal() == null || !bits.get(member.getApartOrdinal()))
+                .map(UnreadMemberRes::from)
+                .toList();
+    }
+
+    /**
+     * 공지사항이 삭제되면 읽음 현황도 지운다.
+     * @param announceId
+     */
+    public void announceDeleted(final Long announceId) {
+        if (announceReadReceiptRepository.existsById(announceId)) {
+            announceReadReceiptRepository.deleteById(announceId);
+        }
+        afterCommit(() -> bitmaps.remove(announceId));
+    }
+
+    /**
+     * 변경된 비트맵을 저장하고, 저장된 뒤 IDLE_TIMEOUT 동안 사용되지 않은 비트맵을 메모리에서 내린다.
+     * 트랜잭션이 커밋되지 않으면 저장하려던 비트맵을 다시 변경된 상태로 되돌려 다음 flush 에서 저장한다.
+     * @return 저장한 비트맵 수
+     */
+    public int flush() {
+        final List<ReadBitmap> flushed = new ArrayList<>();
+        final long idleBefore = System.nanoTime() - IDLE_TIMEOUT.toNanos();
+        for (ReadBitmap readBitmap : bitmaps.values()) {
+            final byte[] bytes;
+            final int readCount;
+            synchronized (readBitmap) {
+                if (!readBitmap.dirty) {
+                    if (readBitmap.loaded && readBitmap.lastAccessedAt < idleBefore) {
+                        readBitmap.evicted = true;
+                        bitmaps.remove(readBitmap.announceId, readBitmap);
+                    }
+                    continue;
+                }
+                bytes = readBitmap.bits.toByteArray();
+                readCount = readBitmap.bits.cardinality();
+                readBitmap.dirty = false;
+            }
+            flushed.add(readBitmap);
+            announceReadReceiptRepository.findById(readBitmap.announceId)
+                    .ifPresentOrElse(
+                            receipt -> receipt.updateReadBitmap(bytes, readCount),
+                            () -> announceReadReceiptRepository.save(AnnounceReadReceipt.builder()
+                                    .announceId(readBitmap.announceId)
+                                    .apartCode(readBitmap.apartCode)
+                                    .readBitmap(bytes)
+                                    .readCount(readCount)
+                                    .build())
+                    );
+        }
+        afterRollback(() -> flushed.forEach(readBitmap -> {
+            synchronized (readBitmap) {
+                readBitmap.dirty = true;
+            }
+        }));
+        return flushed.size();
+    }
+
+    private ReadBitmap load(final String apartCode, final Long announceId) {
+        while (true) {
+            final ReadBitmap readBitmap = bitmaps.computeIfAbsent(announceId, id -> new ReadBitmap(id, apartCode));
+            synchronized (readBitmap) {
+                if (readBitmap.evicted) {
+                    continue;
+                }
+                if (!readBitmap.loaded) {
+                    announceReadReceiptRepository.findById(announceId)
+                            .ifPresent(receipt -> readBitmap.bits.or(BitSet.valueOf(receipt.getReadBitmap())));
+                    readBitmap.loaded = true;
+                }
+                readBitmap.lastAccessedAt = System.nanoTime();
+                return readBitmap;
+            }
+        }
+    }
+
+    private void checkAnnounceInApartment(final String apartCode, final Long announceId) {
+        boardRepository.findBoardWithMemberAndApartmentForApartId(apartCode, announceId)
+                .filter(board -> board instanceof Announce)
+                .orElseThrow(ArticleNotFoundException::new);
+    }
+
+    /**
+     * 회원의 아파트 순번을 반환한다. 아직 없으면 아파트의 memberSequence 를 1 올려 발급한다.
+     * 회원이 (토큰의 정보와 달리) 이미 그 아파트 주민이 아니면 빈 값을 반환한다.
+     * @param memberId
+     * @param apartCode
+     * @return
+     */
+    private OptionalInt ordinalOf(final Long memberId, final String apartCode) {
+        final OrdinalKey key = new OrdinalKey(apartCode, memberId);
+        final Integer cached = ordinals.get(key);
+        if (cached != null) {
+            return OptionalInt.of(cached);
+        }
+        final Optional<Integer> assigned = memberRepository.findApartOrdinalByIdAndApartCode(memberId, apartCode);
+        if (assigned.isPresent()) {
+            ordinals.put(key, assigned.get());
+            return OptionalInt.of(assigned.get());
+        }
+        final OptionalInt ordinal = assignOrdinal(memberId, apartCode);
+        ordinal.ifPresent(value -> afterCommit(() -> ordinals.put(key, value)));
+        return ordinal;
+    }
+
+    private OptionalInt assignOrdinal(final Long memberId, final String apartCode) {
+        apartmentRepository.increaseMemberSequence(apartCode);
+        final int ordinal = apartmentRepository.findMemberSequenceByCode(apartCode)
+                .orElseThrow(ApartNonExistsException::new) - 1;
+        if (memberRepository.assignApartOrdinal(memberId, apartCode, ordinal) == 0) {
+            return memberRepository.findApartOrdinalByIdAndApartCode(memberId, apartCode)
+                    .map(OptionalInt::of)
+                    .orElse(OptionalInt.empty());
+        }
+        return OptionalInt.of(ordinal);
+    }
+
+    private void afterCommit(final Runnable runnable) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            runnable.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                runnable.run();
+            }
+        });
+    }
+
+    private void afterRollback(final Runnable runnable) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(final int status) {
+                if (status != STATUS_COMMITTED) {
+                    runnable.run();
+                }
+            }
+        });
+    }
+
+    private record OrdinalKey(String apartCode, Long memberId) { }
+
+    private static class ReadBitmap {
+        private final Long announceId;
+        private final String apartCode;
+        private final BitSet bits = new BitSet();
+        private boolean loaded;
+        private boolean dirty;
+        private boolean evicted;
+        private long lastAccessedAt = System.nanoTime();
+
+        private ReadBitmap(final Long announceId, final String apartCode) {
+            this.announceId = announceId;
+            this.apartCode = apartCode;
+        }
+    }
+
+}
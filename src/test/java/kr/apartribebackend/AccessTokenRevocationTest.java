@@ -0,0 +1,166 @@
+package kr.apartribebackend;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import kr.apartribebackend.apart.dto.ApartmentDto;
+import kr.apartribebackend.global.exception.RevokedAccessTokenException;
+import kr.apartribebackend.global.filter.JwtValidationFilter;
+import kr.apartribebackend.global.service.AccessTokenRevocationService;
+import kr.apartribebackend.global.service.JwtService;
+import kr.apartribebackend.global.service.keyring.HmacJwtKeyRing;
+import kr.apartribebackend.member.domain.AuthStatus;
+import kr.apartribebackend.member.domain.MemberType;
+import kr.apartribebackend.member.principal.AuthenticatedMember;
+import kr.apartribebackend.member.repository.MemberRepository;
+import kr.apartribebackend.token.refresh.repository.RefreshTokenRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Date;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.springframework.http.HttpHeaders.AUTHORIZATION;
+
+/**
+ * Stateless Principal 모드에서는 AccessToken 의 Claim 만으로 인증하고, 폐기 기록으로 아직 만료되지 않은 토큰을 막는다.
+ */
+class AccessTokenRevocationTest {
+
+    private static final long ACCESS_TOKEN_EXPIRATION = 300_000;
+    private static final String SECRET_KEY = "revocation-test-secret-key-".repeat(4);
+
+    MemberRepository memberRepository;
+    AccessTokenRevocationService accessTokenRevocationService;
+    JwtService jwtService;
+    JwtValidationFilter jwtValidationFilter;
+
+    @BeforeEach
+    public void beforeEach() {
+        memberRepository = mock(MemberRepository.class);
+        accessTokenRevocationService = new AccessTokenRevocationService(ACCESS_TOKEN_EXPIRATION, true);
+        jwtService = new JwtService(new HmacJwtKeyRing(SECRET_KEY));
+        ReflectionTestUtils.setField(jwtService, "refreshTokenSecretKey", SECRET_KEY);
+        ReflectionTestUtils.setField(jwtService, "accessTokenExpiration", ACCESS_TOKEN_EXPIRATION);
+        ReflectionTestUtils.setField(jwtService, "refreshTokenExpiration", ACCESS_TOKEN_EXPIRATION);
+        ReflectionTestUtils.setField(jwtService, "statelessPrincipalEnabled", true);
+        ReflectionTestUtils.setField(jwtService, "statelessPrincipalExpiration", ACCESS_TOKEN_EXPIRATION);
+        jwtService.initialize();
+        jwtValidationFilter = new JwtValidationFilter(
+                jwtService, memberRepository, mock(RefreshTokenRepository.class), new ObjectMapper(), accessTokenRevocationService
+        );
+    }
+
+    @AfterEach
+    public void afterEach() {
+        SecurityContextHolder.clearContext();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("Stateless Principal 토큰은 회원을 조회하지 않고 Claim 으로 AuthenticatedMember 를 복원한다")
+    public void statelessPrincipalAuthenticatesWithoutMemberLookup() throws Exception {
+        final String accessToken = jwtService.generateAccessToken(authenticatedMember(1L));
+
+        doFilter(accessToken);
+
+        final Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        final AuthenticatedMember principal = (AuthenticatedMember) authentication.getPrincipal();
+        assertThat(principal.getId()).isEqualTo(1L);
+        assertThat(principal.getUsername()).isEqualTo("nickname1");
+        assertThat(principal.getApartmentDto().getCode()).isEqualTo("apartCode1");
+        verifyNoInteractions(memberRepository);
+    }
+
+    @Test
+    @DisplayName("폐기 전에 발급된 토큰은 폐기되고, 다른 회원의 토큰은 영향을 받지 않는다")
+    public void tokenIssuedBeforeRevocationIsRevoked() throws Exception {
+        final String revokedToken = jwtService.generateAccessToken(authenticatedMember(1L));
+        final String otherToken = jwtService.generateAccessToken(authenticatedMember(2L));
+
+        accessTokenRevocationService.revoke(1L);
+
+        assertThat(accessTokenRevocationService.isRevoked(1L, Instant.now())).isTrue();
+        assertThatThrownBy(() -> doFilter(revokedToken)).isInstanceOf(RevokedAccessTokenException.class);
+        doFilter(otherToken);
+        assertThat(SecurityContextHolder.getContext().getAuthentication()).isNotNull();
+    }
+
+    @Test
+    @DisplayName("폐기 직후 같은 초에 다시 발급된 토큰은 밀리초 단위 발급 시각으로 비교되어 통과한다")
+    public void tokenReissuedInSameSecondAfterRevocationIsNotRevoked() throws Exception {
+        accessTokenRevocationService.revoke(1L);
+        Thread.sleep(2);
+        final String reissuedToken = jwtService.generateAccessToken(authenticatedMember(1L));
+
+        assertThat(jwtService.extractAllClaims(reissuedToken, JwtService.TokenType.ACCESS))
+                .containsKey(JwtService.ISSUED_AT_MILLIS_CLAIM);
+        doFilter(reissuedToken);
+        assertThat(SecurityContextHolder.getContext().getAuthentication()).isNotNull();
+    }
+
+    @Test
+    @DisplayName("iatMillis 가 없는 이전 토큰은 초 단위 iat 로 비교되어, 폐기와 같은 초에 발급되었다면 폐기된다")
+    public void legacyTokenWithoutMillisIsComparedBySecond() {
+        final Instant issuedAtSecond = Instant.now().truncatedTo(ChronoUnit.SECONDS);
+        accessTokenRevocationService.revoke(1L);
+
+        final Claims legacyClaims = Jwts.claims().setIssuedAt(Date.from(issuedAtSecond));
+        assertThat(jwtService.extractIssuedAt(legacyClaims)).isEqualTo(issuedAtSecond);
+        assertThat(accessTokenRevocationService.isRevoked(1L, jwtService.extractIssuedAt(legacyClaims))).isTrue();
+    }
+
+    @Test
+    @DisplayName("트랜잭션 안에서의 폐기는 커밋된 뒤에 반영되고, 롤백되면 반영되지 않는다")
+    public void revocationIsAppliedOnlyAfterCommit() {
+        TransactionSynchronizationManager.initSynchronization();
+        accessTokenRevocationService.revoke(1L);
+        assertThat(accessTokenRevocationService.isRevoked(1L, Instant.now())).isFalse();
+        TransactionSynchronizationManager.clearSynchronization();
+        assertThat(accessTokenRevocationService.isRevoked(1L, Instant.now())).isFalse();
+
+        TransactionSynchronizationManager.initSynchronization();
+        accessTokenRevocationService.revoke(1L);
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        TransactionSynchronizationManager.clearSynchronization();
+        assertThat(accessTokenRevocationService.isRevoked(1L, Instant.now())).isTrue();
+    }
+
+    private void doFilter(final String accessToken) throws Exception {
+        final MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/apartments/apartCode1/boards");
+        request.addHeader(AUTHORIZATION, "Bearer " + accessToken);
+        jwtValidationFilter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+    }
+
+    private AuthenticatedMember authenticatedMember(final Long id) {
+        return AuthenticatedMember.builder()
+                .id(id)
+                .email(String.format("member%s@apartribe.kr", id))
+                .name(String.format("name%s", id))
+                .nickname(String.format("nickname%s", id))
+                .memberType(MemberType.GENERAL)
+                .authStatus(AuthStatus.COMPLETED)
+                .apartCode("apartCode1")
+                .apartName("apartName1")
+                .apartmentDto(ApartmentDto.builder().id(1L).code("apartCode1").name("apartName1").build())
+                .build();
+    }
+
+}
@@ -0,0 +1,131 @@
+package kr.apartribebackend;
+
+import kr.apartribebackend.ApartUserInterceptorTest.ApartUserHandlers;
+import kr.apartribebackend.apart.exception.ApartRequestNotMatchWithMemberApartException;
+import kr.apartribebackend.apart.exception.NeedApartmentAuthException;
+import kr.apartribebackend.apart.exception.NeedToMakeCommunityException;
+import kr.apartribebackend.global.annotation.ApartUser;
+import kr.apartribebackend.global.interceptor.ApartUserHandlerRegistry;
+import kr.apartribebackend.global.interceptor.ApartUserInterceptor;
+import kr.apartribebackend.member.domain.AuthStatus;
+import kr.apartribebackend.member.principal.AuthenticatedMember;
+import lombok.extern.slf4j.Slf4j;
+import org.aspectj.lang.JoinPoint;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.annotation.Before;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.util.Map;
+import java.util.function.IntSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * @ApartUser 검증을 매 호출마다 파라미터 이름을 리플렉션으로 찾던 ApartUserAspect (아래 LegacyApartUserAspect 로 옮겨둔 기존 구현) 와
+ * 기동 시점에 계산한 ApartUserHandlerRegistry 를 쓰는 ApartUserInterceptor 의 요청당 비용을 비교한다.
+ * 두 방식 모두 핸들러 호출까지 포함해 측정하며, -Dbenchmark.invocations 로 호출 수를 바꿀 수 있다.
+ */
+@Slf4j
+class ApartUserBenchmarkTest {
+
+    private static final int INVOCATIONS = Integer.getInteger("benchmark.invocations", 200_000);
+    private static final int WARMUP = INVOCATIONS / 4;
+    private static final String APART_CODE = "APT-MEMBER";
+
+    @AfterEach
+    public void afterEach() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @DisplayName("아파트를 비교하는 핸들러와 비교하지 않는 핸들러 모두 Aspect 와 Interceptor 가 같은 요청을 통과시킨다")
+    public void aspectAndInterceptorPerInvocation() {
+        ApartUserInterceptorTest.authenticate(AuthStatus.COMPLETED);
+
+        final ApartUserHandlers handlers = new ApartUserHandlers();
+        final AspectJProxyFactory proxyFactory = new AspectJProxyFactory(handlers);
+        proxyFactory.setProxyTargetClass(true);
+        proxyFactory.addAspect(new LegacyApartUserAspect());
+        final ApartUserHandlers aspectProxy = proxyFactory.getProxy();
+
+        final ApartUserInterceptor apartUserInterceptor = new ApartUserInterceptor(new ApartUserHandlerRegistry());
+        final HandlerMethod checkedHandler = ApartUserInterceptorTest.handlerMethodOf("checked");
+        final HandlerMethod uncheckedHandler = ApartUserInterceptorTest.handlerMethodOf("unchecked");
+        final MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setAttribute(HandlerMapping.URI_TEMPLATE_VARIABLES_ATTRIBUTE, Map.of("apartId", APART_CODE));
+        final MockHttpServletResponse response = new MockHttpServletResponse();
+
+        final int aspectChecked = measure("Aspect (checkApartment = true)",
+                () -> aspectProxy.checked(APART_CODE, "body").length());
+        final int interceptorChecked = measure("Interceptor (checkApartment = true)",
+                () -> apartUserInterceptor.preHandle(request, response, checkedHandler)
+                        ? handlers.checked(APART_CODE, "body").length() : 0);
+        final int aspectUnchecked = measure("Aspect (checkApartment = false)",
+                () -> aspectProxy.unchecked(APART_CODE).length());
+        final int interceptorUnchecked = measure("Interceptor (checkApartment = false)",
+                () -> apartUserInterceptor.preHandle(request, response, uncheckedHandler)
+                        ? handlers.unchecked(APART_CODE).length() : 0);
+
+        final int expected = INVOCATIONS * APART_CODE.length();
+        assertThat(aspectChecked).isEqualTo(interceptorChecked).isEqualTo(expected);
+        assertThat(aspectUnchecked).isEqualTo(interceptorUnchecked).isEqualTo(expected);
+    }
+
+    private int measure(final String label, final IntSupplier invocation) {
+        for (int i = 0; i < WARMUP; i++) {
+            invocation.getAsInt();
+        }
+        int result = 0;
+        final long startedAt = System.nanoTime();
+        for (int i = 0; i < INVOCATIONS; i++) {
+            result += invocation.getAsInt();
+        }
+        final long elapsedNanos = System.nanoTime() - startedAt;
+        log.info("{} : {} invocations, {} ns/invocation", label, INVOCATIONS, elapsedNanos / INVOCATIONS);
+        return result;
+    }
+
+    @Aspect
+    static class LegacyApartUserAspect {
+
+        @Before("@annotation(apartUser)")
+        public void apartUserPointcut(final JoinPoint joinPoint, final ApartUser apartUser) {
+            final AuthenticatedMember authenticatedMember =
+                    (AuthenticatedMember) SecurityContextHolder.getContext().getAuthentication().getPrincipal();
+            if (authenticatedMember.getAuthStatus() == AuthStatus.INCOMPLETE) {
+                throw new NeedApartmentAuthException();
+            } else if (authenticatedMember.getAuthStatus() == AuthStatus.PENDING) {
+                throw new NeedToMakeCommunityException();
+            }
+            if (apartUser.checkApartment()) {
+                final String apartPathVariable = retrieveApartPathVariable(joinPoint);
+                if (apartPathVariable != null && !apartPathVariable.equals(authenticatedMember.getApartmentDto().getCode())) {
+                    throw new ApartRequestNotMatchWithMemberApartException();
+                }
+            }
+        }
+
+        private String retrieveApartPathVariable(final JoinPoint joinPoint) {
+            final MethodSignature methodSignature = (MethodSignature) joinPoint.getSignature();
+            final String[] parameterNames = methodSignature.getParameterNames();
+            final Object[] args = joinPoint.getArgs();
+            for (int i = 0; i < parameterNames.length; i++) {
+                if (parameterNames[i].equals("apartId") && args[i] instanceof String apartIdValue) {
+                    return apartIdValue;
+                }
+            }
+            return null;
+        }
+
+    }
+
+}
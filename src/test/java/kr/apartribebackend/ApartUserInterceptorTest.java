@@ -0,0 +1,183 @@
+package kr.apartribebackend;
+
+import kr.apartribebackend.apart.dto.ApartmentDto;
+import kr.apartribebackend.apart.exception.ApartRequestNotMatchWithMemberApartException;
+import kr.apartribebackend.apart.exception.NeedApartmentAuthException;
+import kr.apartribebackend.global.annotation.ApartUser;
+import kr.apartribebackend.global.exception.NonAuthorizedException;
+import kr.apartribebackend.global.interceptor.ApartUserHandlerRegistry;
+import kr.apartribebackend.global.interceptor.ApartUserHandlerRegistry.ApartUserMetadata;
+import kr.apartribebackend.global.interceptor.ApartUserInterceptor;
+import kr.apartribebackend.member.domain.AuthStatus;
+import kr.apartribebackend.member.principal.AuthenticatedMember;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.lang.reflect.Method;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * ApartUserHandlerRegistry 가 HandlerMethod 마다 계산해두는 검증 정보와, ApartUserInterceptor 가 그 정보로 요청을 통과 / 거절하는지 확인한다.
+ */
+class ApartUserInterceptorTest {
+
+    private static final String MEMBER_APART_CODE = "APT-MEMBER";
+    private static final String OTHER_APART_CODE = "APT-OTHER";
+
+    private final ApartUserHandlerRegistry apartUserHandlerRegistry = new ApartUserHandlerRegistry();
+    private final ApartUserInterceptor apartUserInterceptor = new ApartUserInterceptor(apartUserHandlerRegistry);
+
+    @AfterEach
+    public void afterEach() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @DisplayName("@ApartUser 핸들러는 String 타입 apartId 파라미터가 바인딩되는 PathVariable 이름을 검증 정보로 가진다")
+    public void resolveApartIdVariableName() {
+        assertThat(metadataOf("checked"))
+                .isEqualTo(new ApartUserMetadata(true, true, "apartId"));
+        assertThat(metadataOf("checkedAfterOtherArguments"))
+                .isEqualTo(new ApartUserMetadata(true, true, "apartId"));
+        assertThat(metadataOf("renamedPathVariable"))
+                .isEqualTo(new ApartUserMetadata(true, true, "apartCode"));
+        assertThat(metadataOf("apartIdIsNotString"))
+                .isEqualTo(new ApartUserMetadata(true, true, null));
+    }
+
+    @Test
+    @DisplayName("checkApartment = false 인 핸들러와 @ApartUser 가 없는 핸들러는 PathVariable 을 찾지 않는다")
+    public void resolveHandlersWithoutApartmentCheck() {
+        assertThat(metadataOf("unchecked"))
+                .isEqualTo(new ApartUserMetadata(true, false, null));
+        assertThat(metadataOf("notApartUser"))
+                .isEqualTo(new ApartUserMetadata(false, false, null));
+    }
+
+    @Test
+    @DisplayName("PathVariable 의 apartId 가 인증객체의 아파트 코드와 같으면 통과한다")
+    public void passMatchingApartment() {
+        authenticate(AuthStatus.COMPLETED);
+
+        assertThat(preHandle("checked", Map.of("apartId", MEMBER_APART_CODE))).isTrue();
+        assertThat(preHandle("renamedPathVariable", Map.of("apartCode", MEMBER_APART_CODE))).isTrue();
+    }
+
+    @Test
+    @DisplayName("PathVariable 의 apartId 가 인증객체의 아파트 코드와 다르면 ApartRequestNotMatchWithMemberApartException 이 발생한다")
+    public void rejectMismatchedApartment() {
+        authenticate(AuthStatus.COMPLETED);
+
+        assertThatThrownBy(() -> preHandle("checked", Map.of("apartId", OTHER_APART_CODE)))
+                .isInstanceOf(ApartRequestNotMatchWithMemberApartException.class);
+        assertThatThrownBy(() -> preHandle("checkedAfterOtherArguments", Map.of("boardId", "1", "apartId", OTHER_APART_CODE)))
+                .isInstanceOf(ApartRequestNotMatchWithMemberApartException.class);
+        assertThatThrownBy(() -> preHandle("renamedPathVariable", Map.of("apartCode", OTHER_APART_CODE)))
+                .isInstanceOf(ApartRequestNotMatchWithMemberApartException.class);
+    }
+
+    @Test
+    @DisplayName("checkApartment = false 인 핸들러는 아파트 인증 상태만 확인하고 다른 아파트의 요청도 통과시킨다")
+    public void skipApartmentCheckWhenDisabled() {
+        authenticate(AuthStatus.COMPLETED);
+
+        assertThat(preHandle("unchecked", Map.of("apartId", OTHER_APART_CODE))).isTrue();
+        assertThat(preHandle("unchecked", null)).isTrue();
+        assertThat(preHandle("notApartUser", Map.of("apartId", OTHER_APART_CODE))).isTrue();
+    }
+
+    @Test
+    @DisplayName("아파트 인증을 하지 않았거나 인증객체가 없으면 아파트를 비교하기 전에 거절한다")
+    public void rejectBeforeApartmentCheck() {
+        assertThatThrownBy(() -> preHandle("unchecked", null))
+                .isInstanceOf(NonAuthorizedException.class);
+
+        authenticate(AuthStatus.INCOMPLETE);
+        assertThatThrownBy(() -> preHandle("checked", Map.of("apartId", MEMBER_APART_CODE)))
+                .isInstanceOf(NeedApartmentAuthException.class);
+        assertThatThrownBy(() -> preHandle("unchecked", null))
+                .isInstanceOf(NeedApartmentAuthException.class);
+    }
+
+    private ApartUserMetadata metadataOf(final String methodName) {
+        return apartUserHandlerRegistry.findMetadata(handlerMethodOf(methodName));
+    }
+
+    private boolean preHandle(final String methodName, final Map<String, String> uriTemplateVariables) {
+        final MockHttpServletRequest request = new MockHttpServletRequest();
+        if (uriTemplateVariables != null) {
+            request.setAttribute(HandlerMapping.URI_TEMPLATE_VARIABLES_ATTRIBUTE, uriTemplateVariables);
+        }
+        return apartUserInterceptor.preHandle(request, new MockHttpServletResponse(), handlerMethodOf(methodName));
+    }
+
+    static HandlerMethod handlerMethodOf(final String methodName) {
+        for (Method method : ApartUserHandlers.class.getDeclaredMethods()) {
+            if (method.getName().equals(methodName)) {
+                return new HandlerMethod(new ApartUserHandlers(), method);
+            }
+        }
+        throw new IllegalArgumentException(methodName);
+    }
+
+    static void authenticate(final AuthStatus authStatus) {
+        final AuthenticatedMember authenticatedMember = AuthenticatedMember.builder()
+                .id(1L)
+                .email("member@apartribe.com")
+                .authStatus(authStatus)
+                .apartmentDto(ApartmentDto.builder().code(MEMBER_APART_CODE).name("apartment").build())
+                .authorities(Set.of())
+                .build();
+        SecurityContextHolder.getContext().setAuthentication(
+                UsernamePasswordAuthenticationToken.authenticated(authenticatedMember, null, List.of())
+        );
+    }
+
+    static class ApartUserHandlers {
+
+        @ApartUser
+        public String checked(@PathVariable final String apartId, @RequestBody final String body) {
+            return apartId;
+        }
+
+        @ApartUser
+        public String checkedAfterOtherArguments(@PathVariable final Long boardId, @PathVariable final String apartId) {
+            return apartId;
+        }
+
+        @ApartUser
+        public String renamedPathVariable(@PathVariable("apartCode") final String apartId) {
+            return apartId;
+        }
+
+        @ApartUser
+        public Long apartIdIsNotString(@PathVariable final Long apartId) {
+            return apartId;
+        }
+
+        @ApartUser(checkApartment = false)
+        public String unchecked(@PathVariable final String apartId) {
+            return apartId;
+        }
+
+        public String notApartUser(@PathVariable final String apartId) {
+            return apartId;
+        }
+
+    }
+
+}
@@ -0,0 +1,169 @@
+package kr.apartribebackend;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import kr.apartribebackend.apart.domain.Apartment;
+import kr.apartribebackend.article.domain.Article;
+import kr.apartribebackend.article.domain.Board;
+import kr.apartribebackend.attachment.domain.Attachment;
+import kr.apartribebackend.category.domain.ArticleCategory;
+import kr.apartribebackend.comment.domain.Comment;
+import kr.apartribebackend.global.config.JpaConfig;
+import kr.apartribebackend.member.domain.Member;
+import org.hibernate.Hibernate;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@ActiveProfiles("test")
+@Import({JpaConfig.class, QueryDslTestConfig.class})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@DataJpaTest(showSql = false, properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class AssociationWriteTest {
+
+    private static final int SMALL = 1;
+    private static final int LARGE = 200;
+
+    @PersistenceContext EntityManager entityManager;
+
+    Statistics statistics;
+    int memberSequence;
+
+    @BeforeEach
+    public void beforeEach() {
+        statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        memberSequence = 0;
+    }
+
+    @Test
+    @DisplayName("댓글 등록 시 게시글의 댓글 컬렉션을 초기화하지 않고, 기존 댓글 수와 무관한 쿼리 수로 등록된다")
+    public void registBoardOnCommentDoesNotInitializeComments() {
+        final long small = statementsToAppendComment(SMALL);
+        final long large = statementsToAppendComment(LARGE);
+
+        assertThat(large).isEqualTo(small);
+    }
+
+    @Test
+    @DisplayName("첨부파일 등록 시 게시글의 첨부파일 컬렉션을 초기화하지 않고, 기존 첨부파일 수와 무관한 쿼리 수로 등록된다")
+    public void registBoardOnAttachmentDoesNotInitializeAttachments() {
+        final long small = statementsToAppendAttachment(SMALL);
+        final long large = statementsToAppendAttachment(LARGE);
+
+        assertThat(large).isEqualTo(small);
+    }
+
+    @Test
+    @DisplayName("아파트 인증 시 아파트의 주민 컬렉션을 초기화하지 않고, 기존 주민 수와 무관한 쿼리 수로 변경된다")
+    public void changeApartmentDoesNotInitializeMembers() {
+        final long small = statementsToChangeApartment(SMALL);
+        final long large = statementsToChangeApartment(LARGE);
+
+        assertThat(large).isEqualTo(small);
+    }
+
+    private long statementsToAppendComment(final int existingComments) {
+        final Member member = persistMember();
+        final Article article = persistArticle(member);
+        IntStream.rangeClosed(1, existingComments)
+                .forEach(index -> entityManager.persist(EntityUtils.createComment(index, member, article)));
+        flushAndClear();
+
+        statistics.clear();
+        final Board board = entityManager.find(Board.class, article.getId());
+        final Comment comment = Comment.builder()
+                .member(entityManager.getReference(Member.class, member.getId()))
+                .content("new comment")
+                .build();
+        comment.registBoard(board);
+        entityManager.persist(comment);
+        entityManager.flush();
+
+        assertThat(Hibernate.isInitialized(board.getComments())).isFalse();
+        final long statementCount = statistics.getPrepareStatementCount();
+        entityManager.clear();
+        return statementCount;
+    }
+
+    private long statementsToAppendAttachment(final int existingAttachments) {
+        final Member member = persistMember();
+        final Article article = persistArticle(member);
+        IntStream.rangeClosed(1, existingAttachments)
+                .forEach(index -> entityManager.persist(createAttachment(index, article)));
+        flushAndClear();
+
+        statistics.clear();
+        final Board board = entityManager.find(Board.class, article.getId());
+        final Attachment attachment = createAttachment(0, null);
+        attachment.registBoard(board);
+        entityManager.persist(attachment);
+        entityManager.flush();
+
+        assertThat(Hibernate.isInitialized(board.getAttachments())).isFalse();
+        final long statementCount = statistics.getPrepareStatementCount();
+        entityManager.clear();
+        return statementCount;
+    }
+
+    private long statementsToChangeApartment(final int existingMembers) {
+        final Apartment apartment = EntityUtils.createApart(memberSequence);
+        entityManager.persist(apartment);
+        IntStream.rangeClosed(1, existingMembers).forEach(index -> {
+            final Member resident = persistMember();
+            resident.changeApartment(apartment);
+        });
+        final Member newcomer = persistMember();
+        flushAndClear();
+
+        statistics.clear();
+        final Member member = entityManager.find(Member.class, newcomer.getId());
+        final Apartment foundApartment = entityManager.find(Apartment.class, apartment.getId());
+        member.changeApartment(foundApartment);
+        entityManager.flush();
+
+        assertThat(Hibernate.isInitialized(foundApartment.getMembers())).isFalse();
+        final long statementCount = statistics.getPrepareStatementCount();
+        entityManager.clear();
+        return statementCount;
+    }
+
+    private Member persistMember() {
+        final Member member = EntityUtils.createMember(++memberSequence);
+        entityManager.persist(member);
+        return member;
+    }
+
+    private Article persistArticle(final Member member) {
+        final ArticleCategory category = EntityUtils.createArticleCategory(memberSequence);
+        entityManager.persist(category);
+        final Article article = EntityUtils.createArticle(memberSequence, member, category);
+        entityManager.persist(article);
+        return article;
+    }
+
+    private Attachment createAttachment(final int index, final Board board) {
+        return Attachment.builder()
+                .fileName(String.format("attachment%s", index))
+                .contentType("image/png")
+                .uploadPath(String.format("upload/attachment%s.png", index))
+                .extension("png")
+                .board(board)
+                .build();
+    }
+
+    private void flushAndClear() {
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+}
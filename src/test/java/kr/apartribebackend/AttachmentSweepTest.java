@@ -0,0 +1,102 @@
+package kr.apartribebackend;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import kr.apartribebackend.apart.domain.Apartment;
+import kr.apartribebackend.article.domain.Article;
+import kr.apartribebackend.attachment.domain.Attachment;
+import kr.apartribebackend.attachment.repository.AttachmentContentRepository;
+import kr.apartribebackend.attachment.service.AttachmentService;
+import kr.apartribebackend.attachment.service.ImageDerivativeService;
+import kr.apartribebackend.attachment.service.storage.ObjectStorage;
+import kr.apartribebackend.category.domain.ArticleCategory;
+import kr.apartribebackend.global.config.JpaConfig;
+import kr.apartribebackend.global.config.ObjectStorageConfig;
+import kr.apartribebackend.member.domain.Member;
+import kr.apartribebackend.member.dto.MemberDto;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 게시글에 연결된 첨부파일은 게시글이 지워지면 참조를 놓고, 정리 작업이 ATTACHMENT_CONTENT 와 저장소의 객체를 함께 지운다.
+ * 유예 기간을 음수로 두어 방금 참조를 놓은 내용도 바로 정리 대상이 되게 한다.
+ */
+@ActiveProfiles("test")
+@Import({JpaConfig.class, QueryDslTestConfig.class, ObjectStorageConfig.class, AttachmentService.class})
+@TestPropertySource(properties = "application.attachment.gc-grace=-1000")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@DataJpaTest(showSql = false)
+class AttachmentSweepTest {
+
+    @PersistenceContext EntityManager entityManager;
+    @Autowired AttachmentService attachmentService;
+    @Autowired AttachmentContentRepository attachmentContentRepository;
+    @Autowired ObjectStorage objectStorage;
+    @MockBean ImageDerivativeService imageDerivativeService;
+
+    @Test
+    @DisplayName("게시글에 연결된 첨부파일은 게시글을 지우고 정리 작업을 돌리면 ATTACHMENT_CONTENT 와 저장소의 객체가 모두 지워진다")
+    public void sweepContentOfRemovedBoard() throws IOException {
+        final Apartment apartment = EntityUtils.createApart(1);
+        entityManager.persist(apartment);
+        final Member member = EntityUtils.createMember(1);
+        entityManager.persist(member);
+        member.changeApartment(apartment);
+        final ArticleCategory category = EntityUtils.createArticleCategory(1);
+        category.registApartment(apartment);
+        entityManager.persist(category);
+
+        final MemberDto memberDto = MemberDto.builder().id(member.getId()).build();
+        final MockMultipartFile file = new MockMultipartFile(
+                "file", "image.png", "image/png", UUID.randomUUID().toString().getBytes(StandardCharsets.UTF_8)
+        );
+        final Attachment attachment = attachmentService.saveFiles(memberDto, List.of(file)).get(0);
+        final String contentHash = attachment.getContentHash();
+        final String storageKey = attachment.getStorageKey();
+
+        final Article article = Article.builder()
+                .member(member)
+                .apartment(apartment)
+                .category(category)
+                .title("article_title")
+                .content("article_content")
+                .thumbnail(attachment.getUploadPath())
+                .build();
+        entityManager.persist(article);
+        attachmentService.linkAttachmentsToBoard(member.getId(), article);
+        entityManager.flush();
+        entityManager.clear();
+
+        assertThat(attachmentContentRepository.findById(contentHash))
+                .hasValueSatisfying(content -> assertThat(content.getRefCount()).isEqualTo(1));
+        assertThat(objectStorage.findObject(storageKey)).isPresent();
+        entityManager.clear();
+
+        attachmentService.removeAttachmentsOfBoards(List.of(article.getId()));
+        entityManager.flush();
+        entityManager.clear();
+        final int sweptCount = attachmentService.sweepUnreferencedContents();
+        entityManager.flush();
+        entityManager.clear();
+
+        assertThat(sweptCount).isEqualTo(1);
+        assertThat(attachmentContentRepository.findById(contentHash)).isEmpty();
+        assertThat(objectStorage.findObject(storageKey)).isEmpty();
+    }
+
+}
@@ -0,0 +1,161 @@
+package kr.apartribebackend;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import kr.apartribebackend.apart.domain.Apartment;
+import kr.apartribebackend.article.domain.Article;
+import kr.apartribebackend.article.domain.BoardType;
+import kr.apartribebackend.category.domain.ArticleCategory;
+import kr.apartribebackend.global.config.JpaConfig;
+import kr.apartribebackend.member.domain.Member;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * BOARD.APART_ID 역정규화 전 (BOARD → MEMBER → APARTMENT 조인) 과 후 (BOARD → APARTMENT 조인 + BOARD_TYPE 조건) 의
+ * 아파트별 게시글 목록 / 개수 조회 시간을 비교한다.
+ * 기본 게시글 수는 테스트 시간을 고려해 줄여두었으며, -Dbenchmark.boards=1000000 으로 백만 건 기준의 결과를 볼 수 있다.
+ */
+@Slf4j
+@ActiveProfiles("test")
+@Import({JpaConfig.class, QueryDslTestConfig.class})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@DataJpaTest(showSql = false)
+class BoardApartmentBenchmarkTest {
+
+    private static final int BOARDS = Integer.getInteger("benchmark.boards", 20_000);
+    private static final int APARTMENTS = 10;
+    private static final int MEMBERS_PER_APARTMENT = 20;
+    private static final int PAGE_SIZE = 10;
+    private static final int WARMUP = 5;
+    private static final int ITERATIONS = 20;
+
+    private static final String BEFORE_LIST = """
+            select b.id from Article b
+            join b.member m join m.apartment a
+            where a.code = :code
+            order by b.createdAt desc, b.id desc""";
+    private static final String BEFORE_COUNT = """
+            select count(b) from Article b
+            join b.member m join m.apartment a
+            where a.code = :code""";
+    private static final String AFTER_LIST = """
+            select b.id from Article b
+            join b.apartment a
+            where a.code = :code and b.boardType = :boardType
+            order by b.createdAt desc, b.id desc""";
+    private static final String AFTER_COUNT = """
+            select count(b) from Article b
+            join b.apartment a
+            where a.code = :code and b.boardType = :boardType""";
+
+    @PersistenceContext EntityManager entityManager;
+
+    String apartCode;
+
+    @BeforeEach
+    public void beforeEach() {
+        final List<Member> members = new ArrayList<>();
+        final List<ArticleCategory> categories = new ArrayList<>();
+        for (int apartIndex = 0; apartIndex < APARTMENTS; apartIndex++) {
+            final Apartment apartment = EntityUtils.createApart(apartIndex);
+            entityManager.persist(apartment);
+            final ArticleCategory category = EntityUtils.createArticleCategory(apartIndex);
+            category.registApartment(apartment);
+            entityManager.persist(category);
+            categories.add(category);
+            for (int memberIndex = 0; memberIndex < MEMBERS_PER_APARTMENT; memberIndex++) {
+                final Member member = EntityUtils.createMember(apartIndex * MEMBERS_PER_APARTMENT + memberIndex);
+                entityManager.persist(member);
+                member.changeApartment(apartment);
+                members.add(member);
+            }
+        }
+        for (int boardIndex = 0; boardIndex < BOARDS; boardIndex++) {
+            final Member member = members.get(boardIndex % members.size());
+            entityManager.persist(Article.builder()
+                    .member(member)
+                    .apartment(member.getApartment())
+                    .category(categories.get(boardIndex % members.size() / MEMBERS_PER_APARTMENT))
+                    .title(String.format("article%s_title", boardIndex))
+                    .content(String.format("article%s_content", boardIndex))
+                    .build());
+            if (boardIndex % 1_000 == 999) {
+                entityManager.flush();
+                entityManager.clear();
+            }
+        }
+        entityManager.flush();
+        entityManager.clear();
+        apartCode = EntityUtils.createApart(0).getCode();
+    }
+
+    @Test
+    @DisplayName("역정규화 전후의 아파트별 게시글 목록 / 개수 조회는 같은 결과를 반환한다")
+    public void listAndCountBeforeAndAfterDenormalization() {
+        final List<Long> beforeIds = measure("BEFORE list (BOARD → MEMBER → APARTMENT)", this::beforeList);
+        final List<Long> afterIds = measure("AFTER list (BOARD → APARTMENT)", this::afterList);
+        final Long beforeCount = measure("BEFORE count (BOARD → MEMBER → APARTMENT)", this::beforeCount);
+        final Long afterCount = measure("AFTER count (BOARD → APARTMENT)", this::afterCount);
+
+        assertThat(afterIds).hasSize(PAGE_SIZE).isEqualTo(beforeIds);
+        assertThat(afterCount).isEqualTo(beforeCount).isEqualTo(BOARDS / APARTMENTS);
+    }
+
+    private <T> T measure(final String label, final Supplier<T> query) {
+        for (int i = 0; i < WARMUP; i++) {
+            query.get();
+            entityManager.clear();
+        }
+        T result = null;
+        final long startedAt = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            result = query.get();
+            entityManager.clear();
+        }
+        final long averageMicros = (System.nanoTime() - startedAt) / ITERATIONS / 1_000;
+        log.info("{} : {} boards, {} us/query", label, BOARDS, averageMicros);
+        return result;
+    }
+
+    private List<Long> beforeList() {
+        return entityManager.createQuery(BEFORE_LIST, Long.class)
+                .setParameter("code", apartCode)
+                .setMaxResults(PAGE_SIZE)
+                .getResultList();
+    }
+
+    private List<Long> afterList() {
+        return entityManager.createQuery(AFTER_LIST, Long.class)
+                .setParameter("code", apartCode)
+                .setParameter("boardType", BoardType.ARTICLE)
+                .setMaxResults(PAGE_SIZE)
+                .getResultList();
+    }
+
+    private Long beforeCount() {
+        return entityManager.createQuery(BEFORE_COUNT, Long.class)
+                .setParameter("code", apartCode)
+                .getSingleResult();
+    }
+
+    private Long afterCount() {
+        return entityManager.createQuery(AFTER_COUNT, Long.class)
+                .setParameter("code", apartCode)
+                .setParameter("boardType", BoardType.ARTICLE)
+                .getSingleResult();
+    }
+
+}
@@ -0,0 +1,76 @@
+package kr.apartribebackend;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import kr.apartribebackend.global.config.JpaConfig;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.function.IntFunction;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * IDENTITY 전략 엔티티(Member) 와 pooled TableGenerator 엔티티(Category) 의 대량 INSERT 처리량을 비교한다.
+ * IDENTITY 는 INSERT 마다 ID 를 받아와야 해서 Batch 가 꺼지므로 row 수만큼 statement 가 실행되고,
+ * pooled 전략은 batch_size 단위로 묶여 statement 수가 row 수 / batch_size 수준으로 줄어든다.
+ */
+@Slf4j
+@ActiveProfiles("test")
+@Import({JpaConfig.class, QueryDslTestConfig.class})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@DataJpaTest(showSql = false, properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class BulkInsertBenchmarkTest {
+
+    private static final int ROWS = 2_000;
+
+    @PersistenceContext EntityManager entityManager;
+
+    Statistics statistics;
+
+    @BeforeEach
+    public void beforeEach() {
+        statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    @DisplayName("pooled ID 엔티티는 JDBC Batch 로 저장되어 IDENTITY 엔티티보다 적은 statement 로 저장된다")
+    public void bulkInsertThroughput() {
+        final Result identity = insert("IDENTITY (Member)", EntityUtils::createMember);
+        final Result pooled = insert("POOLED (Category)", EntityUtils::createArticleCategory);
+
+        assertThat(identity.statements()).isGreaterThanOrEqualTo(ROWS);
+        assertThat(pooled.statements()).isLessThan(ROWS / 10);
+    }
+
+    private Result insert(final String label, final IntFunction<?> entityFactory) {
+        statistics.clear();
+        final long startedAt = System.nanoTime();
+        IntStream.range(0, ROWS).mapToObj(entityFactory).forEach(entityManager::persist);
+        entityManager.flush();
+        final long elapsedNanos = System.nanoTime() - startedAt;
+        entityManager.clear();
+
+        final Result result = new Result(statistics.getPrepareStatementCount(), elapsedNanos);
+        log.info("{} : {} rows, {} statements, {} ms, {} rows/sec",
+                label, ROWS, result.statements(), elapsedNanos / 1_000_000, result.rowsPerSecond());
+        return result;
+    }
+
+    private record Result(long statements, long elapsedNanos) {
+
+        long rowsPerSecond() {
+            return ROWS * 1_000_000_000L / Math.max(elapsedNanos, 1);
+        }
+    }
+
+}
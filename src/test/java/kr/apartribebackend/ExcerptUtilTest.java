@@ -0,0 +1,43 @@
+package kr.apartribebackend;
+
+import kr.apartribebackend.global.utils.ExcerptUtil;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ExcerptUtilTest {
+
+    @Test
+    @DisplayName("단어 경계에서 짝을 이룬 강조 기호만 제거한다")
+    public void stripPairedEmphasis() {
+        assertThat(ExcerptUtil.extract("**굵게** 그리고 _기울임_ 과 ~~취소~~ 와 `code`"))
+                .isEqualTo("굵게 그리고 기울임 과 취소 와 code");
+        assertThat(ExcerptUtil.extract("**_겹친 강조_**")).isEqualTo("겹친 강조");
+    }
+
+    @Test
+    @DisplayName("짝이 없거나 단어 안에 있는 기호는 본문으로 남긴다")
+    public void keepUnpairedOrIntrawordMarkers() {
+        assertThat(ExcerptUtil.extract("snake_case_name 과 2*3*4 는 유지")).isEqualTo("snake_case_name 과 2*3*4 는 유지");
+        assertThat(ExcerptUtil.extract("a * b * c")).isEqualTo("a * b * c");
+        assertThat(ExcerptUtil.extract("~물결~ 하나")).isEqualTo("~물결~ 하나");
+    }
+
+    @Test
+    @DisplayName("HTML 태그, 제목 / 목록 기호를 제거하고 엔티티를 복원한다")
+    public void stripHtmlAndBlockMarkers() {
+        assertThat(ExcerptUtil.extract("- 목록 *하나*\n# 제목")).isEqualTo("목록 하나 제목");
+        assertThat(ExcerptUtil.extract("<p>**html** &amp; <b>b</b></p>")).isEqualTo("html & b");
+    }
+
+    @Test
+    @DisplayName("최대 길이를 넘으면 code point 기준으로 자르고 말줄임표를 붙인다")
+    public void truncateByCodePoint() {
+        final String excerpt = ExcerptUtil.extract("😀".repeat(ExcerptUtil.MAX_LENGTH + 10));
+
+        assertThat(excerpt.codePointCount(0, excerpt.length())).isEqualTo(ExcerptUtil.MAX_LENGTH);
+        assertThat(excerpt).endsWith("…");
+    }
+
+}
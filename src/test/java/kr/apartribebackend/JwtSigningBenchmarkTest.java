@@ -0,0 +1,93 @@
+package kr.apartribebackend;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SigningKeyResolverAdapter;
+import kr.apartribebackend.global.service.keyring.EcJwtKeyRing;
+import kr.apartribebackend.global.service.keyring.HmacJwtKeyRing;
+import kr.apartribebackend.global.service.keyring.JwtKeyRing;
+import kr.apartribebackend.global.service.keyring.JwtSigningKey;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.security.Key;
+import java.time.Duration;
+import java.util.Date;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 알고리즘별 AccessToken 서명 / 검증 처리량을 비교한다. JwtService 와 같이 kid 헤더를 싣고, 검증은 kid 로 KeyRing 에서 키를 찾는다.
+ * HS512 는 서명과 검증 비용이 같고, ES256 은 서명보다 검증이 비싸므로 검증을 많이 하는 노드의 CPU 예산은 검증 처리량을 기준으로 잡는다.
+ */
+@Slf4j
+class JwtSigningBenchmarkTest {
+
+    private static final int WARMUP = 500;
+    private static final int TOKENS = 2_000;
+
+    @Test
+    @DisplayName("HS512 와 ES256 KeyRing 으로 서명한 토큰은 모두 kid 로 찾은 키로 검증된다")
+    public void signAndVerifyThroughputPerAlgorithm() {
+        final Result hmac = measure("HS512", new HmacJwtKeyRing("benchmark-secret-key-".repeat(4)));
+        final Result ec = measure("ES256", EcJwtKeyRing.generating(Duration.ofMinutes(30)));
+
+        assertThat(hmac.verified()).isEqualTo(TOKENS);
+        assertThat(ec.verified()).isEqualTo(TOKENS);
+    }
+
+    private Result measure(final String label, final JwtKeyRing jwtKeyRing) {
+        final JwtParser parser = Jwts.parserBuilder()
+                .setSigningKeyResolver(new SigningKeyResolverAdapter() {
+                    @Override
+                    public Key resolveSigningKey(JwsHeader header, Claims claims) {
+                        return jwtKeyRing.findVerificationKey(header.getKeyId())
+                                .map(JwtSigningKey::verificationKey)
+                                .orElseThrow();
+                    }
+                })
+                .build();
+        IntStream.range(0, WARMUP).mapToObj(index -> sign(jwtKeyRing, index)).forEach(parser::parseClaimsJws);
+
+        final long signStartedAt = System.nanoTime();
+        final List<String> tokens = IntStream.range(0, TOKENS).mapToObj(index -> sign(jwtKeyRing, index)).toList();
+        final long signNanos = System.nanoTime() - signStartedAt;
+
+        final long verifyStartedAt = System.nanoTime();
+        final long verified = tokens.stream()
+                .map(token -> parser.parseClaimsJws(token).getBody().getSubject())
+                .filter(subject -> subject.startsWith("member"))
+                .count();
+        final long verifyNanos = System.nanoTime() - verifyStartedAt;
+
+        final Result result = new Result(verified, signNanos, verifyNanos);
+        log.info("{} : {} tokens, sign {} ops/sec, verify {} ops/sec",
+                label, TOKENS, result.opsPerSecond(signNanos), result.opsPerSecond(verifyNanos));
+        return result;
+    }
+
+    private String sign(final JwtKeyRing jwtKeyRing, final int index) {
+        final JwtSigningKey signingKey = jwtKeyRing.currentSigningKey();
+        return Jwts.builder()
+                .setHeaderParam(JwsHeader.KEY_ID, signingKey.kid())
+                .setSubject("member" + index + "@apartribe.kr")
+                .setIssuer("APARTRIBE")
+                .setIssuedAt(new Date())
+                .setExpiration(new Date(System.currentTimeMillis() + 60_000))
+                .signWith(signingKey.signingKey(), signingKey.algorithm())
+                .compact();
+    }
+
+    private record Result(long verified, long signNanos, long verifyNanos) {
+
+        long opsPerSecond(final long nanos) {
+            return TOKENS * 1_000_000_000L / Math.max(nanos, 1);
+        }
+    }
+
+}
@@ -0,0 +1,159 @@
+package kr.apartribebackend;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import kr.apartribebackend.apart.domain.Apartment;
+import kr.apartribebackend.apart.dto.ApartmentDto;
+import kr.apartribebackend.article.domain.Article;
+import kr.apartribebackend.article.dto.ArticleDto;
+import kr.apartribebackend.article.service.ArticleService;
+import kr.apartribebackend.article.service.HotBoardService;
+import kr.apartribebackend.article.service.SingleBoardResponseCache;
+import kr.apartribebackend.attachment.service.AttachmentService;
+import kr.apartribebackend.category.domain.ArticleCategory;
+import kr.apartribebackend.change.service.BoardChangeService;
+import kr.apartribebackend.comment.dto.CommentDto;
+import kr.apartribebackend.comment.service.CommentLeaderboardService;
+import kr.apartribebackend.comment.service.CommentService;
+import kr.apartribebackend.global.config.JpaConfig;
+import kr.apartribebackend.global.service.ApproximateCountService;
+import kr.apartribebackend.global.service.LiveEventService;
+import kr.apartribebackend.likes.service.LikeService;
+import kr.apartribebackend.likes.service.MemberLikeIndexService;
+import kr.apartribebackend.member.domain.Member;
+import kr.apartribebackend.member.dto.MemberDto;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.Hibernate;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.EntityStatistics;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 글 / 좋아요 / 댓글 작성 시 작성자는 MemberDto 의 id 로 만든 참조로만 연결되어야 한다.
+ * 작성자를 조회하거나 참조를 초기화하는 SELECT 가 숨어있지 않은지 Member 엔티티 통계와 statement 수로 확인한다.
+ * 메모리 캐시 / 이벤트 서비스는 쿼리를 실행하지 않으므로 Mock 으로 대체한다.
+ */
+@Slf4j
+@ActiveProfiles("test")
+@Import({JpaConfig.class, QueryDslTestConfig.class, ApproximateCountService.class,
+        ArticleService.class, LikeService.class, CommentService.class})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@DataJpaTest(showSql = false, properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class MemberReferenceWriteTest {
+
+    @PersistenceContext EntityManager entityManager;
+    @Autowired ArticleService articleService;
+    @Autowired CommentService commentService;
+
+    @MockBean HotBoardService hotBoardService;
+    @MockBean SingleBoardResponseCache singleBoardResponseCache;
+    @MockBean BoardChangeService boardChangeService;
+    @MockBean AttachmentService attachmentService;
+    @MockBean CommentLeaderboardService commentLeaderboardService;
+    @MockBean LiveEventService liveEventService;
+    @MockBean MemberLikeIndexService memberLikeIndexService;
+
+    Statistics statistics;
+    Apartment apartment;
+    ArticleCategory category;
+    Article article;
+    Member writer;
+
+    @BeforeEach
+    public void beforeEach() {
+        statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        apartment = EntityUtils.createApart(1);
+        entityManager.persist(apartment);
+        final Member author = persistMember(1);
+        writer = persistMember(2);
+        category = EntityUtils.createArticleCategory(1);
+        category.registApartment(apartment);
+        entityManager.persist(category);
+        article = Article.builder()
+                .member(author)
+                .apartment(apartment)
+                .category(category)
+                .title("article_title")
+                .content("article_content")
+                .build();
+        entityManager.persist(article);
+        entityManager.flush();
+        entityManager.clear();
+        statistics.clear();
+    }
+
+    @Test
+    @DisplayName("게시글 작성 시 작성자를 조회하지 않는다")
+    public void appendArticleDoesNotSelectWriter() {
+        final ArticleDto articleDto = ArticleDto.builder()
+                .title("new article")
+                .content("new article content")
+                .build();
+
+        articleService.appendArticle(apartment.getCode(), category.getName(), articleDto, writerDto());
+
+        assertWriterNotSelected("appendArticle");
+    }
+
+    @Test
+    @DisplayName("게시글 좋아요 시 좋아요를 누른 회원을 조회하지 않는다")
+    public void increaseLikesToBoardDoesNotSelectWriter() {
+        articleService.updateLikeByArticleId(writerDto(), apartment.getCode(), article.getId());
+
+        assertWriterNotSelected("increaseLikesToBoard");
+    }
+
+    @Test
+    @DisplayName("댓글 작성 시 댓글 작성자를 조회하지 않는다")
+    public void appendCommentToBoardDoesNotSelectWriter() {
+        final CommentDto commentDto = CommentDto.builder()
+                .content("new comment")
+                .build();
+
+        commentService.appendCommentToBoard(apartment.getCode(), writerDto(), article.getId(), commentDto);
+
+        assertWriterNotSelected("appendCommentToBoard");
+    }
+
+    /**
+     * 작성자 참조가 초기화되지 않았고 (프록시 초기화 SELECT 없음), Member 를 id 로 조회한 적도 없어야 한다.
+     * 게시글 작성자는 게시글과 fetch join 으로 함께 조회될 수 있으므로 load 수는 게시글 조회 횟수 이하로만 허용한다.
+     */
+    private void assertWriterNotSelected(final String label) {
+        entityManager.flush();
+        final EntityStatistics memberStatistics = statistics.getEntityStatistics(Member.class.getName());
+        log.info("{} : {} statements, member load {}, member fetch {}",
+                label, statistics.getPrepareStatementCount(), memberStatistics.getLoadCount(), memberStatistics.getFetchCount());
+
+        assertThat(Hibernate.isInitialized(entityManager.getReference(Member.class, writer.getId()))).isFalse();
+        assertThat(memberStatistics.getFetchCount()).isZero();
+        assertThat(memberStatistics.getLoadCount()).isLessThanOrEqualTo(1);
+    }
+
+    private Member persistMember(final int index) {
+        final Member member = EntityUtils.createMember(index);
+        entityManager.persist(member);
+        member.changeApartment(apartment);
+        return member;
+    }
+
+    private MemberDto writerDto() {
+        return MemberDto.builder()
+                .id(writer.getId())
+                .nickname(writer.getNickname())
+                .apartmentDto(ApartmentDto.from(apartment))
+                .build();
+    }
+
+}
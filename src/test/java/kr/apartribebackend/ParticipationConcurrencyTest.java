@@ -0,0 +1,196 @@
+package kr.apartribebackend;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import kr.apartribebackend.apart.domain.Apartment;
+import kr.apartribebackend.article.domain.RecruitStatus;
+import kr.apartribebackend.article.domain.Together;
+import kr.apartribebackend.category.domain.TogetherCategory;
+import kr.apartribebackend.global.config.JpaConfig;
+import kr.apartribebackend.global.service.ResponseCacheService;
+import kr.apartribebackend.member.domain.Member;
+import kr.apartribebackend.member.dto.MemberDto;
+import kr.apartribebackend.participation.exception.TogetherFullException;
+import kr.apartribebackend.participation.exception.TogetherNotRecruitingException;
+import kr.apartribebackend.participation.repository.ParticipationRepository;
+import kr.apartribebackend.participation.service.ParticipationService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 함께해요 참여가 동시에 몰려도 조건부 UPDATE 로 최대 인원을 넘지 않고, 같은 회원의 중복 참여가 한 번만 반영되는지 확인한다.
+ * 각 참여는 별도 스레드의 별도 트랜잭션으로 실행되어야 하므로 테스트 트랜잭션 없이 (NOT_SUPPORTED) 실행한다.
+ */
+@ActiveProfiles("test")
+@Import({JpaConfig.class, QueryDslTestConfig.class, JacksonAutoConfiguration.class,
+        ResponseCacheService.class, ParticipationService.class})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@DataJpaTest(showSql = false)
+class ParticipationConcurrencyTest {
+
+    private static final int THREADS = 32;
+    private static final AtomicInteger SEQUENCE = new AtomicInteger();
+
+    @PersistenceContext EntityManager entityManager;
+    @Autowired TransactionTemplate transactionTemplate;
+    @Autowired ParticipationService participationService;
+    @Autowired ParticipationRepository participationRepository;
+
+    @Test
+    @DisplayName("수천 명이 동시에 참여해도 최대 인원만큼만 참여되고, 인원이 차면 모집 완료로 바뀐다")
+    public void concurrentJoinsNeverOverbook() throws InterruptedException {
+        final int capacity = 100;
+        final int requests = 2_000;
+        final Fixture fixture = persistFixture(capacity, requests);
+        final AtomicInteger joined = new AtomicInteger();
+        final AtomicInteger rejected = new AtomicInteger();
+
+        runConcurrently(requests, index -> {
+            try {
+                participationService.join(fixture.members().get(index), fixture.apartCode(), fixture.togetherId());
+                joined.incrementAndGet();
+            } catch (TogetherFullException e) {
+                rejected.incrementAndGet();
+            }
+        });
+
+        final Together together = findTogether(fixture.togetherId());
+        assertThat(joined.get()).isEqualTo(capacity);
+        assertThat(rejected.get()).isEqualTo(requests - capacity);
+        assertThat(together.getParticipantCount()).isEqualTo(capacity);
+        assertThat(together.getRecruitStatus()).isEqualTo(RecruitStatus.END);
+        assertThat(participationRepository.countByTogetherId(fixture.togetherId())).isEqualTo(capacity);
+    }
+
+    @Test
+    @DisplayName("같은 회원이 동시에 여러 번 참여해도 참여는 한 번만 반영된다")
+    public void concurrentJoinsOfSameMemberAreIdempotent() throws InterruptedException {
+        final Fixture fixture = persistFixture(10, 1);
+        final MemberDto memberDto = fixture.members().get(0);
+
+        runConcurrently(200, index -> {
+            try {
+                participationService.join(memberDto, fixture.apartCode(), fixture.togetherId());
+            } catch (DataIntegrityViolationException ignored) {
+            }
+        });
+
+        assertThat(findTogether(fixture.togetherId()).getParticipantCount()).isEqualTo(1);
+        assertThat(participationRepository.countByTogetherId(fixture.togetherId())).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("참여와 참여 취소가 동시에 섞여도 참여 인원은 남아 있는 참여 수와 같다")
+    public void concurrentJoinsAndLeavesKeepCountConsistent() throws InterruptedException {
+        final int capacity = 50;
+        final int requests = 1_000;
+        final Fixture fixture = persistFixture(capacity, requests);
+
+        runConcurrently(requests * 2, index -> {
+            final MemberDto memberDto = fixture.members().get(index % requests);
+            try {
+                if (index < requests) {
+                    participationService.join(memberDto, fixture.apartCode(), fixture.togetherId());
+                } else {
+                    participationService.leave(memberDto, fixture.apartCode(), fixture.togetherId());
+                }
+            } catch (TogetherFullException | TogetherNotRecruitingException ignored) {
+            }
+        });
+
+        final Together together = findTogether(fixture.togetherId());
+        assertThat(together.getParticipantCount()).isLessThanOrEqualTo(capacity);
+        assertThat((long) together.getParticipantCount()).isEqualTo(participationRepository.countByTogetherId(fixture.togetherId()));
+    }
+
+    private void runConcurrently(final int requests, final IndexedTask task) throws InterruptedException {
+        final ExecutorService executorService = Executors.newFixedThreadPool(THREADS);
+        final CountDownLatch ready = new CountDownLatch(1);
+        final CountDownLatch done = new CountDownLatch(requests);
+        IntStream.range(0, requests).forEach(index -> executorService.submit(() -> {
+            try {
+                ready.await();
+                task.run(index);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } finally {
+                done.countDown();
+            }
+        }));
+        ready.countDown();
+        assertThat(done.await(2, TimeUnit.MINUTES)).isTrue();
+        executorService.shutdown();
+    }
+
+    private Fixture persistFixture(final int capacity, final int memberCount) {
+        final int base = SEQUENCE.getAndAdd(memberCount + 1) + 1;
+        return transactionTemplate.execute(status -> {
+            final Apartment apartment = EntityUtils.createApart(base);
+            entityManager.persist(apartment);
+            final TogetherCategory category = EntityUtils.createTogetherCategory(base);
+            category.registApartment(apartment);
+            entityManager.persist(category);
+            final Member writer = EntityUtils.createMember(base);
+            entityManager.persist(writer);
+            final Together together = Together.builder()
+                    .member(writer)
+                    .apartment(apartment)
+                    .category(category)
+                    .title("together_title")
+                    .content("together_content")
+                    .description("together_desc")
+                    .recruitFrom(LocalDate.now())
+                    .recruitTo(LocalDate.now().plusDays(3))
+                    .recruitStatus(RecruitStatus.STILL)
+                    .meetTime("together_meettime")
+                    .target("together_target")
+                    .location("together_location")
+                    .capacity(capacity)
+                    .build();
+            entityManager.persist(together);
+            final List<MemberDto> members = IntStream.rangeClosed(1, memberCount)
+                    .mapToObj(index -> {
+                        final Member member = EntityUtils.createMember(base + index);
+                        entityManager.persist(member);
+                        return member;
+                    })
+                    .map(member -> MemberDto.builder().id(member.getId()).build())
+                    .toList();
+            return new Fixture(apartment.getCode(), together.getId(), members);
+        });
+    }
+
+    private Together findTogether(final Long togetherId) {
+        return transactionTemplate.execute(status -> entityManager.find(Together.class, togetherId));
+    }
+
+    private record Fixture(String apartCode, Long togetherId, List<MemberDto> members) { }
+
+    @FunctionalInterface
+    private interface IndexedTask {
+        void run(int index);
+    }
+
+}
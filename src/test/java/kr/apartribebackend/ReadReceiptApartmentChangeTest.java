@@ -0,0 +1,111 @@
+package kr.apartribebackend;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import kr.apartribebackend.apart.domain.Apartment;
+import kr.apartribebackend.apart.dto.ApartmentDto;
+import kr.apartribebackend.article.domain.Announce;
+import kr.apartribebackend.article.domain.Level;
+import kr.apartribebackend.global.config.JpaConfig;
+import kr.apartribebackend.member.domain.Member;
+import kr.apartribebackend.member.dto.MemberDto;
+import kr.apartribebackend.receipt.dto.UnreadMemberRes;
+import kr.apartribebackend.receipt.service.ReadReceiptService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 아파트 회원 순번은 아파트마다 따로 발급되므로, 다른 아파트로 옮긴 회원이 이전 아파트의 순번으로 새 아파트 주민의 읽음 비트를 켜면 안 된다.
+ */
+@ActiveProfiles("test")
+@Import({JpaConfig.class, QueryDslTestConfig.class, ReadReceiptService.class})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@DataJpaTest(showSql = false)
+class ReadReceiptApartmentChangeTest {
+
+    @PersistenceContext EntityManager entityManager;
+    @Autowired ReadReceiptService readReceiptService;
+
+    @Test
+    @DisplayName("아파트를 옮긴 회원은 새 아파트에서 순번을 새로 발급받고, 새 아파트 주민의 읽음 현황에 영향을 주지 않는다")
+    public void movedMemberGetsNewOrdinalInNewApartment() {
+        final Apartment before = persistApartment(1);
+        final Apartment after = persistApartment(2);
+        final Member mover = persistMember(1, before);
+        final Member resident = persistMember(2, after);
+        final Announce beforeAnnounce = persistAnnounce(1, mover, before);
+        final Announce residentAnnounce = persistAnnounce(2, resident, after);
+        final Announce afterAnnounce = persistAnnounce(3, resident, after);
+        flushAndClear();
+
+        readReceiptService.recordRead(memberDtoOf(mover, before), before.getCode(), beforeAnnounce.getId());
+        readReceiptService.recordRead(memberDtoOf(resident, after), after.getCode(), residentAnnounce.getId());
+        flushAndClear();
+        final Member movedMember = entityManager.find(Member.class, mover.getId());
+        final Integer ordinalBefore = movedMember.getApartOrdinal();
+        movedMember.changeApartment(entityManager.find(Apartment.class, after.getId()));
+        assertThat(ordinalBefore).isNotNull();
+        assertThat(movedMember.getApartOrdinal()).isNull();
+        flushAndClear();
+
+        readReceiptService.recordRead(memberDtoOf(mover, after), after.getCode(), afterAnnounce.getId());
+        flushAndClear();
+
+        final Member reloaded = entityManager.find(Member.class, mover.getId());
+        final Member reloadedResident = entityManager.find(Member.class, resident.getId());
+        assertThat(reloaded.getApartOrdinal()).isNotEqualTo(reloadedResident.getApartOrdinal());
+        final List<Long> unreadMemberIds = readReceiptService.findUnreadMembers(after.getCode(), afterAnnounce.getId())
+                .stream()
+                .map(UnreadMemberRes::memberId)
+                .toList();
+        assertThat(unreadMemberIds).containsExactly(resident.getId());
+        assertThat(readReceiptService.countReceipts(after.getCode(), afterAnnounce.getId()).readCount()).isEqualTo(1);
+    }
+
+    private Apartment persistApartment(final int index) {
+        final Apartment apartment = EntityUtils.createApart(index);
+        entityManager.persist(apartment);
+        return apartment;
+    }
+
+    private Member persistMember(final int index, final Apartment apartment) {
+        final Member member = EntityUtils.createMember(index);
+        entityManager.persist(member);
+        member.changeApartment(apartment);
+        return member;
+    }
+
+    private Announce persistAnnounce(final int index, final Member member, final Apartment apartment) {
+        final Announce announce = Announce.builder()
+                .member(member)
+                .apartment(apartment)
+                .title(String.format("announce_title%s", index))
+                .content(String.format("announce_content%s", index))
+                .level(Level.GENERAL)
+                .build();
+        entityManager.persist(announce);
+        return announce;
+    }
+
+    private MemberDto memberDtoOf(final Member member, final Apartment apartment) {
+        return MemberDto.builder()
+                .id(member.getId())
+                .apartmentDto(ApartmentDto.from(apartment))
+                .build();
+    }
+
+    private void flushAndClear() {
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+}
@@ -0,0 +1,88 @@
+package kr.apartribebackend;
+
+import com.fasterxml.jackson.databind.util.RawValue;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import kr.apartribebackend.apart.domain.Apartment;
+import kr.apartribebackend.apart.dto.ApartmentDto;
+import kr.apartribebackend.article.domain.Article;
+import kr.apartribebackend.article.domain.BoardType;
+import kr.apartribebackend.article.exception.ArticleNotFoundException;
+import kr.apartribebackend.article.repository.ArticleRepository;
+import kr.apartribebackend.article.repository.together.TogetherRepository;
+import kr.apartribebackend.article.service.SingleBoardResponseCache;
+import kr.apartribebackend.category.domain.ArticleCategory;
+import kr.apartribebackend.global.config.JpaConfig;
+import kr.apartribebackend.global.service.ResponseCacheService;
+import kr.apartribebackend.likes.service.MemberLikeIndexService;
+import kr.apartribebackend.member.domain.Member;
+import kr.apartribebackend.member.dto.MemberDto;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 게시글 / 공지사항 / 함께해요는 ID 를 공유하므로, 한 종류의 단일 조회로 캐시된 응답이 다른 종류의 단일 조회 API 로 내려가면 안 된다.
+ */
+@ActiveProfiles("test")
+@Import({JpaConfig.class, QueryDslTestConfig.class, JacksonAutoConfiguration.class,
+        ResponseCacheService.class, MemberLikeIndexService.class, SingleBoardResponseCache.class})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@DataJpaTest(showSql = false)
+class SingleBoardResponseCacheTest {
+
+    @PersistenceContext EntityManager entityManager;
+    @Autowired SingleBoardResponseCache singleBoardResponseCache;
+    @Autowired ArticleRepository articleRepository;
+    @Autowired TogetherRepository togetherRepository;
+
+    @Test
+    @DisplayName("게시글 단일 조회로 캐시된 ID 를 함께해요 단일 조회로 읽으면 캐시된 게시글 대신 ArticleNotFoundException 이 발생한다")
+    public void cachedArticleIsNotServedToTogetherEndpoint() {
+        final Apartment apartment = EntityUtils.createApart(1);
+        entityManager.persist(apartment);
+        final Member member = EntityUtils.createMember(1);
+        entityManager.persist(member);
+        member.changeApartment(apartment);
+        final ArticleCategory category = EntityUtils.createArticleCategory(1);
+        category.registApartment(apartment);
+        entityManager.persist(category);
+        final Article article = Article.builder()
+                .member(member)
+                .apartment(apartment)
+                .category(category)
+                .title("article_title")
+                .content("article_content")
+                .build();
+        entityManager.persist(article);
+        entityManager.flush();
+        entityManager.clear();
+
+        final MemberDto memberDto = MemberDto.builder()
+                .id(member.getId())
+                .apartmentDto(ApartmentDto.from(apartment))
+                .build();
+        final String apartCode = apartment.getCode();
+        final Long boardId = article.getId();
+
+        final RawValue loaded = singleBoardResponseCache.read(memberDto, apartCode, BoardType.ARTICLE, boardId,
+                () -> articleRepository.findArticleWithApartCodeForApartId(memberDto, apartCode, boardId));
+        final RawValue cached = singleBoardResponseCache.read(memberDto, apartCode, BoardType.ARTICLE, boardId,
+                () -> { throw new AssertionError("캐시된 게시글을 다시 조회하면 안 됩니다."); });
+
+        assertThat(loaded.rawValue().toString()).contains("article_title");
+        assertThat(cached.rawValue().toString()).contains("article_title");
+        assertThatThrownBy(() -> singleBoardResponseCache.read(memberDto, apartCode, BoardType.TOGETHER, boardId,
+                () -> togetherRepository.findTogetherWithApartCodeForApartId(memberDto, apartCode, boardId)))
+                .isInstanceOf(ArticleNotFoundException.class);
+    }
+
+}
@@ -0,0 +1,46 @@
+package kr.apartribebackend;
+
+import kr.apartribebackend.global.dto.SliceResponse;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.SliceImpl;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SliceResponseTest {
+
+    private static final LocalDateTime CREATED_AT = LocalDateTime.of(2023, 9, 1, 12, 0, 0, 123_456_000);
+
+    @Test
+    @DisplayName("다음 페이지가 있으면 마지막 항목의 작성일시와 ID 를 다음 요청의 커서로 내려준다")
+    public void nextCursorFromLastResult() {
+        final List<Item> items = List.of(new Item(3L, CREATED_AT.plusSeconds(1)), new Item(2L, CREATED_AT));
+
+        final SliceResponse<Item> sliceResponse =
+                SliceResponse.from(new SliceImpl<>(items, PageRequest.ofSize(2), true), Item::createdAt, Item::id);
+
+        assertThat(sliceResponse.nextLastCreatedAt()).isEqualTo(CREATED_AT);
+        assertThat(sliceResponse.nextLastId()).isEqualTo(2L);
+        assertThat(sliceResponse.results()).isEqualTo(items);
+    }
+
+    @Test
+    @DisplayName("마지막 페이지에서는 다음 요청의 커서를 내려주지 않는다")
+    public void noCursorOnLastSlice() {
+        final List<Item> items = List.of(new Item(1L, CREATED_AT));
+
+        final SliceResponse<Item> sliceResponse =
+                SliceResponse.from(new SliceImpl<>(items, PageRequest.ofSize(2), false), Item::createdAt, Item::id);
+
+        assertThat(sliceResponse.hasNext()).isFalse();
+        assertThat(sliceResponse.nextLastCreatedAt()).isNull();
+        assertThat(sliceResponse.nextLastId()).isNull();
+    }
+
+    private record Item(Long id, LocalDateTime createdAt) { }
+
+}